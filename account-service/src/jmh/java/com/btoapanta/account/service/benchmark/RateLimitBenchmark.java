@@ -0,0 +1,111 @@
+package com.btoapanta.account.service.benchmark;
+
+import com.btoapanta.account.service.infrastructure.concurrency.RateLimitFilter;
+import com.btoapanta.account.service.infrastructure.concurrency.Route;
+import com.btoapanta.account.service.infrastructure.concurrency.TokenBuckets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Time per request taken by the token buckets of RateLimitFilter, on one thread and on as many
+ * threads as there are processors taking tokens of the same clients, then by the whole filter:
+ * route matching, client lookup and the bucket, with a chain that does nothing.
+ *
+ * <pre>
+ * gradle jmh
+ * </pre>
+ *
+ * The buckets never run out, so every request takes the path of an allowed one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitBenchmark {
+
+    private static final WebFilterChain NOOP_CHAIN = exchange -> Mono.empty();
+
+    @Param("1000")
+    private int clients;
+
+    private String[] keys;
+    private TokenBuckets buckets;
+    private RateLimitFilter filter;
+    private MockServerWebExchange[] exchanges;
+
+    /**
+     * The client each thread takes a token of next; threads start apart so they rarely share a bucket.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            next = THREADS.getAndIncrement() * 7919;
+        }
+
+        int next(int clients) {
+            next = (next + 1) % clients;
+            return next;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new String[clients];
+        exchanges = new MockServerWebExchange[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "client-" + i;
+            exchanges[i] = MockServerWebExchange.from(MockServerHttpRequest.post("/movements").header("X-API-Key", keys[i]));
+        }
+        buckets = new TokenBuckets(Integer.MAX_VALUE / 2, 1e9);
+        filter = new RateLimitFilter(
+                List.of(Route.of(HttpMethod.POST, "/movements", "postings")),
+                Map.of("postings", new TokenBuckets(Integer.MAX_VALUE / 2, 1e9)), "X-API-Key", clients);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long tokenBucket(Cursor cursor) {
+        return buckets.tryConsume(keys[cursor.next(clients)], System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long tokenBucketAllThreads(Cursor cursor) {
+        return buckets.tryConsume(keys[cursor.next(clients)], System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Void filter(Cursor cursor) {
+        return filter.filter(exchanges[cursor.next(clients)], NOOP_CHAIN).block();
+    }
+}
@@ -5,6 +5,7 @@ import com.btoapanta.account.service.domain.model.Account;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
 import java.util.UUID;
 
 public interface AccountInputPort {
@@ -13,8 +14,23 @@ public interface AccountInputPort {
 
     Mono<Account> getAccountByNumber(Long accountNumber);
 
+    /**
+     * The account with only the given properties read, besides its id and version; all of them when null.
+     */
+    Mono<Account> getAccountByNumber(Long accountNumber, Set<String> properties);
+
+    /**
+     * Version of the account without loading it, empty when it does not exist.
+     */
+    Mono<Long> getAccountVersion(Long accountNumber);
+
     Flux<Account> getAllAccounts(UUID customerId, AccountType accountType);
 
+    /**
+     * The accounts with only the given properties read, besides their id and version; all of them when null.
+     */
+    Flux<Account> getAllAccounts(UUID customerId, AccountType accountType, Set<String> properties);
+
     Mono<Account> updateAccount(Account account);
 
     Mono<Void> deleteAccount(Long accountNumber);
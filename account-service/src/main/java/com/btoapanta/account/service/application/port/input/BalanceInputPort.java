@@ -0,0 +1,15 @@
+package com.btoapanta.account.service.application.port.input;
+
+import com.btoapanta.account.service.domain.model.BalanceAt;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BalanceInputPort {
+
+    Mono<BalanceAt> getBalanceAt(Long accountNumber, LocalDateTime at);
+
+    Flux<BalanceAt> getBalancesAt(List<BalanceAt> queries);
+}
@@ -0,0 +1,15 @@
+package com.btoapanta.account.service.application.port.input;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+public interface MovementExportInputPort {
+
+    /**
+     * @return the movements of the account between both days, inclusive, as CSV chunks allocated from the factory
+     */
+    Flux<DataBuffer> exportMovements(Long accountNumber, LocalDate from, LocalDate to, DataBufferFactory bufferFactory);
+}
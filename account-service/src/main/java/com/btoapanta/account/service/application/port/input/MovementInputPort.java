@@ -5,9 +5,18 @@ import com.btoapanta.account.service.domain.model.Movement;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.Set;
+
 public interface MovementInputPort {
 
     Mono<Movement> createMovement(Movement movement);
 
-    Flux<Movement> getAllMovements(Long accountNumber, MovementType movementType);
+    Flux<Movement> getAllMovements(Long accountNumber, MovementType movementType, LocalDate from, LocalDate to);
+
+    /**
+     * The movements with only the given properties read, besides their id; all of them when null.
+     */
+    Flux<Movement> getAllMovements(Long accountNumber, MovementType movementType, LocalDate from, LocalDate to,
+                                   Set<String> properties);
 }
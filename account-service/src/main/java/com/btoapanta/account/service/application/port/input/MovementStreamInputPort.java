@@ -0,0 +1,24 @@
+package com.btoapanta.account.service.application.port.input;
+
+import com.btoapanta.account.service.domain.model.Movement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface MovementStreamInputPort {
+
+    /**
+     * @param lastMovementId last movement the client received, its later movements are sent first; null for none
+     * @return the new movements of the account as they are committed, given once the account is found
+     */
+    Mono<MovementStream> streamMovements(Long accountNumber, UUID lastMovementId);
+
+    /**
+     * @param reset     the last movement is unknown or archived: what the client missed cannot be
+     *                  replayed, and it has to reload before following the movements
+     * @param movements the movements after the last one, or only the new ones on a reset
+     */
+    record MovementStream(boolean reset, Flux<Movement> movements) {
+    }
+}
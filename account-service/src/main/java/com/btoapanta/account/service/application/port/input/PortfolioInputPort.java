@@ -0,0 +1,11 @@
+package com.btoapanta.account.service.application.port.input;
+
+import com.btoapanta.account.service.domain.model.PortfolioSummary;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface PortfolioInputPort {
+
+    Mono<PortfolioSummary> getPortfolioSummary(UUID customerId);
+}
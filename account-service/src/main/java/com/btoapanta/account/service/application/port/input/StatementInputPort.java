@@ -0,0 +1,11 @@
+package com.btoapanta.account.service.application.port.input;
+
+import com.btoapanta.account.service.domain.model.Statement;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+public interface StatementInputPort {
+
+    Mono<Statement> getStatement(Long accountNumber, LocalDate from, LocalDate to);
+}
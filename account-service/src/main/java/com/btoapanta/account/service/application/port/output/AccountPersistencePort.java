@@ -1,14 +1,19 @@
 package com.btoapanta.account.service.application.port.output;
 
+import com.btoapanta.account.service.domain.enums.AccountType;
 import com.btoapanta.account.service.domain.model.Account;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
 import java.util.UUID;
 
 public interface AccountPersistencePort {
     Mono<Account> getAccountByNumber(Long accountNumber);
-    Flux<Account> getAllAccounts();
+    Mono<Account> getAccountByNumber(Long accountNumber, Set<String> properties);
+    Mono<Long> getAccountVersion(Long accountNumber);
+    Flux<Account> getAllAccounts(UUID customerId, AccountType accountType);
+    Flux<Account> getAllAccounts(UUID customerId, AccountType accountType, Set<String> properties);
     Mono<Account> saveAccount(Account account);
     Mono<Void> deleteAccount(UUID accountId);
     Mono<Account> updateAccount(Account account);
@@ -0,0 +1,14 @@
+package com.btoapanta.account.service.application.port.output;
+
+import com.btoapanta.account.service.domain.model.BalanceAt;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+public interface BalanceHistoryPersistencePort {
+
+    /**
+     * Resolves the balance of every query, in the same order; unknown accounts keep a null balance.
+     */
+    Flux<BalanceAt> getBalancesAt(List<BalanceAt> queries);
+}
@@ -0,0 +1,26 @@
+package com.btoapanta.account.service.application.port.output;
+
+import com.btoapanta.account.service.domain.model.DailyBalance;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface DailyBalancePersistencePort {
+
+    /**
+     * Days with movements between from and to, both inclusive, oldest first.
+     */
+    Flux<DailyBalance> getDailyBalances(UUID accountId, LocalDate from, LocalDate to);
+
+    /**
+     * Latest day with movements before the given date, if any.
+     */
+    Mono<DailyBalance> getLastDailyBalanceBefore(UUID accountId, LocalDate date);
+
+    /**
+     * Earliest day with movements on or after the given date, if any.
+     */
+    Mono<DailyBalance> getFirstDailyBalanceFrom(UUID accountId, LocalDate date);
+}
@@ -0,0 +1,20 @@
+package com.btoapanta.account.service.application.port.output;
+
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.domain.model.Movement;
+
+public interface DebitLimitPort {
+
+    /**
+     * Counts the debit against the limits of the account type.
+     *
+     * @throws com.btoapanta.account.service.domain.exception.business.DebitLimitExceededException
+     *         when it would exceed one of them; nothing is counted then
+     */
+    void reserve(Account account, Movement debit);
+
+    /**
+     * Takes back a reserved debit that was not persisted.
+     */
+    void release(Account account, Movement debit);
+}
@@ -0,0 +1,16 @@
+package com.btoapanta.account.service.application.port.output;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface MovementExportPort {
+
+    /**
+     * @return CSV of the movements of the account created in [from, to), oldest first; a null bound is open
+     */
+    Flux<DataBuffer> exportMovements(UUID accountId, LocalDateTime from, LocalDateTime to, DataBufferFactory bufferFactory);
+}
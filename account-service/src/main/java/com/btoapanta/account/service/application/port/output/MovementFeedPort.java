@@ -0,0 +1,23 @@
+package com.btoapanta.account.service.application.port.output;
+
+import com.btoapanta.account.service.domain.model.Movement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface MovementFeedPort {
+
+    /**
+     * Has the movements of the account fed to this instance. Completes once every movement
+     * committed afterwards reaches the feed and every one committed before can be read, so a
+     * stream that reads the missed movements only then loses none in between.
+     */
+    Mono<Void> watch(UUID accountId);
+
+    /**
+     * Movements of the watched account committed after the subscription, in commit order. Never
+     * completes by itself; it ends early when the subscriber falls too far behind.
+     */
+    Flux<Movement> subscribe(UUID accountId);
+}
@@ -4,6 +4,8 @@ import com.btoapanta.account.service.domain.model.Movement;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Set;
 import java.util.UUID;
 
 public interface MovementPersistencePort {
@@ -11,4 +13,26 @@ public interface MovementPersistencePort {
     Mono<Movement> saveMovement(Movement movement);
 
     Flux<Movement> getMovementsByAccountId(UUID accountId);
+
+    /**
+     * Movements created in [from, to), oldest first. A null bound leaves that side open.
+     */
+    Flux<Movement> getMovementsByAccountId(UUID accountId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * As {@link #getMovementsByAccountId(UUID, LocalDateTime, LocalDateTime)}, with only the given
+     * properties read besides the id; all of them when null. Archived movements come whole.
+     */
+    Flux<Movement> getMovementsByAccountId(UUID accountId, LocalDateTime from, LocalDateTime to, Set<String> properties);
+
+    /**
+     * Movements created after the given movement of the account, oldest first. Empty when the
+     * movement is unknown or archived.
+     */
+    Flux<Movement> getMovementsAfter(UUID accountId, UUID movementId);
+
+    /**
+     * Whether the movement belongs to the account and is still in the database, not archived.
+     */
+    Mono<Boolean> hasLiveMovement(UUID accountId, UUID movementId);
 }
@@ -0,0 +1,14 @@
+package com.btoapanta.account.service.application.port.output;
+
+import com.btoapanta.account.service.domain.model.AccountTypeTotal;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+public interface PortfolioPersistencePort {
+
+    /**
+     * Totals of the open accounts of the customer, one per account type it holds one of.
+     */
+    Flux<AccountTypeTotal> getTotalsByAccountType(UUID customerId);
+}
@@ -0,0 +1,18 @@
+package com.btoapanta.account.service.application.port.output;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+
+public interface PostingMetricsPort {
+
+    /**
+     * @return the start of a posting, to hand back to {@link #recordSuccess} or {@link #recordFailure}
+     */
+    long start();
+
+    void recordSuccess(MovementType movementType, long startNanos);
+
+    /**
+     * Records a posting rejected or failed with the given error.
+     */
+    void recordFailure(MovementType movementType, Throwable error, long startNanos);
+}
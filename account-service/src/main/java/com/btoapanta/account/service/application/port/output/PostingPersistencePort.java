@@ -0,0 +1,17 @@
+package com.btoapanta.account.service.application.port.output;
+
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.domain.model.Movement;
+import reactor.core.publisher.Mono;
+
+public interface PostingPersistencePort {
+
+    /**
+     * Saves the new balance of the account and its movement and records a MovementPosted event,
+     * in one transaction. Fails with an optimistic locking failure when the account was updated
+     * since it was read.
+     *
+     * @return the saved movement, with its id
+     */
+    Mono<Movement> postMovement(Account account, Movement movement);
+}
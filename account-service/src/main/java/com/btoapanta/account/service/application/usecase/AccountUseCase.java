@@ -15,6 +15,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -51,17 +52,38 @@ public class AccountUseCase implements AccountInputPort {
                 .doOnError(error -> log.error("Error fetching account {}: {}", accountNumber, error.getMessage()));
     }
 
+    @Override
+    public Mono<Account> getAccountByNumber(Long accountNumber, Set<String> properties) {
+        log.info("Fetching account by number: {} - properties: {}", accountNumber, properties);
+
+        return accountPersistencePort.getAccountByNumber(accountNumber, properties)
+                .switchIfEmpty(Mono.error(new AccountNotFoundException(accountNumber)))
+                .doOnError(error -> log.error("Error fetching account {}: {}", accountNumber, error.getMessage()));
+    }
+
+    @Override
+    public Mono<Long> getAccountVersion(Long accountNumber) {
+        return accountPersistencePort.getAccountVersion(accountNumber);
+    }
+
     @Override
     public Flux<Account> getAllAccounts(UUID customerId, AccountType accountType) {
         log.info("Fetching accounts with filters - customerId: {}, accountType: {}", customerId, accountType);
 
-        return accountPersistencePort.getAllAccounts()
-                .filter(account -> customerId == null || account.getCustomerId().equals(customerId))
-                .filter(account -> accountType == null || account.getAccountType().equals(accountType))
+        return accountPersistencePort.getAllAccounts(customerId, accountType)
                 .doOnComplete(() -> log.info("Accounts fetched successfully"))
                 .doOnError(error -> log.error("Error fetching accounts: {}", error.getMessage()));
     }
 
+    @Override
+    public Flux<Account> getAllAccounts(UUID customerId, AccountType accountType, Set<String> properties) {
+        log.info("Fetching accounts with filters - customerId: {}, accountType: {}, properties: {}",
+                customerId, accountType, properties);
+
+        return accountPersistencePort.getAllAccounts(customerId, accountType, properties)
+                .doOnError(error -> log.error("Error fetching accounts: {}", error.getMessage()));
+    }
+
     @Override
     public Mono<Account> updateAccount(Account account) {
         log.info("Updating account: {}", account.getAccountNumber());
@@ -0,0 +1,61 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.input.BalanceInputPort;
+import com.btoapanta.account.service.application.port.output.BalanceHistoryPersistencePort;
+import com.btoapanta.account.service.domain.exception.InvalidAccountStateException;
+import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
+import com.btoapanta.account.service.domain.model.BalanceAt;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceUseCase implements BalanceInputPort {
+
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final BalanceHistoryPersistencePort balanceHistoryPersistencePort;
+
+    @Override
+    public Mono<BalanceAt> getBalanceAt(Long accountNumber, LocalDateTime at) {
+        log.info("Fetching balance - accountNumber: {}, at: {}", accountNumber, at);
+
+        BalanceAt query = BalanceAt.builder()
+                .accountNumber(accountNumber)
+                .at(at != null ? at : LocalDateTime.now())
+                .build();
+
+        return balanceHistoryPersistencePort.getBalancesAt(List.of(query))
+                .next()
+                .filter(balance -> balance.getBalance() != null)
+                .switchIfEmpty(Mono.error(new AccountNotFoundException(accountNumber)));
+    }
+
+    @Override
+    public Flux<BalanceAt> getBalancesAt(List<BalanceAt> queries) {
+        log.info("Fetching {} balances", queries.size());
+
+        if (queries.isEmpty() || queries.size() > MAX_BATCH_SIZE) {
+            return Flux.error(new InvalidAccountStateException(
+                    "Between 1 and " + MAX_BATCH_SIZE + " balances can be requested at once"));
+        }
+        if (queries.stream().anyMatch(query -> query.getAccountNumber() == null)) {
+            return Flux.error(new InvalidAccountStateException("Account number is required"));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BalanceAt> resolved = queries.stream()
+                .map(query -> query.getAt() != null ? query : query.toBuilder().at(now).build())
+                .toList();
+
+        return balanceHistoryPersistencePort.getBalancesAt(resolved)
+                .doOnError(error -> log.error("Error fetching balances: {}", error.getMessage()));
+    }
+}
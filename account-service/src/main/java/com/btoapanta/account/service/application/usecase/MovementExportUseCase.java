@@ -0,0 +1,46 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.input.MovementExportInputPort;
+import com.btoapanta.account.service.application.port.output.AccountPersistencePort;
+import com.btoapanta.account.service.application.port.output.MovementExportPort;
+import com.btoapanta.account.service.domain.exception.InvalidAccountStateException;
+import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MovementExportUseCase implements MovementExportInputPort {
+
+    private final AccountPersistencePort accountPersistencePort;
+    private final MovementExportPort movementExportPort;
+
+    @Override
+    public Flux<DataBuffer> exportMovements(Long accountNumber, LocalDate from, LocalDate to,
+                                            DataBufferFactory bufferFactory) {
+        log.info("Exporting movements - accountNumber: {}, from: {}, to: {}", accountNumber, from, to);
+
+        if (from != null && to != null && from.isAfter(to)) {
+            return Flux.error(new InvalidAccountStateException("Period start must not be after its end"));
+        }
+        LocalDateTime start = from != null ? from.atStartOfDay() : null;
+        LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : null;
+
+        // Only the id of the account, not the account with all its movements
+        return accountPersistencePort.getAccountByNumber(accountNumber, Set.of("id"))
+                .switchIfEmpty(Mono.error(new AccountNotFoundException(accountNumber)))
+                .flatMapMany(account -> movementExportPort.exportMovements(account.getId(), start, end, bufferFactory))
+                .doOnComplete(() -> log.info("Movements exported for account: {}", accountNumber))
+                .doOnError(error -> log.error("Error exporting movements: {}", error.getMessage()));
+    }
+}
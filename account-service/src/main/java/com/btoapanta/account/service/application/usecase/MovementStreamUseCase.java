@@ -0,0 +1,66 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.input.MovementStreamInputPort;
+import com.btoapanta.account.service.application.port.output.AccountPersistencePort;
+import com.btoapanta.account.service.application.port.output.MovementFeedPort;
+import com.btoapanta.account.service.application.port.output.MovementPersistencePort;
+import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
+import com.btoapanta.account.service.domain.model.Movement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MovementStreamUseCase implements MovementStreamInputPort {
+
+    private final AccountPersistencePort accountPersistencePort;
+    private final MovementPersistencePort movementPersistencePort;
+    private final MovementFeedPort movementFeedPort;
+
+    @Override
+    public Mono<MovementStream> streamMovements(Long accountNumber, UUID lastMovementId) {
+        log.info("Streaming movements - accountNumber: {}, after: {}", accountNumber, lastMovementId);
+
+        // Only the id of the account, not the account with all its movements
+        return accountPersistencePort.getAccountByNumber(accountNumber, Set.of("id"))
+                .switchIfEmpty(Mono.error(new AccountNotFoundException(accountNumber)))
+                // Watched before anything is read, so no movement committed meanwhile is missed
+                .flatMap(account -> movementFeedPort.watch(account.getId())
+                        .then(lastMovementId == null
+                                ? Mono.just(new MovementStream(false, movementFeedPort.subscribe(account.getId())))
+                                : resume(account.getId(), lastMovementId)));
+    }
+
+    /**
+     * The feed is subscribed before the missed movements are read and holds what arrives meanwhile,
+     * so nothing committed in between is lost. Movements found by both are sent once. A last
+     * movement that is no longer live cannot be resumed after: the stream starts over with a reset.
+     */
+    private Mono<MovementStream> resume(UUID accountId, UUID lastMovementId) {
+        return movementPersistencePort.hasLiveMovement(accountId, lastMovementId)
+                .map(known -> {
+                    if (!known) {
+                        log.info("Movement {} of account {} is not live, resetting the stream", lastMovementId, accountId);
+                        return new MovementStream(true, movementFeedPort.subscribe(accountId));
+                    }
+                    return new MovementStream(false, replayThenFollow(accountId, lastMovementId));
+                });
+    }
+
+    private Flux<Movement> replayThenFollow(UUID accountId, UUID lastMovementId) {
+        Set<UUID> replayed = ConcurrentHashMap.newKeySet();
+        Flux<Movement> missed = movementPersistencePort.getMovementsAfter(accountId, lastMovementId)
+                .doOnNext(movement -> replayed.add(movement.getId()));
+
+        return movementFeedPort.subscribe(accountId)
+                .publish(live -> Flux.concat(missed, live.filter(movement -> !replayed.remove(movement.getId()))));
+    }
+}
@@ -8,7 +8,10 @@ import com.btoapanta.account.service.domain.model.Account;
 import com.btoapanta.account.service.domain.model.Movement;
 import com.btoapanta.account.service.application.port.input.MovementInputPort;
 import com.btoapanta.account.service.application.port.output.AccountPersistencePort;
+import com.btoapanta.account.service.application.port.output.DebitLimitPort;
 import com.btoapanta.account.service.application.port.output.MovementPersistencePort;
+import com.btoapanta.account.service.application.port.output.PostingMetricsPort;
+import com.btoapanta.account.service.application.port.output.PostingPersistencePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,45 +19,88 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MovementUseCase implements MovementInputPort {
 
+    // The id and version of the account come with any projection
+    private static final Set<String> POSTING_PROPERTIES = Set.of("accountNumber", "accountType", "balance");
+
     private final AccountPersistencePort accountPersistencePort;
     private final MovementPersistencePort movementPersistencePort;
+    private final PostingMetricsPort postingMetrics;
+    private final DebitLimitPort debitLimitPort;
+    private final PostingPersistencePort postingPersistencePort;
 
     @Override
     public Mono<Movement> createMovement(Movement movement) {
         log.info("Creating movement for account: {} - Type: {} - Amount: {}",
                 movement.getAccountNumber(), movement.getMovementType(), movement.getAmount());
 
-        return validateMovement(movement)
-                .then(accountPersistencePort.getAccountByNumber(movement.getAccountNumber()))
-                .switchIfEmpty(Mono.error(new AccountNotFoundException(movement.getAccountNumber())))
-                .flatMap(account -> processMovement(account, movement))
-                .doOnSuccess(created -> log.info("Movement created successfully with ID: {}", created.getId()))
-                .doOnError(error -> log.error("Error creating movement: {}", error.getMessage()));
+        return Mono.defer(() -> {
+            long start = postingMetrics.start();
+
+            // What the posting needs, and the version it is written under; never the movements of the account
+            return validateMovement(movement)
+                    .then(accountPersistencePort.getAccountByNumber(movement.getAccountNumber(), POSTING_PROPERTIES))
+                    .switchIfEmpty(Mono.error(new AccountNotFoundException(movement.getAccountNumber())))
+                    .flatMap(account -> processMovement(account, movement))
+                    .doOnSuccess(created -> {
+                        postingMetrics.recordSuccess(movement.getMovementType(), start);
+                        log.info("Movement created successfully with ID: {}", created.getId());
+                    })
+                    .doOnError(error -> {
+                        postingMetrics.recordFailure(movement.getMovementType(), error, start);
+                        log.error("Error creating movement: {}", error.getMessage());
+                    });
+        });
+    }
+
+    @Override
+    public Flux<Movement> getAllMovements(Long accountNumber, MovementType movementType, LocalDate from, LocalDate to) {
+        return getAllMovements(accountNumber, movementType, from, to, null);
     }
 
     @Override
-    public Flux<Movement> getAllMovements(Long accountNumber, MovementType movementType) {
-        log.info("Fetching movements - accountNumber: {}, movementType: {}", accountNumber, movementType);
+    public Flux<Movement> getAllMovements(Long accountNumber, MovementType movementType, LocalDate from, LocalDate to,
+                                          Set<String> properties) {
+        log.info("Fetching movements - accountNumber: {}, movementType: {}, from: {}, to: {}, properties: {}",
+                accountNumber, movementType, from, to, properties);
 
         if (accountNumber == null) {
             log.warn("AccountNumber is required to fetch movements");
             return Flux.empty();
         }
 
-        return accountPersistencePort.getAccountByNumber(accountNumber)
+        if (from != null && to != null && from.isAfter(to)) {
+            return Flux.error(new InvalidAccountStateException("Period start must not be after its end"));
+        }
+        // Whole days: [from 00:00, day after to 00:00)
+        LocalDateTime start = from != null ? from.atStartOfDay() : null;
+        LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : null;
+
+        // The type filter needs the type of every movement, asked for or not
+        Set<String> read = properties;
+        if (properties != null && movementType != null && !properties.contains("movementType")) {
+            read = new HashSet<>(properties);
+            read.add("movementType");
+        }
+        Set<String> movementProperties = read;
+
+        // Only the id of the account, not the account with all its movements
+        return accountPersistencePort.getAccountByNumber(accountNumber, Set.of("id"))
                 .switchIfEmpty(Mono.error(new AccountNotFoundException(accountNumber)))
                 .flatMapMany(account -> {
                     log.info("Found account ID: {} for accountNumber: {}", account.getId(), accountNumber);
 
                     // Obtener movimientos por el ID de la cuenta
-                    return movementPersistencePort.getMovementsByAccountId(account.getId());
+                    return movementPersistencePort.getMovementsByAccountId(account.getId(), start, end, movementProperties);
                 })
                 .filter(movement -> movementType == null || movement.getMovementType().equals(movementType))
                 .doOnComplete(() -> log.info("Movements fetched successfully"))
@@ -82,17 +128,32 @@ public class MovementUseCase implements MovementInputPort {
     private Mono<Movement> processMovement(Account account, Movement movementRequest) {
         return Mono.fromCallable(() -> {
                     return switch (movementRequest.getMovementType()) {
-                        case DEBIT -> account.debit(movementRequest.getAmount());
+                        case DEBIT -> reserveDebit(account, account.debit(movementRequest.getAmount()));
                         case CREDIT -> account.credit(movementRequest.getAmount());
                     };
                 })
                 .flatMap(movement -> saveAccountAndMovement(account, movement));
     }
 
+    // After the balance check, so a rejected debit never counts against the limits
+    private Movement reserveDebit(Account account, Movement debit) {
+        debitLimitPort.reserve(account, debit);
+        return debit;
+    }
+
+    // The account, its movement and the MovementPosted event commit together. Once subscribed the
+    // posting runs to its commit or rollback even if the request is cancelled (a client gone or a
+    // deadline passed): a cancelled subscriber could not tell a committed posting from one rolled
+    // back. A debit reservation is released only when the posting failed, so its transaction rolled back.
     private Mono<Movement> saveAccountAndMovement(Account account, Movement movement) {
-        return accountPersistencePort.updateAccount(account)
-                .thenReturn(movement)
+        Mono<Movement> posting = postingPersistencePort.postMovement(account, movement)
                 .doOnSuccess(saved -> log.info("Balance updated to {} for account {}",
-                        account.getBalance(), account.getAccountNumber()));
+                        account.getBalance(), account.getAccountNumber()))
+                .doOnError(error -> {
+                    if (movement.getMovementType() == MovementType.DEBIT) {
+                        debitLimitPort.release(account, movement);
+                    }
+                });
+        return Mono.deferContextual(context -> Mono.fromFuture(posting.contextWrite(context).toFuture(), true));
     }
 }
@@ -0,0 +1,32 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.input.PortfolioInputPort;
+import com.btoapanta.account.service.application.port.output.PortfolioPersistencePort;
+import com.btoapanta.account.service.domain.model.PortfolioSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioUseCase implements PortfolioInputPort {
+
+    private final PortfolioPersistencePort portfolioPersistencePort;
+
+    // A customer without accounts gets an empty summary: customers are owned by the customer service
+    @Override
+    public Mono<PortfolioSummary> getPortfolioSummary(UUID customerId) {
+        log.info("Fetching portfolio summary - customerId: {}", customerId);
+
+        return portfolioPersistencePort.getTotalsByAccountType(customerId)
+                .collectList()
+                .map(totals -> PortfolioSummary.of(customerId, totals))
+                .doOnSuccess(summary -> log.info("Portfolio of customer {} - accounts: {}",
+                        customerId, summary.getAccountCount()))
+                .doOnError(error -> log.error("Error fetching portfolio summary: {}", error.getMessage()));
+    }
+}
@@ -0,0 +1,91 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.input.StatementInputPort;
+import com.btoapanta.account.service.application.port.output.AccountPersistencePort;
+import com.btoapanta.account.service.application.port.output.DailyBalancePersistencePort;
+import com.btoapanta.account.service.application.port.output.MovementPersistencePort;
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.exception.InvalidAccountStateException;
+import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.domain.model.DailyBalance;
+import com.btoapanta.account.service.domain.model.MovementTotal;
+import com.btoapanta.account.service.domain.model.Statement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatementUseCase implements StatementInputPort {
+
+    private final AccountPersistencePort accountPersistencePort;
+    private final DailyBalancePersistencePort dailyBalancePersistencePort;
+    private final MovementPersistencePort movementPersistencePort;
+
+    @Override
+    public Mono<Statement> getStatement(Long accountNumber, LocalDate from, LocalDate to) {
+        log.info("Building statement - accountNumber: {}, from: {}, to: {}", accountNumber, from, to);
+
+        if (from == null || to == null) {
+            return Mono.error(new InvalidAccountStateException("Period start and end are required"));
+        }
+        if (from.isAfter(to)) {
+            return Mono.error(new InvalidAccountStateException("Period start must not be after its end"));
+        }
+
+        // Only the id and balance of the account, not the account with all its movements
+        return accountPersistencePort.getAccountByNumber(accountNumber, Set.of("id", "balance"))
+                .switchIfEmpty(Mono.error(new AccountNotFoundException(accountNumber)))
+                .flatMap(account -> Mono.zip(
+                        balanceAtStartOf(account, from),
+                        balanceAtStartOf(account, to.plusDays(1)),
+                        dailyBalancePersistencePort.getDailyBalances(account.getId(), from, to).collectList(),
+                        movementPersistencePort.getMovementsByAccountId(account.getId(),
+                                from.atStartOfDay(), to.plusDays(1).atStartOfDay()).collectList()))
+                .map(period -> Statement.builder()
+                        .accountNumber(accountNumber)
+                        .from(from)
+                        .to(to)
+                        .openingBalance(period.getT1())
+                        .closingBalance(period.getT2())
+                        .totals(totalsOf(period.getT3()))
+                        .movements(period.getT4())
+                        .build())
+                .doOnSuccess(statement -> log.info("Statement built with {} movements for account: {}",
+                        statement.getMovements().size(), accountNumber))
+                .doOnError(error -> log.error("Error building statement: {}", error.getMessage()));
+    }
+
+    /**
+     * Closing balance of the last day with movements before the date. Without one, the balance
+     * never changed before the date: it is the opening balance of the next day with movements,
+     * or the current balance when there is none.
+     */
+    private Mono<BigDecimal> balanceAtStartOf(Account account, LocalDate date) {
+        return dailyBalancePersistencePort.getLastDailyBalanceBefore(account.getId(), date)
+                .map(DailyBalance::getClosingBalance)
+                .switchIfEmpty(dailyBalancePersistencePort.getFirstDailyBalanceFrom(account.getId(), date)
+                        .map(DailyBalance::getOpeningBalance))
+                .defaultIfEmpty(account.getBalance());
+    }
+
+    private List<MovementTotal> totalsOf(List<DailyBalance> days) {
+        MovementTotal credits = MovementTotal.builder().movementType(MovementType.CREDIT).amount(BigDecimal.ZERO).build();
+        MovementTotal debits = MovementTotal.builder().movementType(MovementType.DEBIT).amount(BigDecimal.ZERO).build();
+        for (DailyBalance day : days) {
+            credits.setCount(credits.getCount() + day.getCreditCount());
+            credits.setAmount(credits.getAmount().add(day.getTotalCredits()));
+            debits.setCount(debits.getCount() + day.getDebitCount());
+            debits.setAmount(debits.getAmount().add(day.getTotalDebits()));
+        }
+        return List.of(credits, debits);
+    }
+}
@@ -0,0 +1,45 @@
+package com.btoapanta.account.service.domain.event;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.model.Movement;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A movement committed to an account. Delivered at least once: consumers deduplicate on eventId.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementPosted {
+    private UUID eventId;
+    private UUID accountId;
+    private Long accountNumber;
+    private UUID movementId;
+    private MovementType movementType;
+    private BigDecimal amount;
+    private BigDecimal balanceBefore;
+    private BigDecimal balanceAfter;
+    private LocalDateTime date;
+
+    public static MovementPosted of(UUID eventId, UUID accountId, Movement movement) {
+        return MovementPosted.builder()
+                .eventId(eventId)
+                .accountId(accountId)
+                .accountNumber(movement.getAccountNumber())
+                .movementId(movement.getId())
+                .movementType(movement.getMovementType())
+                .amount(movement.getAmount())
+                .balanceBefore(movement.getBalanceBefore())
+                .balanceAfter(movement.getBalanceAfter())
+                .date(movement.getDate())
+                .build();
+    }
+}
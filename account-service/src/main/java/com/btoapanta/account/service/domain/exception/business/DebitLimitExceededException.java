@@ -0,0 +1,11 @@
+package com.btoapanta.account.service.domain.exception.business;
+
+import com.btoapanta.account.service.domain.exception.DomainException;
+
+import java.math.BigDecimal;
+
+public class DebitLimitExceededException extends DomainException {
+    public DebitLimitExceededException(Long accountNumber, String window, BigDecimal limit) {
+        super(String.format("Debit limit exceeded for account %s: the %s limit is %s", accountNumber, window, limit));
+    }
+}
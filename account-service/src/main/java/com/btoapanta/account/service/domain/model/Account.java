@@ -43,6 +43,9 @@ public class Account {
     
     @NotNull(message = "State is required")
     private Boolean state;
+
+    // Incremented by every update of the account; its ETag
+    private Long version;
     
     @Valid
     @Builder.Default
@@ -0,0 +1,21 @@
+package com.btoapanta.account.service.domain.model;
+
+import com.btoapanta.account.service.domain.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTypeTotal {
+    private AccountType accountType;
+    private long accountCount;
+    private BigDecimal balance;
+    private LocalDateTime lastMovementAt;
+}
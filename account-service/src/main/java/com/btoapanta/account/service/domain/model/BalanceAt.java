@@ -0,0 +1,22 @@
+package com.btoapanta.account.service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Balance of an account at an instant; balance is null when the account does not exist.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceAt {
+    private Long accountNumber;
+    private LocalDateTime at;
+    private BigDecimal balance;
+}
@@ -0,0 +1,19 @@
+package com.btoapanta.account.service.domain.model;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementTotal {
+    private MovementType movementType;
+    private long count;
+    private BigDecimal amount;
+}
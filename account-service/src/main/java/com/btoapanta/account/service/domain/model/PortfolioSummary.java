@@ -0,0 +1,43 @@
+package com.btoapanta.account.service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Accounts of a customer; lastMovementAt is null when none of them has a movement.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioSummary {
+    private UUID customerId;
+    private long accountCount;
+    private BigDecimal totalBalance;
+    private LocalDateTime lastMovementAt;
+
+    @Builder.Default
+    private List<AccountTypeTotal> totals = new ArrayList<>();
+
+    public static PortfolioSummary of(UUID customerId, List<AccountTypeTotal> totals) {
+        return PortfolioSummary.builder()
+                .customerId(customerId)
+                .accountCount(totals.stream().mapToLong(AccountTypeTotal::getAccountCount).sum())
+                .totalBalance(totals.stream().map(AccountTypeTotal::getBalance).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .lastMovementAt(totals.stream()
+                        .map(AccountTypeTotal::getLastMovementAt)
+                        .filter(date -> date != null)
+                        .max(LocalDateTime::compareTo)
+                        .orElse(null))
+                .totals(totals)
+                .build();
+    }
+}
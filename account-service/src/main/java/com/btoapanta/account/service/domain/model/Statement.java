@@ -0,0 +1,29 @@
+package com.btoapanta.account.service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class Statement {
+    private Long accountNumber;
+    private LocalDate from;
+    private LocalDate to;
+    private BigDecimal openingBalance;
+    private BigDecimal closingBalance;
+
+    @Builder.Default
+    private List<MovementTotal> totals = new ArrayList<>();
+
+    @Builder.Default
+    private List<Movement> movements = new ArrayList<>();
+}
@@ -1,21 +1,48 @@
 package com.btoapanta.account.service.infrastructure.adapter.input.rest.controller;
 
 import com.btoapanta.account.service.application.port.input.AccountInputPort;
+import com.btoapanta.account.service.application.port.input.BalanceInputPort;
+import com.btoapanta.account.service.application.port.input.MovementExportInputPort;
+import com.btoapanta.account.service.application.port.input.MovementStreamInputPort;
+import com.btoapanta.account.service.application.port.input.StatementInputPort;
 import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.AccountDtoMapper;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.BalanceDtoMapper;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.FieldSelection;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.MovementDtoMapper;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.StatementDtoMapper;
 import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.api.AccountsApi;
 import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.AccountCreateRequest;
 import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.AccountResponse;
 import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.AccountType;
 import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.AccountUpdateRequest;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.BalanceQueryRequest;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.BalanceResponse;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.MovementResponse;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.StatementResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.codec.ServerSentEventHttpMessageWriter;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -23,8 +50,34 @@ import java.util.UUID;
 @Slf4j
 public class AccountController implements AccountsApi {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    // Data of any type: MovementResponse for a movement, the stale Last-Event-ID for a reset
+    private static final ResolvableType STREAM_EVENT =
+            ResolvableType.forClassWithGenerics(ServerSentEvent.class, Object.class);
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds(2);
+    // One timer for every open stream, each dropping the ticks it cannot take
+    private static final Flux<ServerSentEvent<Object>> HEARTBEATS = Flux.interval(Duration.ofSeconds(15))
+            .map(tick -> ServerSentEvent.builder().comment("heartbeat").build())
+            .share();
+    private static final FieldSelection<AccountResponse> ACCOUNT_FIELDS = FieldSelection.of(
+            FieldSelection.field("id", "id", response -> response.setId(null)),
+            FieldSelection.field("accountNumber", "accountNumber", response -> response.setAccountNumber(null)),
+            FieldSelection.field("accountType", "accountType", response -> response.setAccountType(null)),
+            FieldSelection.field("balance", "balance", response -> response.setBalance(null)),
+            FieldSelection.field("state", "state", response -> response.setState(null)),
+            FieldSelection.field("customerId", "customerId", response -> response.setCustomerId(null)),
+            FieldSelection.field("customerName", "customerName", response -> response.setCustomerName(null)));
+
     private final AccountInputPort accountInputPort;
     private final AccountDtoMapper accountDtoMapper;
+    private final StatementInputPort statementInputPort;
+    private final StatementDtoMapper statementDtoMapper;
+    private final BalanceInputPort balanceInputPort;
+    private final BalanceDtoMapper balanceDtoMapper;
+    private final MovementExportInputPort movementExportInputPort;
+    private final MovementStreamInputPort movementStreamInputPort;
+    private final MovementDtoMapper movementDtoMapper;
+    private final ObjectMapper objectMapper;
 
     @Override
     public Mono<ResponseEntity<AccountResponse>> createAccount(
@@ -57,16 +110,31 @@ public class AccountController implements AccountsApi {
                         accountNumber, error.getMessage()));
     }
 
+    /**
+     * With If-None-Match, the version alone is read first: a match is answered 304 without loading,
+     * mapping or serializing the account. With fields, only their columns are read.
+     */
     @Override
     public Mono<ResponseEntity<AccountResponse>> getAccountByNumber(
             Long accountNumber,
+            List<String> fields,
             ServerWebExchange exchange) {
 
-        log.info("REST request to get account by number: {}", accountNumber);
+        log.info("REST request to get account by number: {} - fields: {}", accountNumber, fields);
+        FieldSelection<AccountResponse> selection = ACCOUNT_FIELDS.select(fields);
 
-        return accountInputPort.getAccountByNumber(accountNumber)
-                .map(accountDtoMapper::toResponse)
-                .map(ResponseEntity::ok)
+        Mono<ResponseEntity<AccountResponse>> notModified = exchange.getRequest().getHeaders().getIfNoneMatch().isEmpty()
+                ? Mono.empty()
+                : accountInputPort.getAccountVersion(accountNumber)
+                        .map(AccountController::eTagOf)
+                        .filter(exchange::checkNotModified)
+                        .map(eTag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<AccountResponse>build());
+
+        return notModified
+                .switchIfEmpty(Mono.defer(() -> accountInputPort.getAccountByNumber(accountNumber, selection.properties())
+                        .map(account -> ResponseEntity.ok()
+                                .eTag(eTagOf(account.getVersion()))
+                                .body(selection.apply(accountDtoMapper.toResponse(account))))))
                 .doOnSuccess(response -> log.info("Account {} retrieved successfully", accountNumber))
                 .doOnError(error -> log.error("Error retrieving account {}: {}",
                         accountNumber, error.getMessage()));
@@ -76,18 +144,20 @@ public class AccountController implements AccountsApi {
     public Mono<ResponseEntity<Flux<AccountResponse>>> getAccounts(
             UUID customerId,
             AccountType accountType,
+            List<String> fields,
             ServerWebExchange exchange) {
 
-        log.info("REST request to get accounts - customerId: {}, accountType: {}",
-                customerId, accountType);
+        log.info("REST request to get accounts - customerId: {}, accountType: {}, fields: {}",
+                customerId, accountType, fields);
+        FieldSelection<AccountResponse> selection = ACCOUNT_FIELDS.select(fields);
 
         // Convert API AccountType to Domain AccountType
         com.btoapanta.account.service.domain.enums.AccountType domainAccountType =
                 accountType != null ? accountDtoMapper.apiToDomainAccountType(accountType) : null;
 
         Flux<AccountResponse> accountsFlux = accountInputPort
-                .getAllAccounts(customerId, domainAccountType)
-                .map(accountDtoMapper::toResponse)
+                .getAllAccounts(customerId, domainAccountType, selection.properties())
+                .map(account -> selection.apply(accountDtoMapper.toResponse(account)))
                 .doOnComplete(() -> log.info("Accounts list retrieved successfully"))
                 .doOnError(error -> log.error("Error retrieving accounts: {}", error.getMessage()));
 
@@ -104,10 +174,18 @@ public class AccountController implements AccountsApi {
 
         return accountInputPort.getAccountByNumber(accountNumber)
                 .zipWith(accountUpdateRequest)
-                .map(tuple -> {
+                .flatMap(tuple -> {
                     var account = tuple.getT1();
                     var updateRequest = tuple.getT2();
 
+                    // If-Match naming another version; a change after this check fails on the version column
+                    String current = eTagOf(account.getVersion());
+                    if (exchange.checkNotModified(current)) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                                .eTag(current)
+                                .<AccountResponse>build());
+                    }
+
                     // Update only non-null fields from request
                     if (updateRequest.getAccountType() != null) {
                         account.setAccountType(accountDtoMapper.apiToDomainAccountType(updateRequest.getAccountType()));
@@ -116,13 +194,136 @@ public class AccountController implements AccountsApi {
                         account.setState(updateRequest.getState());
                     }
 
-                    return account;
+                    return accountInputPort.updateAccount(account)
+                            .map(updated -> ResponseEntity.ok()
+                                    .eTag(eTagOf(updated.getVersion()))
+                                    .body(accountDtoMapper.toResponse(updated)));
                 })
-                .flatMap(accountInputPort::updateAccount)
-                .map(accountDtoMapper::toResponse)
-                .map(ResponseEntity::ok)
                 .doOnSuccess(response -> log.info("Account {} updated successfully", accountNumber))
                 .doOnError(error -> log.error("Error updating account {}: {}",
                         accountNumber, error.getMessage()));
     }
+
+    @Override
+    public Mono<ResponseEntity<StatementResponse>> getAccountStatement(
+            Long accountNumber,
+            LocalDate from,
+            LocalDate to,
+            ServerWebExchange exchange) {
+
+        log.info("REST request to get statement - accountNumber: {}, from: {}, to: {}", accountNumber, from, to);
+
+        return statementInputPort.getStatement(accountNumber, from, to)
+                .map(statementDtoMapper::toResponse)
+                .map(ResponseEntity::ok)
+                .doOnError(error -> log.error("Error getting statement for account {}: {}",
+                        accountNumber, error.getMessage()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<BalanceResponse>> getAccountBalance(
+            Long accountNumber,
+            OffsetDateTime at,
+            ServerWebExchange exchange) {
+
+        log.info("REST request to get balance - accountNumber: {}, at: {}", accountNumber, at);
+
+        return balanceInputPort.getBalanceAt(accountNumber, balanceDtoMapper.offsetDateTimeToUtcLocalDateTime(at))
+                .map(balanceDtoMapper::toResponse)
+                .map(ResponseEntity::ok)
+                .doOnError(error -> log.error("Error getting balance for account {}: {}",
+                        accountNumber, error.getMessage()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Flux<BalanceResponse>>> getAccountBalances(
+            Mono<BalanceQueryRequest> balanceQueryRequest,
+            ServerWebExchange exchange) {
+
+        log.info("REST request to get balances");
+
+        return balanceQueryRequest
+                .map(request -> request.getItems().stream().map(balanceDtoMapper::toDomain).toList())
+                .flatMap(queries -> balanceInputPort.getBalancesAt(queries)
+                        .map(balanceDtoMapper::toResponse)
+                        .collectList())
+                .doOnSuccess(list -> log.info("Retrieved {} balances", list.size()))
+                .map(list -> ResponseEntity.ok(Flux.fromIterable(list)));
+    }
+
+    /**
+     * Writes the chunks straight to the response: a {@link Resource} body would have to be either
+     * fully buffered or backed by a blocking stream. The response is committed with the first
+     * chunk, so a missing account or an invalid period still reaches the exception handler.
+     */
+    @Override
+    public Mono<ResponseEntity<Resource>> exportAccountMovements(
+            Long accountNumber,
+            LocalDate from,
+            LocalDate to,
+            ServerWebExchange exchange) {
+
+        log.info("REST request to export movements - accountNumber: {}, from: {}, to: {}", accountNumber, from, to);
+
+        ServerHttpResponse response = exchange.getResponse();
+        return response.writeWith(movementExportInputPort
+                        .exportMovements(accountNumber, from, to, response.bufferFactory())
+                        .doOnSubscribe(subscription -> {
+                            response.getHeaders().setContentType(TEXT_CSV);
+                            response.getHeaders().setContentDisposition(ContentDisposition.attachment()
+                                    .filename("movements-" + accountNumber + ".csv")
+                                    .build());
+                        }))
+                .then(Mono.empty());
+    }
+
+    /**
+     * Written straight to the response, as the generated signature has no room for the event ids.
+     * The account is looked up before anything is sent, so a missing one is still a 404.
+     */
+    @Override
+    public Mono<ResponseEntity<Flux<MovementResponse>>> streamAccountMovements(
+            Long accountNumber,
+            UUID lastEventID,
+            ServerWebExchange exchange) {
+
+        log.info("REST request to stream movements - accountNumber: {}, Last-Event-ID: {}", accountNumber, lastEventID);
+
+        ServerHttpResponse response = exchange.getResponse();
+        return movementStreamInputPort.streamMovements(accountNumber, lastEventID)
+                .flatMap(stream -> new ServerSentEventHttpMessageWriter(new Jackson2JsonEncoder(objectMapper))
+                        .write(toEvents(stream, lastEventID), STREAM_EVENT, MediaType.TEXT_EVENT_STREAM, response, Map.of()))
+                .doOnError(error -> log.error("Error streaming movements for account {}: {}",
+                        accountNumber, error.getMessage()))
+                .then(Mono.empty());
+    }
+
+    /**
+     * Heartbeats keep idle connections open through proxies and stop with the movements. A reset
+     * comes first and clears the event id, so the client reloads and later reconnects do not
+     * send the stale one again.
+     */
+    private Flux<ServerSentEvent<Object>> toEvents(MovementStreamInputPort.MovementStream stream, UUID lastEventID) {
+        Sinks.Empty<Void> ended = Sinks.empty();
+        Flux<ServerSentEvent<Object>> events = stream.movements()
+                .map(movement -> ServerSentEvent.<Object>builder(movementDtoMapper.toResponse(movement))
+                        .id(movement.getId().toString())
+                        .event("movement")
+                        .build())
+                .doFinally(signal -> ended.tryEmitEmpty());
+        Flux<ServerSentEvent<Object>> opening = Flux.just(
+                ServerSentEvent.builder().comment("connected").retry(RECONNECT_DELAY).build());
+        if (stream.reset()) {
+            opening = opening.concatWithValues(ServerSentEvent.<Object>builder(Map.of("lastEventId", lastEventID))
+                    .id("")
+                    .event("reset")
+                    .build());
+        }
+        return Flux.concat(opening, Flux.merge(events, HEARTBEATS.onBackpressureDrop().takeUntilOther(ended.asMono())));
+    }
+
+    // Strong: the version changes with every stored change of the account
+    private static String eTagOf(Long version) {
+        return "\"" + version + "\"";
+    }
 }
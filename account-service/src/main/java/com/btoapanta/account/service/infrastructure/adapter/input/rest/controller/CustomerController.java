@@ -0,0 +1,37 @@
+package com.btoapanta.account.service.infrastructure.adapter.input.rest.controller;
+
+import com.btoapanta.account.service.application.port.input.PortfolioInputPort;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.PortfolioDtoMapper;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.api.CustomersApi;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.PortfolioSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerController implements CustomersApi {
+
+    private final PortfolioInputPort portfolioInputPort;
+    private final PortfolioDtoMapper portfolioDtoMapper;
+
+    @Override
+    public Mono<ResponseEntity<PortfolioSummaryResponse>> getCustomerAccountsSummary(
+            UUID customerId,
+            ServerWebExchange exchange) {
+
+        log.info("REST request to get accounts summary - customerId: {}", customerId);
+
+        return portfolioInputPort.getPortfolioSummary(customerId)
+                .map(portfolioDtoMapper::toResponse)
+                .map(ResponseEntity::ok)
+                .doOnError(error -> log.error("Error getting accounts summary for customer {}: {}",
+                        customerId, error.getMessage()));
+    }
+}
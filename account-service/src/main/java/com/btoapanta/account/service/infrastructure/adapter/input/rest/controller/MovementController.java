@@ -1,6 +1,7 @@
 package com.btoapanta.account.service.infrastructure.adapter.input.rest.controller;
 
 import com.btoapanta.account.service.application.port.input.MovementInputPort;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.FieldSelection;
 import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.MovementDtoMapper;
 import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.api.MovementsApi;
 import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.MovementCreateRequest;
@@ -15,12 +16,24 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.util.List;
+
 
 @RestController
 @RequiredArgsConstructor
 @Slf4j
 public class MovementController implements MovementsApi {
 
+    private static final FieldSelection<MovementResponse> MOVEMENT_FIELDS = FieldSelection.of(
+            FieldSelection.field("movementId", "id", response -> response.setMovementId(null)),
+            FieldSelection.field("date", "date", response -> response.setDate(null)),
+            FieldSelection.field("movementType", "movementType", response -> response.setMovementType(null)),
+            FieldSelection.field("amount", "amount", response -> response.setAmount(null)),
+            FieldSelection.field("balanceBefore", "balanceBefore", response -> response.setBalanceBefore(null)),
+            FieldSelection.field("balanceAfter", "balanceAfter", response -> response.setBalanceAfter(null)),
+            FieldSelection.field("accountNumber", "accountNumber", response -> response.setAccountNumber(null)));
+
     private final MovementInputPort movementInputPort;
     private final MovementDtoMapper movementDtoMapper;
 
@@ -46,15 +59,20 @@ public class MovementController implements MovementsApi {
     public Mono<ResponseEntity<Flux<MovementResponse>>> getMovements(
             Long accountNumber,
             MovementType movementType,
+            LocalDate from,
+            LocalDate to,
+            List<String> fields,
             ServerWebExchange exchange) {
 
-        log.info("REST request to get movements - accountNumber: {}, movementType: {}", accountNumber, movementType);
+        log.info("REST request to get movements - accountNumber: {}, movementType: {}, from: {}, to: {}, fields: {}",
+                accountNumber, movementType, from, to, fields);
+        FieldSelection<MovementResponse> selection = MOVEMENT_FIELDS.select(fields);
 
         com.btoapanta.account.service.domain.enums.MovementType domainMovementType =
                 movementType != null ? movementDtoMapper.apiToDomainMovementType(movementType) : null;
 
-        return movementInputPort.getAllMovements(accountNumber, domainMovementType)
-                .map(movementDtoMapper::toResponse)
+        return movementInputPort.getAllMovements(accountNumber, domainMovementType, from, to, selection.properties())
+                .map(movement -> selection.apply(movementDtoMapper.toResponse(movement)))
                 .collectList()
                 .doOnSuccess(list -> log.info("Retrieved {} movements for account: {}", list.size(), accountNumber))
                 .map(list -> ResponseEntity.ok(Flux.fromIterable(list)));
@@ -2,11 +2,18 @@ package com.btoapanta.account.service.infrastructure.adapter.input.rest.exceptio
 
 import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
 import com.btoapanta.account.service.domain.exception.DuplicateAccountException;
+import com.btoapanta.account.service.domain.exception.business.DebitLimitExceededException;
 import com.btoapanta.account.service.domain.exception.business.InvalidBalanceException;
 import com.btoapanta.account.service.domain.exception.InvalidAccountStateException;
+import com.btoapanta.account.service.infrastructure.deadline.DeadlineExceededException;
 import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.ErrorResponse;
 import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.ValidationError;
+import com.btoapanta.account.service.infrastructure.tracing.TraceIds;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -14,29 +21,33 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Mono;
 
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(AccountNotFoundException.class)
     public Mono<ResponseEntity<ErrorResponse>> handleAccountNotFound(
             AccountNotFoundException ex,
             ServerWebExchange exchange) {
 
         log.error("Account not found: {}", ex.getMessage());
+        countDomainException(ex);
 
         ErrorResponse errorResponse = buildErrorResponse(
                 HttpStatus.NOT_FOUND,
                 ex.getMessage(),
-                exchange.getRequest().getPath().value()
+                exchange
         );
 
         return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse));
@@ -48,11 +59,29 @@ public class GlobalExceptionHandler {
             ServerWebExchange exchange) {
 
         log.error("Duplicate account: {}", ex.getMessage());
+        countDomainException(ex);
 
         ErrorResponse errorResponse = buildErrorResponse(
                 HttpStatus.CONFLICT,
                 ex.getMessage(),
-                exchange.getRequest().getPath().value()
+                exchange
+        );
+
+        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse));
+    }
+
+    // The account changed between being read and being saved, by a concurrent posting or update
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleConcurrentUpdate(
+            OptimisticLockingFailureException ex,
+            ServerWebExchange exchange) {
+
+        log.warn("Concurrent account update: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = buildErrorResponse(
+                HttpStatus.CONFLICT,
+                "The account was modified concurrently, retry the request",
+                exchange
         );
 
         return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse));
@@ -64,27 +93,46 @@ public class GlobalExceptionHandler {
             ServerWebExchange exchange) {
 
         log.error("Insufficient balance: {}", ex.getMessage());
+        countDomainException(ex);
 
         ErrorResponse errorResponse = buildErrorResponse(
                 HttpStatus.CONFLICT,
                 ex.getMessage(),
-                exchange.getRequest().getPath().value()
+                exchange
         );
 
         return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse));
     }
 
+    @ExceptionHandler(DebitLimitExceededException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleDebitLimitExceeded(
+            DebitLimitExceededException ex,
+            ServerWebExchange exchange) {
+
+        log.error("Debit limit exceeded: {}", ex.getMessage());
+        countDomainException(ex);
+
+        ErrorResponse errorResponse = buildErrorResponse(
+                HttpStatus.UNPROCESSABLE_ENTITY,
+                ex.getMessage(),
+                exchange
+        );
+
+        return Mono.just(ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse));
+    }
+
     @ExceptionHandler(InvalidAccountStateException.class)
     public Mono<ResponseEntity<ErrorResponse>> handleInvalidAccountState(
             InvalidAccountStateException ex,
             ServerWebExchange exchange) {
 
         log.error("Invalid account state: {}", ex.getMessage());
+        countDomainException(ex);
 
         ErrorResponse errorResponse = buildErrorResponse(
                 HttpStatus.UNPROCESSABLE_ENTITY,
                 ex.getMessage(),
-                exchange.getRequest().getPath().value()
+                exchange
         );
 
         return Mono.just(ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse));
@@ -106,13 +154,47 @@ public class GlobalExceptionHandler {
         ErrorResponse errorResponse = buildErrorResponse(
                 HttpStatus.BAD_REQUEST,
                 "Validation failed",
-                exchange.getRequest().getPath().value()
+                exchange
         );
         errorResponse.setErrors(validationErrors);
 
         return Mono.just(ResponseEntity.badRequest().body(errorResponse));
     }
 
+    // Missing or malformed request parameters, e.g. a statement without its period
+    @ExceptionHandler(ServerWebInputException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleInputException(
+            ServerWebInputException ex,
+            ServerWebExchange exchange) {
+
+        log.error("Invalid request input: {}", ex.getReason());
+
+        ErrorResponse errorResponse = buildErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                ex.getReason(),
+                exchange
+        );
+
+        return Mono.just(ResponseEntity.badRequest().body(errorResponse));
+    }
+
+    // Blocking work or a call to api-customer given up on past the request deadline, see DeadlineFilter
+    @ExceptionHandler(DeadlineExceededException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleDeadlineExceeded(
+            DeadlineExceededException ex,
+            ServerWebExchange exchange) {
+
+        log.warn("Request deadline exceeded: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = buildErrorResponse(
+                HttpStatus.GATEWAY_TIMEOUT,
+                ex.getMessage(),
+                exchange
+        );
+
+        return Mono.just(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(errorResponse));
+    }
+
     @ExceptionHandler(Exception.class)
     public Mono<ResponseEntity<ErrorResponse>> handleGenericException(
             Exception ex,
@@ -123,20 +205,28 @@ public class GlobalExceptionHandler {
         ErrorResponse errorResponse = buildErrorResponse(
                 HttpStatus.INTERNAL_SERVER_ERROR,
                 "An unexpected error occurred",
-                exchange.getRequest().getPath().value()
+                exchange
         );
 
         return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse));
     }
 
-    private ErrorResponse buildErrorResponse(HttpStatus status, String message, String path) {
+    private void countDomainException(RuntimeException ex) {
+        Counter.builder("domain.exceptions")
+                .description("Domain exceptions translated into error responses")
+                .tag("exception", ex.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private ErrorResponse buildErrorResponse(HttpStatus status, String message, ServerWebExchange exchange) {
         ErrorResponse errorResponse = new ErrorResponse();
         errorResponse.setTimestamp(OffsetDateTime.now());
         errorResponse.setStatus(status.value());
         errorResponse.setError(status.getReasonPhrase());
         errorResponse.setMessage(message);
-        errorResponse.setPath(path);
-        errorResponse.setTraceId(UUID.randomUUID());
+        errorResponse.setPath(exchange.getRequest().getPath().value());
+        errorResponse.setTraceId(TraceIds.fromExchange(exchange));
 
         return errorResponse;
     }
@@ -0,0 +1,40 @@
+package com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper;
+
+import com.btoapanta.account.service.domain.model.BalanceAt;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.BalanceQuery;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.BalanceResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+@Mapper(componentModel = "spring", uses = MovementDtoMapper.class)
+public interface BalanceDtoMapper {
+
+    @Mapping(source = "at", target = "at", qualifiedByName = "offsetDateTimeToUtcLocalDateTime")
+    @Mapping(target = "balance", ignore = true)
+    BalanceAt toDomain(BalanceQuery query);
+
+    @Mapping(source = "at", target = "at", qualifiedByName = "localDateTimeToOffsetDateTime")
+    @Mapping(source = "balance", target = "balance", qualifiedByName = "nullableBigDecimalToDouble")
+    BalanceResponse toResponse(BalanceAt balanceAt);
+
+    // Movement dates are stored as UTC local date-times
+    @Named("offsetDateTimeToUtcLocalDateTime")
+    default LocalDateTime offsetDateTimeToUtcLocalDateTime(OffsetDateTime offsetDateTime) {
+        if (offsetDateTime == null) {
+            return null;
+        }
+        return offsetDateTime.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+
+    // Unknown accounts in a batch have no balance, which is not the same as a zero balance
+    @Named("nullableBigDecimalToDouble")
+    default Double nullableBigDecimalToDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper;
+
+import com.btoapanta.account.service.domain.model.AccountTypeTotal;
+import com.btoapanta.account.service.domain.model.PortfolioSummary;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.PortfolioSummaryResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring", uses = MovementDtoMapper.class)
+public interface PortfolioDtoMapper {
+
+    @Mapping(source = "totalBalance", target = "totalBalance", qualifiedByName = "bigDecimalToDouble")
+    @Mapping(source = "lastMovementAt", target = "lastMovementAt", qualifiedByName = "localDateTimeToOffsetDateTime")
+    PortfolioSummaryResponse toResponse(PortfolioSummary summary);
+
+    @Mapping(source = "balance", target = "balance", qualifiedByName = "bigDecimalToDouble")
+    @Mapping(source = "lastMovementAt", target = "lastMovementAt", qualifiedByName = "localDateTimeToOffsetDateTime")
+    com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.AccountTypeTotal toResponse(
+            AccountTypeTotal accountTypeTotal);
+}
@@ -0,0 +1,20 @@
+package com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper;
+
+import com.btoapanta.account.service.domain.model.MovementTotal;
+import com.btoapanta.account.service.domain.model.Statement;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.StatementResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring", uses = MovementDtoMapper.class)
+public interface StatementDtoMapper {
+
+    @Mapping(source = "openingBalance", target = "openingBalance", qualifiedByName = "bigDecimalToDouble")
+    @Mapping(source = "closingBalance", target = "closingBalance", qualifiedByName = "bigDecimalToDouble")
+    StatementResponse toResponse(Statement statement);
+
+    @Mapping(source = "movementType", target = "movementType", qualifiedByName = "domainToApiMovementType")
+    @Mapping(source = "amount", target = "amount", qualifiedByName = "bigDecimalToDouble")
+    com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.MovementTotal toResponse(
+            MovementTotal movementTotal);
+}
@@ -0,0 +1,139 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.feed;
+
+import com.btoapanta.account.service.application.port.output.MovementFeedPort;
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.btoapanta.account.service.domain.model.Movement;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live movements per account, fed by the {@link MovementNotificationListener} with the
+ * MovementPosted events of the accounts this instance watches, whichever instance posted them, so
+ * only committed movements are pushed. An account has a multicast sink while it has subscribers,
+ * and its watch is refreshed for as long as it has one.
+ *
+ * <p>The sink never waits for a subscriber: each one gets a buffer of {@code bufferSize}
+ * movements, and a subscriber whose buffer fills up is completed, to reconnect and catch up from
+ * the database. An idle subscriber costs its sink registration and nothing else.
+ */
+@Slf4j
+public class MovementFeedAdapter implements MovementFeedPort {
+
+    private final Map<UUID, Feed> feeds = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final int bufferSize;
+    private final MovementWatches watches;
+    private final Counter slowSubscribers;
+
+    /**
+     * @param bufferSize movements held for a subscriber that is not keeping up
+     */
+    public MovementFeedAdapter(int bufferSize, MovementWatches watches, MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.watches = watches;
+        Gauge.builder("movements.feed.subscribers", subscribers, AtomicInteger::get)
+                .description("Subscribers of the live movement feed on this instance")
+                .register(meterRegistry);
+        this.slowSubscribers = Counter.builder("movements.feed.slow.subscribers")
+                .description("Subscribers completed because their buffer filled up")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> watch(UUID accountId) {
+        return Mono.<Void>fromRunnable(() -> watches.watch(accountId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Flux<Movement> subscribe(UUID accountId) {
+        return Flux.defer(() -> {
+                    Feed feed = feeds.compute(accountId, (id, current) -> {
+                        Feed joined = current != null ? current : new Feed();
+                        joined.subscribers++;
+                        return joined;
+                    });
+                    subscribers.incrementAndGet();
+                    return feed.sink.asFlux()
+                            .doFinally(signal -> leave(accountId, feed));
+                })
+                .onBackpressureBuffer(bufferSize)
+                .onErrorResume(Exceptions::isOverflow, overflow -> {
+                    log.warn("Movement feed subscriber of account {} fell {} movements behind, disconnecting",
+                            accountId, bufferSize);
+                    slowSubscribers.increment();
+                    return Flux.empty();
+                });
+    }
+
+    public void onMovementPosted(MovementPosted event) {
+        Feed feed = feeds.get(event.getAccountId());
+        if (feed == null) {
+            return;
+        }
+        Movement movement = Movement.builder()
+                .id(event.getMovementId())
+                .accountNumber(event.getAccountNumber())
+                .movementType(event.getMovementType())
+                .amount(event.getAmount())
+                .balanceBefore(event.getBalanceBefore())
+                .balanceAfter(event.getBalanceAfter())
+                .date(event.getDate())
+                .build();
+        // Emissions into one sink must not overlap
+        synchronized (feed) {
+            feed.sink.tryEmitNext(movement);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${movements.stream.watch-refresh:20s}",
+            initialDelayString = "${movements.stream.watch-refresh:20s}")
+    public void refreshWatches() {
+        try {
+            watches.refresh(List.copyOf(feeds.keySet()));
+        } catch (DataAccessException e) {
+            // The watches last longer than a few refreshes
+            log.warn("Movement watches not refreshed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Completes every feed, for when movements may have been missed: subscribers resume from the database.
+     */
+    public void disconnectAll() {
+        feeds.forEach((accountId, feed) -> {
+            // Later subscribers of the account get a new feed
+            feeds.remove(accountId, feed);
+            synchronized (feed) {
+                feed.sink.tryEmitComplete();
+            }
+        });
+    }
+
+    private void leave(UUID accountId, Feed feed) {
+        subscribers.decrementAndGet();
+        feeds.computeIfPresent(accountId, (id, current) -> current != feed || --current.subscribers > 0 ? current : null);
+    }
+
+    private static final class Feed {
+
+        // Best effort: a subscriber without demand misses the movement instead of holding up the others
+        private final Sinks.Many<Movement> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+}
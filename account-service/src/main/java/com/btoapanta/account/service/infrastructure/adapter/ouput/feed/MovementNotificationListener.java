@@ -0,0 +1,113 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.feed;
+
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Feeds the {@link MovementFeedAdapter} from the channel of this instance, which carries the
+ * outbox events of the accounts it watches once their transaction commits
+ * (V11__notify_watched_movements.sql), whichever instance posted them and whether or not any
+ * instance relays the outbox.
+ *
+ * <p>Listens on a connection of its own, outside the pool, from a single thread. Notifications
+ * sent while it is not connected are lost, so after a lost connection every open feed is
+ * disconnected: its subscribers resume with Last-Event-ID from the database.
+ */
+@Slf4j
+public class MovementNotificationListener implements SmartLifecycle {
+
+    private static final int POLL_MILLIS = 500;
+
+    private final DataSource dataSource;
+    private final String channel;
+    private final ObjectMapper objectMapper;
+    private final MovementFeedAdapter feed;
+    private final Duration reconnectDelay;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param dataSource     unpooled: the listening connection is held for as long as the application runs
+     * @param channel        {@link MovementWatches#channel()}
+     * @param reconnectDelay wait after a lost connection before listening again
+     */
+    public MovementNotificationListener(DataSource dataSource, String channel, ObjectMapper objectMapper,
+                                        MovementFeedAdapter feed, Duration reconnectDelay) {
+        this.dataSource = dataSource;
+        this.channel = channel;
+        this.objectMapper = objectMapper;
+        this.feed = feed;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::listen, "movement-notifications");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + channel);
+                log.info("Listening for movement notifications on {}", channel);
+                PGConnection notifications = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] received = notifications.getNotifications(POLL_MILLIS);
+                    if (received != null) {
+                        for (PGNotification notification : received) {
+                            deliver(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Movement notifications lost, reconnecting in {}: {}", reconnectDelay, e.getMessage());
+                    feed.disconnectAll();
+                    pause();
+                }
+            }
+        }
+    }
+
+    void deliver(String payload) {
+        try {
+            feed.onMovementPosted(objectMapper.readValue(payload, MovementPosted.class));
+        } catch (JsonProcessingException e) {
+            log.error("Unreadable movement notification, skipped: {}", e.getMessage());
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
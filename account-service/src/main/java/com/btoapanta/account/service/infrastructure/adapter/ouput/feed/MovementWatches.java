@@ -0,0 +1,79 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.feed;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * The accounts this instance streams, in movement_stream_watches. The outbox trigger
+ * (V11__notify_watched_movements.sql) notifies a movement only to the instances watching its
+ * account, on their own channel, so posting to an account nobody streams sends no notification.
+ *
+ * <p>A watch lasts {@code ttl} unless refreshed: the watches of an instance that stopped, or of
+ * an account it no longer streams, expire instead of being removed.
+ */
+public class MovementWatches {
+
+    private static final String CHANNEL_PREFIX = "movement_posted_";
+    private static final int BATCH_SIZE = 500;
+
+    // Shares the account row with the watch, so postings still writing to it commit before the watch
+    // does: the trigger of every later posting sees the watch
+    private static final String LOCK_ACCOUNT = "SELECT id FROM accounts WHERE id = ? FOR SHARE";
+    private static final String UPSERT_WATCH = """
+            INSERT INTO movement_stream_watches (account_id, instance_id, refreshed_at)
+            VALUES (?, ?, now())
+            ON CONFLICT (account_id, instance_id) DO UPDATE SET refreshed_at = now()
+            """;
+    private static final String DELETE_EXPIRED =
+            "DELETE FROM movement_stream_watches WHERE refreshed_at < now() - ? * INTERVAL '1 millisecond'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId;
+    private final Duration ttl;
+
+    /**
+     * @param instanceId lower case letters and digits only, as it names the channel of this instance
+     * @param ttl        how long a watch lasts without a refresh
+     */
+    public MovementWatches(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           String instanceId, Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.instanceId = instanceId;
+        this.ttl = ttl;
+    }
+
+    /**
+     * The channel the movements of the accounts watched by this instance are sent on.
+     */
+    public String channel() {
+        return CHANNEL_PREFIX + instanceId;
+    }
+
+    /**
+     * Returns once every movement committed from now on is notified to this instance, and every
+     * movement committed before can be read.
+     */
+    public void watch(UUID accountId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList(LOCK_ACCOUNT, UUID.class, accountId);
+            jdbcTemplate.update(UPSERT_WATCH, accountId, instanceId);
+        });
+    }
+
+    /**
+     * Keeps the watches of the accounts still streamed, and drops the expired ones of every instance.
+     */
+    public void refresh(Collection<UUID> accountIds) {
+        jdbcTemplate.batchUpdate(UPSERT_WATCH, accountIds, BATCH_SIZE, (statement, accountId) -> {
+            statement.setObject(1, accountId);
+            statement.setString(2, instanceId);
+        });
+        jdbcTemplate.update(DELETE_EXPIRED, ttl.toMillis());
+    }
+}
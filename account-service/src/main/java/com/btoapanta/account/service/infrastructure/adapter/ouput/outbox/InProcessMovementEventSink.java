@@ -0,0 +1,27 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.outbox;
+
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * Publishes each event as an application event, to any {@code @EventListener(MovementPosted.class)}
+ * of this instance. Listeners run on the relay thread and should hand slow work off.
+ */
+@RequiredArgsConstructor
+public class InProcessMovementEventSink implements MovementEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String name() {
+        return "in-process";
+    }
+
+    @Override
+    public void deliver(List<MovementPosted> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,20 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.outbox;
+
+import com.btoapanta.account.service.domain.event.MovementPosted;
+
+import java.util.List;
+
+/**
+ * Destination of the events drained from the outbox. A batch that fails in any sink is offered
+ * again to every sink, so sinks must tolerate events they have already seen.
+ */
+public interface MovementEventSink {
+
+    String name();
+
+    /**
+     * @param events oldest first
+     * @throws Exception when the batch was not delivered
+     */
+    void deliver(List<MovementPosted> events) throws Exception;
+}
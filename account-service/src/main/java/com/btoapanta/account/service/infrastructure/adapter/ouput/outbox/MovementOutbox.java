@@ -0,0 +1,54 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.outbox;
+
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes events to movement_outbox (V7__create_movement_outbox.sql). Must be called inside the
+ * transaction of the movement, so the event is committed or rolled back with it.
+ */
+@Component
+@RequiredArgsConstructor
+public class MovementOutbox {
+
+    static final String MOVEMENT_POSTED = "MovementPosted";
+    private static final String INSERT = """
+            INSERT INTO movement_outbox (event_id, account_id, event_type, payload, created_at, next_attempt_at)
+            VALUES (?, ?, ?, ?::jsonb, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void append(MovementPosted event) {
+        jdbcTemplate.update(INSERT, row(event, Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    /**
+     * Writes the events with one JDBC batch, for callers that write their movements in batches.
+     */
+    public void appendAll(List<MovementPosted> events) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT, events.stream().map(event -> row(event, now)).toList());
+    }
+
+    private Object[] row(MovementPosted event, Timestamp now) {
+        return new Object[]{event.getEventId(), event.getAccountId(), MOVEMENT_POSTED, toJson(event), now, now};
+    }
+
+    private String toJson(MovementPosted event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize event " + event.getEventId(), e);
+        }
+    }
+}
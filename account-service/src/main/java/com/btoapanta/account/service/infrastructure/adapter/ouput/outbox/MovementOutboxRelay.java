@@ -0,0 +1,171 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.outbox;
+
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains movement_outbox in batches and hands every batch to each sink in turn.
+ *
+ * <p>A batch is claimed with {@code FOR UPDATE SKIP LOCKED} in a short transaction that leases it:
+ * its next attempt is pushed {@code lease} ahead, so several instances drain side by side without
+ * taking the same events. The sinks are called after that transaction commits, so no connection
+ * or row lock is held while a sink blocks. Once every sink has the batch its rows are deleted.
+ * When a sink fails, the whole batch is retried after an exponential backoff and every sink sees
+ * it again; so does a batch whose relay stopped before deleting it, once its lease runs out.
+ * Delivery is at least once, and events stay in insertion order unless a retry is overtaken by
+ * newer events. The lease must outlast a delivery to every sink, or a slow batch is relayed twice.
+ */
+@Slf4j
+public class MovementOutboxRelay {
+
+    private static final String CLAIM_DUE = """
+            SELECT id, payload FROM movement_outbox
+            WHERE next_attempt_at <= ?
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String LEASE = "UPDATE movement_outbox SET next_attempt_at = ? WHERE id = ?";
+    private static final String DELETE_DELIVERED = "DELETE FROM movement_outbox WHERE id = ?";
+    private static final String RESCHEDULE = """
+            UPDATE movement_outbox
+            SET attempts = attempts + 1,
+                next_attempt_at = ? + make_interval(secs => LEAST(power(2, attempts), ?)),
+                last_error = ?
+            WHERE id = ?
+            """;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final List<MovementEventSink> sinks;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration maxBackoff;
+
+    /**
+     * @param batchSize  events claimed and delivered together
+     * @param lease      how long a claimed batch is kept from other relays while it is delivered
+     * @param maxBackoff longest wait before a failed batch is retried
+     */
+    public MovementOutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                               List<MovementEventSink> sinks, Clock clock, int batchSize,
+                               Duration lease, Duration maxBackoff) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.sinks = sinks;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxBackoff = maxBackoff;
+        log.info("Movement outbox relay - sinks: {}, batch size: {}",
+                sinks.stream().map(MovementEventSink::name).toList(), batchSize);
+    }
+
+    /**
+     * Relays batches until the due events run out or a sink fails.
+     */
+    @Scheduled(fixedDelayString = "${movements.outbox.poll-interval:500ms}")
+    public void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Movement outbox relay failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxRow> rows = claim();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        String failedSink = null;
+        try {
+            List<MovementPosted> events = rows.stream().map(this::toEvent).toList();
+            for (MovementEventSink sink : sinks) {
+                failedSink = sink.name();
+                sink.deliver(events);
+                count("delivered", sink.name(), events.size());
+            }
+        } catch (Exception e) {
+            log.warn("Could not deliver {} movement events to {}: {}", rows.size(), failedSink, e.getMessage());
+            count("failed", failedSink, rows.size());
+            reschedule(rows, failedSink + ": " + e.getMessage());
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(DELETE_DELIVERED, rows, rows.size(),
+                (statement, row) -> statement.setLong(1, row.id()));
+        return rows.size();
+    }
+
+    // Committed before delivery: the lease, not the row lock, keeps other relays off the batch
+    private List<OutboxRow> claim() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxRow> rows = transactionTemplate.execute(status -> {
+            List<OutboxRow> claimed = jdbcTemplate.query(CLAIM_DUE, (rs, rowNum) ->
+                    new OutboxRow(rs.getLong("id"), rs.getString("payload")), Timestamp.valueOf(now), batchSize);
+            if (!claimed.isEmpty()) {
+                Timestamp leasedUntil = Timestamp.valueOf(now.plus(lease));
+                jdbcTemplate.batchUpdate(LEASE, claimed, claimed.size(), (statement, row) -> {
+                    statement.setTimestamp(1, leasedUntil);
+                    statement.setLong(2, row.id());
+                });
+            }
+            return claimed;
+        });
+        return rows != null ? rows : List.of();
+    }
+
+    private void reschedule(List<OutboxRow> rows, String error) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.batchUpdate(RESCHEDULE, rows, rows.size(), (statement, row) -> {
+            statement.setTimestamp(1, now);
+            statement.setLong(2, maxBackoff.toSeconds());
+            statement.setString(3, lastError);
+            statement.setLong(4, row.id());
+        });
+    }
+
+    private MovementPosted toEvent(OutboxRow row) {
+        try {
+            return objectMapper.readValue(row.payload(), MovementPosted.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read outbox event " + row.id(), e);
+        }
+    }
+
+    private void count(String outcome, String sink, int events) {
+        Counter.builder("movements.outbox.events")
+                .description("Outbox events handed to a sink, by outcome")
+                .tag("sink", sink != null ? sink : "none")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(events);
+    }
+
+    private record OutboxRow(long id, String payload) {
+    }
+}
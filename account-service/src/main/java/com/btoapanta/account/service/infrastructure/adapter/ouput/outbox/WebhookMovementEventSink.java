@@ -0,0 +1,40 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.outbox;
+
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * POSTs each batch as a JSON array to the webhook URL. Any non-2xx answer or a timeout fails the batch.
+ */
+public class WebhookMovementEventSink implements MovementEventSink {
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    /**
+     * Uses the Spring managed builder so deliveries are observed as http.client.requests
+     */
+    public WebhookMovementEventSink(WebClient.Builder webClientBuilder, String url, Duration timeout) {
+        this.webClient = webClientBuilder.baseUrl(url).build();
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void deliver(List<MovementPosted> events) {
+        webClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(events)
+                .retrieve()
+                .toBodilessEntity()
+                .block(timeout);
+    }
+}
@@ -1,57 +1,152 @@
 package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence;
 
+import com.btoapanta.account.service.domain.enums.AccountType;
 import com.btoapanta.account.service.domain.model.Account;
 import com.btoapanta.account.service.application.port.output.AccountPersistencePort;
 import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.AccountEntity;
 import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.mapper.AccountMapper;
 import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository.AccountJpaRepository;
+import com.btoapanta.account.service.infrastructure.deadline.Deadlines;
+import com.btoapanta.account.service.infrastructure.replica.Replicas;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
 @Repository
 @RequiredArgsConstructor
 public class AccountPersistenceAdapter implements AccountPersistencePort {
 
+    private static final String OBSERVATION_NAME = "account.persistence";
+    private static final String OPERATION_TAG = "operation";
+
+    // Properties a projection can read, by domain name (the entity attributes have the same names)
+    private static final Map<String, BiConsumer<Account, Object>> PROJECTABLE = Map.of(
+            "id", (account, value) -> account.setId((UUID) value),
+            "accountNumber", (account, value) -> account.setAccountNumber((Long) value),
+            "customerId", (account, value) -> account.setCustomerId((UUID) value),
+            "customerName", (account, value) -> account.setCustomerName((String) value),
+            "accountType", (account, value) -> account.setAccountType((AccountType) value),
+            "balance", (account, value) -> account.setBalance((BigDecimal) value),
+            "state", (account, value) -> account.setState((Boolean) value),
+            "version", (account, value) -> account.setVersion((Long) value));
+
     private final AccountJpaRepository accountJpaRepository;
 
     private final AccountMapper accountMapper;
 
+    private final ObservationRegistry observationRegistry;
+
+    private final EntityManager entityManager;
+
     @Override
     public Mono<Account> getAccountByNumber(Long accountNumber) {
 
-        return Mono.fromCallable(() -> accountJpaRepository.findByAccountNumber(accountNumber))
+        return Replicas.fromCallable(() -> accountJpaRepository.findByAccountNumber(accountNumber))
                 .subscribeOn(Schedulers.boundedElastic())
                 .flatMap(Mono::justOrEmpty)
-                .map(accountMapper::ToDomain);
+                .map(accountMapper::ToDomain)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getAccountByNumber")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Mono<Account> getAccountByNumber(Long accountNumber, Set<String> properties) {
+        if (properties == null) {
+            return getAccountByNumber(accountNumber);
+        }
+        return Replicas.fromCallable(() -> project(properties, (builder, account) ->
+                        List.of(builder.equal(account.get("accountNumber"), accountNumber))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(accounts -> Mono.justOrEmpty(accounts.stream().findFirst()))
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getAccountByNumberProjection")
+                .tap(Micrometer.observation(observationRegistry));
     }
 
+    // A single indexed column: conditional GETs are answered without loading the account and its movements
     @Override
-    public Flux<Account> getAllAccounts() {
+    public Mono<Long> getAccountVersion(Long accountNumber) {
 
-        return Mono.fromCallable(accountJpaRepository::findAll)
+        return Replicas.fromCallable(() -> accountJpaRepository.findVersionByAccountNumber(accountNumber))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getAccountVersion")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Flux<Account> getAllAccounts(UUID customerId, AccountType accountType) {
+
+        return Replicas.fromCallable(() -> findAccounts(customerId, accountType))
                 .subscribeOn(Schedulers.boundedElastic())
                 .flatMapMany(Flux::fromIterable)
-                .map(accountMapper::ToDomain);
+                .map(accountMapper::ToDomain)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getAllAccounts")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Flux<Account> getAllAccounts(UUID customerId, AccountType accountType, Set<String> properties) {
+        if (properties == null) {
+            return getAllAccounts(customerId, accountType);
+        }
+        return Replicas.fromCallable(() -> project(properties, (builder, account) -> {
+                    List<Predicate> where = new ArrayList<>();
+                    if (customerId != null) {
+                        where.add(builder.equal(account.get("customerId"), customerId));
+                    }
+                    if (accountType != null) {
+                        where.add(builder.equal(account.get("accountType"), accountType));
+                    }
+                    return where;
+                }))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getAllAccountsProjection")
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
     public Mono<Account> saveAccount(Account account) {
-        return Mono.fromCallable(() -> {
+        return Deadlines.fromCallable(() -> {
             AccountEntity entity = accountMapper.toEntity(account);
             return accountJpaRepository.save(entity);
                 })
                 .subscribeOn(Schedulers.boundedElastic())
-                .map(accountMapper::ToDomain);
+                .map(accountMapper::ToDomain)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "saveAccount")
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
     public Mono<Void> deleteAccount(UUID accountId) {
-        return Mono.fromCallable(() -> accountJpaRepository.findById(accountId))
+        return Deadlines.fromCallable(() -> accountJpaRepository.findById(accountId))
                 .subscribeOn(Schedulers.boundedElastic())
                 .flatMap(optional ->{
                    if(optional.isPresent()){
@@ -59,13 +154,17 @@ public class AccountPersistenceAdapter implements AccountPersistencePort {
                        return Mono.empty();
                    }
                    return Mono.error(new RuntimeException("Account not found"));
-                });
+                })
+                .then()
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "deleteAccount")
+                .tap(Micrometer.observation(observationRegistry));
 
     }
 
     @Override
     public Mono<Account> updateAccount(Account account) {
-        return Mono.fromCallable(() -> {
+        return Deadlines.fromCallable(() -> {
                     AccountEntity entity = accountMapper.toEntity(account);
                     
                     // Establish a bidirectional relationship with movements
@@ -76,6 +175,52 @@ public class AccountPersistenceAdapter implements AccountPersistencePort {
                     return accountJpaRepository.save(entity);
                 })
                 .subscribeOn(Schedulers.boundedElastic())
-                .map(accountMapper::ToDomain);
+                .map(accountMapper::ToDomain)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "updateAccount")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    /**
+     * Reads only the given columns, plus id and version, as a tuple query: no entity is loaded, so
+     * neither are the movements the account entity fetches eagerly.
+     */
+    private List<Account> project(Set<String> properties,
+                                  BiFunction<CriteriaBuilder, Root<AccountEntity>, List<Predicate>> where) {
+        Set<String> selected = new LinkedHashSet<>(List.of("id", "version"));
+        selected.addAll(properties);
+        selected.forEach(property -> {
+            if (!PROJECTABLE.containsKey(property)) {
+                throw new IllegalArgumentException("Account property cannot be projected: " + property);
+            }
+        });
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<AccountEntity> account = query.from(AccountEntity.class);
+        query.multiselect(selected.stream().<Selection<?>>map(property -> account.get(property).alias(property)).toList());
+        query.where(where.apply(builder, account).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> {
+                    Account projected = Account.builder().build();
+                    selected.forEach(property -> PROJECTABLE.get(property).accept(projected, tuple.get(property)));
+                    return projected;
+                })
+                .toList();
+    }
+
+    // One derived query per filter combination, so each one gets a plan on the matching index
+    private List<AccountEntity> findAccounts(UUID customerId, AccountType accountType) {
+        if (customerId != null && accountType != null) {
+            return accountJpaRepository.findByCustomerIdAndAccountType(customerId, accountType);
+        }
+        if (customerId != null) {
+            return accountJpaRepository.findByCustomerId(customerId);
+        }
+        if (accountType != null) {
+            return accountJpaRepository.findByAccountType(accountType);
+        }
+        return accountJpaRepository.findAll();
     }
 }
@@ -0,0 +1,89 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence;
+
+import com.btoapanta.account.service.application.port.output.BalanceHistoryPersistencePort;
+import com.btoapanta.account.service.domain.model.BalanceAt;
+import com.btoapanta.account.service.domain.model.Movement;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchive;
+import com.btoapanta.account.service.infrastructure.deadline.Deadlines;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class BalanceHistoryPersistenceAdapter implements BalanceHistoryPersistencePort {
+
+    private static final String OBSERVATION_NAME = "balance-history.persistence";
+    private static final String OPERATION_TAG = "operation";
+
+    // One round trip for the whole batch. Per query: a unique seek on the account number and a
+    // backward seek on (account_id, created_date) that stops at the first row, visiting the newest
+    // partition first. The first daily opening balance is only looked up when that seek finds nothing.
+    private static final String BALANCES_AT = """
+            SELECT q.ord, a.id AS account_id, a.balance, m.balance_after,
+                   CASE WHEN m.balance_after IS NULL THEN
+                       (SELECT d.opening_balance FROM account_daily_balances d
+                        WHERE d.account_id = a.id ORDER BY d.balance_date LIMIT 1)
+                   END AS first_opening_balance
+            FROM unnest(?::bigint[], ?::timestamp[]) WITH ORDINALITY AS q(account_number, at, ord)
+            JOIN accounts a ON a.account_number = q.account_number
+            LEFT JOIN LATERAL (
+                SELECT mv.balance_after FROM movements mv
+                WHERE mv.account_id = a.id AND mv.created_date <= q.at
+                ORDER BY mv.created_date DESC
+                LIMIT 1
+            ) m ON true
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MovementArchive movementArchive;
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    public Flux<BalanceAt> getBalancesAt(List<BalanceAt> queries) {
+        return Deadlines.fromCallable(() -> resolve(queries))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getBalancesAt")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    private List<BalanceAt> resolve(List<BalanceAt> queries) {
+        List<BalanceAt> results = new ArrayList<>(queries.size());
+        queries.forEach(query -> results.add(query.toBuilder().balance(null).build()));
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(BALANCES_AT);
+            statement.setArray(1, connection.createArrayOf("bigint",
+                    queries.stream().map(BalanceAt::getAccountNumber).toArray()));
+            statement.setArray(2, connection.createArrayOf("timestamp",
+                    queries.stream().map(query -> Timestamp.valueOf(query.getAt())).toArray()));
+            return statement;
+        }, rs -> {
+            BalanceAt result = results.get(rs.getInt("ord") - 1);
+            BigDecimal balance = rs.getBigDecimal("balance_after");
+            if (balance == null) {
+                // Nothing live up to that instant: the month may have been archived, otherwise
+                // the balance never changed before it
+                balance = movementArchive.findLastAtOrBefore(rs.getObject("account_id", UUID.class), result.getAt())
+                        .map(Movement::getBalanceAfter)
+                        .orElse(rs.getBigDecimal("first_opening_balance"));
+            }
+            result.setBalance(balance != null ? balance : rs.getBigDecimal("balance"));
+        });
+        return results;
+    }
+}
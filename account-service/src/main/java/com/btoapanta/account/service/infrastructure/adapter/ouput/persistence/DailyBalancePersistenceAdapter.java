@@ -0,0 +1,65 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence;
+
+import com.btoapanta.account.service.application.port.output.DailyBalancePersistencePort;
+import com.btoapanta.account.service.domain.model.DailyBalance;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.mapper.DailyBalanceMapper;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository.DailyBalanceJpaRepository;
+import com.btoapanta.account.service.infrastructure.deadline.Deadlines;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class DailyBalancePersistenceAdapter implements DailyBalancePersistencePort {
+
+    private static final String OBSERVATION_NAME = "daily-balance.persistence";
+    private static final String OPERATION_TAG = "operation";
+
+    private final DailyBalanceJpaRepository dailyBalanceJpaRepository;
+    private final DailyBalanceMapper dailyBalanceMapper;
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    public Flux<DailyBalance> getDailyBalances(UUID accountId, LocalDate from, LocalDate to) {
+        return Deadlines.fromCallable(() -> dailyBalanceJpaRepository
+                        .findByAccountIdAndBalanceDateBetweenOrderByBalanceDate(accountId, from, to))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .map(dailyBalanceMapper::toDomain)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getDailyBalances")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Mono<DailyBalance> getLastDailyBalanceBefore(UUID accountId, LocalDate date) {
+        return Deadlines.fromCallable(() -> dailyBalanceJpaRepository
+                        .findFirstByAccountIdAndBalanceDateLessThanOrderByBalanceDateDesc(accountId, date))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .map(dailyBalanceMapper::toDomain)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getLastDailyBalanceBefore")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Mono<DailyBalance> getFirstDailyBalanceFrom(UUID accountId, LocalDate date) {
+        return Deadlines.fromCallable(() -> dailyBalanceJpaRepository
+                        .findFirstByAccountIdAndBalanceDateGreaterThanEqualOrderByBalanceDate(accountId, date))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .map(dailyBalanceMapper::toDomain)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getFirstDailyBalanceFrom")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+}
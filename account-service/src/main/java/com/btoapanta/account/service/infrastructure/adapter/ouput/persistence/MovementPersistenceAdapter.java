@@ -1,31 +1,81 @@
 package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence;
 
+import com.btoapanta.account.service.domain.enums.MovementType;
 import com.btoapanta.account.service.domain.model.Movement;
 import com.btoapanta.account.service.application.port.output.MovementPersistencePort;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchive;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.MovementEntity;
 import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.mapper.MovementMapper;
 import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository.AccountJpaRepository;
 import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository.MovementJpaRepository;
+import com.btoapanta.account.service.infrastructure.deadline.Deadlines;
+import com.btoapanta.account.service.infrastructure.replica.Replicas;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class MovementPersistenceAdapter implements MovementPersistencePort {
 
+    private static final String OBSERVATION_NAME = "movement.persistence";
+    private static final String OPERATION_TAG = "operation";
+    // Stand-ins for an open bound, inside the PostgreSQL timestamp range
+    private static final LocalDateTime OPEN_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime OPEN_TO = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    // Properties a projection can read, by domain name: the column path and how its value goes back on the movement
+    private static final Map<String, Projected> PROJECTABLE = Map.of(
+            "id", new Projected(movement -> movement.get("id"),
+                    (movement, value) -> movement.setId((UUID) value)),
+            "accountNumber", new Projected(movement -> movement.get("account").get("accountNumber"),
+                    (movement, value) -> movement.setAccountNumber((Long) value)),
+            "movementType", new Projected(movement -> movement.get("movementType"),
+                    (movement, value) -> movement.setMovementType((MovementType) value)),
+            "amount", new Projected(movement -> movement.get("amount"),
+                    (movement, value) -> movement.setAmount((BigDecimal) value)),
+            "balanceBefore", new Projected(movement -> movement.get("balanceBefore"),
+                    (movement, value) -> movement.setBalanceBefore((BigDecimal) value)),
+            "balanceAfter", new Projected(movement -> movement.get("balanceAfter"),
+                    (movement, value) -> movement.setBalanceAfter((BigDecimal) value)),
+            "date", new Projected(movement -> movement.get("createdDate"),
+                    (movement, value) -> movement.setDate((LocalDateTime) value)));
+
     private final MovementJpaRepository movementJpaRepository;
     private final AccountJpaRepository accountJpaRepository;
     private final MovementMapper movementMapper;
+    private final MovementArchive movementArchive;
+    private final ObservationRegistry observationRegistry;
+    private final EntityManager entityManager;
 
     @Override
     public Mono<Movement> saveMovement(Movement movement) {
-        return Mono.fromCallable(() -> {
+        return Deadlines.fromCallable(() -> {
                     var entity = movementMapper.toEntity(movement);
 
                     var accountEntity = accountJpaRepository.findByAccountNumber(movement.getAccountNumber())
@@ -36,17 +86,138 @@ public class MovementPersistenceAdapter implements MovementPersistencePort {
                     return movementJpaRepository.save(entity);
                 })
                 .subscribeOn(Schedulers.boundedElastic())
-                .map(movementMapper::toDomain);
+                .map(movementMapper::toDomain)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "saveMovement")
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
     public Flux<Movement> getMovementsByAccountId(UUID accountId) {
         log.info("Fetching movements for account ID: {}", accountId);
 
-        return Mono.fromCallable(() -> movementJpaRepository.findByAccountId(accountId))
+        return Replicas.fromCallable(() -> withArchived(accountId, null, null,
+                        toDomain(movementJpaRepository.findByAccountId(accountId))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .doOnComplete(() -> log.info("Movements fetched successfully"))
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getMovementsByAccountId")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Flux<Movement> getMovementsByAccountId(UUID accountId, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return getMovementsByAccountId(accountId);
+        }
+        log.info("Fetching movements for account ID: {} between {} and {}", accountId, from, to);
+
+        return Replicas.fromCallable(() -> withArchived(accountId, from, to,
+                        toDomain(movementJpaRepository.findByAccountIdAndPeriod(accountId,
+                                from != null ? from : OPEN_FROM,
+                                to != null ? to : OPEN_TO))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .doOnComplete(() -> log.info("Movements fetched successfully"))
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getMovementsByAccountIdAndPeriod")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Flux<Movement> getMovementsByAccountId(UUID accountId, LocalDateTime from, LocalDateTime to,
+                                                  Set<String> properties) {
+        if (properties == null) {
+            return getMovementsByAccountId(accountId, from, to);
+        }
+        log.info("Fetching movements for account ID: {} between {} and {} - properties: {}", accountId, from, to, properties);
+
+        return Replicas.fromCallable(() -> withArchived(accountId, from, to, project(accountId,
+                        from != null ? from : OPEN_FROM,
+                        to != null ? to : OPEN_TO,
+                        properties)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .doOnComplete(() -> log.info("Movements fetched successfully"))
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getMovementsByAccountIdProjection")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Flux<Movement> getMovementsAfter(UUID accountId, UUID movementId) {
+        log.info("Fetching movements for account ID: {} after movement {}", accountId, movementId);
+
+        return Deadlines.fromCallable(() -> movementJpaRepository.findByAccountIdAfterMovement(accountId, movementId))
                 .subscribeOn(Schedulers.boundedElastic())
                 .flatMapMany(Flux::fromIterable)
                 .map(movementMapper::toDomain)
-                .doOnComplete(() -> log.info("Movements fetched successfully"));
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getMovementsAfter")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Mono<Boolean> hasLiveMovement(UUID accountId, UUID movementId) {
+        return Deadlines.fromCallable(() -> movementJpaRepository.existsByIdAndAccountId(movementId, accountId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "hasLiveMovement")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    /**
+     * Archived months are older than any live one, so archived rows go first. The live rows are read
+     * before the archive: a month being archived right now is then found in at least one of them, and
+     * rows found in both are taken from the database.
+     */
+    private List<Movement> withArchived(UUID accountId, LocalDateTime from, LocalDateTime to, List<Movement> live) {
+        Set<UUID> liveIds = live.stream().map(Movement::getId).collect(Collectors.toSet());
+        List<Movement> movements = new ArrayList<>(movementArchive.find(accountId, from, to));
+        movements.removeIf(movement -> liveIds.contains(movement.getId()));
+        movements.addAll(live);
+        return movements;
+    }
+
+    private List<Movement> toDomain(List<MovementEntity> entities) {
+        return entities.stream().map(movementMapper::toDomain).toList();
+    }
+
+    /**
+     * Same range as findByAccountIdAndPeriod, reading only the given columns and the id as a tuple
+     * query. The accounts table is only joined when the account number is asked for.
+     */
+    private List<Movement> project(UUID accountId, LocalDateTime from, LocalDateTime to, Set<String> properties) {
+        Set<String> selected = new LinkedHashSet<>(List.of("id"));
+        selected.addAll(properties);
+        selected.forEach(property -> {
+            if (!PROJECTABLE.containsKey(property)) {
+                throw new IllegalArgumentException("Movement property cannot be projected: " + property);
+            }
+        });
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<MovementEntity> movement = query.from(MovementEntity.class);
+        Path<LocalDateTime> createdDate = movement.get("createdDate");
+        query.multiselect(selected.stream()
+                .<Selection<?>>map(property -> PROJECTABLE.get(property).column().apply(movement).alias(property))
+                .toList());
+        query.where(builder.equal(movement.get("account").get("id"), accountId),
+                builder.greaterThanOrEqualTo(createdDate, from),
+                builder.lessThan(createdDate, to));
+        query.orderBy(builder.asc(createdDate));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> {
+                    Movement projected = new Movement();
+                    selected.forEach(property -> PROJECTABLE.get(property).set().accept(projected, tuple.get(property)));
+                    return projected;
+                })
+                .toList();
+    }
+
+    private record Projected(Function<Root<MovementEntity>, Path<?>> column, BiConsumer<Movement, Object> set) {
     }
 }
@@ -0,0 +1,66 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence;
+
+import com.btoapanta.account.service.application.port.output.PortfolioPersistencePort;
+import com.btoapanta.account.service.domain.enums.AccountType;
+import com.btoapanta.account.service.domain.model.AccountTypeTotal;
+import com.btoapanta.account.service.infrastructure.deadline.Deadlines;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class PortfolioPersistenceAdapter implements PortfolioPersistencePort {
+
+    private static final String OBSERVATION_NAME = "portfolio.persistence";
+    private static final String OPERATION_TAG = "operation";
+
+    // One round trip: a scan of idx_accounts_customer_active, the open accounts of the customer
+    // only, so closed ones are neither counted nor summed. Then per account a backward seek
+    // on the (account_id, balance_date) key of account_daily_balances that stops at its newest day.
+    // Daily balances are kept when movement partitions are archived, so an account whose movements
+    // are only in the archive still reports its last movement.
+    private static final String TOTALS_BY_ACCOUNT_TYPE = """
+            SELECT a.account_type, count(*) AS account_count, sum(a.balance) AS balance,
+                   max(d.last_movement_at) AS last_movement_at
+            FROM accounts a
+            LEFT JOIN LATERAL (
+                SELECT db.last_movement_at FROM account_daily_balances db
+                WHERE db.account_id = a.id
+                ORDER BY db.balance_date DESC
+                LIMIT 1
+            ) d ON true
+            WHERE a.customer_id = ? AND a.state
+            GROUP BY a.account_type
+            ORDER BY a.account_type
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    public Flux<AccountTypeTotal> getTotalsByAccountType(UUID customerId) {
+        return Deadlines.fromCallable(() -> jdbcTemplate.query(TOTALS_BY_ACCOUNT_TYPE, (rs, rowNum) -> {
+                    Timestamp lastMovementAt = rs.getTimestamp("last_movement_at");
+                    return AccountTypeTotal.builder()
+                            .accountType(AccountType.valueOf(rs.getString("account_type")))
+                            .accountCount(rs.getLong("account_count"))
+                            .balance(rs.getBigDecimal("balance"))
+                            .lastMovementAt(lastMovementAt != null ? lastMovementAt.toLocalDateTime() : null)
+                            .build();
+                }, customerId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getTotalsByAccountType")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+}
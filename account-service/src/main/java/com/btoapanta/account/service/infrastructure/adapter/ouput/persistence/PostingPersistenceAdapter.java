@@ -0,0 +1,70 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence;
+
+import com.btoapanta.account.service.application.port.output.PostingPersistencePort;
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.domain.model.Movement;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.outbox.MovementOutbox;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.AccountEntity;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.MovementEntity;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.id.UuidV7Generator;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.mapper.MovementMapper;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository.AccountJpaRepository;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository.MovementJpaRepository;
+import com.btoapanta.account.service.infrastructure.deadline.Deadlines;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Repository
+@RequiredArgsConstructor
+public class PostingPersistenceAdapter implements PostingPersistencePort {
+
+    private static final String OBSERVATION_NAME = "posting.persistence";
+    private static final String OPERATION_TAG = "operation";
+
+    private final AccountJpaRepository accountJpaRepository;
+    private final MovementJpaRepository movementJpaRepository;
+    private final MovementMapper movementMapper;
+    private final MovementOutbox movementOutbox;
+    private final PlatformTransactionManager transactionManager;
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    public Mono<Movement> postMovement(Account account, Movement movement) {
+        return Deadlines.fromCallable(() -> new TransactionTemplate(transactionManager)
+                        .execute(status -> post(account, movement)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "postMovement")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    // Two rows and the event, whatever the history of the account: its row is updated under the
+    // version it was read with, and the movement is inserted against a reference that is never
+    // loaded. The outbox insert goes through the connection of the JPA transaction, so all commit together.
+    private Movement post(Account account, Movement movement) {
+        if (accountJpaRepository.updateBalance(account.getId(), account.getBalance(), account.getVersion()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(AccountEntity.class, account.getId());
+        }
+
+        MovementEntity entity = movementMapper.toEntity(movement);
+        entity.setAccount(accountJpaRepository.getReferenceById(account.getId()));
+        MovementEntity saved = movementJpaRepository.save(entity);
+
+        // Not mapped back from the entity: its account number would load the account
+        Movement posted = movement.toBuilder()
+                .id(saved.getId())
+                .accountNumber(account.getAccountNumber())
+                .date(saved.getCreatedDate())
+                .build();
+        movementOutbox.append(MovementPosted.of(UuidV7Generator.next(), account.getId(), posted));
+        return posted;
+    }
+}
@@ -0,0 +1,159 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive;
+
+import com.btoapanta.account.service.domain.model.Movement;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Cold store of movements: one immutable segment file per archived month in a directory
+ * (movements-2025-01.seg, ...). Segments are opened once and kept mapped.
+ *
+ * <p>With several instances the directory must be storage they all share: the instance that
+ * archives a month drops its partition right after writing the segment. Every read first checks
+ * the modification time of the directory and rescans it when it changed, so a month archived by
+ * another instance is read from its segment as soon as its partition is gone.
+ */
+@Slf4j
+public class MovementArchive {
+
+    private static final String PREFIX = "movements-";
+    private static final String SUFFIX = ".seg";
+    // Coarser than the modification time granularity of any file system the directory may be on
+    private static final long SETTLE_MILLIS = 2_000;
+
+    private final Path directory;
+    private final NavigableMap<YearMonth, MovementSegment> segments = new ConcurrentSkipListMap<>();
+    private volatile FileTime scanned;
+
+    public MovementArchive(Path directory) {
+        this.directory = directory;
+        refresh();
+        log.info("Movement archive {} - {} segments: {}", directory.toAbsolutePath(), segments.size(), segments.keySet());
+    }
+
+    public boolean contains(YearMonth month) {
+        refresh();
+        return segments.containsKey(month);
+    }
+
+    /**
+     * @return archived months, oldest first
+     */
+    public NavigableSet<YearMonth> months() {
+        refresh();
+        return Collections.unmodifiableNavigableSet(segments.navigableKeySet());
+    }
+
+    /**
+     * @return archived movements of the account created in [from, to), oldest first; a null bound is open
+     */
+    public List<Movement> find(UUID accountId, LocalDateTime from, LocalDateTime to) {
+        refresh();
+        List<Movement> movements = new ArrayList<>();
+        for (Map.Entry<YearMonth, MovementSegment> segment : segments.entrySet()) {
+            LocalDateTime start = segment.getKey().atDay(1).atStartOfDay();
+            LocalDateTime end = segment.getKey().plusMonths(1).atDay(1).atStartOfDay();
+            if ((from == null || end.isAfter(from)) && (to == null || start.isBefore(to))) {
+                movements.addAll(segment.getValue().read(accountId, from, to));
+            }
+        }
+        return movements;
+    }
+
+    /**
+     * @return archived movements of the account created in [from, to) within a single month, oldest first
+     */
+    public List<Movement> find(UUID accountId, LocalDateTime from, LocalDateTime to, YearMonth month) {
+        refresh();
+        MovementSegment segment = segments.get(month);
+        return segment != null ? segment.read(accountId, from, to) : List.of();
+    }
+
+    /**
+     * @return the last archived movement of the account created at or before the instant
+     */
+    public Optional<Movement> findLastAtOrBefore(UUID accountId, LocalDateTime at) {
+        refresh();
+        for (MovementSegment segment : segments.headMap(YearMonth.from(at), true).descendingMap().values()) {
+            List<Movement> movements = segment.read(accountId, null, at.plusNanos(1));
+            if (!movements.isEmpty()) {
+                return Optional.of(movements.get(movements.size() - 1));
+            }
+        }
+        return Optional.empty();
+    }
+
+    MovementSegmentWriter newSegment(YearMonth month) throws IOException {
+        Files.createDirectories(directory);
+        return new MovementSegmentWriter(pathOf(month));
+    }
+
+    void register(YearMonth month) throws IOException {
+        segments.put(month, MovementSegment.open(pathOf(month)));
+    }
+
+    /**
+     * Opens the segments added to the directory since the last scan. A scan is skipped while the
+     * directory is unchanged; right after a change it is repeated on every read until the change
+     * is older than the modification time granularity, so a segment added within the same tick is
+     * not missed.
+     */
+    void refresh() {
+        FileTime modified;
+        try {
+            modified = Files.getLastModifiedTime(directory);
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            log.warn("Cannot check movement archive {}: {}", directory, e.getMessage());
+            return;
+        }
+        if (modified.equals(scanned)) {
+            return;
+        }
+        synchronized (this) {
+            if (modified.equals(scanned)) {
+                return;
+            }
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    YearMonth month = YearMonth.parse(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+                    if (!segments.containsKey(month)) {
+                        segments.put(month, MovementSegment.open(file));
+                        if (scanned != null) {
+                            log.info("Movement archive {} - opened the segment of {}", directory.toAbsolutePath(), month);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open movement archive " + directory, e);
+            }
+            if (System.currentTimeMillis() - modified.toMillis() > SETTLE_MILLIS) {
+                scanned = modified;
+            }
+        }
+    }
+
+    private Path pathOf(YearMonth month) {
+        return directory.resolve(PREFIX + month + SUFFIX);
+    }
+}
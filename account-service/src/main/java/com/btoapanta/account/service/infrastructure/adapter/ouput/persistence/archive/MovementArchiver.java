@@ -0,0 +1,74 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.model.Movement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Copies a monthly movements partition into its archive segment. Rows are streamed through a
+ * cursor in account order, so memory holds one account block at a time whatever the partition size.
+ * Must be called inside a transaction, otherwise PostgreSQL ignores the fetch size.
+ */
+@Slf4j
+public class MovementArchiver {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MovementArchive movementArchive;
+
+    public MovementArchiver(JdbcTemplate jdbcTemplate, MovementArchive movementArchive) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.movementArchive = movementArchive;
+    }
+
+    /**
+     * Archives the partition unless its month already has a segment, as happens when an earlier
+     * run wrote the segment but failed before dropping the partition.
+     */
+    public void archive(YearMonth month, String partition) {
+        if (movementArchive.contains(month)) {
+            log.info("Movements of {} are already archived", month);
+            return;
+        }
+        long start = System.nanoTime();
+        int[] rows = {0};
+        try (MovementSegmentWriter writer = movementArchive.newSegment(month)) {
+            jdbcTemplate.query("""
+                    SELECT m.id, m.account_id, a.account_number, m.movement_type, m.amount,
+                           m.balance_before, m.balance_after, m.created_date
+                    FROM %s m
+                    JOIN accounts a ON a.id = m.account_id
+                    ORDER BY m.account_id, m.created_date
+                    """.formatted(partition), rs -> {
+                Movement movement = Movement.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .accountNumber(rs.getLong("account_number"))
+                        .movementType(MovementType.valueOf(rs.getString("movement_type")))
+                        .amount(rs.getBigDecimal("amount"))
+                        .balanceBefore(rs.getBigDecimal("balance_before"))
+                        .balanceAfter(rs.getBigDecimal("balance_after"))
+                        .date(rs.getTimestamp("created_date").toLocalDateTime())
+                        .build();
+                try {
+                    writer.append(rs.getObject("account_id", UUID.class), movement);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            writer.commit();
+            movementArchive.register(month);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot archive movements of " + month, e);
+        }
+        log.info("Archived {} movements of {} in {} ms", rows[0], month, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,138 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.model.Movement;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementSegmentWriter.*;
+
+/**
+ * Read only view of a segment file written by {@link MovementSegmentWriter}. The file is memory
+ * mapped once; a lookup is a binary search over the mapped index followed by inflating the block
+ * of that single account, so only the pages of that account are read from disk.
+ */
+final class MovementSegment {
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int version;
+    private final int indexOffset;
+    private final int accountCount;
+
+    private MovementSegment(Path path, MappedByteBuffer buffer, int version, int indexOffset, int accountCount) {
+        this.path = path;
+        this.buffer = buffer;
+        this.version = version;
+        this.indexOffset = indexOffset;
+        this.accountCount = accountCount;
+    }
+
+    static MovementSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + FOOTER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a movement segment: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int footer = (int) size - FOOTER_SIZE;
+            int version = buffer.getInt(4);
+            if (buffer.getInt(0) != MAGIC || version < ORDINAL_TYPES_VERSION || version > VERSION
+                    || buffer.getInt(footer + 12) != MAGIC) {
+                throw new IOException("Not a movement segment: " + path);
+            }
+            return new MovementSegment(path, buffer, version, (int) buffer.getLong(footer), buffer.getInt(footer + 8));
+        }
+    }
+
+    /**
+     * @return movements of the account created in [from, to), oldest first; a null bound is open
+     */
+    List<Movement> read(UUID accountId, LocalDateTime from, LocalDateTime to) {
+        int entry = find(accountId);
+        if (entry < 0) {
+            return List.of();
+        }
+        long accountNumber = buffer.getLong(entry + 16);
+        int offset = (int) buffer.getLong(entry + 24);
+        int length = buffer.getInt(entry + 32);
+        int count = buffer.getInt(entry + 36);
+
+        ByteBuffer records = ByteBuffer.allocate(count * RECORD_SIZE);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(buffer.slice(offset, length));
+            while (records.hasRemaining() && !inflater.finished()) {
+                inflater.inflate(records);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt block for account " + accountId + " in " + path, e);
+        } finally {
+            inflater.end();
+        }
+        records.flip();
+
+        List<Movement> movements = new ArrayList<>(count);
+        while (records.hasRemaining()) {
+            Movement movement = decode(records, accountNumber, version);
+            if ((from == null || !movement.getDate().isBefore(from)) && (to == null || movement.getDate().isBefore(to))) {
+                movements.add(movement);
+            }
+        }
+        return movements;
+    }
+
+    private int find(UUID accountId) {
+        int low = 0;
+        int high = accountCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int entry = indexOffset + mid * INDEX_ENTRY_SIZE;
+            int cmp = UNSIGNED_ORDER.compare(new UUID(buffer.getLong(entry), buffer.getLong(entry + 8)), accountId);
+            if (cmp == 0) {
+                return entry;
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    private static Movement decode(ByteBuffer records, long accountNumber, int version) {
+        UUID id = new UUID(records.getLong(), records.getLong());
+        MovementType type = typeOf(version, records.get());
+        BigDecimal amount = BigDecimal.valueOf(records.getLong(), AMOUNT_SCALE);
+        BigDecimal balanceBefore = BigDecimal.valueOf(records.getLong(), AMOUNT_SCALE);
+        BigDecimal balanceAfter = BigDecimal.valueOf(records.getLong(), AMOUNT_SCALE);
+        long micros = records.getLong();
+        LocalDateTime date = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+
+        return Movement.builder()
+                .id(id)
+                .accountNumber(accountNumber)
+                .movementType(type)
+                .amount(amount)
+                .balanceBefore(balanceBefore)
+                .balanceAfter(balanceAfter)
+                .date(date)
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.model.Movement;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes one segment file. Layout, all numbers big endian:
+ * <pre>
+ * header   magic (4) version (4)
+ * blocks   one deflate stream per account, fixed size records in date order:
+ *          id (16) type (1) amount (8) balanceBefore (8) balanceAfter (8) createdDate (8)
+ *          type is 'C' for credit and 'D' for debit (0 and 1 in version 1 segments),
+ *          amounts are unscaled values at scale 2, createdDate is epoch microseconds
+ * index    one entry per account, sorted by account id as unsigned 128 bit:
+ *          accountId (16) accountNumber (8) blockOffset (8) blockLength (4) recordCount (4)
+ * footer   indexOffset (8) accountCount (4) magic (4)
+ * </pre>
+ * Rows must be appended grouped by account. The file is written under a temporary name and moved
+ * into place by {@link #commit()}, so a segment is either complete or absent.
+ */
+final class MovementSegmentWriter implements Closeable {
+
+    static final int MAGIC = 0x4D534547; // "MSEG"
+    static final int VERSION = 2;
+    // Version 1 stored the enum ordinal, which reordering MovementType would have silently changed
+    static final int ORDINAL_TYPES_VERSION = 1;
+    static final byte CREDIT_CODE = 'C';
+    static final byte DEBIT_CODE = 'D';
+    static final int HEADER_SIZE = 8;
+    static final int RECORD_SIZE = 49;
+    static final int INDEX_ENTRY_SIZE = 40;
+    static final int FOOTER_SIZE = 16;
+    static final int AMOUNT_SCALE = 2;
+
+    // Same order as PostgreSQL sorts uuid; UUID.compareTo compares signed longs
+    static final Comparator<UUID> UNSIGNED_ORDER = (a, b) -> {
+        int cmp = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
+    private final Path target;
+    private final Path temp;
+    private final FileChannel channel;
+    private final List<IndexEntry> index = new ArrayList<>();
+    private final Set<UUID> written = new HashSet<>();
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream();
+
+    private UUID accountId;
+    private long accountNumber;
+    private int recordCount;
+    private Deflater deflater;
+    private DataOutputStream out;
+    private boolean committed;
+
+    MovementSegmentWriter(Path target) throws IOException {
+        this.target = target;
+        this.temp = target.resolveSibling(target.getFileName() + ".tmp");
+        this.channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        writeFully(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip());
+    }
+
+    void append(UUID movementAccountId, Movement movement) throws IOException {
+        if (!movementAccountId.equals(accountId)) {
+            finishBlock();
+            if (!written.add(movementAccountId)) {
+                throw new IllegalStateException("Movements of account " + movementAccountId + " are not contiguous");
+            }
+            startBlock(movementAccountId, movement.getAccountNumber());
+        }
+        out.writeLong(movement.getId().getMostSignificantBits());
+        out.writeLong(movement.getId().getLeastSignificantBits());
+        out.writeByte(typeCode(movement.getMovementType()));
+        out.writeLong(movement.getAmount().setScale(AMOUNT_SCALE).unscaledValue().longValueExact());
+        out.writeLong(movement.getBalanceBefore().setScale(AMOUNT_SCALE).unscaledValue().longValueExact());
+        out.writeLong(movement.getBalanceAfter().setScale(AMOUNT_SCALE).unscaledValue().longValueExact());
+        var date = movement.getDate().toInstant(ZoneOffset.UTC);
+        out.writeLong(date.getEpochSecond() * 1_000_000 + date.getNano() / 1_000);
+        recordCount++;
+    }
+
+    static byte typeCode(MovementType movementType) {
+        return switch (movementType) {
+            case CREDIT -> CREDIT_CODE;
+            case DEBIT -> DEBIT_CODE;
+        };
+    }
+
+    static MovementType typeOf(int version, byte code) {
+        if (version == ORDINAL_TYPES_VERSION) {
+            code = code == 0 ? CREDIT_CODE : code == 1 ? DEBIT_CODE : code;
+        }
+        return switch (code) {
+            case CREDIT_CODE -> MovementType.CREDIT;
+            case DEBIT_CODE -> MovementType.DEBIT;
+            default -> throw new IllegalStateException("Unknown movement type code " + code + " in a version " + version + " segment");
+        };
+    }
+
+    /**
+     * Writes the index and footer, syncs the file and moves it to its final name.
+     */
+    void commit() throws IOException {
+        finishBlock();
+        index.sort(Comparator.comparing(IndexEntry::accountId, UNSIGNED_ORDER));
+
+        long indexOffset = channel.position();
+        ByteBuffer buffer = ByteBuffer.allocate(index.size() * INDEX_ENTRY_SIZE + FOOTER_SIZE);
+        for (IndexEntry entry : index) {
+            buffer.putLong(entry.accountId().getMostSignificantBits())
+                    .putLong(entry.accountId().getLeastSignificantBits())
+                    .putLong(entry.accountNumber())
+                    .putLong(entry.offset())
+                    .putInt(entry.length())
+                    .putInt(entry.count());
+        }
+        buffer.putLong(indexOffset).putInt(index.size()).putInt(MAGIC);
+        writeFully(buffer.flip());
+
+        channel.force(true);
+        channel.close();
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        committed = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (deflater != null) {
+            deflater.end();
+        }
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void startBlock(UUID id, long number) {
+        accountId = id;
+        accountNumber = number;
+        recordCount = 0;
+        block.reset();
+        deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        out = new DataOutputStream(new DeflaterOutputStream(block, deflater));
+    }
+
+    private void finishBlock() throws IOException {
+        if (accountId == null) {
+            return;
+        }
+        out.close();
+        deflater.end();
+        deflater = null;
+
+        long offset = channel.position();
+        writeFully(ByteBuffer.wrap(block.toByteArray()));
+        index.add(new IndexEntry(accountId, accountNumber, offset, block.size(), recordCount));
+        accountId = null;
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private record IndexEntry(UUID accountId, long accountNumber, long offset, int length, int count) {
+    }
+}
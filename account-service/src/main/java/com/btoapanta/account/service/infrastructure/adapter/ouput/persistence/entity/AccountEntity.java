@@ -1,10 +1,12 @@
 package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity;
 
 import com.btoapanta.account.service.domain.enums.AccountType;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.id.UuidV7Generator;
 import jakarta.persistence.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -20,7 +22,8 @@ import java.util.UUID;
 @AllArgsConstructor
 public class AccountEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "UUID", updatable = false, nullable = false)
     private UUID id;
     
@@ -51,6 +54,11 @@ public class AccountEntity {
     @NotNull(message = "State is required")
     @Column(nullable = false)
     private Boolean state;
+
+    // Optimistic lock: an update of a stale copy fails instead of overwriting a newer balance
+    @Version
+    @Column(nullable = false)
+    private Long version;
     
     @Valid
     @OneToMany(
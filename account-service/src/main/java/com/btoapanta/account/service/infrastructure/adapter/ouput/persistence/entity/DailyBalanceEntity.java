@@ -0,0 +1,55 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Written by the trg_movements_daily_balance trigger on every movement insert (V4 migration);
+ * read only from the application.
+ */
+@Entity
+@Immutable
+@Table(name = "account_daily_balances")
+@IdClass(DailyBalanceId.class)
+@Getter
+@Setter
+public class DailyBalanceEntity {
+    @Id
+    @Column(columnDefinition = "UUID", nullable = false)
+    private UUID accountId;
+
+    @Id
+    @Column(nullable = false)
+    private LocalDate balanceDate;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal openingBalance;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal closingBalance;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalCredits;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalDebits;
+
+    @Column(nullable = false)
+    private Integer creditCount;
+
+    @Column(nullable = false)
+    private Integer debitCount;
+
+    @Column(nullable = false)
+    private LocalDateTime firstMovementAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lastMovementAt;
+}
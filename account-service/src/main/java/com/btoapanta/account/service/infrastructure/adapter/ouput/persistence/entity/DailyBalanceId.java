@@ -0,0 +1,17 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyBalanceId implements Serializable {
+    private UUID accountId;
+    private LocalDate balanceDate;
+}
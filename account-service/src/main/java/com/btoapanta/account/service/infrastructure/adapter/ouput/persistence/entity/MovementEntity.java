@@ -2,12 +2,14 @@ package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.e
 
 
 import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.id.UuidV7Generator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -22,7 +24,8 @@ import java.util.UUID;
 @Setter
 public class MovementEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "UUID", updatable = false, nullable = false)
     private UUID id;
 
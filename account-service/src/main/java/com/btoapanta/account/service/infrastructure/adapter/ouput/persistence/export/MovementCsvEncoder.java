@@ -0,0 +1,133 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.export;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Writes movement rows as CSV bytes straight into a buffer, without building strings per row.
+ * Every field is ASCII and free of separators, quotes and line breaks (uuid, ISO-8601 instant,
+ * movement type, plain decimals), so no field needs quoting. The movement type is the only field
+ * read as text; one that would need quoting is rejected rather than written unescaped.
+ */
+final class MovementCsvEncoder {
+
+    static final byte[] HEADER = "id,date,movementType,amount,balanceBefore,balanceAfter\r\n"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    // uuid (36) + instant (27) + type (6) + 3 amounts with sign and point (3 x 21) + separators and CRLF
+    static final int MAX_ROW_SIZE = 160;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final int AMOUNT_SCALE = 2;
+    private static final int MAX_TYPE_LENGTH = 6;
+
+    private final byte[] scratch = new byte[MAX_ROW_SIZE];
+    private int length;
+
+    void write(DataBuffer buffer, UUID id, LocalDateTime date, String movementType,
+               BigDecimal amount, BigDecimal balanceBefore, BigDecimal balanceAfter) {
+        length = 0;
+        uuid(id);
+        separator();
+        instant(date);
+        separator();
+        if (movementType.isEmpty() || movementType.length() > MAX_TYPE_LENGTH) {
+            throw new IllegalArgumentException("Movement type cannot be written unquoted: " + movementType);
+        }
+        for (int i = 0; i < movementType.length(); i++) {
+            char c = movementType.charAt(i);
+            if ((c < 'A' || c > 'Z') && c != '_') {
+                throw new IllegalArgumentException("Movement type cannot be written unquoted: " + movementType);
+            }
+            scratch[length++] = (byte) c;
+        }
+        separator();
+        amount(amount);
+        separator();
+        amount(balanceBefore);
+        separator();
+        amount(balanceAfter);
+        scratch[length++] = '\r';
+        scratch[length++] = '\n';
+        buffer.write(scratch, 0, length);
+    }
+
+    private void separator() {
+        scratch[length++] = ',';
+    }
+
+    private void uuid(UUID id) {
+        hex(id.getMostSignificantBits() >>> 32, 8);
+        scratch[length++] = '-';
+        hex(id.getMostSignificantBits() >>> 16, 4);
+        scratch[length++] = '-';
+        hex(id.getMostSignificantBits(), 4);
+        scratch[length++] = '-';
+        hex(id.getLeastSignificantBits() >>> 48, 4);
+        scratch[length++] = '-';
+        hex(id.getLeastSignificantBits(), 12);
+    }
+
+    private void hex(long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            scratch[length + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        length += digits;
+    }
+
+    // Stored dates are UTC: yyyy-MM-ddTHH:mm:ss.SSSSSSZ, always with microseconds
+    private void instant(LocalDateTime date) {
+        digits(date.getYear(), 4);
+        scratch[length++] = '-';
+        digits(date.getMonthValue(), 2);
+        scratch[length++] = '-';
+        digits(date.getDayOfMonth(), 2);
+        scratch[length++] = 'T';
+        digits(date.getHour(), 2);
+        scratch[length++] = ':';
+        digits(date.getMinute(), 2);
+        scratch[length++] = ':';
+        digits(date.getSecond(), 2);
+        scratch[length++] = '.';
+        digits(date.getNano() / 1_000, 6);
+        scratch[length++] = 'Z';
+    }
+
+    private void digits(long value, int width) {
+        for (int i = width - 1; i >= 0; i--) {
+            scratch[length + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += width;
+    }
+
+    private void amount(BigDecimal value) {
+        long unscaled = value.setScale(AMOUNT_SCALE).unscaledValue().longValueExact();
+        if (unscaled < 0) {
+            scratch[length++] = '-';
+            unscaled = -unscaled;
+        }
+        long units = unscaled / 100;
+        int start = length;
+        do {
+            scratch[length++] = (byte) ('0' + units % 10);
+            units /= 10;
+        } while (units > 0);
+        reverse(start, length - 1);
+        scratch[length++] = '.';
+        digits(unscaled % 100, AMOUNT_SCALE);
+    }
+
+    private void reverse(int from, int to) {
+        while (from < to) {
+            byte swap = scratch[from];
+            scratch[from++] = scratch[to];
+            scratch[to--] = swap;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.export;
+
+import com.btoapanta.account.service.application.port.output.MovementExportPort;
+import com.btoapanta.account.service.domain.model.Movement;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchive;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Repository;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * Streams movements as CSV: archived months from their segments, then live rows from a server side
+ * cursor. Rows are encoded into buffers of {@value #CHUNK_SIZE} bytes and a chunk is only read
+ * when the response asks for it, so memory stays flat whatever the size of the history.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MovementCsvExportAdapter implements MovementExportPort {
+
+    private static final String OBSERVATION_NAME = "movement-export.persistence";
+    private static final String OPERATION_TAG = "operation";
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+    private static final int FETCH_SIZE = 1000;
+    private static final LocalDateTime OPEN_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime OPEN_TO = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    private static final String LIVE_MOVEMENTS = """
+            SELECT id, created_date, movement_type, amount, balance_before, balance_after
+            FROM movements
+            WHERE account_id = ? AND created_date >= ? AND created_date < ?
+            ORDER BY created_date
+            """;
+
+    private final DataSource dataSource;
+    private final MovementArchive movementArchive;
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    public Flux<DataBuffer> exportMovements(UUID accountId, LocalDateTime from, LocalDateTime to,
+                                            DataBufferFactory bufferFactory) {
+        LocalDateTime start = from != null ? from : OPEN_FROM;
+        LocalDateTime end = to != null ? to : OPEN_TO;
+
+        return Flux.defer(() -> {
+                    MovementCsvEncoder encoder = new MovementCsvEncoder();
+                    // The months written from segments are the ones skipped in the live rows
+                    NavigableSet<YearMonth> archivedMonths = new TreeSet<>(movementArchive.months());
+
+                    Flux<DataBuffer> header = Flux.just(bufferFactory.wrap(MovementCsvEncoder.HEADER));
+                    Flux<DataBuffer> archived = Flux.fromIterable(archivedMonths)
+                            .filter(month -> month.plusMonths(1).atDay(1).atStartOfDay().isAfter(start)
+                                    && month.atDay(1).atStartOfDay().isBefore(end))
+                            .concatMap(month -> chunks(() -> new ArchivedRows(
+                                    movementArchive.find(accountId, start, end, month), encoder), bufferFactory));
+                    Flux<DataBuffer> live = chunks(() -> new LiveRows(accountId, start, end, archivedMonths, encoder),
+                            bufferFactory);
+                    return Flux.concat(header, archived, live);
+                })
+                // subscribeOn also moves every later request, so the cursor is only ever read on the elastic worker
+                .subscribeOn(Schedulers.boundedElastic())
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "exportMovements")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    // One chunk per request: rows are read only as fast as the client takes them
+    private Flux<DataBuffer> chunks(Callable<Rows> open, DataBufferFactory bufferFactory) {
+        return Flux.generate(open, (rows, sink) -> {
+            DataBuffer buffer = bufferFactory.allocateBuffer(CHUNK_SIZE);
+            try {
+                while (buffer.writableByteCount() >= MovementCsvEncoder.MAX_ROW_SIZE && rows.writeNext(buffer)) {
+                    // keep filling
+                }
+            } catch (Exception e) {
+                DataBufferUtils.release(buffer);
+                sink.error(e);
+                return rows;
+            }
+            if (buffer.readableByteCount() == 0) {
+                DataBufferUtils.release(buffer);
+                sink.complete();
+            } else {
+                sink.next(buffer);
+            }
+            return rows;
+        }, Rows::close);
+    }
+
+    private interface Rows extends AutoCloseable {
+
+        /**
+         * @return false once there are no more rows
+         */
+        boolean writeNext(DataBuffer buffer) throws SQLException;
+
+        @Override
+        void close();
+    }
+
+    private static final class ArchivedRows implements Rows {
+
+        private final Iterator<Movement> movements;
+        private final MovementCsvEncoder encoder;
+
+        private ArchivedRows(List<Movement> movements, MovementCsvEncoder encoder) {
+            this.movements = movements.iterator();
+            this.encoder = encoder;
+        }
+
+        @Override
+        public boolean writeNext(DataBuffer buffer) {
+            if (!movements.hasNext()) {
+                return false;
+            }
+            Movement movement = movements.next();
+            encoder.write(buffer, movement.getId(), movement.getDate(), movement.getMovementType().name(),
+                    movement.getAmount(), movement.getBalanceBefore(), movement.getBalanceAfter());
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * PostgreSQL only fetches in batches inside a transaction, so the connection is held out of
+     * auto-commit for the whole export and rolled back when it ends.
+     */
+    private final class LiveRows implements Rows {
+
+        private final NavigableSet<YearMonth> archivedMonths;
+        private final MovementCsvEncoder encoder;
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final ResultSet resultSet;
+        private boolean exhausted;
+
+        private LiveRows(UUID accountId, LocalDateTime from, LocalDateTime to, NavigableSet<YearMonth> archivedMonths,
+                         MovementCsvEncoder encoder) throws SQLException {
+            this.archivedMonths = archivedMonths;
+            this.encoder = encoder;
+            this.connection = dataSource.getConnection();
+            try {
+                connection.setAutoCommit(false);
+                connection.setReadOnly(true);
+                statement = connection.prepareStatement(LIVE_MOVEMENTS);
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setObject(1, accountId);
+                statement.setTimestamp(2, Timestamp.valueOf(from));
+                statement.setTimestamp(3, Timestamp.valueOf(to));
+                resultSet = statement.executeQuery();
+            } catch (SQLException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean writeNext(DataBuffer buffer) throws SQLException {
+            while (!exhausted && resultSet.next()) {
+                LocalDateTime date = resultSet.getTimestamp(2).toLocalDateTime();
+                // Archived but not yet detached: already written from its segment
+                if (archivedMonths.contains(YearMonth.from(date))) {
+                    continue;
+                }
+                encoder.write(buffer, resultSet.getObject(1, UUID.class), date, resultSet.getString(3),
+                        resultSet.getBigDecimal(4), resultSet.getBigDecimal(5), resultSet.getBigDecimal(6));
+                return true;
+            }
+            exhausted = true;
+            return false;
+        }
+
+        @Override
+        public void close() {
+            try (connection) {
+                connection.rollback();
+                connection.setReadOnly(false);
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                // The pool discards connections it cannot reset
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUID version 7 (RFC 9562): 48 bits of Unix milliseconds, 12 bits of counter and
+ * 62 random bits. Consecutive ids land next to each other in the primary key B-tree instead of on
+ * a random page, which is what v4 keys do on the insert-heavy tables.
+ *
+ * <p>Plugged into the entities with {@code @UuidGenerator(algorithm = UuidV7Generator.class)}.
+ * Each instance (Hibernate keeps one per entity) hands out strictly increasing ids: when more
+ * than 4096 ids are requested in the same millisecond the counter carries into the timestamp,
+ * which then runs slightly ahead of the clock.
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_62_BITS = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final UuidV7Generator SHARED = new UuidV7Generator();
+
+    // Unix millis << 12 | counter: the 60 bits around the version in the most significant half
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return generate(System.currentTimeMillis());
+    }
+
+    /**
+     * @return a UUIDv7 from a generator shared by every caller of this method
+     */
+    public static UUID next() {
+        return SHARED.generate(System.currentTimeMillis());
+    }
+
+    UUID generate(long unixMillis) {
+        long candidate = unixMillis << COUNTER_BITS;
+        long timestampAndCounter = lastTimestampAndCounter.updateAndGet(last -> Math.max(candidate, last + 1));
+
+        long mostSignificant = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | VERSION_7
+                | (timestampAndCounter & ((1L << COUNTER_BITS) - 1));
+        long leastSignificant = VARIANT_RFC_9562 | (ThreadLocalRandom.current().nextLong() & RANDOM_62_BITS);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * @return the Unix milliseconds encoded in a version 7 UUID
+     */
+    public static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
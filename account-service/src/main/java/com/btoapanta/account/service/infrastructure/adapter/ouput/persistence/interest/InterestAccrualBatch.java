@@ -0,0 +1,280 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.interest;
+
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.domain.model.Movement;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.outbox.MovementOutbox;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.id.UuidV7Generator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Credits one day of interest to every active SAVINGS account, on its closing balance of that day
+ * from account_daily_balances (see V4__create_account_daily_balances.sql), not on its balance when
+ * the batch runs. The closing balance is that of the last day with movements up to the accrual
+ * date; without one, the opening balance of the next day with movements, or the current balance
+ * when there is none. Each account gets a CREDIT movement, its balance update, an
+ * interest_accruals row and the MovementPosted event of the credit in movement_outbox, written
+ * with JDBC batches in one transaction per chunk (see V5__create_interest_accruals.sql).
+ *
+ * <p>Accounts are split into chunks of consecutive ids, written in parallel like the balance
+ * reconciliation, with at most {@code parallelism} chunks (and pooled connections) at once so
+ * online requests keep the rest of the pool. Chunks are checkpointed in id order: a run that
+ * stops resumes after the last chunk committed before every earlier one. Accounts that already
+ * have an accrual for the date are skipped, so a resumed or repeated run never credits twice.
+ *
+ * <p>Runs on the configured cron for the previous day, first finishing any earlier day left
+ * incomplete. A session advisory lock held for the whole run keeps it to one instance.
+ */
+@Slf4j
+public class InterestAccrualBatch {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final UUID LAST_ID = new UUID(-1L, -1L);
+    private static final String LOCK_KEY = "interest_accrual";
+    private static final int AMOUNT_SCALE = 2;
+
+    private static final String NEXT_BOUNDARY = """
+            SELECT id FROM accounts
+            WHERE state AND account_type = 'SAVINGS' AND id > ?
+            ORDER BY id OFFSET ? LIMIT 1
+            """;
+
+    // Locks the accounts still to be accrued for the date, so each balance stays as read until the chunk
+    // commits, with their closing balance of the date; each subquery is one probe of the primary key
+    private static final String LOCK_CHUNK = """
+            SELECT a.id, a.account_number, a.balance,
+                   coalesce((SELECT d.closing_balance FROM account_daily_balances d
+                             WHERE d.account_id = a.id AND d.balance_date <= ?
+                             ORDER BY d.balance_date DESC LIMIT 1),
+                            (SELECT d.opening_balance FROM account_daily_balances d
+                             WHERE d.account_id = a.id AND d.balance_date > ?
+                             ORDER BY d.balance_date LIMIT 1),
+                            a.balance) AS closing_balance
+            FROM accounts a
+            WHERE a.state AND a.account_type = 'SAVINGS' AND a.id > ? AND a.id <= ?
+              AND NOT EXISTS (SELECT 1 FROM interest_accruals i WHERE i.account_id = a.id AND i.accrual_date = ?)
+            ORDER BY a.id
+            FOR UPDATE OF a
+            """;
+
+    private static final String INSERT_MOVEMENT = """
+            INSERT INTO movements (id, account_id, movement_type, amount, balance_before, balance_after, created_date)
+            VALUES (?, ?, 'CREDIT', ?, ?, ?, ?)
+            """;
+    private static final String UPDATE_BALANCE = "UPDATE accounts SET balance = ?, version = version + 1 WHERE id = ?";
+    private static final String INSERT_ACCRUAL =
+            "INSERT INTO interest_accruals (account_id, accrual_date, movement_id, amount) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MovementOutbox movementOutbox;
+    private final Clock clock;
+    private final BigDecimal annualRate;
+    private final int daysPerYear;
+    private final int chunkSize;
+    private final int parallelism;
+
+    /**
+     * @param annualRate  yearly rate applied to the balance, 0.015 for 1.5 %
+     * @param daysPerYear day count the yearly rate is divided by
+     * @param chunkSize   accounts credited by one transaction
+     * @param parallelism chunks written at once, each holding a pooled connection
+     */
+    public InterestAccrualBatch(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                MovementOutbox movementOutbox, Clock clock, BigDecimal annualRate,
+                                int daysPerYear, int chunkSize, int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.movementOutbox = movementOutbox;
+        this.clock = clock;
+        this.annualRate = annualRate;
+        this.daysPerYear = daysPerYear;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    @Scheduled(cron = "${accounts.interest.cron:0 0 1 * * *}")
+    public void accrueScheduled() {
+        accrue(LocalDate.now(clock).minusDays(1));
+    }
+
+    /**
+     * Accrues the day, after any earlier day left incomplete.
+     */
+    public void accrue(LocalDate accrualDate) {
+        try (Connection lock = jdbcTemplate.getDataSource().getConnection()) {
+            if (!advisoryLock(lock, "SELECT pg_try_advisory_lock(hashtext(?))")) {
+                log.info("Interest accrual is running on another instance, skipping");
+                return;
+            }
+            try {
+                List<LocalDate> pending = jdbcTemplate.queryForList("""
+                        SELECT accrual_date FROM interest_accrual_runs
+                        WHERE completed_at IS NULL AND accrual_date < ?
+                        ORDER BY accrual_date
+                        """, LocalDate.class, accrualDate);
+                for (LocalDate date : pending) {
+                    accrueDay(date);
+                }
+                accrueDay(accrualDate);
+            } finally {
+                advisoryLock(lock, "SELECT pg_advisory_unlock(hashtext(?))");
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.error("Interest accrual for {} failed: {}", accrualDate, e.getMessage(), e);
+        }
+    }
+
+    private void accrueDay(LocalDate accrualDate) {
+        jdbcTemplate.update("""
+                INSERT INTO interest_accrual_runs (accrual_date, started_at) VALUES (?, ?)
+                ON CONFLICT (accrual_date) DO NOTHING
+                """, accrualDate, Timestamp.valueOf(LocalDateTime.now(clock)));
+        Map<String, Object> run = jdbcTemplate.queryForMap(
+                "SELECT last_account_id, completed_at FROM interest_accrual_runs WHERE accrual_date = ?", accrualDate);
+        if (run.get("completed_at") != null) {
+            log.info("Interest for {} is already accrued", accrualDate);
+            return;
+        }
+        UUID resumeAfter = run.get("last_account_id") != null ? (UUID) run.get("last_account_id") : FIRST_ID;
+        log.info("Interest accrual for {} started - after account: {}, annual rate: {}, chunk size: {}, parallelism: {}",
+                accrualDate, resumeAfter, annualRate, chunkSize, parallelism);
+
+        long start = System.nanoTime();
+        long[] credited = {0};
+        BigDecimal[] interest = {BigDecimal.ZERO};
+        // One thread more than the writers for the producer seeking chunk boundaries
+        Scheduler workers = Schedulers.newBoundedElastic(parallelism + 1, Integer.MAX_VALUE, "interest-accrual");
+        try {
+            // flatMapSequential hands results over in chunk order, whatever order the chunks commit in
+            chunks(resumeAfter)
+                    .subscribeOn(workers)
+                    .flatMapSequential(chunk -> Mono.fromCallable(() -> accrueChunk(chunk, accrualDate))
+                            .subscribeOn(workers), parallelism)
+                    .doOnNext(result -> {
+                        checkpoint(accrualDate, result);
+                        credited[0] += result.accounts();
+                        interest[0] = interest[0].add(result.interest());
+                    })
+                    .blockLast();
+        } finally {
+            workers.dispose();
+        }
+        jdbcTemplate.update("UPDATE interest_accrual_runs SET completed_at = ? WHERE accrual_date = ?",
+                Timestamp.valueOf(LocalDateTime.now(clock)), accrualDate);
+
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Interest accrual for {} completed - accounts credited: {}, interest: {}, {} accounts/s",
+                accrualDate, credited[0], interest[0], credited[0] * 1000 / millis);
+    }
+
+    // Chunks are requested as writers free up, so boundaries are only sought a few chunks ahead
+    private Flux<Chunk> chunks(UUID resumeAfter) {
+        return Flux.generate(() -> resumeAfter, (after, sink) -> {
+            List<UUID> boundary = jdbcTemplate.queryForList(NEXT_BOUNDARY, UUID.class, after, chunkSize - 1);
+            if (boundary.isEmpty()) {
+                sink.next(new Chunk(after, LAST_ID));
+                sink.complete();
+                return LAST_ID;
+            }
+            sink.next(new Chunk(after, boundary.get(0)));
+            return boundary.get(0);
+        });
+    }
+
+    private ChunkResult accrueChunk(Chunk chunk, LocalDate accrualDate) {
+        return transactionTemplate.execute(status -> {
+            List<AccountOnDate> accounts = jdbcTemplate.query(LOCK_CHUNK, (rs, rowNum) -> new AccountOnDate(
+                    Account.builder()
+                            .id(rs.getObject("id", UUID.class))
+                            .accountNumber(rs.getLong("account_number"))
+                            .balance(rs.getBigDecimal("balance"))
+                            .build(),
+                    rs.getBigDecimal("closing_balance")), accrualDate, accrualDate, chunk.after(), chunk.upTo(), accrualDate);
+
+            List<Object[]> movements = new ArrayList<>(accounts.size());
+            List<Object[]> balances = new ArrayList<>(accounts.size());
+            List<Object[]> accruals = new ArrayList<>(accounts.size());
+            List<MovementPosted> events = new ArrayList<>(accounts.size());
+            BigDecimal total = BigDecimal.ZERO;
+            for (AccountOnDate accountOnDate : accounts) {
+                BigDecimal interest = interestOf(accountOnDate.closingBalance(), annualRate, daysPerYear);
+                if (interest.signum() <= 0) {
+                    continue;
+                }
+                // Credited on top of the current balance, which later movements may have changed
+                Account account = accountOnDate.account();
+                Movement movement = account.credit(interest);
+                UUID movementId = UuidV7Generator.next();
+                movements.add(new Object[]{movementId, account.getId(), movement.getAmount(),
+                        movement.getBalanceBefore(), movement.getBalanceAfter(), Timestamp.valueOf(movement.getDate())});
+                balances.add(new Object[]{account.getBalance(), account.getId()});
+                accruals.add(new Object[]{account.getId(), accrualDate, movementId, interest});
+                Movement posted = movement.toBuilder().id(movementId).build();
+                events.add(MovementPosted.of(UuidV7Generator.next(), account.getId(), posted));
+                total = total.add(interest);
+            }
+            if (!movements.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_MOVEMENT, movements);
+                jdbcTemplate.batchUpdate(UPDATE_BALANCE, balances);
+                jdbcTemplate.batchUpdate(INSERT_ACCRUAL, accruals);
+                movementOutbox.appendAll(events);
+            }
+            return new ChunkResult(chunk.upTo(), movements.size(), total);
+        });
+    }
+
+    private void checkpoint(LocalDate accrualDate, ChunkResult result) {
+        jdbcTemplate.update("""
+                UPDATE interest_accrual_runs
+                SET last_account_id = ?, accounts_credited = accounts_credited + ?, total_interest = total_interest + ?
+                WHERE accrual_date = ?
+                """, result.upTo(), result.accounts(), result.interest(), accrualDate);
+    }
+
+    static BigDecimal interestOf(BigDecimal balance, BigDecimal annualRate, int daysPerYear) {
+        return balance.multiply(annualRate)
+                .divide(BigDecimal.valueOf(daysPerYear), AMOUNT_SCALE, RoundingMode.HALF_EVEN);
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    // Accounts with after < id <= upTo
+    private record Chunk(UUID after, UUID upTo) {
+    }
+
+    private record ChunkResult(UUID upTo, int accounts, BigDecimal interest) {
+    }
+
+    private record AccountOnDate(Account account, BigDecimal closingBalance) {
+    }
+}
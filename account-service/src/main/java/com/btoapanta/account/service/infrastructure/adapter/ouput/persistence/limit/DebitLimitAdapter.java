@@ -0,0 +1,196 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.limit;
+
+import com.btoapanta.account.service.application.port.output.DebitLimitPort;
+import com.btoapanta.account.service.domain.enums.AccountType;
+import com.btoapanta.account.service.domain.exception.business.DebitLimitExceededException;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.domain.model.Movement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Enforces the hourly and daily debit limits of each account type from in-memory
+ * {@link DebitWindows}, so a posting is checked without querying its movements.
+ *
+ * <p>The windows are rebuilt at startup, before the web server takes requests, from the last
+ * checkpoint of this instance plus the debits created after it, or from the debits of the last
+ * day when there is no recent checkpoint. They are written back on the checkpoint interval and
+ * once more after the web server stops. A debit posted while a checkpoint is taken can be counted
+ * twice after a restart, which errs on the side of the limit.
+ *
+ * <p>Counters only see the postings of this instance, so each instance keeps its own checkpoint
+ * under its instance id. Checkpoints no instance has written for a day are dropped.
+ */
+@Slf4j
+public class DebitLimitAdapter implements DebitLimitPort, SmartLifecycle {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final long UNLIMITED = -1;
+    private static final int AMOUNT_SCALE = 2;
+    // The web server starts at SMART_LIFECYCLE_PHASE - 1024: the windows are rebuilt before it
+    // starts and checkpointed after it stops
+    private static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+    private static final String INSERT_BUCKET = """
+            INSERT INTO debit_window_buckets (instance_id, account_id, bucket_millis, slot, amount)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final String DELETE_STALE_BUCKETS = """
+            DELETE FROM debit_window_buckets WHERE instance_id IN
+                (SELECT instance_id FROM debit_window_checkpoints WHERE checkpointed_at < ?)
+            """;
+
+    private final DebitWindows windows = new DebitWindows();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final String instanceId;
+    private final Map<AccountType, DebitLimitProperties.Limit> limits;
+    private volatile boolean running;
+
+    public DebitLimitAdapter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, Clock clock,
+                             String instanceId, Map<AccountType, DebitLimitProperties.Limit> limits) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.instanceId = instanceId;
+        this.limits = limits;
+    }
+
+    @Override
+    public void reserve(Account account, Movement debit) {
+        DebitLimitProperties.Limit limit = limits.get(account.getAccountType());
+        if (limit == null) {
+            return;
+        }
+        DebitWindows.Window exceeded = windows.tryDebit(account.getId(), cents(debit.getAmount()),
+                millis(debit.getDate()), cents(limit.getHourly()), cents(limit.getDaily()));
+        if (exceeded == DebitWindows.Window.HOURLY) {
+            throw new DebitLimitExceededException(account.getAccountNumber(), "hourly", limit.getHourly());
+        }
+        if (exceeded == DebitWindows.Window.DAILY) {
+            throw new DebitLimitExceededException(account.getAccountNumber(), "daily", limit.getDaily());
+        }
+    }
+
+    @Override
+    public void release(Account account, Movement debit) {
+        if (limits.containsKey(account.getAccountType())) {
+            windows.release(account.getId(), cents(debit.getAmount()), millis(debit.getDate()));
+        }
+    }
+
+    @Override
+    public void start() {
+        rebuild();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        checkpoint();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    public void rebuild() {
+        if (limits.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        LocalDateTime dayAgo = LocalDateTime.now(clock).minusDays(1);
+        transactionTemplate.executeWithoutResult(status -> {
+            List<LocalDateTime> checkpoints = jdbcTemplate.queryForList(
+                    "SELECT checkpointed_at FROM debit_window_checkpoints WHERE instance_id = ?",
+                    LocalDateTime.class, instanceId);
+            LocalDateTime replayFrom = dayAgo;
+            if (!checkpoints.isEmpty() && checkpoints.get(0).isAfter(dayAgo)) {
+                replayFrom = checkpoints.get(0);
+                jdbcTemplate.query("""
+                        SELECT account_id, bucket_millis, slot, amount FROM debit_window_buckets
+                        WHERE instance_id = ?
+                        """, rs -> {
+                    windows.restore(rs.getObject("account_id", UUID.class), rs.getLong("bucket_millis"),
+                            rs.getLong("slot"), cents(rs.getBigDecimal("amount")));
+                }, instanceId);
+            }
+            // Inside the transaction the cursor is read in batches of the fetch size
+            jdbcTemplate.query("""
+                    SELECT account_id, amount, created_date FROM movements
+                    WHERE movement_type = 'DEBIT' AND created_date > ?
+                    """, rs -> {
+                windows.record(rs.getObject("account_id", UUID.class), cents(rs.getBigDecimal("amount")),
+                        millis(rs.getTimestamp("created_date").toLocalDateTime()));
+            }, Timestamp.valueOf(replayFrom));
+            log.info("Debit windows of instance {} rebuilt from {} - accounts: {}, in {} ms",
+                    instanceId, replayFrom, windows.size(), (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${accounts.debit-limits.checkpoint-interval:5m}",
+            initialDelayString = "${accounts.debit-limits.checkpoint-interval:5m}")
+    public void checkpoint() {
+        if (limits.isEmpty()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<DebitWindows.Bucket> buckets = windows.snapshot(millis(now));
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM debit_window_buckets WHERE instance_id = ?", instanceId);
+                jdbcTemplate.batchUpdate(INSERT_BUCKET, buckets, FETCH_SIZE, (statement, bucket) -> {
+                    statement.setString(1, instanceId);
+                    statement.setObject(2, bucket.accountId());
+                    statement.setLong(3, bucket.bucketMillis());
+                    statement.setLong(4, bucket.slot());
+                    statement.setBigDecimal(5, BigDecimal.valueOf(bucket.cents(), AMOUNT_SCALE));
+                });
+                // Only this instance writes its row, so the update cannot race the insert
+                if (jdbcTemplate.update("UPDATE debit_window_checkpoints SET checkpointed_at = ? WHERE instance_id = ?",
+                        Timestamp.valueOf(now), instanceId) == 0) {
+                    jdbcTemplate.update("INSERT INTO debit_window_checkpoints (instance_id, checkpointed_at) VALUES (?, ?)",
+                            instanceId, Timestamp.valueOf(now));
+                }
+                // Never restored once older than a day: left behind by an instance that is gone
+                Timestamp dayAgo = Timestamp.valueOf(now.minusDays(1));
+                jdbcTemplate.update(DELETE_STALE_BUCKETS, dayAgo);
+                jdbcTemplate.update("DELETE FROM debit_window_checkpoints WHERE checkpointed_at < ?", dayAgo);
+            });
+            log.debug("Debit windows of instance {} checkpointed - buckets: {}", instanceId, buckets.size());
+        } catch (RuntimeException e) {
+            log.error("Debit window checkpoint failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount != null ? amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact() : UNLIMITED;
+    }
+
+    private static long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
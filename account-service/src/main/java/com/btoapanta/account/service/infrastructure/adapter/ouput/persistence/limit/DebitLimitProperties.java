@@ -0,0 +1,31 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.limit;
+
+import com.btoapanta.account.service.domain.enums.AccountType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * {@code accounts.debit-limits.limits.<ACCOUNT_TYPE>.hourly|daily}: debited amount allowed per
+ * account over the last hour and the last day. A missing type or window has no limit.
+ *
+ * <p>{@code instance-id} names the checkpoint this instance writes and restores. It has to stay
+ * the same across restarts of an instance and differ between instances.
+ */
+@Data
+@ConfigurationProperties(prefix = "accounts.debit-limits")
+public class DebitLimitProperties {
+
+    private Map<AccountType, Limit> limits = new EnumMap<>(AccountType.class);
+    private String instanceId = "local";
+
+    @Data
+    public static class Limit {
+
+        private BigDecimal hourly;
+        private BigDecimal daily;
+    }
+}
@@ -0,0 +1,197 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.limit;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Debited cents per account over the last hour and the last day, in memory.
+ *
+ * <p>Each window is a ring of buckets: 12 buckets of 5 minutes for the hour, 24 buckets of one
+ * hour for the day. A bucket holds its slot number (epoch millis / bucket size) and is reset when
+ * the ring comes back to it with a newer slot, so nothing ever has to be expired. A total covers
+ * the current bucket and the ones before it that are still inside the window, so the window
+ * slides in bucket steps.
+ *
+ * <p>Accounts are spread over {@value #STRIPES} locks: checking a debit against both limits and
+ * counting it is atomic per account, and postings on different stripes never contend.
+ */
+class DebitWindows {
+
+    static final long HOUR_BUCKET_MILLIS = 5 * 60 * 1000L;
+    static final int HOUR_BUCKETS = 12;
+    static final long DAY_BUCKET_MILLIS = 60 * 60 * 1000L;
+    static final int DAY_BUCKETS = 24;
+
+    private static final int STRIPES = 64;
+
+    enum Window {
+        HOURLY,
+        DAILY
+    }
+
+    private final Map<UUID, AccountWindows> accounts = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[STRIPES];
+
+    DebitWindows() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Counts the debit unless it takes a window over its limit; a negative limit is no limit.
+     *
+     * @return the window that would be exceeded, null when the debit was counted
+     */
+    Window tryDebit(UUID accountId, long cents, long atMillis, long hourlyLimit, long dailyLimit) {
+        synchronized (lockOf(accountId)) {
+            AccountWindows windows = accounts.computeIfAbsent(accountId, id -> new AccountWindows());
+            if (hourlyLimit >= 0 && windows.hour.total(atMillis) + cents > hourlyLimit) {
+                return Window.HOURLY;
+            }
+            if (dailyLimit >= 0 && windows.day.total(atMillis) + cents > dailyLimit) {
+                return Window.DAILY;
+            }
+            windows.hour.add(atMillis, cents);
+            windows.day.add(atMillis, cents);
+            return null;
+        }
+    }
+
+    /**
+     * Counts the debit whatever the limits, as when replaying persisted movements.
+     */
+    void record(UUID accountId, long cents, long atMillis) {
+        synchronized (lockOf(accountId)) {
+            AccountWindows windows = accounts.computeIfAbsent(accountId, id -> new AccountWindows());
+            windows.hour.add(atMillis, cents);
+            windows.day.add(atMillis, cents);
+        }
+    }
+
+    /**
+     * Takes back a debit counted by {@link #tryDebit}, unless its buckets have already moved on.
+     */
+    void release(UUID accountId, long cents, long atMillis) {
+        synchronized (lockOf(accountId)) {
+            AccountWindows windows = accounts.get(accountId);
+            if (windows != null) {
+                windows.hour.add(atMillis, -cents);
+                windows.day.add(atMillis, -cents);
+            }
+        }
+    }
+
+    /**
+     * Restores one bucket of a checkpoint.
+     */
+    void restore(UUID accountId, long bucketMillis, long slot, long cents) {
+        synchronized (lockOf(accountId)) {
+            AccountWindows windows = accounts.computeIfAbsent(accountId, id -> new AccountWindows());
+            Ring ring = bucketMillis == HOUR_BUCKET_MILLIS ? windows.hour : windows.day;
+            ring.add(slot * bucketMillis, cents);
+        }
+    }
+
+    long hourTotal(UUID accountId, long atMillis) {
+        synchronized (lockOf(accountId)) {
+            AccountWindows windows = accounts.get(accountId);
+            return windows != null ? windows.hour.total(atMillis) : 0;
+        }
+    }
+
+    long dayTotal(UUID accountId, long atMillis) {
+        synchronized (lockOf(accountId)) {
+            AccountWindows windows = accounts.get(accountId);
+            return windows != null ? windows.day.total(atMillis) : 0;
+        }
+    }
+
+    /**
+     * Copies the live buckets of every account and forgets the accounts without any.
+     */
+    List<Bucket> snapshot(long nowMillis) {
+        List<Bucket> buckets = new ArrayList<>();
+        Iterator<Map.Entry<UUID, AccountWindows>> entries = accounts.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<UUID, AccountWindows> entry = entries.next();
+            synchronized (lockOf(entry.getKey())) {
+                int before = buckets.size();
+                entry.getValue().hour.collect(entry.getKey(), nowMillis, buckets);
+                entry.getValue().day.collect(entry.getKey(), nowMillis, buckets);
+                if (buckets.size() == before) {
+                    entries.remove();
+                }
+            }
+        }
+        return buckets;
+    }
+
+    int size() {
+        return accounts.size();
+    }
+
+    private Object lockOf(UUID accountId) {
+        return locks[(accountId.hashCode() & Integer.MAX_VALUE) % STRIPES];
+    }
+
+    record Bucket(UUID accountId, long bucketMillis, long slot, long cents) {
+    }
+
+    private static final class AccountWindows {
+
+        private final Ring hour = new Ring(HOUR_BUCKET_MILLIS, HOUR_BUCKETS);
+        private final Ring day = new Ring(DAY_BUCKET_MILLIS, DAY_BUCKETS);
+    }
+
+    private static final class Ring {
+
+        private final long bucketMillis;
+        private final long[] slots;
+        private final long[] cents;
+
+        private Ring(long bucketMillis, int buckets) {
+            this.bucketMillis = bucketMillis;
+            this.slots = new long[buckets];
+            this.cents = new long[buckets];
+        }
+
+        private void add(long atMillis, long amount) {
+            long slot = atMillis / bucketMillis;
+            int index = (int) (slot % slots.length);
+            if (slots[index] != slot) {
+                if (slots[index] > slot) {
+                    // Older than the whole window
+                    return;
+                }
+                slots[index] = slot;
+                cents[index] = 0;
+            }
+            cents[index] += amount;
+        }
+
+        private long total(long atMillis) {
+            long current = atMillis / bucketMillis;
+            long sum = 0;
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] > current - slots.length && slots[i] <= current) {
+                    sum += cents[i];
+                }
+            }
+            return sum;
+        }
+
+        private void collect(UUID accountId, long nowMillis, List<Bucket> buckets) {
+            long current = nowMillis / bucketMillis;
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] > current - slots.length && cents[i] != 0) {
+                    buckets.add(new Bucket(accountId, bucketMillis, slots[i], cents[i]));
+                }
+            }
+        }
+    }
+}
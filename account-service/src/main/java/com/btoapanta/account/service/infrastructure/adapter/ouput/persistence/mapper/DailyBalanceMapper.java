@@ -0,0 +1,13 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.mapper;
+
+import com.btoapanta.account.service.domain.model.DailyBalance;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.DailyBalanceEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface DailyBalanceMapper {
+
+    @Mapping(source = "balanceDate", target = "date")
+    DailyBalance toDomain(DailyBalanceEntity dailyBalanceEntity);
+}
@@ -0,0 +1,147 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.partition;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchiver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of movements (see V3__partition_movements_by_month.sql) in shape:
+ * creates the partitions of the coming months before any row needs them, and retires the months
+ * older than the retention by detaching their partition, then optionally dropping it.
+ * Retiring a month is a catalog change, not a DELETE of its rows. With an archiver, a retired
+ * month is first copied to the movement archive and its partition is always dropped.
+ *
+ * <p>Runs at startup and on the configured cron. Every run takes a transaction scoped advisory
+ * lock, so with several instances only one of them does the work.
+ */
+@Slf4j
+public class MovementPartitionMaintenance {
+
+    static final String PARENT_TABLE = "movements";
+    static final String PARTITION_PREFIX = "movements_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropExpired;
+    private final MovementArchiver archiver;
+
+    /**
+     * @param monthsAhead     months after the current one that must already have a partition
+     * @param retentionMonths months kept attached, counting the current one; 0 keeps them all
+     * @param dropExpired     drop retired partitions instead of leaving them as standalone tables
+     * @param archiver        archives retired months before dropping them, may be null
+     */
+    public MovementPartitionMaintenance(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, Clock clock,
+                                        int monthsAhead, int retentionMonths, boolean dropExpired,
+                                        MovementArchiver archiver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropExpired = dropExpired;
+        this.archiver = archiver;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${movements.partitions.cron:0 15 2 * * *}")
+    public void maintain() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(hashtext('movements_partition_maintenance'))", Boolean.class);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.info("Movement partition maintenance is running on another instance, skipping");
+                    return;
+                }
+                // DETACH and CREATE ... PARTITION OF lock the parent table; give up rather than queue behind long queries
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+
+                YearMonth current = YearMonth.now(clock);
+                List<String> created = createPartitions(current);
+                List<String> retired = retentionMonths > 0
+                        ? retirePartitions(current.minusMonths(retentionMonths - 1L))
+                        : List.of();
+                log.info("Movement partitions maintained - created: {}, {}: {}", created, retireAction(), retired);
+            });
+        } catch (RuntimeException e) {
+            log.error("Movement partition maintenance failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<String> createPartitions(YearMonth current) {
+        List<String> created = new ArrayList<>();
+        List<String> existing = attachedPartitions();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = partitionName(month);
+            if (!existing.contains(name)) {
+                jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF " + PARENT_TABLE
+                        + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+                created.add(name);
+            }
+        }
+        return created;
+    }
+
+    private List<String> retirePartitions(YearMonth oldestKept) {
+        List<String> retired = new ArrayList<>();
+        for (String name : attachedPartitions()) {
+            YearMonth month = monthOf(name);
+            if (month.isBefore(oldestKept)) {
+                if (archiver != null) {
+                    archiver.archive(month, name);
+                }
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + name);
+                if (dropExpired || archiver != null) {
+                    jdbcTemplate.execute("DROP TABLE " + name);
+                }
+                retired.add(name);
+            }
+        }
+        return retired;
+    }
+
+    private String retireAction() {
+        if (archiver != null) {
+            return "archived";
+        }
+        return dropExpired ? "dropped" : "detached";
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'movements'::regclass AND c.relname ~ '^movements_p[0-9]{6}$'
+                ORDER BY c.relname
+                """, String.class);
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+
+    static YearMonth monthOf(String partitionName) {
+        return YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), SUFFIX);
+    }
+}
@@ -0,0 +1,39 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.reconciliation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One disagreement between an account and its movement ledger.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class BalanceMismatch {
+
+    private UUID accountId;
+    private Long accountNumber;
+    private Kind kind;
+    private BigDecimal expected;
+    private BigDecimal actual;
+    // Movements affected, for the per-movement kinds
+    private long occurrences;
+    // Date of the first affected movement, for the per-movement kinds
+    private LocalDateTime firstAt;
+
+    public enum Kind {
+        // balanceBefore differs from the balanceAfter of the previous movement
+        CHAIN_BREAK,
+        // balanceAfter differs from balanceBefore plus or minus the amount
+        ARITHMETIC,
+        // the account balance differs from the balanceAfter of its last movement
+        CLOSING_BALANCE,
+        // the account balance differs from the first balanceBefore plus credits minus debits
+        TOTALS
+    }
+}
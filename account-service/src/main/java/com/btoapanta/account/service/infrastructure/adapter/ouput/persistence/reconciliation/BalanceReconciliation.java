@@ -0,0 +1,373 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.reconciliation;
+
+import com.btoapanta.account.service.domain.model.Movement;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchive;
+import com.btoapanta.account.service.infrastructure.metrics.ReconciliationMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Checks every account against its movement ledger: each balanceBefore continues the previous
+ * balanceAfter, each balanceAfter follows from its amount, and the account balance equals both
+ * the last balanceAfter and the first balanceBefore plus credits minus debits.
+ *
+ * <p>Accounts are split into chunks of consecutive ids. A single producer seeks the next chunk
+ * boundary on the primary key while up to {@code parallelism} chunks are verified at once, each
+ * with one aggregate query that returns a row per account. Mismatches are streamed as chunks
+ * complete: every one is logged and counted, the first ones are kept for the report.
+ *
+ * <p>Runs on the configured cron or on demand. A session advisory lock held for the whole run
+ * keeps it to one instance.
+ */
+@Slf4j
+public class BalanceReconciliation {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final UUID LAST_ID = new UUID(-1L, -1L);
+    private static final String LOCK_KEY = "balance_reconciliation";
+
+    private static final String NEXT_BOUNDARY = "SELECT id FROM accounts WHERE id > ? ORDER BY id OFFSET ? LIMIT 1";
+
+    // One pass over the movements of the chunk: lag() pairs each movement with the previous one of
+    // its account, the aggregates fold the ledger into one row per account. Accounts without
+    // movements come back with a zero count.
+    private static final String VERIFY_CHUNK = """
+            WITH chunk AS (
+                SELECT id, account_number, balance FROM accounts WHERE id > ? AND id <= ?
+            ), ledger AS (
+                SELECT m.account_id, m.movement_type, m.amount, m.balance_before, m.balance_after, m.created_date, m.id,
+                       lag(m.balance_after) OVER (PARTITION BY m.account_id ORDER BY m.created_date, m.id) AS previous_after
+                FROM movements m
+                JOIN chunk c ON c.id = m.account_id
+            )
+            SELECT c.id, c.account_number, c.balance,
+                   count(l.account_id) AS movement_count,
+                   min(l.created_date) AS first_movement_at,
+                   (array_agg(l.balance_before ORDER BY l.created_date, l.id))[1] AS opening_balance,
+                   (array_agg(l.balance_after ORDER BY l.created_date DESC, l.id DESC))[1] AS closing_balance,
+                   coalesce(sum(l.amount) FILTER (WHERE l.movement_type = 'CREDIT'), 0) AS total_credits,
+                   coalesce(sum(l.amount) FILTER (WHERE l.movement_type = 'DEBIT'), 0) AS total_debits,
+                   count(*) FILTER (WHERE l.balance_before <> l.previous_after) AS chain_breaks,
+                   min(l.created_date) FILTER (WHERE l.balance_before <> l.previous_after) AS first_chain_break_at,
+                   count(*) FILTER (WHERE l.balance_after <> CASE WHEN l.movement_type = 'CREDIT'
+                       THEN l.balance_before + l.amount ELSE l.balance_before - l.amount END) AS arithmetic_errors,
+                   min(l.created_date) FILTER (WHERE l.balance_after <> CASE WHEN l.movement_type = 'CREDIT'
+                       THEN l.balance_before + l.amount ELSE l.balance_before - l.amount END) AS first_arithmetic_error_at
+            FROM chunk c
+            LEFT JOIN ledger l ON l.account_id = c.id
+            GROUP BY c.id, c.account_number, c.balance
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MovementArchive movementArchive;
+    private final ReconciliationMetrics metrics;
+    private final Clock clock;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int maxReportedMismatches;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<Run> lastRun = new AtomicReference<>();
+
+    /**
+     * @param chunkSize             accounts verified by one query
+     * @param parallelism           chunks verified at once, each holding a pooled connection
+     * @param maxReportedMismatches mismatches kept for the report; the rest are only logged and counted
+     */
+    public BalanceReconciliation(JdbcTemplate jdbcTemplate, MovementArchive movementArchive, ReconciliationMetrics metrics,
+                                 Clock clock, int chunkSize, int parallelism, int maxReportedMismatches) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.movementArchive = movementArchive;
+        this.metrics = metrics;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.maxReportedMismatches = maxReportedMismatches;
+    }
+
+    @Scheduled(cron = "${accounts.reconciliation.cron:0 30 3 * * *}")
+    public void reconcileScheduled() {
+        if (running.compareAndSet(false, true)) {
+            runLocked();
+        } else {
+            log.info("Balance reconciliation is already running, skipping");
+        }
+    }
+
+    /**
+     * Starts a run in the background.
+     *
+     * @return false when a run is already in progress on this instance
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Mono.fromRunnable(this::runLocked)
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+        return true;
+    }
+
+    public ReconciliationReport report() {
+        Run run = lastRun.get();
+        return run != null
+                ? run.report()
+                : ReconciliationReport.builder().state(ReconciliationReport.State.IDLE).mismatches(List.of()).build();
+    }
+
+    private void runLocked() {
+        try (Connection lock = jdbcTemplate.getDataSource().getConnection()) {
+            if (!advisoryLock(lock, "SELECT pg_try_advisory_lock(hashtext(?))")) {
+                log.info("Balance reconciliation is running on another instance, skipping");
+                return;
+            }
+            try {
+                reconcile();
+            } finally {
+                advisoryLock(lock, "SELECT pg_advisory_unlock(hashtext(?))");
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.error("Balance reconciliation failed: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void reconcile() {
+        Long total = jdbcTemplate.queryForObject("SELECT count(*) FROM accounts", Long.class);
+        Run run = new Run(LocalDateTime.now(clock), total != null ? total : 0);
+        lastRun.set(run);
+        metrics.start(run.total);
+        log.info("Balance reconciliation started - accounts: {}, chunk size: {}, parallelism: {}",
+                run.total, chunkSize, parallelism);
+
+        // One thread more than the verifiers for the producer seeking chunk boundaries
+        Scheduler workers = Schedulers.newBoundedElastic(parallelism + 1, Integer.MAX_VALUE, "reconciliation");
+        try {
+            chunks()
+                    .subscribeOn(workers)
+                    .flatMap(chunk -> Mono.fromCallable(() -> verify(chunk)).subscribeOn(workers), parallelism)
+                    .doOnNext(run::record)
+                    .blockLast();
+            run.finish(ReconciliationReport.State.COMPLETED, null);
+        } catch (RuntimeException e) {
+            run.finish(ReconciliationReport.State.FAILED, e.getMessage());
+            throw e;
+        } finally {
+            workers.dispose();
+            metrics.finish();
+        }
+        ReconciliationReport report = run.report();
+        log.info("Balance reconciliation completed - accounts: {}, mismatches: {}, {} accounts/s",
+                report.getAccountsChecked(), report.getMismatchCount(), Math.round(report.getAccountsPerSecond()));
+    }
+
+    // Chunks are requested as verifiers free up, so boundaries are only sought a few chunks ahead
+    private Flux<Chunk> chunks() {
+        return Flux.generate(() -> FIRST_ID, (after, sink) -> {
+            List<UUID> boundary = jdbcTemplate.queryForList(NEXT_BOUNDARY, UUID.class, after, chunkSize - 1);
+            if (boundary.isEmpty()) {
+                sink.next(new Chunk(after, LAST_ID));
+                sink.complete();
+                return LAST_ID;
+            }
+            sink.next(new Chunk(after, boundary.get(0)));
+            return boundary.get(0);
+        });
+    }
+
+    private ChunkResult verify(Chunk chunk) {
+        long start = System.nanoTime();
+        NavigableSet<YearMonth> archivedMonths = movementArchive.months();
+        List<BalanceMismatch> mismatches = new ArrayList<>();
+        int[] accounts = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(VERIFY_CHUNK);
+            statement.setObject(1, chunk.after());
+            statement.setObject(2, chunk.upTo());
+            return statement;
+        }, rs -> {
+            accounts[0]++;
+            check(rs, archivedMonths, mismatches);
+        });
+        metrics.recordChunk(accounts[0], start);
+        return new ChunkResult(accounts[0], mismatches);
+    }
+
+    private void check(ResultSet rs, NavigableSet<YearMonth> archivedMonths, List<BalanceMismatch> mismatches)
+            throws SQLException {
+        UUID accountId = rs.getObject("id", UUID.class);
+        long accountNumber = rs.getLong("account_number");
+        BigDecimal balance = rs.getBigDecimal("balance");
+
+        if (rs.getLong("movement_count") == 0) {
+            // Nothing live: only the months already archived can tell what the balance should be
+            if (!archivedMonths.isEmpty()) {
+                LocalDateTime archivedUntil = archivedMonths.last().plusMonths(1).atDay(1).atStartOfDay();
+                movementArchive.findLastAtOrBefore(accountId, archivedUntil.minusNanos(1_000))
+                        .filter(last -> last.getBalanceAfter().compareTo(balance) != 0)
+                        .ifPresent(last -> mismatches.add(mismatch(accountId, accountNumber,
+                                BalanceMismatch.Kind.CLOSING_BALANCE, last.getBalanceAfter(), balance, 0, null)));
+            }
+            return;
+        }
+
+        LocalDateTime firstAt = rs.getTimestamp("first_movement_at").toLocalDateTime();
+        BigDecimal opening = rs.getBigDecimal("opening_balance");
+        BigDecimal closing = rs.getBigDecimal("closing_balance");
+
+        long chainBreaks = rs.getLong("chain_breaks");
+        if (chainBreaks > 0) {
+            mismatches.add(mismatch(accountId, accountNumber, BalanceMismatch.Kind.CHAIN_BREAK, null, null,
+                    chainBreaks, localDateTime(rs.getTimestamp("first_chain_break_at"))));
+        }
+        // The chain continues from the last archived movement, if the account has any
+        if (!archivedMonths.isEmpty()) {
+            Optional<Movement> archived = movementArchive.findLastAtOrBefore(accountId, firstAt.minusNanos(1_000));
+            if (archived.isPresent() && archived.get().getBalanceAfter().compareTo(opening) != 0) {
+                mismatches.add(mismatch(accountId, accountNumber, BalanceMismatch.Kind.CHAIN_BREAK,
+                        archived.get().getBalanceAfter(), opening, 1, firstAt));
+            }
+        }
+        long arithmeticErrors = rs.getLong("arithmetic_errors");
+        if (arithmeticErrors > 0) {
+            mismatches.add(mismatch(accountId, accountNumber, BalanceMismatch.Kind.ARITHMETIC, null, null,
+                    arithmeticErrors, localDateTime(rs.getTimestamp("first_arithmetic_error_at"))));
+        }
+        if (closing.compareTo(balance) != 0) {
+            mismatches.add(mismatch(accountId, accountNumber, BalanceMismatch.Kind.CLOSING_BALANCE,
+                    closing, balance, 0, null));
+        }
+        BigDecimal expected = opening.add(rs.getBigDecimal("total_credits")).subtract(rs.getBigDecimal("total_debits"));
+        if (expected.compareTo(balance) != 0) {
+            mismatches.add(mismatch(accountId, accountNumber, BalanceMismatch.Kind.TOTALS, expected, balance, 0, null));
+        }
+    }
+
+    private static BalanceMismatch mismatch(UUID accountId, long accountNumber, BalanceMismatch.Kind kind,
+                                            BigDecimal expected, BigDecimal actual, long occurrences,
+                                            LocalDateTime firstAt) {
+        return BalanceMismatch.builder()
+                .accountId(accountId)
+                .accountNumber(accountNumber)
+                .kind(kind)
+                .expected(expected)
+                .actual(actual)
+                .occurrences(occurrences)
+                .firstAt(firstAt)
+                .build();
+    }
+
+    private static LocalDateTime localDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    // Accounts with after < id <= upTo
+    private record Chunk(UUID after, UUID upTo) {
+    }
+
+    private record ChunkResult(int accounts, List<BalanceMismatch> mismatches) {
+    }
+
+    /**
+     * Progress of one run. Chunk results arrive one at a time from flatMap, reports are read from
+     * any thread.
+     */
+    private final class Run {
+
+        private final LocalDateTime startedAt;
+        private final long startNanos = System.nanoTime();
+        private final long total;
+        private final AtomicLong checked = new AtomicLong();
+        private final AtomicLong chunks = new AtomicLong();
+        private final AtomicLong mismatchCount = new AtomicLong();
+        private final List<BalanceMismatch> mismatches = new ArrayList<>();
+        private volatile ReconciliationReport.State state = ReconciliationReport.State.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+        private volatile String error;
+
+        private Run(LocalDateTime startedAt, long total) {
+            this.startedAt = startedAt;
+            this.total = total;
+        }
+
+        private void record(ChunkResult result) {
+            for (BalanceMismatch mismatch : result.mismatches()) {
+                log.warn("Balance mismatch - account: {}, kind: {}, expected: {}, actual: {}, occurrences: {}, first at: {}",
+                        mismatch.getAccountNumber(), mismatch.getKind(), mismatch.getExpected(), mismatch.getActual(),
+                        mismatch.getOccurrences(), mismatch.getFirstAt());
+                metrics.recordMismatch(mismatch.getKind());
+                mismatchCount.incrementAndGet();
+                synchronized (mismatches) {
+                    if (mismatches.size() < maxReportedMismatches) {
+                        mismatches.add(mismatch);
+                    }
+                }
+            }
+            checked.addAndGet(result.accounts());
+            chunks.incrementAndGet();
+        }
+
+        private void finish(ReconciliationReport.State state, String error) {
+            this.finishedNanos = System.nanoTime();
+            this.finishedAt = LocalDateTime.now(clock);
+            this.error = error;
+            this.state = state;
+        }
+
+        private ReconciliationReport report() {
+            long end = state == ReconciliationReport.State.RUNNING ? System.nanoTime() : finishedNanos;
+            double seconds = (end - startNanos) / 1e9;
+            List<BalanceMismatch> reported;
+            synchronized (mismatches) {
+                reported = List.copyOf(mismatches);
+            }
+            return ReconciliationReport.builder()
+                    .state(state)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .accountsTotal(total)
+                    .accountsChecked(checked.get())
+                    .chunksCompleted(chunks.get())
+                    .accountsPerSecond(seconds > 0 ? checked.get() / seconds : 0)
+                    .mismatchCount(mismatchCount.get())
+                    .mismatches(reported)
+                    .error(error)
+                    .build();
+        }
+    }
+}
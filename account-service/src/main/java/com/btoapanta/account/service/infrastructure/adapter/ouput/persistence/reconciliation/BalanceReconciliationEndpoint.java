@@ -0,0 +1,28 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.reconciliation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * {@code GET /actuator/reconciliation} reports the running or last balance reconciliation;
+ * {@code POST /actuator/reconciliation} starts one unless it is already running.
+ */
+@Endpoint(id = "reconciliation")
+@RequiredArgsConstructor
+public class BalanceReconciliationEndpoint {
+
+    private final BalanceReconciliation balanceReconciliation;
+
+    @ReadOperation
+    public ReconciliationReport report() {
+        return balanceReconciliation.report();
+    }
+
+    @WriteOperation
+    public ReconciliationReport start() {
+        balanceReconciliation.start();
+        return balanceReconciliation.report();
+    }
+}
@@ -0,0 +1,36 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.reconciliation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * State of the running or last reconciliation, as returned by the reconciliation endpoint.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class ReconciliationReport {
+
+    private State state;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long accountsTotal;
+    private long accountsChecked;
+    private long chunksCompleted;
+    private double accountsPerSecond;
+    private long mismatchCount;
+    // The first mismatches found, up to the configured maximum; every one of them is logged
+    private List<BalanceMismatch> mismatches;
+    private String error;
+
+    public enum State {
+        IDLE,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
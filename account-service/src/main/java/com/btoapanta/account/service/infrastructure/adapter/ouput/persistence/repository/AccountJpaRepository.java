@@ -1,11 +1,34 @@
 package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository;
 
+import com.btoapanta.account.service.domain.enums.AccountType;
 import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.AccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface AccountJpaRepository extends JpaRepository <AccountEntity, UUID> {
     Optional<AccountEntity> findByAccountNumber(Long accountNumber);
+
+    @Query("SELECT a.version FROM AccountEntity a WHERE a.accountNumber = :accountNumber")
+    Optional<Long> findVersionByAccountNumber(@Param("accountNumber") Long accountNumber);
+
+    // The row only, under the version it was read with: 0 when another update came first
+    @Modifying
+    @Query("""
+            UPDATE AccountEntity a SET a.balance = :balance, a.version = a.version + 1
+            WHERE a.id = :id AND a.version = :version
+            """)
+    int updateBalance(@Param("id") UUID id, @Param("balance") BigDecimal balance, @Param("version") Long version);
+
+    List<AccountEntity> findByCustomerId(UUID customerId);
+
+    List<AccountEntity> findByCustomerIdAndAccountType(UUID customerId, AccountType accountType);
+
+    List<AccountEntity> findByAccountType(AccountType accountType);
 }
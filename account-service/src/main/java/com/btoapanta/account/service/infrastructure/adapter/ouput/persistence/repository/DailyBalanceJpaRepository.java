@@ -0,0 +1,20 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.DailyBalanceEntity;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.DailyBalanceId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// All of them are range scans or single seeks on the (account_id, balance_date) primary key
+public interface DailyBalanceJpaRepository extends JpaRepository<DailyBalanceEntity, DailyBalanceId> {
+
+    List<DailyBalanceEntity> findByAccountIdAndBalanceDateBetweenOrderByBalanceDate(UUID accountId, LocalDate from, LocalDate to);
+
+    Optional<DailyBalanceEntity> findFirstByAccountIdAndBalanceDateLessThanOrderByBalanceDateDesc(UUID accountId, LocalDate date);
+
+    Optional<DailyBalanceEntity> findFirstByAccountIdAndBalanceDateGreaterThanEqualOrderByBalanceDate(UUID accountId, LocalDate date);
+}
@@ -2,11 +2,37 @@ package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.r
 
 import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.MovementEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface MovementJpaRepository extends JpaRepository<MovementEntity, UUID> {
 
     List<MovementEntity> findByAccountId(UUID accountId);
+
+    boolean existsByIdAndAccountId(UUID id, UUID accountId);
+
+    // Half-open range on the partition key: PostgreSQL only reads the monthly partitions that overlap it
+    @Query("""
+            SELECT m FROM MovementEntity m
+            WHERE m.account.id = :accountId AND m.createdDate >= :from AND m.createdDate < :to
+            ORDER BY m.createdDate
+            """)
+    List<MovementEntity> findByAccountIdAndPeriod(@Param("accountId") UUID accountId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+
+    // The reference movement is looked up by id in every partition; the rest is a range on (account_id, created_date)
+    @Query("""
+            SELECT m FROM MovementEntity m
+            WHERE m.account.id = :accountId
+              AND m.createdDate > (SELECT r.createdDate FROM MovementEntity r
+                                   WHERE r.id = :movementId AND r.account.id = :accountId)
+            ORDER BY m.createdDate
+            """)
+    List<MovementEntity> findByAccountIdAfterMovement(@Param("accountId") UUID accountId,
+                                                      @Param("movementId") UUID movementId);
 }
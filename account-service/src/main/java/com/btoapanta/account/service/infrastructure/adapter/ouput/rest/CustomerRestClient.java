@@ -1,6 +1,7 @@
 package com.btoapanta.account.service.infrastructure.adapter.ouput.rest;
 
 import com.btoapanta.account.service.infrastructure.adapter.ouput.rest.dto.CustomerResponse;
+import com.btoapanta.account.service.infrastructure.deadline.Deadlines;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,12 +16,21 @@ public class CustomerRestClient {
     
     private final WebClient webClient;
     
-    public CustomerRestClient(@Value("${integration.api-customer.url}") String baseUrl) {
+    /**
+     * Uses the Spring managed builder so outgoing calls are observed as http.client.requests,
+     * and passes on the deadline of the request being served (see {@link Deadlines#propagation()}).
+     *
+     * @param webClientBuilder builder configured by Spring Boot, with its observation registry
+     * @param baseUrl          base URL of api-customer
+     */
+    public CustomerRestClient(WebClient.Builder webClientBuilder,
+                              @Value("${integration.api-customer.url}") String baseUrl) {
         log.info("Initializing CustomerRestClient with baseUrl: {}", baseUrl);
-        this.webClient = WebClient.builder()
+        this.webClient = webClientBuilder
                 .baseUrl(baseUrl)
                 .defaultHeader("Content-Type", "application/json")
                 .defaultHeader("Accept", "application/json")
+                .filter(Deadlines.propagation())
                 .build();
     }
     
@@ -0,0 +1,116 @@
+package com.btoapanta.account.service.infrastructure.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Requests of a route class allowed in flight at once, adjusted from their latency with the
+ * gradient algorithm: the limit follows {@code limit * longRtt / rtt + sqrt(limit)}, where
+ * {@code longRtt} is a slow moving average of the latency. While requests take as long as
+ * usual the square root lets the limit grow; once they queue up in the boundedElastic scheduler
+ * or the JDBC pool their latency rises and the gradient shrinks the limit back, at most by half
+ * per sample.
+ *
+ * <p>Requests over the limit are refused rather than queued. The limit does not grow while
+ * less than half of it is in use, so a quiet period does not leave it far above what the
+ * service can take.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    // Past this ratio the long term average is taken down faster, so it recovers from a latency spike
+    private static final double DRIFT_RATIO = 2.0;
+    private static final double DRIFT_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final int longWindow;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRtt;
+
+    /**
+     * @param smoothing  weight of a new sample in the limit, 0.2 moves a fifth of the way
+     * @param tolerance  latency over the long term average accepted before the limit shrinks, 1.5 for 50 %
+     * @param longWindow samples averaged by the long term latency
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    double smoothing, double tolerance, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longWindow = longWindow;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Takes a slot, or counts a rejection when the limit is reached.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives back the slot of a request that completed in {@code rttNanos}.
+     */
+    public void release(long rttNanos) {
+        int inflightBefore = inflight.getAndDecrement();
+        sample(rttNanos, inflightBefore);
+    }
+
+    /**
+     * Gives back the slot of a request whose latency says nothing, such as one the client cancelled.
+     */
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    private synchronized void sample(long rttNanos, int inflightBefore) {
+        double rtt = Math.max(1, rttNanos);
+        if (longRtt == 0) {
+            longRtt = rtt;
+        } else {
+            longRtt += (rtt - longRtt) / longWindow;
+        }
+        if (longRtt / rtt > DRIFT_RATIO) {
+            longRtt *= DRIFT_DECAY;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / rtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        if (newLimit > estimatedLimit && inflightBefore < estimatedLimit / 2) {
+            return;
+        }
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,36 @@
+package com.btoapanta.account.service.infrastructure.concurrency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code rate-limits.routes.<name>.*}: the requests a client may make on the paths of each named
+ * route, as a burst of {@code capacity} refilled at {@code refill-per-second}. Routes are matched
+ * in the order they are configured.
+ */
+@Data
+@ConfigurationProperties(prefix = "rate-limits")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private String clientHeader = "X-API-Key";
+    // Buckets per route before API keys without one are limited by address instead
+    private int maxClients = 10_000;
+    private Map<String, RouteLimit> routes = new LinkedHashMap<>();
+
+    @Data
+    public static class RouteLimit {
+
+        // Any method when not set
+        private HttpMethod method;
+        private List<String> paths = new ArrayList<>();
+        private int capacity = 20;
+        private double refillPerSecond = 10;
+    }
+}
@@ -0,0 +1,91 @@
+package com.btoapanta.account.service.infrastructure.concurrency;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One token bucket per client, holding up to {@code capacity} requests and refilled at
+ * {@code refillPerSecond}.
+ *
+ * <p>A bucket is a single {@link AtomicLong}: the time at which it would be full again. Taking a
+ * token moves that time one refill interval ahead with a compare-and-set, and the refill is only
+ * worked out when a token is asked for, so there is no lock and no timer per bucket. The
+ * buckets live in a {@link ConcurrentHashMap}, whose striped bins keep clients from contending
+ * with each other.
+ *
+ * <p>A bucket that has refilled completely holds nothing worth keeping, and is removed by
+ * {@link #evictIdle(long)}. A request racing its eviction may be let through on the bucket
+ * being dropped, so a client can get at most one extra request per eviction.
+ */
+public class TokenBuckets {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public TokenBuckets(int capacity, double refillPerSecond) {
+        this.nanosPerToken = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = capacity * nanosPerToken;
+    }
+
+    /**
+     * Takes a token of the client's bucket.
+     *
+     * @return 0 when the request may go on, otherwise the nanoseconds until a token is available
+     */
+    public long tryConsume(String client, long nowNanos) {
+        AtomicLong fullAt = buckets.get(client);
+        if (fullAt == null) {
+            fullAt = buckets.computeIfAbsent(client, key -> new AtomicLong(nowNanos));
+        }
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + nanosPerToken;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Removes the buckets that have refilled completely.
+     *
+     * @return buckets removed
+     */
+    public int evictIdle(long nowNanos) {
+        int[] removed = {0};
+        buckets.values().removeIf(fullAt -> {
+            if (fullAt.get() - nowNanos > 0) {
+                return false;
+            }
+            removed[0]++;
+            return true;
+        });
+        evicted.add(removed[0]);
+        return removed[0];
+    }
+
+    public boolean contains(String client) {
+        return buckets.containsKey(client);
+    }
+
+    public int getClients() {
+        return buckets.size();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getEvicted() {
+        return evicted.sum();
+    }
+}
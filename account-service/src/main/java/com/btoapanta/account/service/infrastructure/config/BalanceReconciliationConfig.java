@@ -0,0 +1,37 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchive;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.reconciliation.BalanceReconciliation;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.reconciliation.BalanceReconciliationEndpoint;
+import com.btoapanta.account.service.infrastructure.metrics.ReconciliationMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Clock;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "accounts.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class BalanceReconciliationConfig {
+
+    @Bean
+    public BalanceReconciliation balanceReconciliation(
+            JdbcTemplate jdbcTemplate,
+            MovementArchive movementArchive,
+            ReconciliationMetrics reconciliationMetrics,
+            @Value("${accounts.reconciliation.chunk-size:1000}") int chunkSize,
+            @Value("${accounts.reconciliation.parallelism:4}") int parallelism,
+            @Value("${accounts.reconciliation.max-reported-mismatches:1000}") int maxReportedMismatches) {
+        return new BalanceReconciliation(jdbcTemplate, movementArchive, reconciliationMetrics,
+                Clock.systemDefaultZone(), chunkSize, parallelism, maxReportedMismatches);
+    }
+
+    @Bean
+    public BalanceReconciliationEndpoint balanceReconciliationEndpoint(BalanceReconciliation balanceReconciliation) {
+        return new BalanceReconciliationEndpoint(balanceReconciliation);
+    }
+}
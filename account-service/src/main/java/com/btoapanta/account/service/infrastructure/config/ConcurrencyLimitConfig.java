@@ -0,0 +1,51 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.concurrency.AdaptiveConcurrencyLimit;
+import com.btoapanta.account.service.infrastructure.concurrency.ConcurrencyLimitFilter;
+import com.btoapanta.account.service.infrastructure.concurrency.ConcurrencyLimitProperties;
+import com.btoapanta.account.service.infrastructure.concurrency.Route;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "concurrency.limits.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    private static final String POSTINGS = "postings";
+    private static final String READS = "reads";
+    private static final String LISTINGS = "listings";
+
+    /**
+     * Postings and the other writes hold a transaction and row locks, reads fetch one account and
+     * listings page or aggregate many rows. The movement stream and the CSV export stay open for
+     * as long as the client reads, so their latency would only mislead the limits.
+     */
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitProperties properties) {
+        List<Route> routes = List.of(
+                Route.of(HttpMethod.GET, "/accounts/{accountNumber}/movements/stream", null),
+                Route.of(HttpMethod.GET, "/accounts/{accountNumber}/movements/export.csv", null),
+                Route.of(HttpMethod.GET, "/accounts", LISTINGS),
+                Route.of(HttpMethod.GET, "/movements", LISTINGS),
+                Route.of(HttpMethod.GET, "/accounts/{accountNumber}/statement", LISTINGS),
+                Route.of(HttpMethod.GET, "/customers/{customerId}/accounts/summary", LISTINGS),
+                Route.of(HttpMethod.POST, "/accounts/balances", LISTINGS),
+                Route.of(HttpMethod.GET, "/accounts/**", READS),
+                Route.of(null, "/accounts/**", POSTINGS),
+                Route.of(null, "/movements", POSTINGS));
+
+        Map<String, AdaptiveConcurrencyLimit> limits = new LinkedHashMap<>();
+        for (String routeClass : List.of(POSTINGS, READS, LISTINGS)) {
+            limits.put(routeClass, properties.routeClass(routeClass).toLimit());
+        }
+        return new ConcurrencyLimitFilter(routes, limits, properties.getRetryAfter());
+    }
+}
@@ -0,0 +1,33 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.concurrency.Route;
+import com.btoapanta.account.service.infrastructure.deadline.DeadlineFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "deadlines.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig {
+
+    /**
+     * The movement stream and the CSV export stay open for as long as the client reads, so a
+     * timeout would cut them off mid-response; the same routes are left out of the concurrency limits.
+     * A movement posting only has its deadline checked before the posting starts: once it has, it
+     * runs to its commit or rollback and the client gets the outcome.
+     */
+    @Bean
+    public DeadlineFilter deadlineFilter(@Value("${deadlines.default-timeout:#{null}}") Duration defaultTimeout) {
+        List<Route> unbounded = List.of(
+                Route.of(HttpMethod.GET, "/accounts/{accountNumber}/movements/stream", null),
+                Route.of(HttpMethod.GET, "/accounts/{accountNumber}/movements/export.csv", null));
+        List<Route> uninterruptible = List.of(Route.of(HttpMethod.POST, "/movements", null));
+        return new DeadlineFilter(Clock.systemUTC(), defaultTimeout, unbounded, uninterruptible);
+    }
+}
@@ -0,0 +1,28 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.limit.DebitLimitAdapter;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.limit.DebitLimitProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(DebitLimitProperties.class)
+public class DebitLimitConfig {
+
+    // Always present: without configured limits every debit passes and nothing is rebuilt or checkpointed
+    @Bean
+    public DebitLimitAdapter debitLimitAdapter(JdbcTemplate jdbcTemplate,
+                                               PlatformTransactionManager transactionManager,
+                                               DebitLimitProperties debitLimitProperties) {
+        return new DebitLimitAdapter(jdbcTemplate, new TransactionTemplate(transactionManager),
+                Clock.systemDefaultZone(), debitLimitProperties.getInstanceId(), debitLimitProperties.getLimits());
+    }
+}
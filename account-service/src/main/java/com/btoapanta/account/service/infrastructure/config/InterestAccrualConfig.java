@@ -0,0 +1,34 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.outbox.MovementOutbox;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.interest.InterestAccrualBatch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "accounts.interest.enabled", havingValue = "true")
+public class InterestAccrualConfig {
+
+    @Bean
+    public InterestAccrualBatch interestAccrualBatch(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MovementOutbox movementOutbox,
+            @Value("${accounts.interest.annual-rate}") BigDecimal annualRate,
+            @Value("${accounts.interest.days-per-year:365}") int daysPerYear,
+            @Value("${accounts.interest.chunk-size:500}") int chunkSize,
+            @Value("${accounts.interest.parallelism:2}") int parallelism) {
+        return new InterestAccrualBatch(jdbcTemplate, new TransactionTemplate(transactionManager), movementOutbox,
+                Clock.systemDefaultZone(), annualRate, daysPerYear, chunkSize, parallelism);
+    }
+}
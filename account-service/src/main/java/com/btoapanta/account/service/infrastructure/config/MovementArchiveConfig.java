@@ -0,0 +1,27 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchive;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchiver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+
+@Configuration
+public class MovementArchiveConfig {
+
+    // Always present, so segments written earlier stay readable when archiving is turned off
+    @Bean
+    public MovementArchive movementArchive(@Value("${movements.archive.directory:data/movement-archive}") Path directory) {
+        return new MovementArchive(directory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "movements.archive.enabled", havingValue = "true")
+    public MovementArchiver movementArchiver(JdbcTemplate jdbcTemplate, MovementArchive movementArchive) {
+        return new MovementArchiver(jdbcTemplate, movementArchive);
+    }
+}
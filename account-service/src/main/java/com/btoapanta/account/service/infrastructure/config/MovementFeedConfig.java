@@ -0,0 +1,55 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.feed.MovementFeedAdapter;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.feed.MovementNotificationListener;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.feed.MovementWatches;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Configuration
+@EnableScheduling
+public class MovementFeedConfig {
+
+    // A new id at every start: the watches of a stopped instance just expire
+    @Bean
+    public MovementWatches movementWatches(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${movements.stream.watch-ttl:1m}") Duration ttl) {
+        return new MovementWatches(jdbcTemplate, new TransactionTemplate(transactionManager),
+                UUID.randomUUID().toString().replace("-", ""), ttl);
+    }
+
+    @Bean
+    public MovementFeedAdapter movementFeedAdapter(
+            @Value("${movements.stream.buffer-size:256}") int bufferSize,
+            MovementWatches movementWatches,
+            MeterRegistry meterRegistry) {
+        return new MovementFeedAdapter(bufferSize, movementWatches, meterRegistry);
+    }
+
+    // Connects to the primary from spring.datasource, but outside its pool
+    @Bean
+    public MovementNotificationListener movementNotificationListener(
+            DataSourceProperties dataSourceProperties,
+            ObjectMapper objectMapper,
+            MovementFeedAdapter movementFeedAdapter,
+            MovementWatches movementWatches,
+            @Value("${movements.stream.reconnect-delay:5s}") Duration reconnectDelay) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        return new MovementNotificationListener(dataSource, movementWatches.channel(), objectMapper, movementFeedAdapter, reconnectDelay);
+    }
+}
@@ -0,0 +1,68 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.outbox.FileMovementEventSink;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.outbox.InProcessMovementEventSink;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.outbox.MovementEventSink;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.outbox.MovementOutboxRelay;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.outbox.WebhookMovementEventSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+// Events are always written to the outbox; this only decides whether this instance relays them
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "movements.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class MovementOutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "movements.outbox.sinks.in-process.enabled", havingValue = "true", matchIfMissing = true)
+    public InProcessMovementEventSink inProcessMovementEventSink(ApplicationEventPublisher eventPublisher) {
+        return new InProcessMovementEventSink(eventPublisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "movements.outbox.sinks.webhook.enabled", havingValue = "true")
+    public WebhookMovementEventSink webhookMovementEventSink(
+            WebClient.Builder webClientBuilder,
+            @Value("${movements.outbox.sinks.webhook.url}") String url,
+            @Value("${movements.outbox.sinks.webhook.timeout:5s}") Duration timeout) {
+        return new WebhookMovementEventSink(webClientBuilder, url, timeout);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "movements.outbox.sinks.file.enabled", havingValue = "true")
+    public FileMovementEventSink fileMovementEventSink(
+            ObjectMapper objectMapper,
+            @Value("${movements.outbox.sinks.file.path:logs/movement-events.jsonl}") Path path) {
+        return new FileMovementEventSink(objectMapper, path);
+    }
+
+    @Bean
+    public MovementOutboxRelay movementOutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            List<MovementEventSink> sinks,
+            @Value("${movements.outbox.batch-size:200}") int batchSize,
+            @Value("${movements.outbox.lease:1m}") Duration lease,
+            @Value("${movements.outbox.max-backoff:5m}") Duration maxBackoff) {
+        return new MovementOutboxRelay(jdbcTemplate, new TransactionTemplate(transactionManager),
+                objectMapper, meterRegistry, sinks, Clock.systemDefaultZone(), batchSize, lease, maxBackoff);
+    }
+}
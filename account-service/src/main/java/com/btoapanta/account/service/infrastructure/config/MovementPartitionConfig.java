@@ -0,0 +1,33 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchiver;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.partition.MovementPartitionMaintenance;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "movements.partitions.maintenance-enabled", havingValue = "true", matchIfMissing = true)
+public class MovementPartitionConfig {
+
+    @Bean
+    public MovementPartitionMaintenance movementPartitionMaintenance(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<MovementArchiver> movementArchiver,
+            @Value("${movements.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${movements.partitions.retention-months:0}") int retentionMonths,
+            @Value("${movements.partitions.drop-expired:false}") boolean dropExpired) {
+        return new MovementPartitionMaintenance(jdbcTemplate, new TransactionTemplate(transactionManager),
+                Clock.systemDefaultZone(), monthsAhead, retentionMonths, dropExpired, movementArchiver.getIfAvailable());
+    }
+}
@@ -0,0 +1,40 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.id.UuidV7Generator;
+import com.btoapanta.account.service.infrastructure.logging.CountingAsyncAppender;
+import com.btoapanta.account.service.infrastructure.logging.SamplingTurboFilter;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * What the native image cannot work out from the bean definitions: the JDK proxies of
+ * SqlStatisticsDataSource, the logback classes named in logback-spring.xml, the UUIDv7 generator
+ * Hibernate creates by reflection and the outbox event written with Jackson.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.proxies()
+                .registerJdkProxy(Connection.class)
+                .registerJdkProxy(Statement.class)
+                .registerJdkProxy(PreparedStatement.class)
+                .registerJdkProxy(CallableStatement.class)
+                .registerJdkProxy(ResultSet.class);
+
+        for (Class<?> type : new Class<?>[]{CountingAsyncAppender.class, SamplingTurboFilter.class, UuidV7Generator.class}) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), MovementPosted.class);
+    }
+}
@@ -0,0 +1,34 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.concurrency.RateLimitFilter;
+import com.btoapanta.account.service.infrastructure.concurrency.RateLimitProperties;
+import com.btoapanta.account.service.infrastructure.concurrency.Route;
+import com.btoapanta.account.service.infrastructure.concurrency.TokenBuckets;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(name = "rate-limits.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties) {
+        List<Route> routes = new ArrayList<>();
+        Map<String, TokenBuckets> buckets = new LinkedHashMap<>();
+        properties.getRoutes().forEach((name, limit) -> {
+            limit.getPaths().forEach(path -> routes.add(Route.of(limit.getMethod(), path, name)));
+            buckets.put(name, new TokenBuckets(limit.getCapacity(), limit.getRefillPerSecond()));
+        });
+        return new RateLimitFilter(routes, buckets, properties.getClientHeader(), properties.getMaxClients());
+    }
+}
@@ -0,0 +1,64 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.replica.ReplicaProperties;
+import com.btoapanta.account.service.infrastructure.replica.ReplicaRouter;
+import com.btoapanta.account.service.infrastructure.replica.ReplicaRoutingDataSource;
+import com.btoapanta.account.service.infrastructure.replica.ReplicaRoutingFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured pool with a {@link ReplicaRoutingDataSource}: the primary pool is
+ * built from {@code spring.datasource} as before, and Flyway, Hibernate and every write keep using
+ * it. Off unless {@code replicas.enabled}, and like every property condition it is fixed at build
+ * time in the fast-start image.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(name = "replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReplicaRouter replicaRouter(ReplicaProperties properties, DataSourceProperties primary) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        properties.getInstances().forEach((name, instance) -> {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("account-replica-" + name);
+            replica.setJdbcUrl(instance.getUrl());
+            replica.setUsername(instance.getUsername() != null ? instance.getUsername() : primary.determineUsername());
+            replica.setPassword(instance.getPassword() != null ? instance.getPassword() : primary.determinePassword());
+            replica.setMaximumPoolSize(instance.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            // An unreachable replica fails its probes instead of the startup, and reads skip it
+            replica.setInitializationFailTimeout(-1);
+            replica.setConnectionTimeout(Math.max(250, properties.getMaxLag().toMillis()));
+            replicas.put(name, replica);
+        });
+        return new ReplicaRouter(replicas, properties.getMaxLag(), properties.getLagQuery());
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, ReplicaRouter replicaRouter) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        return new ReplicaRoutingDataSource(primary, replicaRouter.getDataSources());
+    }
+
+    @Bean
+    public ReplicaRoutingFilter replicaRoutingFilter(ReplicaRouter replicaRouter, ReplicaProperties properties) {
+        return new ReplicaRoutingFilter(replicaRouter, properties.getClientHeader());
+    }
+}
@@ -0,0 +1,106 @@
+package com.btoapanta.account.service.infrastructure.deadline;
+
+import org.springframework.http.HttpHeaders;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The point in time after which nobody waits for the response of a request any more.
+ *
+ * <p>Taken from {@code X-Request-Timeout}, the budget left in the grpc-timeout format (up to 8
+ * digits and a unit: {@code H}, {@code M}, {@code S}, {@code m}, {@code u} or {@code n}, so
+ * {@code 250m} for 250 ms), or from {@code X-Request-Deadline}, the deadline in epoch
+ * milliseconds; with both, the earlier one applies. Calls to other services carry the budget
+ * left as {@code X-Request-Timeout}, which unlike an absolute deadline does not depend on the
+ * clocks of both hosts agreeing.
+ *
+ * <p>Kept in the Reactor context of the request under this class.
+ */
+public final class Deadline {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+    public static final String DEADLINE_HEADER = "X-Request-Deadline";
+
+    private static final int MAX_TIMEOUT_DIGITS = 8;
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * The deadline of a request, null when its headers set none.
+     *
+     * @throws IllegalArgumentException on a malformed header
+     */
+    public static Deadline from(HttpHeaders headers, Clock clock) {
+        Duration timeout = null;
+        String timeoutHeader = headers.getFirst(TIMEOUT_HEADER);
+        if (timeoutHeader != null) {
+            timeout = parseTimeout(timeoutHeader.trim());
+        }
+        String deadlineHeader = headers.getFirst(DEADLINE_HEADER);
+        if (deadlineHeader != null) {
+            Duration untilDeadline;
+            try {
+                untilDeadline = Duration.ofMillis(Long.parseLong(deadlineHeader.trim()) - clock.millis());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed " + DEADLINE_HEADER + " '" + deadlineHeader + "'", e);
+            }
+            if (timeout == null || untilDeadline.compareTo(timeout) < 0) {
+                timeout = untilDeadline;
+            }
+        }
+        return timeout != null ? after(timeout) : null;
+    }
+
+    static Duration parseTimeout(String value) {
+        if (value.length() < 2 || value.length() > MAX_TIMEOUT_DIGITS + 1) {
+            throw new IllegalArgumentException("Malformed " + TIMEOUT_HEADER + " '" + value + "'");
+        }
+        long amount;
+        try {
+            amount = Long.parseLong(value.substring(0, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed " + TIMEOUT_HEADER + " '" + value + "'", e);
+        }
+        TimeUnit unit = switch (value.charAt(value.length() - 1)) {
+            case 'H' -> TimeUnit.HOURS;
+            case 'M' -> TimeUnit.MINUTES;
+            case 'S' -> TimeUnit.SECONDS;
+            case 'm' -> TimeUnit.MILLISECONDS;
+            case 'u' -> TimeUnit.MICROSECONDS;
+            case 'n' -> TimeUnit.NANOSECONDS;
+            default -> throw new IllegalArgumentException("Malformed " + TIMEOUT_HEADER + " '" + value + "'");
+        };
+        if (amount < 0) {
+            throw new IllegalArgumentException("Malformed " + TIMEOUT_HEADER + " '" + value + "'");
+        }
+        return Duration.ofNanos(unit.toNanos(amount));
+    }
+
+    /**
+     * Time left, zero once expired.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * The time left as an {@code X-Request-Timeout} value, in milliseconds rounded down.
+     */
+    public String toTimeoutHeader() {
+        return Math.min(remaining().toMillis(), 99_999_999L) + "m";
+    }
+}
@@ -0,0 +1,113 @@
+package com.btoapanta.account.service.infrastructure.deadline;
+
+import com.btoapanta.account.service.infrastructure.concurrency.Route;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounds each request by its {@link Deadline}: the rest of the chain runs under a Reactor timeout
+ * of the time left, with the deadline in the context for {@link Deadlines}. When the timeout
+ * fires the chain is cancelled, which takes the blocking tasks still queued off boundedElastic
+ * and aborts the calls to other services, and the request is answered with 504. A request that
+ * arrives already expired is answered at once.
+ *
+ * <p>Requests without deadline headers get the default timeout, or none when it is not set.
+ * Requests on an unbounded route get neither: their responses stay open for as long as the client
+ * reads. Requests on an uninterruptible route keep the deadline in the context, so work that has
+ * not started by then is skipped, but no timeout cancels work that has: a posting whose transaction
+ * may still commit is answered with its outcome, not with a 504 that invites a duplicate retry.
+ * Work already running on a thread, such as a JDBC statement, is not interrupted and finishes.
+ */
+@Slf4j
+public class DeadlineFilter implements WebFilter, Ordered, MeterBinder {
+
+    private final Clock clock;
+    private final Duration defaultTimeout;
+    private final List<Route> unbounded;
+    private final List<Route> uninterruptible;
+    private final LongAdder expiredOnArrival = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public DeadlineFilter(Clock clock, Duration defaultTimeout, List<Route> unbounded, List<Route> uninterruptible) {
+        this.clock = clock;
+        this.defaultTimeout = defaultTimeout;
+        this.unbounded = unbounded;
+        this.uninterruptible = uninterruptible;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (unbounded.stream().anyMatch(route -> route.matches(exchange.getRequest()))) {
+            return chain.filter(exchange);
+        }
+        Deadline deadline;
+        try {
+            deadline = Deadline.from(exchange.getRequest().getHeaders(), clock);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new ServerWebInputException(e.getMessage()));
+        }
+        if (deadline == null) {
+            if (defaultTimeout == null) {
+                return chain.filter(exchange);
+            }
+            deadline = Deadline.after(defaultTimeout);
+        }
+        if (deadline.isExpired()) {
+            expiredOnArrival.increment();
+            return gatewayTimeout(exchange);
+        }
+        Deadline requestDeadline = deadline;
+        Mono<Void> handled = uninterruptible.stream().anyMatch(route -> route.matches(exchange.getRequest()))
+                ? chain.filter(exchange)
+                : chain.filter(exchange).timeout(deadline.remaining());
+        return handled
+                .onErrorResume(e -> e instanceof TimeoutException || e instanceof DeadlineExceededException, e -> {
+                    timedOut.increment();
+                    log.warn("Request deadline exceeded: {} {}", exchange.getRequest().getMethod(),
+                            exchange.getRequest().getPath().value());
+                    return exchange.getResponse().isCommitted() ? Mono.error(e) : gatewayTimeout(exchange);
+                })
+                .contextWrite(context -> context.put(Deadline.class, requestDeadline));
+    }
+
+    private static Mono<Void> gatewayTimeout(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.GATEWAY_TIMEOUT);
+        return response.setComplete();
+    }
+
+    // Inside the rate and concurrency limits, so a request given up on still releases its slot with its latency
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 15;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("http.server.deadline.exceeded", expiredOnArrival, LongAdder::sum)
+                .description("Requests given up on because their deadline passed")
+                .tag("stage", "arrival")
+                .register(registry);
+
+        FunctionCounter.builder("http.server.deadline.exceeded", timedOut, LongAdder::sum)
+                .description("Requests given up on because their deadline passed")
+                .tag("stage", "processing")
+                .register(registry);
+    }
+}
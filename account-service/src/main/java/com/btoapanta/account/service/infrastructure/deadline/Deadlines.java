@@ -0,0 +1,61 @@
+package com.btoapanta.account.service.infrastructure.deadline;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Honours the {@link Deadline} in the Reactor context on the way out of a request: blocking work
+ * and calls to other services.
+ */
+public final class Deadlines {
+
+    private Deadlines() {
+    }
+
+    /**
+     * Like {@link Mono#fromCallable(Callable)}, but the callable is skipped with a
+     * {@link DeadlineExceededException} when the deadline has passed by the time it would start,
+     * so a task that waited in the boundedElastic queue past its deadline takes no thread or
+     * pooled connection. Without a deadline it always runs.
+     */
+    public static <T> Mono<T> fromCallable(Callable<T> callable) {
+        return Mono.deferContextual(context -> {
+            Deadline deadline = context.getOrDefault(Deadline.class, null);
+            if (deadline == null) {
+                return Mono.fromCallable(callable);
+            }
+            return Mono.fromCallable(() -> {
+                if (deadline.isExpired()) {
+                    throw new DeadlineExceededException("Request deadline passed before the task started");
+                }
+                return callable.call();
+            });
+        });
+    }
+
+    /**
+     * Sends the budget left as {@code X-Request-Timeout} and gives up on the call when it runs out.
+     */
+    public static ExchangeFilterFunction propagation() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            Deadline deadline = context.getOrDefault(Deadline.class, null);
+            if (deadline == null) {
+                return next.exchange(request);
+            }
+            if (deadline.isExpired()) {
+                return Mono.error(new DeadlineExceededException("Request deadline passed before calling " + request.url()));
+            }
+            ClientRequest withTimeout = ClientRequest.from(request)
+                    .header(Deadline.TIMEOUT_HEADER, deadline.toTimeoutHeader())
+                    .build();
+            return next.exchange(withTimeout)
+                    .timeout(deadline.remaining())
+                    .onErrorMap(TimeoutException.class,
+                            e -> new DeadlineExceededException("Request deadline passed waiting for " + request.url()));
+        });
+    }
+}
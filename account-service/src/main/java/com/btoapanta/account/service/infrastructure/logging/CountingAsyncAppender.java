@@ -0,0 +1,46 @@
+package com.btoapanta.account.service.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback AsyncAppender that counts the events it drops, so the loss is visible as a metric
+ * instead of disappearing silently. Events are dropped in two places:
+ * <ul>
+ *     <li>discarded: the queue is above the discarding threshold and the event is TRACE, DEBUG or INFO</li>
+ *     <li>queue full: neverBlock is set and there is no room left, whatever the level</li>
+ * </ul>
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isNeverBlock() && getRemainingCapacity() == 0
+                && (getDiscardingThreshold() == 0 || !super.isDiscardable(event))) {
+            queueFull.increment();
+        }
+        super.append(event);
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            discarded.increment();
+        }
+        return discardable;
+    }
+
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    public long getQueueFullCount() {
+        return queueFull.sum();
+    }
+}
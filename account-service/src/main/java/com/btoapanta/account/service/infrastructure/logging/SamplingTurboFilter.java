@@ -0,0 +1,109 @@
+package com.btoapanta.account.service.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limits the success-path messages of the configured loggers. Every logger whose name starts
+ * with one of the configured prefixes may emit up to maxPerSecond events of level INFO or lower per
+ * second; the rest are denied before the message is formatted. WARN and ERROR always go through.
+ *
+ * <pre>
+ * &lt;turboFilter class="...SamplingTurboFilter"&gt;
+ *     &lt;logger&gt;com.example.controller&lt;/logger&gt;
+ *     &lt;maxPerSecond&gt;20&lt;/maxPerSecond&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final List<String> loggers = new ArrayList<>();
+    private final Map<String, LongAdder> sampledOut = new ConcurrentHashMap<>();
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private int maxPerSecond = 20;
+    private LongSupplier clock = System::currentTimeMillis;
+
+    public void addLogger(String prefix) {
+        loggers.add(prefix.trim());
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void start() {
+        loggers.forEach(prefix -> sampledOut.put(prefix, new LongAdder()));
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null when called from isXxxEnabled(): that is not an event, don't spend budget on it
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        String prefix = matchingPrefix(logger.getName());
+        if (prefix == null) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.computeIfAbsent(logger.getName(), name -> new Window());
+        if (window.tryAcquire(clock.getAsLong() / 1000, maxPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        sampledOut.get(prefix).increment();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * @return events denied so far, per configured logger prefix
+     */
+    public Map<String, LongAdder> getSampledOut() {
+        return Collections.unmodifiableMap(sampledOut);
+    }
+
+    private String matchingPrefix(String loggerName) {
+        for (String prefix : loggers) {
+            if (loggerName.startsWith(prefix)) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fixed one second window. The reset is a best effort CAS: a few extra events may pass
+     * at the second boundary, which is fine for log sampling.
+     */
+    private static final class Window {
+
+        private final AtomicLong second = new AtomicLong(-1);
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now, int limit) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.btoapanta.account.service.infrastructure.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.reactive.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+
+/**
+ * Adds the OpenAPI operation (the method name of the generated AccountsApi / MovementsApi
+ * interface) as a low cardinality tag of http.server.requests, so latency histograms can be
+ * read per endpoint without parsing uri templates.
+ */
+@Component
+public class ApiOperationObservationConvention extends DefaultServerRequestObservationConvention {
+
+    private static final String OPERATION_TAG = "operation";
+    private static final KeyValue OPERATION_NONE = KeyValue.of(OPERATION_TAG, "none");
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(operation(context));
+    }
+
+    private KeyValue operation(ServerRequestObservationContext context) {
+        Object handler = context.getAttributes().get(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return KeyValue.of(OPERATION_TAG, handlerMethod.getMethod().getName());
+        }
+        return OPERATION_NONE;
+    }
+}
@@ -0,0 +1,63 @@
+package com.btoapanta.account.service.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Supplier;
+
+/**
+ * Exposes the state of the boundedElastic scheduler, where every blocking JPA call of the
+ * persistence adapters runs. Reactor reports it through {@link Scannable}: the scheduler
+ * itself knows its active workers and maximum threads, and each worker knows its pending tasks.
+ *
+ * <p>{@link Schedulers#boundedElastic()} hands out a cached wrapper that has no workers of its
+ * own, so the scheduler it wraps is scanned, looked up at every reading in case it was replaced.
+ */
+@Component
+public class BoundedElasticSchedulerMetrics implements MeterBinder {
+
+    private static final String SCHEDULER_TAG = "scheduler";
+    private static final String SCHEDULER_NAME = "boundedElastic";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("reactor.scheduler.workers.active", () -> intAttr(scheduler(), Scannable.Attr.BUFFERED))
+                .description("Workers currently allocated by the scheduler")
+                .tag(SCHEDULER_TAG, SCHEDULER_NAME)
+                .register(registry);
+
+        Gauge.builder("reactor.scheduler.workers.max", () -> intAttr(scheduler(), Scannable.Attr.CAPACITY))
+                .description("Maximum number of workers the scheduler can allocate")
+                .tag(SCHEDULER_TAG, SCHEDULER_NAME)
+                .register(registry);
+
+        Gauge.builder("reactor.scheduler.tasks.queued", () -> queuedTasks(scheduler()))
+                .description("Tasks waiting in the worker queues for a thread")
+                .tag(SCHEDULER_TAG, SCHEDULER_NAME)
+                .register(registry);
+    }
+
+    private static Scannable scheduler() {
+        Scheduler scheduler = Schedulers.boundedElastic();
+        if (scheduler instanceof Supplier<?> cached && cached.get() instanceof Scheduler wrapped) {
+            scheduler = wrapped;
+        }
+        return Scannable.from(scheduler);
+    }
+
+    private static double queuedTasks(Scannable scheduler) {
+        return scheduler.inners()
+                .mapToDouble(worker -> intAttr(worker, Scannable.Attr.BUFFERED))
+                .sum();
+    }
+
+    private static double intAttr(Scannable scannable, Scannable.Attr<Integer> attr) {
+        Integer value = scannable.scan(attr);
+        return value != null ? value : 0;
+    }
+}
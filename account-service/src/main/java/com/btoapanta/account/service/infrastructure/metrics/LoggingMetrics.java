@@ -0,0 +1,70 @@
+package com.btoapanta.account.service.infrastructure.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.btoapanta.account.service.infrastructure.logging.CountingAsyncAppender;
+import com.btoapanta.account.service.infrastructure.logging.SamplingTurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes what the logging pipeline throws away: events dropped by the async appenders
+ * configured in logback-spring.xml, and events denied by the sampling turbo filter.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    private static final String APPENDER_TAG = "appender";
+    private static final String REASON_TAG = "reason";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+
+        Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof CountingAsyncAppender appender) {
+                bindAppender(registry, appender);
+            }
+        }
+
+        context.getTurboFilterList().stream()
+                .filter(SamplingTurboFilter.class::isInstance)
+                .map(SamplingTurboFilter.class::cast)
+                .forEach(filter -> filter.getSampledOut().forEach((prefix, count) ->
+                        FunctionCounter.builder("logging.events.sampled", count, LongAdder::sum)
+                                .description("Log events denied by the per-logger rate limit")
+                                .tag("logger", prefix)
+                                .register(registry)));
+    }
+
+    private void bindAppender(MeterRegistry registry, CountingAsyncAppender appender) {
+        FunctionCounter.builder("logging.events.dropped", appender, CountingAsyncAppender::getDiscardedCount)
+                .description("Log events dropped by an async appender")
+                .tag(APPENDER_TAG, appender.getName())
+                .tag(REASON_TAG, "discarded")
+                .register(registry);
+
+        FunctionCounter.builder("logging.events.dropped", appender, CountingAsyncAppender::getQueueFullCount)
+                .description("Log events dropped by an async appender")
+                .tag(APPENDER_TAG, appender.getName())
+                .tag(REASON_TAG, "queue_full")
+                .register(registry);
+
+        Gauge.builder("logging.async.queue.size", appender, CountingAsyncAppender::getNumberOfElementsInQueue)
+                .description("Log events waiting to be written")
+                .tag(APPENDER_TAG, appender.getName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,61 @@
+package com.btoapanta.account.service.infrastructure.metrics;
+
+import com.btoapanta.account.service.application.port.output.PostingMetricsPort;
+import com.btoapanta.account.service.domain.enums.MovementType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counters and timers for movement postings, tagged by movement type and outcome.
+ * Outcome is "success", or the simple class name of the exception that rejected the posting.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostingMetrics implements PostingMetricsPort {
+
+    private static final String POSTINGS = "account.movements.postings";
+    private static final String POSTING_DURATION = "account.movements.posting.duration";
+    private static final String SUCCESS = "success";
+    private static final String UNKNOWN_TYPE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public long start() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void recordSuccess(MovementType movementType, long startNanos) {
+        record(movementType, SUCCESS, startNanos);
+    }
+
+    @Override
+    public void recordFailure(MovementType movementType, Throwable error, long startNanos) {
+        record(movementType, error.getClass().getSimpleName(), startNanos);
+    }
+
+    private void record(MovementType movementType, String outcome, long startNanos) {
+        String type = movementType != null ? movementType.name() : UNKNOWN_TYPE;
+
+        Counter.builder(POSTINGS)
+                .description("Movement postings by type and outcome")
+                .tag("movement_type", type)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+
+        Timer.builder(POSTING_DURATION)
+                .description("Time taken to validate and persist a movement")
+                .tag("movement_type", type)
+                .tag("outcome", SUCCESS.equals(outcome) ? SUCCESS : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,75 @@
+package com.btoapanta.account.service.infrastructure.metrics;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.reconciliation.BalanceMismatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress and throughput of the balance reconciliation. Throughput is the rate of
+ * account.reconciliation.accounts; progress is checked over total accounts of the current run.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReconciliationMetrics {
+
+    private static final String ACCOUNTS = "account.reconciliation.accounts";
+    private static final String MISMATCHES = "account.reconciliation.mismatches";
+    private static final String CHUNK_DURATION = "account.reconciliation.chunk.duration";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong checked = new AtomicLong();
+    private final AtomicLong running = new AtomicLong();
+
+    public void start(long accountsTotal) {
+        total.set(accountsTotal);
+        checked.set(0);
+        running.set(1);
+
+        Gauge.builder("account.reconciliation.progress", this, ReconciliationMetrics::progress)
+                .description("Share of the accounts checked by the current or last reconciliation")
+                .register(meterRegistry);
+        Gauge.builder("account.reconciliation.running", running, AtomicLong::get)
+                .description("1 while a reconciliation runs on this instance")
+                .register(meterRegistry);
+    }
+
+    public void recordChunk(int accounts, long startNanos) {
+        checked.addAndGet(accounts);
+
+        Counter.builder(ACCOUNTS)
+                .description("Accounts checked against their movement ledger")
+                .register(meterRegistry)
+                .increment(accounts);
+
+        Timer.builder(CHUNK_DURATION)
+                .description("Time taken to verify one chunk of accounts")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordMismatch(BalanceMismatch.Kind kind) {
+        Counter.builder(MISMATCHES)
+                .description("Accounts disagreeing with their movement ledger, by kind")
+                .tag("kind", kind.name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void finish() {
+        running.set(0);
+    }
+
+    private double progress() {
+        long accounts = total.get();
+        return accounts > 0 ? Math.min(1.0, (double) checked.get() / accounts) : 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.btoapanta.account.service.infrastructure.replica;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code replicas.*}: the read replicas of the primary in {@code spring.datasource}, and how stale
+ * a replica may be for the reads sent to it. {@code lag-query} returns the lag in milliseconds;
+ * the default one is PostgreSQL's, 0 once a standby has replayed all it received.
+ */
+@Data
+@ConfigurationProperties(prefix = "replicas")
+public class ReplicaProperties {
+
+    static final String POSTGRESQL_LAG_QUERY = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                   ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END""";
+
+    private boolean enabled;
+    // Counts the time since the last probe, so it has to be longer than the probe interval
+    private Duration maxLag = Duration.ofSeconds(2);
+    private String lagQuery = POSTGRESQL_LAG_QUERY;
+    private String clientHeader = "X-API-Key";
+    private Map<String, Instance> instances = new LinkedHashMap<>();
+
+    @Data
+    public static class Instance {
+
+        private String url;
+        // Those of the primary when not set
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
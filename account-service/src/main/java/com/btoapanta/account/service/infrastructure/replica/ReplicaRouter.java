@@ -0,0 +1,162 @@
+package com.btoapanta.account.service.infrastructure.replica;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides which replica, if any, may serve the reads of a request.
+ *
+ * <p>Each replica is probed on an interval with the lag query, and is known to hold everything
+ * the primary committed up to the probe time less its lag. A replica may serve a read when that
+ * point is no older than {@code maxLag}, and, for a caller that has written, no earlier than the
+ * end of the caller's last write: read-your-writes. Otherwise the read goes to the primary, as it
+ * does for every replica when a probe fails. Replicas that qualify take turns.
+ *
+ * <p>A caller's last write only matters while it is within {@code maxLag}: a replica that
+ * qualifies at all has caught up with anything older. Older writes are forgotten on each probe.
+ * They are kept per instance, so a caller balanced to another instance right after a write may
+ * not see it there for up to {@code maxLag}.
+ */
+@Slf4j
+public class ReplicaRouter implements MeterBinder, Closeable {
+
+    private static final String TARGET_TAG = "target";
+    private static final String PRIMARY = "primary";
+    private static final long UNKNOWN = Long.MIN_VALUE;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final String lagQuery;
+    private final ConcurrentHashMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryReads = new LongAdder();
+
+    public ReplicaRouter(Map<String, DataSource> replicas, Duration maxLag, String lagQuery) {
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagQuery = lagQuery;
+    }
+
+    /**
+     * @return the replica the caller's reads may go to, or {@code null} for the primary
+     */
+    public String select(String client, long nowMillis) {
+        Long lastWrite = client != null ? lastWrites.get(client) : null;
+        int start = next.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            long appliedUpTo = replica.appliedUpTo;
+            if (appliedUpTo != UNKNOWN && nowMillis - appliedUpTo <= maxLagMillis
+                    && (lastWrite == null || appliedUpTo >= lastWrite)) {
+                replica.reads.increment();
+                return replica.name;
+            }
+        }
+        primaryReads.increment();
+        return null;
+    }
+
+    public void recordWrite(String client, long nowMillis) {
+        if (client != null) {
+            lastWrites.merge(client, nowMillis, Math::max);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${replicas.probe-interval:500ms}")
+    public void probe() {
+        probe(System.currentTimeMillis());
+    }
+
+    public void probe(long nowMillis) {
+        for (Replica replica : replicas) {
+            try {
+                Number lag = replica.jdbcTemplate.queryForObject(lagQuery, Number.class);
+                replica.lagMillis = lag != null ? Math.max(0, lag.longValue()) : -1;
+            } catch (DataAccessException e) {
+                log.warn("Lag probe of replica {} failed, its reads go to the primary: {}", replica.name, e.getMessage());
+                replica.lagMillis = -1;
+            }
+            replica.appliedUpTo = replica.lagMillis >= 0 ? nowMillis - replica.lagMillis : UNKNOWN;
+        }
+        lastWrites.values().removeIf(lastWrite -> nowMillis - lastWrite > maxLagMillis);
+    }
+
+    public Map<String, DataSource> getDataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.name, replica.jdbcTemplate.getDataSource()));
+        return dataSources;
+    }
+
+    public int getClientsWithWrites() {
+        return lastWrites.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource dataSource : getDataSources().values()) {
+            if (dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        replicas.forEach(replica -> {
+            TimeGauge.builder("db.replica.lag", replica, TimeUnit.MILLISECONDS,
+                            r -> r.lagMillis >= 0 ? r.lagMillis : Double.NaN)
+                    .description("Replication lag of the replica at its last probe, NaN when the probe failed")
+                    .tag("replica", replica.name)
+                    .register(registry);
+
+            FunctionCounter.builder("db.replica.reads", replica.reads, LongAdder::sum)
+                    .description("Requests whose reads were sent to the target")
+                    .tag(TARGET_TAG, replica.name)
+                    .register(registry);
+        });
+
+        FunctionCounter.builder("db.replica.reads", primaryReads, LongAdder::sum)
+                .description("Requests whose reads were sent to the target")
+                .tag(TARGET_TAG, PRIMARY)
+                .register(registry);
+
+        Gauge.builder("db.replica.recent.writers", this, ReplicaRouter::getClientsWithWrites)
+                .description("Callers whose write within the max lag may keep their reads on the primary")
+                .register(registry);
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final JdbcTemplate jdbcTemplate;
+        private final LongAdder reads = new LongAdder();
+        // Until the first probe nothing is known about the replica, so it serves no reads
+        private volatile long lagMillis = -1;
+        private volatile long appliedUpTo = UNKNOWN;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.btoapanta.account.service.infrastructure.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * The primary pool, plus a pool per read replica. Connections come from the primary unless they
+ * are taken inside {@link #callOn(String, Callable)}, which is how {@link Replicas#fromCallable}
+ * runs a read on the replica the request was given: the choice is held by the thread running the
+ * blocking task, for the length of the task.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<String> REPLICA = new ThreadLocal<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        setDefaultTargetDataSource(primary);
+        setTargetDataSources(new HashMap<>(replicas));
+        // A replica name that is not configured is a bug, not a reason to read from the primary
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    static <T> T callOn(String replica, Callable<T> callable) throws Exception {
+        String previous = REPLICA.get();
+        REPLICA.set(replica);
+        try {
+            return callable.call();
+        } finally {
+            if (previous == null) {
+                REPLICA.remove();
+            } else {
+                REPLICA.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return REPLICA.get();
+    }
+}
@@ -0,0 +1,67 @@
+package com.btoapanta.account.service.infrastructure.replica;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Set;
+
+/**
+ * Picks the replica for the reads of each GET and HEAD with the {@link ReplicaRouter} and puts it
+ * in the Reactor context, where {@link Replicas#fromCallable} finds it. Any other request that
+ * may change data is recorded as a write of its caller once it ends, committed or not.
+ *
+ * <p>Callers are told apart like in the rate limits: by their API key header, or by their address
+ * when they send none.
+ */
+public class ReplicaRoutingFilter implements WebFilter, Ordered {
+
+    private static final Set<HttpMethod> READS = Set.of(HttpMethod.GET, HttpMethod.HEAD);
+    private static final Set<HttpMethod> NEITHER = Set.of(HttpMethod.OPTIONS, HttpMethod.TRACE);
+
+    private final ReplicaRouter router;
+    private final String clientHeader;
+
+    public ReplicaRoutingFilter(ReplicaRouter router, String clientHeader) {
+        this.router = router;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpMethod method = request.getMethod();
+        if (NEITHER.contains(method)) {
+            return chain.filter(exchange);
+        }
+        String client = clientOf(request);
+        if (!READS.contains(method)) {
+            return chain.filter(exchange).doFinally(signal -> router.recordWrite(client, System.currentTimeMillis()));
+        }
+        String replica = router.select(client, System.currentTimeMillis());
+        if (replica == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange).contextWrite(context -> context.put(Replicas.CONTEXT_KEY, replica));
+    }
+
+    private String clientOf(ServerHttpRequest request) {
+        String apiKey = request.getHeaders().getFirst(clientHeader);
+        if (apiKey != null && !apiKey.isBlank()) {
+            return apiKey;
+        }
+        InetSocketAddress address = request.getRemoteAddress();
+        return address != null && address.getAddress() != null ? address.getAddress().getHostAddress() : null;
+    }
+
+    // After the deadline, so requests turned away there are neither routed nor recorded
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 20;
+    }
+}
@@ -0,0 +1,34 @@
+package com.btoapanta.account.service.infrastructure.replica;
+
+import com.btoapanta.account.service.infrastructure.deadline.Deadlines;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Entry point of the read paths that may be served by a replica.
+ */
+public final class Replicas {
+
+    // Name of the replica the ReplicaRoutingFilter picked for the request
+    static final String CONTEXT_KEY = Replicas.class.getName() + ".replica";
+
+    private Replicas() {
+    }
+
+    /**
+     * Like {@link Deadlines#fromCallable(Callable)}, but the callable's connections come from the
+     * replica picked for the request, when there is one in the Reactor context. Without one (writes,
+     * a lagging or unreachable replica, a caller that has just written, routing switched off) they
+     * come from the primary. Only for callables that read.
+     */
+    public static <T> Mono<T> fromCallable(Callable<T> callable) {
+        return Mono.deferContextual(context -> {
+            String replica = context.getOrDefault(CONTEXT_KEY, null);
+            if (replica == null) {
+                return Deadlines.fromCallable(callable);
+            }
+            return Deadlines.fromCallable(() -> ReplicaRoutingDataSource.callOn(replica, callable));
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.btoapanta.account.service.infrastructure.sql;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Comparator;
+
+/**
+ * One row of the sqlstats endpoint.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class SqlStatementSummary {
+
+    private String sql;
+    private long count;
+    private double totalMs;
+    private double meanMs;
+    private double maxMs;
+    private long rows;
+
+    public enum Order {
+        TOTAL(Comparator.comparingDouble(SqlStatementSummary::getTotalMs)),
+        MEAN(Comparator.comparingDouble(SqlStatementSummary::getMeanMs)),
+        MAX(Comparator.comparingDouble(SqlStatementSummary::getMaxMs)),
+        COUNT(Comparator.comparingLong(SqlStatementSummary::getCount)),
+        ROWS(Comparator.comparingLong(SqlStatementSummary::getRows));
+
+        private final Comparator<SqlStatementSummary> comparator;
+
+        Order(Comparator<SqlStatementSummary> comparator) {
+            this.comparator = comparator;
+        }
+
+        Comparator<SqlStatementSummary> comparator() {
+            return comparator;
+        }
+    }
+}
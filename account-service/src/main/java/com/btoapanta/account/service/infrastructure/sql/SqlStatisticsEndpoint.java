@@ -0,0 +1,51 @@
+package com.btoapanta.account.service.infrastructure.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * {@code GET /actuator/sqlstats?limit=20&orderBy=total|mean|max|count|rows} lists the heaviest
+ * statement shapes; {@code DELETE /actuator/sqlstats} starts a new measurement window. An unknown
+ * {@code orderBy} is a 400 that lists the allowed orders.
+ */
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatisticsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SqlStatistics sqlStatistics;
+
+    @ReadOperation
+    public List<SqlStatementSummary> top(@Nullable Integer limit, @Nullable String orderBy) {
+        SqlStatementSummary.Order order = orderBy != null ? orderOf(orderBy) : SqlStatementSummary.Order.TOTAL;
+        return sqlStatistics.top(limit != null ? limit : DEFAULT_LIMIT, order);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlStatistics.reset();
+    }
+
+    private static SqlStatementSummary.Order orderOf(String orderBy) {
+        return Arrays.stream(SqlStatementSummary.Order.values())
+                .filter(order -> order.name().equals(orderBy.toUpperCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> {
+                    String allowed = Arrays.stream(SqlStatementSummary.Order.values())
+                            .map(order -> order.name().toLowerCase(Locale.ROOT))
+                            .collect(Collectors.joining(", "));
+                    return new InvalidEndpointRequestException("Unknown orderBy '" + orderBy + "', expected one of: " + allowed,
+                            "orderBy must be one of: " + allowed);
+                });
+    }
+}
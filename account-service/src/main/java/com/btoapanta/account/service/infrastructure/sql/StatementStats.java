@@ -0,0 +1,43 @@
+package com.btoapanta.account.service.infrastructure.sql;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals of one statement shape. Updated concurrently by every connection that runs it.
+ */
+public class StatementStats {
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LongAdder rows = new LongAdder();
+
+    void recordExecution(long elapsedNanos) {
+        executions.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    public void addRows(long count) {
+        rows.add(count);
+    }
+
+    SqlStatementSummary summary(String sql) {
+        long count = executions.sum();
+        double totalMs = toMillis(totalNanos.sum());
+        return SqlStatementSummary.builder()
+                .sql(sql)
+                .count(count)
+                .totalMs(totalMs)
+                .meanMs(count > 0 ? totalMs / count : 0)
+                .maxMs(toMillis(maxNanos.get()))
+                .rows(rows.sum())
+                .build();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.btoapanta.account.service.infrastructure.tracing;
+
+import io.micrometer.tracing.handler.TracingObservationHandler;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.UUID;
+
+/**
+ * Resolves the W3C trace id of the request being handled, in the UUID shape used by ErrorResponse.traceId.
+ */
+public final class TraceIds {
+
+    private static final int TRACE_ID_LENGTH = 32;
+
+    private TraceIds() {
+    }
+
+    /**
+     * @return the current trace id (32 hex chars, read as the 128 bits of a UUID),
+     * or a random UUID when the request is not traced
+     */
+    public static UUID fromExchange(ServerWebExchange exchange) {
+        return ServerRequestObservationContext.findCurrent(exchange.getAttributes())
+                .map(context -> context.<TracingObservationHandler.TracingContext>get(TracingObservationHandler.TracingContext.class))
+                .map(TracingObservationHandler.TracingContext::getSpan)
+                .map(span -> toUuid(span.context().traceId()))
+                .orElseGet(UUID::randomUUID);
+    }
+
+    static UUID toUuid(String traceId) {
+        if (traceId == null || traceId.length() != TRACE_ID_LENGTH) {
+            return UUID.randomUUID();
+        }
+        long mostSignificant = Long.parseUnsignedLong(traceId.substring(0, 16), 16);
+        long leastSignificant = Long.parseUnsignedLong(traceId.substring(16), 16);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
@@ -0,0 +1,14 @@
+-- Sends every outbox event on the movement_posted channel. PostgreSQL delivers it when the
+-- transaction commits, in commit order, to every instance listening (MovementNotificationListener),
+-- so the live feed of each instance sees the movements posted on all of them. Rolled back
+-- events are never sent.
+CREATE FUNCTION notify_movement_posted() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('movement_posted', NEW.payload::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_movement_outbox_notify
+    AFTER INSERT ON movement_outbox
+    FOR EACH ROW EXECUTE FUNCTION notify_movement_posted();
@@ -0,0 +1,22 @@
+-- V10 sent every outbox event, interest credits included, to every instance: each posting took
+-- the lock that orders notifications at commit, and every instance read every movement. An
+-- instance now watches the accounts it streams (MovementWatches), and a movement is sent only to
+-- the instances watching its account, on the channel of each. A posting to an account nobody
+-- streams sends nothing.
+CREATE TABLE movement_stream_watches (
+    account_id   UUID         NOT NULL,
+    instance_id  VARCHAR(32)  NOT NULL,
+    refreshed_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_movement_stream_watches PRIMARY KEY (account_id, instance_id)
+);
+
+CREATE OR REPLACE FUNCTION notify_movement_posted() RETURNS trigger AS $$
+DECLARE
+    watcher RECORD;
+BEGIN
+    FOR watcher IN SELECT instance_id FROM movement_stream_watches WHERE account_id = NEW.account_id LOOP
+        PERFORM pg_notify('movement_posted_' || watcher.instance_id, NEW.payload::text);
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,29 @@
+-- Schema as previously generated by Hibernate (ddl-auto: update).
+-- Databases created that way are baselined at version 1 and start at V2.
+
+CREATE TABLE accounts (
+    id             UUID           NOT NULL,
+    account_number BIGINT         NOT NULL,
+    customer_id    UUID           NOT NULL,
+    customer_name  VARCHAR(255)   NOT NULL,
+    account_type   VARCHAR(255)   NOT NULL,
+    balance        NUMERIC(19, 2) NOT NULL,
+    state          BOOLEAN        NOT NULL,
+    CONSTRAINT pk_accounts PRIMARY KEY (id),
+    CONSTRAINT uk_accounts_account_number UNIQUE (account_number),
+    CONSTRAINT ck_accounts_account_number CHECK (account_number BETWEEN 100000 AND 9999999999),
+    CONSTRAINT ck_accounts_account_type CHECK (account_type IN ('SAVINGS', 'CURRENT'))
+);
+
+CREATE TABLE movements (
+    id             UUID           NOT NULL,
+    account_id     UUID           NOT NULL,
+    movement_type  VARCHAR(255)   NOT NULL,
+    amount         NUMERIC(19, 2) NOT NULL,
+    balance_before NUMERIC(19, 2) NOT NULL,
+    balance_after  NUMERIC(19, 2) NOT NULL,
+    created_date   TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_movements PRIMARY KEY (id),
+    CONSTRAINT fk_movements_account FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT ck_movements_movement_type CHECK (movement_type IN ('CREDIT', 'DEBIT'))
+);
@@ -0,0 +1,10 @@
+-- Movements of an account in date order (GET /movements, statements, date-bounded queries).
+-- Also serves the foreign key, which had no index.
+CREATE INDEX idx_movements_account_created ON movements (account_id, created_date);
+
+-- GET /accounts?customerId=&accountType=. customer_id leads, so customerId alone uses it too.
+CREATE INDEX idx_accounts_customer_type ON accounts (customer_id, account_type);
+
+-- Deleting an account only sets state = false; lookups of a customer's open accounts
+-- skip the closed ones without reading them.
+CREATE INDEX idx_accounts_customer_active ON accounts (customer_id) WHERE state;
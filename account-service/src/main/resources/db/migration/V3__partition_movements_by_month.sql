@@ -0,0 +1,53 @@
+-- movements becomes a table partitioned by month of created_date (movements_pYYYYMM).
+-- Queries bounded by date only read the months they cover, and old months are retired
+-- by detaching or dropping their partition instead of DELETE.
+-- The primary key of a partitioned table must include the partition key, hence (id, created_date).
+-- There is no default partition: MovementPartitionMaintenance keeps the coming months created.
+
+ALTER TABLE movements RENAME TO movements_unpartitioned;
+-- pk_movements in databases created by V1, movements_pkey in the ones Hibernate created
+DO $$
+BEGIN
+    EXECUTE format('ALTER INDEX %I RENAME TO pk_movements_unpartitioned',
+                   (SELECT conname FROM pg_constraint
+                    WHERE conrelid = 'movements_unpartitioned'::regclass AND contype = 'p'));
+END $$;
+ALTER INDEX idx_movements_account_created RENAME TO idx_movements_unpartitioned_account_created;
+
+CREATE TABLE movements (
+    id             UUID           NOT NULL,
+    account_id     UUID           NOT NULL,
+    movement_type  VARCHAR(255)   NOT NULL,
+    amount         NUMERIC(19, 2) NOT NULL,
+    balance_before NUMERIC(19, 2) NOT NULL,
+    balance_after  NUMERIC(19, 2) NOT NULL,
+    created_date   TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_movements PRIMARY KEY (id, created_date),
+    CONSTRAINT fk_movements_account FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT ck_movements_movement_type CHECK (movement_type IN ('CREDIT', 'DEBIT'))
+) PARTITION BY RANGE (created_date);
+
+-- Created on every partition, present and future
+CREATE INDEX idx_movements_account_created ON movements (account_id, created_date);
+
+-- One partition per month from the oldest movement up to three months ahead
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR month IN
+        SELECT generate_series(
+                       date_trunc('month', LEAST((SELECT min(created_date) FROM movements_unpartitioned), localtimestamp)),
+                       date_trunc('month', localtimestamp) + INTERVAL '3 months',
+                       INTERVAL '1 month')::date
+    LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF movements FOR VALUES FROM (%L) TO (%L)',
+                       'movements_p' || to_char(month, 'YYYYMM'), month, (month + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+
+INSERT INTO movements (id, account_id, movement_type, amount, balance_before, balance_after, created_date)
+SELECT id, account_id, movement_type, amount, balance_before, balance_after, created_date
+FROM movements_unpartitioned;
+
+DROP TABLE movements_unpartitioned;
@@ -0,0 +1,70 @@
+-- One row per account and day with movements: balance at the first and last movement of the day
+-- and the day's totals per movement type. Statements read the days of their period plus at most
+-- two rows around it, instead of every movement since the account was opened.
+
+CREATE TABLE account_daily_balances (
+    account_id        UUID           NOT NULL,
+    balance_date      DATE           NOT NULL,
+    opening_balance   NUMERIC(19, 2) NOT NULL,
+    closing_balance   NUMERIC(19, 2) NOT NULL,
+    total_credits     NUMERIC(19, 2) NOT NULL,
+    total_debits      NUMERIC(19, 2) NOT NULL,
+    credit_count      INTEGER        NOT NULL,
+    debit_count       INTEGER        NOT NULL,
+    first_movement_at TIMESTAMP(6)   NOT NULL,
+    last_movement_at  TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_account_daily_balances PRIMARY KEY (account_id, balance_date),
+    CONSTRAINT fk_account_daily_balances_account FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
+
+INSERT INTO account_daily_balances
+SELECT account_id,
+       created_date::date,
+       (array_agg(balance_before ORDER BY created_date))[1],
+       (array_agg(balance_after ORDER BY created_date DESC))[1],
+       coalesce(sum(amount) FILTER (WHERE movement_type = 'CREDIT'), 0),
+       coalesce(sum(amount) FILTER (WHERE movement_type = 'DEBIT'), 0),
+       count(*) FILTER (WHERE movement_type = 'CREDIT'),
+       count(*) FILTER (WHERE movement_type = 'DEBIT'),
+       min(created_date),
+       max(created_date)
+FROM movements
+GROUP BY account_id, created_date::date;
+
+-- Kept up to date by the insert of every movement, in the same transaction. Movements are
+-- never updated or deleted; retiring a month drops its partition, which leaves its days here.
+CREATE FUNCTION record_daily_balance() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    INSERT INTO account_daily_balances AS d
+    VALUES (NEW.account_id,
+            NEW.created_date::date,
+            NEW.balance_before,
+            NEW.balance_after,
+            CASE WHEN NEW.movement_type = 'CREDIT' THEN NEW.amount ELSE 0 END,
+            CASE WHEN NEW.movement_type = 'DEBIT' THEN NEW.amount ELSE 0 END,
+            CASE WHEN NEW.movement_type = 'CREDIT' THEN 1 ELSE 0 END,
+            CASE WHEN NEW.movement_type = 'DEBIT' THEN 1 ELSE 0 END,
+            NEW.created_date,
+            NEW.created_date)
+    ON CONFLICT (account_id, balance_date) DO UPDATE SET
+        opening_balance   = CASE WHEN EXCLUDED.first_movement_at < d.first_movement_at
+                                 THEN EXCLUDED.opening_balance ELSE d.opening_balance END,
+        closing_balance   = CASE WHEN EXCLUDED.last_movement_at >= d.last_movement_at
+                                 THEN EXCLUDED.closing_balance ELSE d.closing_balance END,
+        total_credits     = d.total_credits + EXCLUDED.total_credits,
+        total_debits      = d.total_debits + EXCLUDED.total_debits,
+        credit_count      = d.credit_count + EXCLUDED.credit_count,
+        debit_count       = d.debit_count + EXCLUDED.debit_count,
+        first_movement_at = LEAST(d.first_movement_at, EXCLUDED.first_movement_at),
+        last_movement_at  = GREATEST(d.last_movement_at, EXCLUDED.last_movement_at);
+    RETURN NULL;
+END
+$$;
+
+-- Declared on the partitioned table, so every partition, present and future, gets it
+CREATE TRIGGER trg_movements_daily_balance
+    AFTER INSERT ON movements
+    FOR EACH ROW
+EXECUTE FUNCTION record_daily_balance();
@@ -0,0 +1,27 @@
+-- Daily interest of SAVINGS accounts (InterestAccrualBatch).
+
+-- One row per account and accrual date, written with its CREDIT movement in the same transaction.
+-- Accounts already accrued for the date are skipped, so a repeated or resumed run credits nothing twice.
+CREATE TABLE interest_accruals (
+    account_id   UUID           NOT NULL,
+    accrual_date DATE           NOT NULL,
+    movement_id  UUID           NOT NULL,
+    amount       NUMERIC(19, 2) NOT NULL,
+    CONSTRAINT pk_interest_accruals PRIMARY KEY (account_id, accrual_date),
+    CONSTRAINT fk_interest_accruals_account FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
+
+-- One row per accrual date: the last account of the chunks committed in order, so an interrupted
+-- run resumes after it instead of from the first account.
+CREATE TABLE interest_accrual_runs (
+    accrual_date      DATE           NOT NULL,
+    last_account_id   UUID,
+    accounts_credited BIGINT         NOT NULL DEFAULT 0,
+    total_interest    NUMERIC(19, 2) NOT NULL DEFAULT 0,
+    started_at        TIMESTAMP(6)   NOT NULL,
+    completed_at      TIMESTAMP(6),
+    CONSTRAINT pk_interest_accrual_runs PRIMARY KEY (accrual_date)
+);
+
+-- Active SAVINGS accounts in id order: chunk boundaries and chunk reads are index range scans
+CREATE INDEX idx_accounts_savings_active ON accounts (id) WHERE state AND account_type = 'SAVINGS';
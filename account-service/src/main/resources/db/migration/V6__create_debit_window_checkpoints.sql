@@ -0,0 +1,21 @@
+-- Checkpoint of the in-memory debit windows (DebitLimitAdapter): the debited amount per account
+-- and bucket, slot being epoch millis / bucket_millis. Replaced as a whole on every checkpoint.
+CREATE TABLE debit_window_buckets (
+    account_id    UUID           NOT NULL,
+    bucket_millis BIGINT         NOT NULL,
+    slot          BIGINT         NOT NULL,
+    amount        NUMERIC(19, 2) NOT NULL,
+    CONSTRAINT pk_debit_window_buckets PRIMARY KEY (account_id, bucket_millis, slot)
+);
+
+-- Single row: when the buckets were taken. Startup replays the debits created after it.
+CREATE TABLE debit_window_checkpoints (
+    id              SMALLINT     NOT NULL,
+    checkpointed_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_debit_window_checkpoints PRIMARY KEY (id),
+    CONSTRAINT ck_debit_window_checkpoints_single CHECK (id = 1)
+);
+
+-- Replaying the debits since a checkpoint reads the recent end of the current partitions. Rows are
+-- inserted in created_date order, so a BRIN index finds that end from a few summary pages.
+CREATE INDEX idx_movements_created_brin ON movements USING brin (created_date);
@@ -0,0 +1,15 @@
+-- MovementPosted events, inserted in the transaction of their movement and deleted once the
+-- relay has delivered them to every sink. Failed deliveries are retried from next_attempt_at.
+-- The relay walks the primary key in insertion order; the table only holds undelivered events.
+CREATE TABLE movement_outbox (
+    id              BIGINT GENERATED ALWAYS AS IDENTITY,
+    event_id        UUID          NOT NULL,
+    account_id      UUID          NOT NULL,
+    event_type      VARCHAR(64)   NOT NULL,
+    payload         JSONB         NOT NULL,
+    created_at      TIMESTAMP(6)  NOT NULL,
+    attempts        INTEGER       NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    last_error      VARCHAR(1000),
+    CONSTRAINT pk_movement_outbox PRIMARY KEY (id)
+);
@@ -0,0 +1,3 @@
+-- Optimistic locking and ETags of accounts (AccountEntity.version).
+-- Every JPA update increments it; JDBC writers of accounts must increment it too.
+ALTER TABLE accounts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
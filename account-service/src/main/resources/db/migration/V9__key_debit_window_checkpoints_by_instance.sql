@@ -0,0 +1,16 @@
+-- Every instance replaced the single shared checkpoint with its own windows, so instances undid
+-- each other's checkpoints. The checkpoint is now kept per instance. The shared rows are dropped:
+-- each instance replays the debits of the last day at its next startup.
+DELETE FROM debit_window_buckets;
+DELETE FROM debit_window_checkpoints;
+
+ALTER TABLE debit_window_buckets DROP CONSTRAINT pk_debit_window_buckets;
+ALTER TABLE debit_window_buckets ADD COLUMN instance_id VARCHAR(100) NOT NULL;
+ALTER TABLE debit_window_buckets
+    ADD CONSTRAINT pk_debit_window_buckets PRIMARY KEY (instance_id, account_id, bucket_millis, slot);
+
+ALTER TABLE debit_window_checkpoints DROP CONSTRAINT ck_debit_window_checkpoints_single;
+ALTER TABLE debit_window_checkpoints DROP CONSTRAINT pk_debit_window_checkpoints;
+ALTER TABLE debit_window_checkpoints DROP COLUMN id;
+ALTER TABLE debit_window_checkpoints ADD COLUMN instance_id VARCHAR(100) NOT NULL;
+ALTER TABLE debit_window_checkpoints ADD CONSTRAINT pk_debit_window_checkpoints PRIMARY KEY (instance_id);
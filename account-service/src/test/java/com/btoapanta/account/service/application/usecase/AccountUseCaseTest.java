@@ -0,0 +1,88 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.output.AccountPersistencePort;
+import com.btoapanta.account.service.domain.enums.AccountType;
+import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.rest.CustomerRestClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountUseCase - Unit Tests")
+class AccountUseCaseTest {
+
+    private static final Long ACCOUNT_NUMBER = 478758L;
+
+    @Mock
+    private AccountPersistencePort accountPersistencePort;
+
+    @Mock
+    private CustomerRestClient customerRestClient;
+
+    @InjectMocks
+    private AccountUseCase accountUseCase;
+
+    @Test
+    @DisplayName("Should return the version of the account without loading it")
+    void shouldReturnAccountVersion() {
+        when(accountPersistencePort.getAccountVersion(ACCOUNT_NUMBER)).thenReturn(Mono.just(3L));
+
+        StepVerifier.create(accountUseCase.getAccountVersion(ACCOUNT_NUMBER))
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(accountPersistencePort, never()).getAccountByNumber(any());
+        verify(accountPersistencePort, never()).getAccountByNumber(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return no version for an unknown account, leaving not found to the load")
+    void shouldReturnNoVersionForUnknownAccount() {
+        when(accountPersistencePort.getAccountVersion(ACCOUNT_NUMBER)).thenReturn(Mono.empty());
+
+        StepVerifier.create(accountUseCase.getAccountVersion(ACCOUNT_NUMBER))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should fail with not found when the account to load is unknown")
+    void shouldFailForUnknownAccount() {
+        when(accountPersistencePort.getAccountByNumber(ACCOUNT_NUMBER, null)).thenReturn(Mono.empty());
+
+        StepVerifier.create(accountUseCase.getAccountByNumber(ACCOUNT_NUMBER, null))
+                .expectError(AccountNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should pass on the conflict of an update made against a stale version")
+    void shouldPassOnStaleVersionUpdate() {
+        Account stale = Account.builder()
+                .id(UUID.randomUUID())
+                .accountNumber(ACCOUNT_NUMBER)
+                .accountType(AccountType.SAVINGS)
+                .balance(new BigDecimal("100.00"))
+                .state(false)
+                .version(2L)
+                .build();
+        when(accountPersistencePort.updateAccount(stale))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("version 2 is stale")));
+
+        StepVerifier.create(accountUseCase.updateAccount(stale))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+    }
+}
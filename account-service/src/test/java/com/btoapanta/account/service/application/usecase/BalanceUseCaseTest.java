@@ -0,0 +1,101 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.output.BalanceHistoryPersistencePort;
+import com.btoapanta.account.service.domain.exception.InvalidAccountStateException;
+import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
+import com.btoapanta.account.service.domain.model.BalanceAt;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceUseCase - Unit Tests")
+class BalanceUseCaseTest {
+
+    private static final Long ACCOUNT_NUMBER = 478758L;
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 3, 15, 12, 0);
+
+    @Mock
+    private BalanceHistoryPersistencePort balanceHistoryPersistencePort;
+
+    @InjectMocks
+    private BalanceUseCase balanceUseCase;
+
+    @Test
+    @DisplayName("Should return the balance of the account at the instant")
+    void shouldReturnBalanceAt() {
+        BalanceAt query = BalanceAt.builder().accountNumber(ACCOUNT_NUMBER).at(AT).build();
+        BalanceAt balance = query.toBuilder().balance(new BigDecimal("150.00")).build();
+        when(balanceHistoryPersistencePort.getBalancesAt(List.of(query))).thenReturn(Flux.just(balance));
+
+        StepVerifier.create(balanceUseCase.getBalanceAt(ACCOUNT_NUMBER, AT))
+                .expectNext(balance)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should fail with not found when the account has no balance")
+    void shouldFailForUnknownAccount() {
+        BalanceAt query = BalanceAt.builder().accountNumber(ACCOUNT_NUMBER).at(AT).build();
+        when(balanceHistoryPersistencePort.getBalancesAt(List.of(query))).thenReturn(Flux.just(query));
+
+        StepVerifier.create(balanceUseCase.getBalanceAt(ACCOUNT_NUMBER, AT))
+                .expectError(AccountNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should resolve queries without an instant to one shared now")
+    @SuppressWarnings("unchecked")
+    void shouldResolveMissingInstantToNow() {
+        List<BalanceAt> queries = List.of(
+                BalanceAt.builder().accountNumber(ACCOUNT_NUMBER).build(),
+                BalanceAt.builder().accountNumber(478759L).at(AT).build(),
+                BalanceAt.builder().accountNumber(478760L).build());
+        ArgumentCaptor<List<BalanceAt>> resolved = ArgumentCaptor.forClass(List.class);
+        when(balanceHistoryPersistencePort.getBalancesAt(resolved.capture())).thenReturn(Flux.empty());
+        LocalDateTime before = LocalDateTime.now();
+
+        StepVerifier.create(balanceUseCase.getBalancesAt(queries)).verifyComplete();
+
+        List<BalanceAt> sent = resolved.getValue();
+        assertEquals(List.of(ACCOUNT_NUMBER, 478759L, 478760L), sent.stream().map(BalanceAt::getAccountNumber).toList());
+        assertFalse(sent.get(0).getAt().isBefore(before));
+        assertEquals(AT, sent.get(1).getAt());
+        assertEquals(sent.get(0).getAt(), sent.get(2).getAt());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty batch, a batch over the maximum and a query without account")
+    void shouldRejectInvalidBatches() {
+        List<BalanceAt> tooMany = new ArrayList<>(Collections.nCopies(BalanceUseCase.MAX_BATCH_SIZE + 1,
+                BalanceAt.builder().accountNumber(ACCOUNT_NUMBER).build()));
+
+        StepVerifier.create(balanceUseCase.getBalancesAt(List.of()))
+                .expectError(InvalidAccountStateException.class)
+                .verify();
+        StepVerifier.create(balanceUseCase.getBalancesAt(tooMany))
+                .expectError(InvalidAccountStateException.class)
+                .verify();
+        StepVerifier.create(balanceUseCase.getBalancesAt(List.of(BalanceAt.builder().at(AT).build())))
+                .expectError(InvalidAccountStateException.class)
+                .verify();
+
+        verifyNoInteractions(balanceHistoryPersistencePort);
+    }
+}
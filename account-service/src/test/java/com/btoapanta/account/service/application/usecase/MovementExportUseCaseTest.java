@@ -0,0 +1,86 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.output.AccountPersistencePort;
+import com.btoapanta.account.service.application.port.output.MovementExportPort;
+import com.btoapanta.account.service.domain.exception.InvalidAccountStateException;
+import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
+import com.btoapanta.account.service.domain.model.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MovementExportUseCase - Unit Tests")
+class MovementExportUseCaseTest {
+
+    private static final Long ACCOUNT_NUMBER = 478758L;
+    private static final DataBufferFactory BUFFERS = DefaultDataBufferFactory.sharedInstance;
+
+    @Mock
+    private AccountPersistencePort accountPersistencePort;
+
+    @Mock
+    private MovementExportPort movementExportPort;
+
+    @InjectMocks
+    private MovementExportUseCase movementExportUseCase;
+
+    @Test
+    @DisplayName("Should export the whole days of the period of the account")
+    void shouldExportWholeDays() {
+        UUID accountId = UUID.randomUUID();
+        DataBuffer csv = BUFFERS.wrap("id\r\n".getBytes(StandardCharsets.US_ASCII));
+        when(accountPersistencePort.getAccountByNumber(ACCOUNT_NUMBER, Set.of("id")))
+                .thenReturn(Mono.just(Account.builder().id(accountId).build()));
+        when(movementExportPort.exportMovements(accountId, LocalDateTime.of(2025, 3, 1, 0, 0),
+                LocalDateTime.of(2025, 4, 1, 0, 0), BUFFERS)).thenReturn(Flux.just(csv));
+
+        StepVerifier.create(movementExportUseCase.exportMovements(ACCOUNT_NUMBER,
+                        LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), BUFFERS))
+                .expectNext(csv)
+                .verifyComplete();
+
+        // Never the account with all its movements
+        verify(accountPersistencePort, never()).getAccountByNumber(ACCOUNT_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Should fail with not found before writing anything for an unknown account")
+    void shouldFailForUnknownAccount() {
+        when(accountPersistencePort.getAccountByNumber(ACCOUNT_NUMBER, Set.of("id"))).thenReturn(Mono.empty());
+
+        StepVerifier.create(movementExportUseCase.exportMovements(ACCOUNT_NUMBER, null, null, BUFFERS))
+                .expectError(AccountNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(movementExportPort);
+    }
+
+    @Test
+    @DisplayName("Should reject a period that starts after it ends")
+    void shouldRejectInvertedPeriod() {
+        StepVerifier.create(movementExportUseCase.exportMovements(ACCOUNT_NUMBER,
+                        LocalDate.of(2025, 4, 1), LocalDate.of(2025, 3, 1), BUFFERS))
+                .expectError(InvalidAccountStateException.class)
+                .verify();
+
+        verifyNoInteractions(accountPersistencePort, movementExportPort);
+    }
+}
@@ -0,0 +1,171 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.output.AccountPersistencePort;
+import com.btoapanta.account.service.application.port.output.MovementFeedPort;
+import com.btoapanta.account.service.application.port.output.MovementPersistencePort;
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.domain.model.Movement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MovementStreamUseCase - Unit Tests")
+class MovementStreamUseCaseTest {
+
+    private static final Long ACCOUNT_NUMBER = 478758L;
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+    private static final UUID LAST_MOVEMENT_ID = UUID.randomUUID();
+
+    @Mock
+    private AccountPersistencePort accountPersistencePort;
+
+    @Mock
+    private MovementPersistencePort movementPersistencePort;
+
+    @Mock
+    private MovementFeedPort movementFeedPort;
+
+    @InjectMocks
+    private MovementStreamUseCase movementStreamUseCase;
+
+    // Live movements, held until the stream takes them like the feed holds them for a subscriber
+    private final Sinks.Many<Movement> live = Sinks.many().unicast().onBackpressureBuffer();
+
+    @Test
+    @DisplayName("Should follow the live movements when no movement is resumed after")
+    void shouldFollowLiveMovements() {
+        givenAccount();
+        Movement credit = movement();
+        live.tryEmitNext(credit);
+
+        StepVerifier.create(movementStreamUseCase.streamMovements(ACCOUNT_NUMBER, null)
+                        .flatMapMany(stream -> {
+                            assertFalse(stream.reset());
+                            return stream.movements();
+                        }))
+                .expectNext(credit)
+                .thenCancel()
+                .verify();
+
+        verify(movementPersistencePort, never()).hasLiveMovement(any(), any());
+        // Never the account with all its movements
+        verify(accountPersistencePort, never()).getAccountByNumber(ACCOUNT_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Should replay the missed movements first and send those also live only once")
+    void shouldReplayMissedMovementsOnce() {
+        givenAccount();
+        Movement missed = movement();
+        Movement both = movement();
+        Movement next = movement();
+        when(movementPersistencePort.hasLiveMovement(ACCOUNT_ID, LAST_MOVEMENT_ID)).thenReturn(Mono.just(true));
+        when(movementPersistencePort.getMovementsAfter(ACCOUNT_ID, LAST_MOVEMENT_ID)).thenReturn(Flux.just(missed, both));
+        // Committed while the missed movements were read: found by the replay and by the feed
+        live.tryEmitNext(both);
+        live.tryEmitNext(next);
+
+        StepVerifier.create(movementStreamUseCase.streamMovements(ACCOUNT_NUMBER, LAST_MOVEMENT_ID)
+                        .flatMapMany(stream -> {
+                            assertFalse(stream.reset());
+                            return stream.movements();
+                        }))
+                .expectNext(missed, both, next)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should read the missed movements only once the account is watched")
+    void shouldWatchAccountBeforeReplay() {
+        when(accountPersistencePort.getAccountByNumber(ACCOUNT_NUMBER, Set.of("id")))
+                .thenReturn(Mono.just(Account.builder().id(ACCOUNT_ID).build()));
+        Sinks.Empty<Void> watched = Sinks.empty();
+        when(movementFeedPort.watch(ACCOUNT_ID)).thenReturn(watched.asMono());
+        PublisherProbe<Boolean> known = PublisherProbe.of(Mono.just(true));
+        when(movementPersistencePort.hasLiveMovement(ACCOUNT_ID, LAST_MOVEMENT_ID)).thenReturn(known.mono());
+        PublisherProbe<Movement> missed = PublisherProbe.of(Flux.just(movement()));
+        when(movementPersistencePort.getMovementsAfter(ACCOUNT_ID, LAST_MOVEMENT_ID)).thenReturn(missed.flux());
+        when(movementFeedPort.subscribe(ACCOUNT_ID)).thenReturn(live.asFlux());
+
+        StepVerifier.create(movementStreamUseCase.streamMovements(ACCOUNT_NUMBER, LAST_MOVEMENT_ID)
+                        .flatMapMany(stream -> stream.movements()))
+                .then(() -> {
+                    known.assertWasNotSubscribed();
+                    missed.assertWasNotSubscribed();
+                    watched.tryEmitEmpty();
+                })
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+
+        missed.assertWasSubscribed();
+    }
+
+    @Test
+    @DisplayName("Should reset the stream when the last movement is unknown or archived")
+    void shouldResetWhenLastMovementIsNotLive() {
+        givenAccount();
+        Movement next = movement();
+        when(movementPersistencePort.hasLiveMovement(ACCOUNT_ID, LAST_MOVEMENT_ID)).thenReturn(Mono.just(false));
+        live.tryEmitNext(next);
+
+        StepVerifier.create(movementStreamUseCase.streamMovements(ACCOUNT_NUMBER, LAST_MOVEMENT_ID)
+                        .flatMapMany(stream -> {
+                            assertTrue(stream.reset());
+                            return stream.movements();
+                        }))
+                .expectNext(next)
+                .thenCancel()
+                .verify();
+
+        verify(movementPersistencePort, never()).getMovementsAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail with not found before streaming an unknown account")
+    void shouldFailForUnknownAccount() {
+        when(accountPersistencePort.getAccountByNumber(ACCOUNT_NUMBER, Set.of("id"))).thenReturn(Mono.empty());
+
+        StepVerifier.create(movementStreamUseCase.streamMovements(ACCOUNT_NUMBER, LAST_MOVEMENT_ID))
+                .expectError(AccountNotFoundException.class)
+                .verify();
+
+        verifyNoInteractions(movementFeedPort);
+    }
+
+    private void givenAccount() {
+        when(accountPersistencePort.getAccountByNumber(ACCOUNT_NUMBER, Set.of("id")))
+                .thenReturn(Mono.just(Account.builder().id(ACCOUNT_ID).build()));
+        when(movementFeedPort.watch(ACCOUNT_ID)).thenReturn(Mono.empty());
+        when(movementFeedPort.subscribe(ACCOUNT_ID)).thenReturn(live.asFlux());
+    }
+
+    private static Movement movement() {
+        return Movement.builder()
+                .id(UUID.randomUUID())
+                .accountNumber(ACCOUNT_NUMBER)
+                .movementType(MovementType.CREDIT)
+                .amount(new BigDecimal("10.00"))
+                .build();
+    }
+}
@@ -0,0 +1,260 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.output.AccountPersistencePort;
+import com.btoapanta.account.service.application.port.output.DebitLimitPort;
+import com.btoapanta.account.service.application.port.output.MovementPersistencePort;
+import com.btoapanta.account.service.application.port.output.PostingMetricsPort;
+import com.btoapanta.account.service.application.port.output.PostingPersistencePort;
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.exception.InvalidAccountStateException;
+import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.domain.model.Movement;
+import com.btoapanta.account.service.infrastructure.deadline.Deadline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MovementUseCase - Unit Tests")
+class MovementUseCaseTest {
+
+    private static final Long ACCOUNT_NUMBER = 478758L;
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+
+    @Mock
+    private AccountPersistencePort accountPersistencePort;
+
+    @Mock
+    private MovementPersistencePort movementPersistencePort;
+
+    @Mock
+    private PostingMetricsPort postingMetrics;
+
+    @Mock
+    private DebitLimitPort debitLimitPort;
+
+    @Mock
+    private PostingPersistencePort postingPersistencePort;
+
+    @InjectMocks
+    private MovementUseCase movementUseCase;
+
+    @Test
+    @DisplayName("Should read whole days: from midnight of the first day to midnight after the last")
+    void shouldBoundPeriodByWholeDays() {
+        givenAccount();
+        when(movementPersistencePort.getMovementsByAccountId(eq(ACCOUNT_ID), any(), any(), isNull()))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(movementUseCase.getAllMovements(ACCOUNT_NUMBER, null,
+                        LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 1)))
+                .verifyComplete();
+
+        verify(movementPersistencePort).getMovementsByAccountId(ACCOUNT_ID,
+                LocalDateTime.of(2025, 1, 31, 0, 0), LocalDateTime.of(2025, 2, 2, 0, 0), null);
+    }
+
+    @Test
+    @DisplayName("Should leave a missing bound of the period open")
+    void shouldLeaveMissingBoundOpen() {
+        givenAccount();
+        when(movementPersistencePort.getMovementsByAccountId(eq(ACCOUNT_ID), any(), isNull(), isNull()))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(movementUseCase.getAllMovements(ACCOUNT_NUMBER, null, LocalDate.of(2025, 1, 1), null))
+                .verifyComplete();
+
+        verify(movementPersistencePort).getMovementsByAccountId(ACCOUNT_ID, LocalDateTime.of(2025, 1, 1, 0, 0), null, null);
+    }
+
+    @Test
+    @DisplayName("Should reject a period that starts after it ends")
+    void shouldRejectInvertedPeriod() {
+        StepVerifier.create(movementUseCase.getAllMovements(ACCOUNT_NUMBER, null,
+                        LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)))
+                .expectError(InvalidAccountStateException.class)
+                .verify();
+
+        verifyNoInteractions(accountPersistencePort, movementPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Should fail with not found for an unknown account")
+    void shouldFailForUnknownAccount() {
+        when(accountPersistencePort.getAccountByNumber(ACCOUNT_NUMBER, Set.of("id"))).thenReturn(Mono.empty());
+
+        StepVerifier.create(movementUseCase.getAllMovements(ACCOUNT_NUMBER, null, null, null))
+                .expectError(AccountNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should keep only movements of the requested type")
+    void shouldFilterByMovementType() {
+        givenAccount();
+        when(movementPersistencePort.getMovementsByAccountId(ACCOUNT_ID, null, null, null))
+                .thenReturn(Flux.just(movement(MovementType.CREDIT), movement(MovementType.DEBIT)));
+
+        StepVerifier.create(movementUseCase.getAllMovements(ACCOUNT_NUMBER, MovementType.DEBIT, null, null))
+                .expectNextMatches(movement -> movement.getMovementType() == MovementType.DEBIT)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should also read the movement type when the type filter needs it and it is not selected")
+    void shouldReadMovementTypeForTypeFilter() {
+        givenAccount();
+        when(movementPersistencePort.getMovementsByAccountId(ACCOUNT_ID, null, null, Set.of("amount", "movementType")))
+                .thenReturn(Flux.just(movement(MovementType.CREDIT), movement(MovementType.DEBIT)));
+
+        StepVerifier.create(movementUseCase.getAllMovements(ACCOUNT_NUMBER, MovementType.CREDIT, null, null,
+                        Set.of("amount")))
+                .expectNextMatches(movement -> movement.getMovementType() == MovementType.CREDIT)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should read only the selected properties when no type filter is given")
+    void shouldReadSelectedPropertiesWithoutTypeFilter() {
+        givenAccount();
+        when(movementPersistencePort.getMovementsByAccountId(ACCOUNT_ID, null, null, Set.of("amount")))
+                .thenReturn(Flux.just(Movement.builder().amount(BigDecimal.TEN).build()));
+
+        StepVerifier.create(movementUseCase.getAllMovements(ACCOUNT_NUMBER, null, null, null, Set.of("amount")))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep the debit reservation once the posting completes")
+    void shouldKeepReservationOfPostedDebit() {
+        Account account = givenFundedAccount();
+        when(postingPersistencePort.postMovement(eq(account), any(Movement.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(1)));
+
+        StepVerifier.create(movementUseCase.createMovement(debitRequest()))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(debitLimitPort).reserve(eq(account), any(Movement.class));
+        verify(debitLimitPort, never()).release(any(), any());
+        // Never the account with all its movements
+        verify(accountPersistencePort, never()).getAccountByNumber(ACCOUNT_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Should release the debit reservation when the posting fails")
+    void shouldReleaseReservationOfFailedDebit() {
+        Account account = givenFundedAccount();
+        when(postingPersistencePort.postMovement(eq(account), any(Movement.class)))
+                .thenReturn(Mono.error(new IllegalStateException("connection lost")));
+
+        StepVerifier.create(movementUseCase.createMovement(debitRequest()))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(debitLimitPort).release(eq(account), any(Movement.class));
+    }
+
+    @Test
+    @DisplayName("Should let a cancelled posting commit and keep its debit reservation")
+    void shouldKeepReservationOfCancelledPostingThatCommits() {
+        Account account = givenFundedAccount();
+        // Still waiting on the database when the client goes away
+        Sinks.One<Movement> posting = Sinks.one();
+        when(postingPersistencePort.postMovement(eq(account), any(Movement.class))).thenReturn(posting.asMono());
+
+        movementUseCase.createMovement(debitRequest()).subscribe().dispose();
+
+        assertEquals(1, posting.currentSubscriberCount());
+        posting.tryEmitValue(Movement.builder().build());
+
+        verify(debitLimitPort).reserve(eq(account), any(Movement.class));
+        verify(debitLimitPort, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should release the debit reservation when a cancelled posting rolls back")
+    void shouldReleaseReservationOfCancelledPostingThatRollsBack() {
+        Account account = givenFundedAccount();
+        Sinks.One<Movement> posting = Sinks.one();
+        when(postingPersistencePort.postMovement(eq(account), any(Movement.class))).thenReturn(posting.asMono());
+
+        movementUseCase.createMovement(debitRequest()).subscribe().dispose();
+
+        posting.tryEmitError(new IllegalStateException("connection lost"));
+
+        verify(debitLimitPort).release(eq(account), any(Movement.class));
+    }
+
+    @Test
+    @DisplayName("Should answer with the posted movement when the deadline passes during the posting")
+    void shouldAnswerPostingThatOutlivesItsDeadline() {
+        Account account = givenFundedAccount();
+        when(postingPersistencePort.postMovement(eq(account), any(Movement.class)))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(100)).thenReturn(invocation.getArgument(1)));
+
+        StepVerifier.create(movementUseCase.createMovement(debitRequest())
+                        .contextWrite(context -> context.put(Deadline.class, Deadline.after(Duration.ofMillis(20)))))
+                .expectNextMatches(movement -> movement.getMovementType() == MovementType.DEBIT)
+                .verifyComplete();
+
+        verify(debitLimitPort).reserve(eq(account), any(Movement.class));
+        verify(debitLimitPort, never()).release(any(), any());
+    }
+
+    private Account givenFundedAccount() {
+        Account account = Account.builder()
+                .id(ACCOUNT_ID)
+                .accountNumber(ACCOUNT_NUMBER)
+                .balance(new BigDecimal("100.00"))
+                .version(3L)
+                .build();
+        when(accountPersistencePort.getAccountByNumber(ACCOUNT_NUMBER, Set.of("accountNumber", "accountType", "balance")))
+                .thenReturn(Mono.just(account));
+        return account;
+    }
+
+    private static Movement debitRequest() {
+        return Movement.builder()
+                .accountNumber(ACCOUNT_NUMBER)
+                .movementType(MovementType.DEBIT)
+                .amount(BigDecimal.TEN)
+                .build();
+    }
+
+    private void givenAccount() {
+        when(accountPersistencePort.getAccountByNumber(ACCOUNT_NUMBER, Set.of("id")))
+                .thenReturn(Mono.just(Account.builder().id(ACCOUNT_ID).build()));
+    }
+
+    private static Movement movement(MovementType movementType) {
+        return Movement.builder()
+                .id(UUID.randomUUID())
+                .accountNumber(ACCOUNT_NUMBER)
+                .movementType(movementType)
+                .amount(BigDecimal.TEN)
+                .build();
+    }
+}
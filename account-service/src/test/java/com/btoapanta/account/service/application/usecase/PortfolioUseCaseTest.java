@@ -0,0 +1,90 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.output.PortfolioPersistencePort;
+import com.btoapanta.account.service.domain.enums.AccountType;
+import com.btoapanta.account.service.domain.model.AccountTypeTotal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PortfolioUseCase - Unit Tests")
+class PortfolioUseCaseTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    @Mock
+    private PortfolioPersistencePort portfolioPersistencePort;
+
+    @InjectMocks
+    private PortfolioUseCase portfolioUseCase;
+
+    @Test
+    @DisplayName("Should add up the totals of every account type and keep the newest movement")
+    void shouldSummarizeTotals() {
+        LocalDateTime newest = LocalDateTime.of(2026, 10, 18, 9, 30);
+        AccountTypeTotal savings = total(AccountType.SAVINGS, 2, "150.50", newest.minusDays(3));
+        AccountTypeTotal current = total(AccountType.CURRENT, 1, "49.50", newest);
+        when(portfolioPersistencePort.getTotalsByAccountType(CUSTOMER_ID)).thenReturn(Flux.just(savings, current));
+
+        StepVerifier.create(portfolioUseCase.getPortfolioSummary(CUSTOMER_ID))
+                .assertNext(summary -> {
+                    assertEquals(CUSTOMER_ID, summary.getCustomerId());
+                    assertEquals(3, summary.getAccountCount());
+                    assertEquals(new BigDecimal("200.00"), summary.getTotalBalance());
+                    assertEquals(newest, summary.getLastMovementAt());
+                    assertEquals(2, summary.getTotals().size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should have no last movement when no account has a movement")
+    void shouldSummarizeAccountsWithoutMovements() {
+        when(portfolioPersistencePort.getTotalsByAccountType(CUSTOMER_ID))
+                .thenReturn(Flux.just(total(AccountType.SAVINGS, 1, "0.00", null)));
+
+        StepVerifier.create(portfolioUseCase.getPortfolioSummary(CUSTOMER_ID))
+                .assertNext(summary -> {
+                    assertEquals(1, summary.getAccountCount());
+                    assertNull(summary.getLastMovementAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return an empty summary for a customer without accounts")
+    void shouldReturnEmptySummary() {
+        when(portfolioPersistencePort.getTotalsByAccountType(CUSTOMER_ID)).thenReturn(Flux.empty());
+
+        StepVerifier.create(portfolioUseCase.getPortfolioSummary(CUSTOMER_ID))
+                .assertNext(summary -> {
+                    assertEquals(0, summary.getAccountCount());
+                    assertEquals(BigDecimal.ZERO, summary.getTotalBalance());
+                    assertNull(summary.getLastMovementAt());
+                    assertTrue(summary.getTotals().isEmpty());
+                })
+                .verifyComplete();
+    }
+
+    private static AccountTypeTotal total(AccountType type, long count, String balance, LocalDateTime lastMovementAt) {
+        return AccountTypeTotal.builder()
+                .accountType(type)
+                .accountCount(count)
+                .balance(new BigDecimal(balance))
+                .lastMovementAt(lastMovementAt)
+                .build();
+    }
+}
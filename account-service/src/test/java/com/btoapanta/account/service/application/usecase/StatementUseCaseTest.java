@@ -0,0 +1,165 @@
+package com.btoapanta.account.service.application.usecase;
+
+import com.btoapanta.account.service.application.port.output.AccountPersistencePort;
+import com.btoapanta.account.service.application.port.output.DailyBalancePersistencePort;
+import com.btoapanta.account.service.application.port.output.MovementPersistencePort;
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.exception.InvalidAccountStateException;
+import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.domain.model.DailyBalance;
+import com.btoapanta.account.service.domain.model.Movement;
+import com.btoapanta.account.service.domain.model.MovementTotal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatementUseCase - Unit Tests")
+class StatementUseCaseTest {
+
+    private static final Long ACCOUNT_NUMBER = 478758L;
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    @Mock
+    private AccountPersistencePort accountPersistencePort;
+
+    @Mock
+    private DailyBalancePersistencePort dailyBalancePersistencePort;
+
+    @Mock
+    private MovementPersistencePort movementPersistencePort;
+
+    @InjectMocks
+    private StatementUseCase statementUseCase;
+
+    @Test
+    @DisplayName("Should open with the close of the day before the period and close with its last day")
+    void shouldBuildStatementFromDailyBalances() {
+        givenAccount(new BigDecimal("900.00"));
+        DailyBalance march5 = day(LocalDate.of(2025, 3, 5), "100.00", "350.00", "300.00", 2, "50.00", 1);
+        DailyBalance march20 = day(LocalDate.of(2025, 3, 20), "350.00", "300.00", "0.00", 0, "50.00", 2);
+        Movement movement = Movement.builder().id(UUID.randomUUID()).movementType(MovementType.CREDIT).build();
+        when(dailyBalancePersistencePort.getLastDailyBalanceBefore(ACCOUNT_ID, FROM))
+                .thenReturn(Mono.just(day(LocalDate.of(2025, 2, 27), "0.00", "100.00", "100.00", 1, "0.00", 0)));
+        when(dailyBalancePersistencePort.getFirstDailyBalanceFrom(ACCOUNT_ID, FROM)).thenReturn(Mono.just(march5));
+        when(dailyBalancePersistencePort.getLastDailyBalanceBefore(ACCOUNT_ID, TO.plusDays(1))).thenReturn(Mono.just(march20));
+        when(dailyBalancePersistencePort.getFirstDailyBalanceFrom(ACCOUNT_ID, TO.plusDays(1))).thenReturn(Mono.empty());
+        when(dailyBalancePersistencePort.getDailyBalances(ACCOUNT_ID, FROM, TO)).thenReturn(Flux.just(march5, march20));
+        when(movementPersistencePort.getMovementsByAccountId(ACCOUNT_ID, FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay()))
+                .thenReturn(Flux.just(movement));
+
+        StepVerifier.create(statementUseCase.getStatement(ACCOUNT_NUMBER, FROM, TO))
+                .assertNext(statement -> {
+                    assertEquals(new BigDecimal("100.00"), statement.getOpeningBalance());
+                    assertEquals(new BigDecimal("300.00"), statement.getClosingBalance());
+                    assertEquals(List.of(movement), statement.getMovements());
+                    assertEquals(new MovementTotal(MovementType.CREDIT, 2, new BigDecimal("300.00")), statement.getTotals().get(0));
+                    assertEquals(new MovementTotal(MovementType.DEBIT, 3, new BigDecimal("100.00")), statement.getTotals().get(1));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should open with the opening balance of the first day with movements when none precede the period")
+    void shouldOpenWithFirstDayWhenNoneBefore() {
+        givenAccount(new BigDecimal("80.00"));
+        DailyBalance march10 = day(LocalDate.of(2025, 3, 10), "100.00", "80.00", "0.00", 0, "20.00", 1);
+        when(dailyBalancePersistencePort.getLastDailyBalanceBefore(ACCOUNT_ID, FROM)).thenReturn(Mono.empty());
+        when(dailyBalancePersistencePort.getFirstDailyBalanceFrom(ACCOUNT_ID, FROM)).thenReturn(Mono.just(march10));
+        when(dailyBalancePersistencePort.getLastDailyBalanceBefore(ACCOUNT_ID, TO.plusDays(1))).thenReturn(Mono.just(march10));
+        when(dailyBalancePersistencePort.getFirstDailyBalanceFrom(ACCOUNT_ID, TO.plusDays(1))).thenReturn(Mono.empty());
+        when(dailyBalancePersistencePort.getDailyBalances(ACCOUNT_ID, FROM, TO)).thenReturn(Flux.just(march10));
+        when(movementPersistencePort.getMovementsByAccountId(ACCOUNT_ID, FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay()))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(statementUseCase.getStatement(ACCOUNT_NUMBER, FROM, TO))
+                .assertNext(statement -> {
+                    assertEquals(new BigDecimal("100.00"), statement.getOpeningBalance());
+                    assertEquals(new BigDecimal("80.00"), statement.getClosingBalance());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should use the current balance for an account without movements")
+    void shouldUseCurrentBalanceWithoutMovements() {
+        givenAccount(new BigDecimal("500.00"));
+        when(dailyBalancePersistencePort.getLastDailyBalanceBefore(eq(ACCOUNT_ID), any())).thenReturn(Mono.empty());
+        when(dailyBalancePersistencePort.getFirstDailyBalanceFrom(eq(ACCOUNT_ID), any())).thenReturn(Mono.empty());
+        when(dailyBalancePersistencePort.getDailyBalances(ACCOUNT_ID, FROM, TO)).thenReturn(Flux.empty());
+        when(movementPersistencePort.getMovementsByAccountId(ACCOUNT_ID, FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay()))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(statementUseCase.getStatement(ACCOUNT_NUMBER, FROM, TO))
+                .assertNext(statement -> {
+                    assertEquals(new BigDecimal("500.00"), statement.getOpeningBalance());
+                    assertEquals(new BigDecimal("500.00"), statement.getClosingBalance());
+                    assertEquals(0, statement.getTotals().get(0).getCount());
+                    assertEquals(BigDecimal.ZERO, statement.getTotals().get(1).getAmount());
+                })
+                .verifyComplete();
+
+        // Never the account with all its movements
+        verify(accountPersistencePort, never()).getAccountByNumber(ACCOUNT_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Should require a period that does not start after it ends")
+    void shouldRejectInvalidPeriod() {
+        StepVerifier.create(statementUseCase.getStatement(ACCOUNT_NUMBER, null, TO))
+                .expectError(InvalidAccountStateException.class)
+                .verify();
+        StepVerifier.create(statementUseCase.getStatement(ACCOUNT_NUMBER, TO, FROM))
+                .expectError(InvalidAccountStateException.class)
+                .verify();
+
+        verifyNoInteractions(accountPersistencePort, dailyBalancePersistencePort, movementPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Should fail with not found for an unknown account")
+    void shouldFailForUnknownAccount() {
+        when(accountPersistencePort.getAccountByNumber(ACCOUNT_NUMBER, Set.of("id", "balance"))).thenReturn(Mono.empty());
+
+        StepVerifier.create(statementUseCase.getStatement(ACCOUNT_NUMBER, FROM, TO))
+                .expectError(AccountNotFoundException.class)
+                .verify();
+    }
+
+    private void givenAccount(BigDecimal balance) {
+        when(accountPersistencePort.getAccountByNumber(ACCOUNT_NUMBER, Set.of("id", "balance")))
+                .thenReturn(Mono.just(Account.builder().id(ACCOUNT_ID).balance(balance).build()));
+    }
+
+    private static DailyBalance day(LocalDate date, String opening, String closing, String credits, long creditCount,
+                                    String debits, long debitCount) {
+        return DailyBalance.builder()
+                .accountId(ACCOUNT_ID)
+                .date(date)
+                .openingBalance(new BigDecimal(opening))
+                .closingBalance(new BigDecimal(closing))
+                .totalCredits(new BigDecimal(credits))
+                .creditCount(creditCount)
+                .totalDebits(new BigDecimal(debits))
+                .debitCount(debitCount)
+                .build();
+    }
+}
@@ -0,0 +1,205 @@
+package com.btoapanta.account.service.benchmark;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.id.UuidV7Generator;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.MovementResponse;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.MovementType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Writes and reads the same GET /movements page as JSON, CBOR and Smile, each uncompressed, gzip
+ * and deflate, then reports the payload size and the CPU time per response of both sides.
+ *
+ * <pre>
+ * gradle payloadFormatBenchmark -Pbench.movements=500 -Pbench.iterations=2000
+ * </pre>
+ *
+ * The mappers repeat by hand the spring.jackson settings of application.yaml that shape a movement
+ * page: non_null inclusion, ISO dates, UTC and lenient reads. They are not read from the file, so a
+ * change there has to be made here too to keep the numbers comparable.
+ * CPU time is the benchmark thread's own, so it leaves out GC and JIT threads.
+ */
+public final class PayloadFormatBenchmark {
+
+    private static final TypeReference<List<MovementResponse>> PAGE = new TypeReference<>() {
+    };
+
+    private PayloadFormatBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int movements = Integer.getInteger("bench.movements", 500);
+        int iterations = Integer.getInteger("bench.iterations", 2_000);
+        int warmup = Integer.getInteger("bench.warmup", iterations / 2);
+        List<MovementResponse> page = page(movements);
+
+        System.out.printf("Encoding %,d responses of %,d movements after %,d warmup rounds%n%n",
+                iterations, movements, warmup);
+        System.out.printf("%-6s %-8s %12s %10s %14s %14s%n", "format", "encoding", "bytes", "vs json", "write us/resp", "read us/resp");
+
+        long json = 0;
+        for (Format format : Format.values()) {
+            ObjectMapper mapper = mapper(format.factory());
+            for (Compression compression : Compression.values()) {
+                Result result = run(mapper, compression, page, iterations, warmup);
+                if (json == 0) {
+                    json = result.bytes();
+                }
+                System.out.printf("%-6s %-8s %,12d %9.0f%% %,14.1f %,14.1f%n", format, compression.label(),
+                        result.bytes(), 100.0 * result.bytes() / json, result.writeMicros(), result.readMicros());
+            }
+        }
+    }
+
+    private static Result run(ObjectMapper mapper, Compression compression, List<MovementResponse> page,
+                              int iterations, int warmup) throws IOException {
+        byte[] payload = write(mapper, compression, page);
+        for (int i = 0; i < warmup; i++) {
+            read(mapper, compression, write(mapper, compression, page));
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            payload = write(mapper, compression, page);
+        }
+        long written = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            if (read(mapper, compression, payload).size() != page.size()) {
+                throw new IllegalStateException("Read back a different page");
+            }
+        }
+        long read = threads.getCurrentThreadCpuTime();
+
+        return new Result(payload.length, (written - start) / 1e3 / iterations, (read - written) / 1e3 / iterations);
+    }
+
+    private static byte[] write(ObjectMapper mapper, Compression compression, List<MovementResponse> page)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = compression.wrap(bytes)) {
+            mapper.writeValue(out, page);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<MovementResponse> read(ObjectMapper mapper, Compression compression, byte[] payload)
+            throws IOException {
+        try (InputStream in = compression.unwrap(new ByteArrayInputStream(payload))) {
+            return mapper.readValue(in, PAGE);
+        }
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .timeZone(TimeZone.getTimeZone(ZoneOffset.UTC))
+                .build();
+    }
+
+    // Movements of a few accounts, as one page of GET /movements
+    private static List<MovementResponse> page(int movements) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        OffsetDateTime date = OffsetDateTime.now(ZoneOffset.UTC).minusDays(30);
+        BigDecimal balance = BigDecimal.valueOf(random.nextLong(100_000, 1_000_000), 2);
+        List<MovementResponse> page = new ArrayList<>(movements);
+        for (int i = 0; i < movements; i++) {
+            boolean credit = random.nextBoolean() || balance.signum() == 0;
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(1, 50_000), 2);
+            if (!credit) {
+                amount = amount.min(balance);
+            }
+            BigDecimal after = credit ? balance.add(amount) : balance.subtract(amount);
+            date = date.plusSeconds(random.nextLong(1, 3_600));
+            page.add(new MovementResponse()
+                    .movementId(UuidV7Generator.next())
+                    .date(date)
+                    .movementType(credit ? MovementType.CREDIT : MovementType.DEBIT)
+                    .amount(amount.doubleValue())
+                    .balanceBefore(balance.doubleValue())
+                    .balanceAfter(after.doubleValue())
+                    .accountNumber(100_000L + random.nextInt(8)));
+            balance = after;
+        }
+        return page;
+    }
+
+    private enum Format {
+        JSON,
+        CBOR,
+        SMILE;
+
+        JsonFactory factory() {
+            return switch (this) {
+                case JSON -> new JsonFactory();
+                case CBOR -> new CBORFactory();
+                case SMILE -> new SmileFactory();
+            };
+        }
+    }
+
+    // Netty compresses at level 6, the JDK default
+    private enum Compression {
+        NONE("identity"),
+        GZIP("gzip"),
+        DEFLATE("deflate");
+
+        private final String label;
+
+        Compression(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+
+        OutputStream wrap(OutputStream out) throws IOException {
+            return switch (this) {
+                case NONE -> out;
+                case GZIP -> new GZIPOutputStream(out);
+                case DEFLATE -> new DeflaterOutputStream(out);
+            };
+        }
+
+        InputStream unwrap(InputStream in) throws IOException {
+            return switch (this) {
+                case NONE -> in;
+                case GZIP -> new GZIPInputStream(in);
+                case DEFLATE -> new InflaterInputStream(in);
+            };
+        }
+    }
+
+    private record Result(long bytes, double writeMicros, double readMicros) {
+    }
+}
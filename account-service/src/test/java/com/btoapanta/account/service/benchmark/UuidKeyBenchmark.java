@@ -0,0 +1,149 @@
+package com.btoapanta.account.service.benchmark;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.id.UuidV7Generator;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Inserts the same movement-shaped rows into two tables, one keyed by random UUIDv4 (the old
+ * GenerationType.UUID) and one by UUIDv7, then compares insert throughput and primary key size.
+ *
+ * <pre>
+ * gradle uuidKeyBenchmark -Pbench.url=jdbc:postgresql://localhost:5433/accountdb -Pbench.rows=10000000
+ * </pre>
+ *
+ * Run it against a scratch database: it creates and drops bench_movements_v4 / bench_movements_v7.
+ */
+public final class UuidKeyBenchmark {
+
+    private static final int REPORT_SLICES = 10;
+
+    private UuidKeyBenchmark() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        String url = System.getProperty("bench.url", "jdbc:postgresql://localhost:5433/accountdb");
+        String user = System.getProperty("bench.user", "admin");
+        String password = System.getProperty("bench.password", "admin");
+        long rows = Long.getLong("bench.rows", 10_000_000L);
+        int batchSize = Integer.getInteger("bench.batch", 5_000);
+        boolean keep = Boolean.getBoolean("bench.keep");
+
+        try (Connection connection = DriverManager.getConnection(withBatchRewrite(url), user, password)) {
+            connection.setAutoCommit(false);
+            System.out.printf("Inserting %,d rows per table in batches of %,d%n%n", rows, batchSize);
+
+            Result v4 = run(connection, "bench_movements_v4", UUID::randomUUID, rows, batchSize);
+            Result v7 = run(connection, "bench_movements_v7", UuidV7Generator::next, rows, batchSize);
+
+            System.out.printf("%n%-8s %14s %14s %14s %12s%n", "key", "rows/s", "last 10% /s", "pk index", "table");
+            v4.print("uuid v4");
+            v7.print("uuid v7");
+
+            if (!keep) {
+                drop(connection, "bench_movements_v4");
+                drop(connection, "bench_movements_v7");
+            }
+        }
+    }
+
+    private static Result run(Connection connection, String table, Supplier<UUID> ids, long rows, int batchSize)
+            throws SQLException {
+        drop(connection, table);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table + " ("
+                    + "id UUID NOT NULL PRIMARY KEY, "
+                    + "account_id UUID NOT NULL, "
+                    + "movement_type VARCHAR(255) NOT NULL, "
+                    + "amount NUMERIC(19, 2) NOT NULL, "
+                    + "created_date TIMESTAMP(6) NOT NULL)");
+        }
+        connection.commit();
+
+        UUID[] accounts = new UUID[1_000];
+        for (int i = 0; i < accounts.length; i++) {
+            accounts[i] = UUID.randomUUID();
+        }
+
+        long slice = Math.max(1, rows / REPORT_SLICES);
+        long start = System.nanoTime();
+        long sliceStart = start;
+        long lastSliceNanos = 0;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                + " (id, account_id, movement_type, amount, created_date) VALUES (?, ?, ?, ?, ?)")) {
+            for (long row = 1; row <= rows; row++) {
+                insert.setObject(1, ids.get());
+                insert.setObject(2, accounts[random.nextInt(accounts.length)]);
+                insert.setString(3, random.nextBoolean() ? "CREDIT" : "DEBIT");
+                insert.setBigDecimal(4, BigDecimal.valueOf(random.nextLong(1, 100_000), 2));
+                insert.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+                insert.addBatch();
+
+                if (row % batchSize == 0 || row == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if (row % slice == 0) {
+                    long now = System.nanoTime();
+                    lastSliceNanos = now - sliceStart;
+                    System.out.printf("%s: %,d rows, %,.0f rows/s in the last slice%n",
+                            table, row, slice / (lastSliceNanos / 1e9));
+                    sliceStart = now;
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // VACUUM cannot run inside a transaction block
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + table);
+        } finally {
+            connection.setAutoCommit(false);
+        }
+
+        return new Result(rows / (elapsed / 1e9), slice / (lastSliceNanos / 1e9),
+                size(connection, table + "_pkey"), size(connection, table));
+    }
+
+    private static String size(Connection connection, String relation) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_size_pretty(pg_relation_size(?::regclass))")) {
+            statement.setString(1, relation);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    private static void drop(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+        }
+        connection.commit();
+    }
+
+    private static String withBatchRewrite(String url) {
+        return url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+    }
+
+    private record Result(double rowsPerSecond, double lastSliceRowsPerSecond, String indexSize, String tableSize) {
+
+        void print(String key) {
+            System.out.printf("%-8s %,14.0f %,14.0f %14s %12s%n", key, rowsPerSecond, lastSliceRowsPerSecond, indexSize, tableSize);
+        }
+    }
+}
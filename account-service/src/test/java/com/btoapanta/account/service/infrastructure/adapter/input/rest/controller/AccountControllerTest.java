@@ -0,0 +1,252 @@
+package com.btoapanta.account.service.infrastructure.adapter.input.rest.controller;
+
+import com.btoapanta.account.service.application.port.input.AccountInputPort;
+import com.btoapanta.account.service.domain.enums.AccountType;
+import com.btoapanta.account.service.domain.exception.notfound.AccountNotFoundException;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.AccountDtoMapper;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.AccountResponse;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.AccountUpdateRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountController - Unit Tests")
+class AccountControllerTest {
+
+    private static final Long ACCOUNT_NUMBER = 478758L;
+    private static final String PATH = "/accounts/" + ACCOUNT_NUMBER;
+
+    @Mock
+    private AccountInputPort accountInputPort;
+
+    @Mock
+    private AccountDtoMapper accountDtoMapper;
+
+    @InjectMocks
+    private AccountController accountController;
+
+    private Account account;
+    private AccountResponse response;
+
+    @BeforeEach
+    void setUp() {
+        account = Account.builder()
+                .id(UUID.randomUUID())
+                .accountNumber(ACCOUNT_NUMBER)
+                .accountType(AccountType.SAVINGS)
+                .balance(new BigDecimal("100.00"))
+                .state(true)
+                .customerId(UUID.randomUUID())
+                .customerName("Jose Lema")
+                .version(3L)
+                .build();
+
+        response = new AccountResponse();
+        response.setAccountNumber(ACCOUNT_NUMBER);
+        response.setBalance(account.getBalance().doubleValue());
+        response.setState(true);
+    }
+
+    @Test
+    @DisplayName("Should get the account with its version as a strong ETag")
+    void shouldGetAccountWithETag() {
+        when(accountInputPort.getAccountByNumber(ACCOUNT_NUMBER, null)).thenReturn(Mono.just(account));
+        when(accountDtoMapper.toResponse(account)).thenReturn(response);
+
+        StepVerifier.create(accountController.getAccountByNumber(ACCOUNT_NUMBER, null,
+                        MockServerWebExchange.from(MockServerHttpRequest.get(PATH))))
+                .assertNext(result -> {
+                    assertEquals(HttpStatus.OK, result.getStatusCode());
+                    assertEquals("\"3\"", result.getHeaders().getETag());
+                    assertEquals(response, result.getBody());
+                })
+                .verifyComplete();
+
+        // Without If-None-Match there is nothing to compare the version with
+        verify(accountInputPort, never()).getAccountVersion(any());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 from the version alone when If-None-Match matches")
+    void shouldAnswerNotModifiedFromVersion() {
+        when(accountInputPort.getAccountVersion(ACCOUNT_NUMBER)).thenReturn(Mono.just(3L));
+
+        StepVerifier.create(accountController.getAccountByNumber(ACCOUNT_NUMBER, null,
+                        MockServerWebExchange.from(MockServerHttpRequest.get(PATH).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))))
+                .assertNext(result -> {
+                    assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+                    assertEquals("\"3\"", result.getHeaders().getETag());
+                    assertNull(result.getBody());
+                })
+                .verifyComplete();
+
+        verify(accountInputPort, never()).getAccountByNumber(any(), any());
+        verifyNoInteractions(accountDtoMapper);
+    }
+
+    @Test
+    @DisplayName("Should load the account when If-None-Match names an older version")
+    void shouldGetAccountWhenETagIsStale() {
+        when(accountInputPort.getAccountVersion(ACCOUNT_NUMBER)).thenReturn(Mono.just(3L));
+        when(accountInputPort.getAccountByNumber(ACCOUNT_NUMBER, null)).thenReturn(Mono.just(account));
+        when(accountDtoMapper.toResponse(account)).thenReturn(response);
+
+        StepVerifier.create(accountController.getAccountByNumber(ACCOUNT_NUMBER, null,
+                        MockServerWebExchange.from(MockServerHttpRequest.get(PATH).header(HttpHeaders.IF_NONE_MATCH, "\"2\""))))
+                .assertNext(result -> {
+                    assertEquals(HttpStatus.OK, result.getStatusCode());
+                    assertEquals("\"3\"", result.getHeaders().getETag());
+                    assertEquals(response, result.getBody());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should fail with not found when If-None-Match is sent for an unknown account")
+    void shouldFailForUnknownAccountWithETag() {
+        when(accountInputPort.getAccountVersion(ACCOUNT_NUMBER)).thenReturn(Mono.empty());
+        when(accountInputPort.getAccountByNumber(ACCOUNT_NUMBER, null))
+                .thenReturn(Mono.error(new AccountNotFoundException(ACCOUNT_NUMBER)));
+
+        StepVerifier.create(accountController.getAccountByNumber(ACCOUNT_NUMBER, null,
+                        MockServerWebExchange.from(MockServerHttpRequest.get(PATH).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))))
+                .expectError(AccountNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should update the account and answer its new version when If-Match matches")
+    void shouldUpdateWhenIfMatchMatches() {
+        Account updated = account.toBuilder().state(false).version(4L).build();
+        when(accountInputPort.getAccountByNumber(ACCOUNT_NUMBER)).thenReturn(Mono.just(account));
+        when(accountInputPort.updateAccount(any(Account.class))).thenReturn(Mono.just(updated));
+        when(accountDtoMapper.toResponse(updated)).thenReturn(response);
+
+        StepVerifier.create(accountController.updateAccount(ACCOUNT_NUMBER, Mono.just(stateUpdate()),
+                        MockServerWebExchange.from(MockServerHttpRequest.put(PATH).header(HttpHeaders.IF_MATCH, "\"3\""))))
+                .assertNext(result -> {
+                    assertEquals(HttpStatus.OK, result.getStatusCode());
+                    assertEquals("\"4\"", result.getHeaders().getETag());
+                })
+                .verifyComplete();
+
+        verify(accountInputPort).updateAccount(argThat(saved -> Boolean.FALSE.equals(saved.getState())));
+    }
+
+    @Test
+    @DisplayName("Should answer 412 with the current ETag when If-Match names another version")
+    void shouldRejectStaleIfMatch() {
+        when(accountInputPort.getAccountByNumber(ACCOUNT_NUMBER)).thenReturn(Mono.just(account));
+
+        StepVerifier.create(accountController.updateAccount(ACCOUNT_NUMBER, Mono.just(stateUpdate()),
+                        MockServerWebExchange.from(MockServerHttpRequest.put(PATH).header(HttpHeaders.IF_MATCH, "\"2\""))))
+                .assertNext(result -> {
+                    assertEquals(HttpStatus.PRECONDITION_FAILED, result.getStatusCode());
+                    assertEquals("\"3\"", result.getHeaders().getETag());
+                    assertNull(result.getBody());
+                })
+                .verifyComplete();
+
+        verify(accountInputPort, never()).updateAccount(any());
+    }
+
+    @Test
+    @DisplayName("Should update without a precondition when no If-Match is sent")
+    void shouldUpdateWithoutIfMatch() {
+        when(accountInputPort.getAccountByNumber(ACCOUNT_NUMBER)).thenReturn(Mono.just(account));
+        when(accountInputPort.updateAccount(any(Account.class))).thenReturn(Mono.just(account));
+        when(accountDtoMapper.toResponse(account)).thenReturn(response);
+
+        StepVerifier.create(accountController.updateAccount(ACCOUNT_NUMBER, Mono.just(stateUpdate()),
+                        MockServerWebExchange.from(MockServerHttpRequest.put(PATH))))
+                .assertNext(result -> assertEquals(HttpStatus.OK, result.getStatusCode()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should pass on the conflict of an update that loses the race on the version")
+    void shouldPassOnConcurrentUpdate() {
+        when(accountInputPort.getAccountByNumber(ACCOUNT_NUMBER)).thenReturn(Mono.just(account));
+        when(accountInputPort.updateAccount(any(Account.class)))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("version 3 is stale")));
+
+        StepVerifier.create(accountController.updateAccount(ACCOUNT_NUMBER, Mono.just(stateUpdate()),
+                        MockServerWebExchange.from(MockServerHttpRequest.put(PATH).header(HttpHeaders.IF_MATCH, "\"3\""))))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should read only the properties of the requested fields and drop the others")
+    void shouldGetRequestedFields() {
+        when(accountInputPort.getAccountByNumber(ACCOUNT_NUMBER, Set.of("accountNumber", "balance")))
+                .thenReturn(Mono.just(account));
+        when(accountDtoMapper.toResponse(account)).thenReturn(response);
+
+        StepVerifier.create(accountController.getAccountByNumber(ACCOUNT_NUMBER, List.of("accountNumber", "balance"),
+                        MockServerWebExchange.from(MockServerHttpRequest.get(PATH))))
+                .assertNext(result -> {
+                    assertEquals(ACCOUNT_NUMBER, result.getBody().getAccountNumber());
+                    assertEquals(response.getBalance(), result.getBody().getBalance());
+                    assertNull(result.getBody().getState());
+                    assertEquals("\"3\"", result.getHeaders().getETag());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should list accounts with the requested fields only")
+    void shouldListRequestedFields() {
+        when(accountInputPort.getAllAccounts(account.getCustomerId(), null, Set.of("state")))
+                .thenReturn(Flux.just(account));
+        when(accountDtoMapper.toResponse(account)).thenReturn(response);
+
+        StepVerifier.create(accountController.getAccounts(account.getCustomerId(), null, List.of("state"), null)
+                        .flatMapMany(result -> result.getBody()))
+                .assertNext(listed -> {
+                    assertEquals(Boolean.TRUE, listed.getState());
+                    assertNull(listed.getAccountNumber());
+                    assertNull(listed.getBalance());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown field before reading the account")
+    void shouldRejectUnknownField() {
+        assertThrows(ServerWebInputException.class, () -> accountController.getAccountByNumber(ACCOUNT_NUMBER,
+                List.of("movements"), MockServerWebExchange.from(MockServerHttpRequest.get(PATH))));
+
+        verifyNoInteractions(accountInputPort);
+    }
+
+    private static AccountUpdateRequest stateUpdate() {
+        AccountUpdateRequest request = new AccountUpdateRequest();
+        request.setState(false);
+        return request;
+    }
+}
@@ -0,0 +1,121 @@
+package com.btoapanta.account.service.infrastructure.adapter.input.rest.controller;
+
+import com.btoapanta.account.service.application.port.input.MovementInputPort;
+import com.btoapanta.account.service.domain.model.Movement;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.MovementDtoMapper;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.MovementResponse;
+import com.btoapanta.account.service.infrastructure.input.adapter.rest.account.service.models.MovementType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MovementController - Unit Tests")
+class MovementControllerTest {
+
+    private static final Long ACCOUNT_NUMBER = 478758L;
+
+    @Mock
+    private MovementInputPort movementInputPort;
+
+    @Mock
+    private MovementDtoMapper movementDtoMapper;
+
+    @InjectMocks
+    private MovementController movementController;
+
+    @Test
+    @DisplayName("Should read only the properties of the requested fields and drop the others")
+    void shouldReturnRequestedFields() {
+        Movement movement = Movement.builder().id(UUID.randomUUID()).amount(BigDecimal.TEN).build();
+        when(movementInputPort.getAllMovements(ACCOUNT_NUMBER, null, null, null, Set.of("id", "amount")))
+                .thenReturn(Flux.just(movement));
+        when(movementDtoMapper.toResponse(movement)).thenReturn(response(movement));
+
+        StepVerifier.create(movementController.getMovements(ACCOUNT_NUMBER, null, null, null,
+                                List.of("movementId", " amount"), null)
+                        .flatMapMany(result -> {
+                            assertEquals(HttpStatus.OK, result.getStatusCode());
+                            return result.getBody();
+                        }))
+                .assertNext(response -> {
+                    assertEquals(movement.getId(), response.getMovementId());
+                    assertEquals(Double.valueOf(10.0), response.getAmount());
+                    assertNull(response.getDate());
+                    assertNull(response.getBalanceAfter());
+                    assertNull(response.getAccountNumber());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return every field when none is requested")
+    void shouldReturnEveryFieldByDefault() {
+        Movement movement = Movement.builder().id(UUID.randomUUID()).amount(BigDecimal.TEN).build();
+        when(movementInputPort.getAllMovements(ACCOUNT_NUMBER, null, null, null, null)).thenReturn(Flux.just(movement));
+        when(movementDtoMapper.toResponse(movement)).thenReturn(response(movement));
+
+        StepVerifier.create(movementController.getMovements(ACCOUNT_NUMBER, null, null, null, null, null)
+                        .flatMapMany(result -> result.getBody()))
+                .assertNext(response -> {
+                    assertNotNull(response.getDate());
+                    assertNotNull(response.getBalanceAfter());
+                    assertEquals(ACCOUNT_NUMBER, response.getAccountNumber());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should pass the type filter on with the selected properties")
+    void shouldPassTypeFilterWithFields() {
+        when(movementDtoMapper.apiToDomainMovementType(MovementType.DEBIT))
+                .thenReturn(com.btoapanta.account.service.domain.enums.MovementType.DEBIT);
+        when(movementInputPort.getAllMovements(ACCOUNT_NUMBER,
+                com.btoapanta.account.service.domain.enums.MovementType.DEBIT, null, null, Set.of("amount")))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(movementController.getMovements(ACCOUNT_NUMBER, MovementType.DEBIT, null, null,
+                                List.of("amount"), null)
+                        .flatMapMany(result -> result.getBody()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown field before reading any movement")
+    void shouldRejectUnknownField() {
+        ServerWebInputException error = assertThrows(ServerWebInputException.class, () ->
+                movementController.getMovements(ACCOUNT_NUMBER, null, null, null, List.of("amount", "account"), null));
+
+        assertTrue(error.getReason().contains("'account'"));
+        verify(movementInputPort, never()).getAllMovements(any(), any(), any(), any(), any());
+    }
+
+    private static MovementResponse response(Movement movement) {
+        return new MovementResponse()
+                .movementId(movement.getId())
+                .date(OffsetDateTime.of(2025, 3, 14, 10, 0, 0, 0, ZoneOffset.UTC))
+                .movementType(MovementType.CREDIT)
+                .amount(movement.getAmount().doubleValue())
+                .balanceBefore(100.0)
+                .balanceAfter(110.0)
+                .accountNumber(ACCOUNT_NUMBER);
+    }
+}
@@ -0,0 +1,94 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.feed;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("MovementFeedAdapter - Unit Tests")
+class MovementFeedAdapterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final MovementWatches watches = mock(MovementWatches.class);
+    private final MovementFeedAdapter feed = new MovementFeedAdapter(16, watches, new SimpleMeterRegistry());
+    private final UUID accountId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should push the notified movements of the subscribed account only")
+    void shouldPushNotifiedMovements() throws Exception {
+        MovementNotificationListener listener =
+                new MovementNotificationListener(mock(DataSource.class), "movement_posted_test", objectMapper, feed,
+                        Duration.ofSeconds(1));
+        MovementPosted credit = event(accountId);
+        String creditJson = objectMapper.writeValueAsString(credit);
+        String otherJson = objectMapper.writeValueAsString(event(UUID.randomUUID()));
+
+        StepVerifier.create(feed.subscribe(accountId))
+                .then(() -> {
+                    listener.deliver(otherJson);
+                    listener.deliver("not json");
+                    listener.deliver(creditJson);
+                })
+                .expectNextMatches(movement -> movement.getId().equals(credit.getMovementId()))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should complete every subscriber on a disconnect and feed later subscribers anew")
+    void shouldDisconnectAll() {
+        StepVerifier.create(feed.subscribe(accountId))
+                .then(feed::disconnectAll)
+                .verifyComplete();
+
+        MovementPosted credit = event(accountId);
+        StepVerifier.create(feed.subscribe(accountId))
+                .then(() -> feed.onMovementPosted(credit))
+                .expectNextMatches(movement -> movement.getId().equals(credit.getMovementId()))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should refresh the watches of the accounts with subscribers only")
+    void shouldRefreshWatchesOfSubscribedAccounts() {
+        StepVerifier.create(feed.watch(accountId))
+                .verifyComplete();
+        verify(watches).watch(accountId);
+
+        StepVerifier.create(feed.subscribe(accountId))
+                .then(feed::refreshWatches)
+                .thenCancel()
+                .verify();
+        feed.refreshWatches();
+
+        verify(watches).refresh(List.of(accountId));
+        verify(watches).refresh(List.of());
+    }
+
+    private static MovementPosted event(UUID accountId) {
+        return MovementPosted.builder()
+                .eventId(UUID.randomUUID())
+                .accountId(accountId)
+                .accountNumber(478758L)
+                .movementId(UUID.randomUUID())
+                .movementType(MovementType.CREDIT)
+                .amount(new BigDecimal("10.00"))
+                .balanceBefore(new BigDecimal("100.00"))
+                .balanceAfter(new BigDecimal("110.00"))
+                .date(LocalDateTime.of(2025, 3, 14, 10, 0))
+                .build();
+    }
+}
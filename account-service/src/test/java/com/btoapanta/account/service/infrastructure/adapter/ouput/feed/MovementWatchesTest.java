@@ -0,0 +1,64 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.feed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * The SQL and the trigger need PostgreSQL; here what is tested is the order of the statements.
+ */
+@DisplayName("MovementWatches - Unit Tests")
+class MovementWatchesTest {
+
+    private static final String INSTANCE_ID = "0f8e2a6c9b1d4e7fa3c5b8d2e6f1a4c7";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final MovementWatches watches = new MovementWatches(jdbcTemplate,
+            new TransactionTemplate(transactionManager), INSTANCE_ID, Duration.ofMinutes(1));
+    private final UUID accountId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should listen on a channel of this instance only")
+    void shouldNameChannelAfterInstance() {
+        assertEquals("movement_posted_" + INSTANCE_ID, watches.channel());
+    }
+
+    @Test
+    @DisplayName("Should wait for the postings in flight on the account before committing its watch")
+    void shouldLockAccountBeforeWatching() {
+        watches.watch(accountId);
+
+        InOrder inOrder = inOrder(transactionManager, jdbcTemplate);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(jdbcTemplate).queryForList(contains("FOR SHARE"), eq(UUID.class), eq(accountId));
+        inOrder.verify(jdbcTemplate).update(contains("INSERT INTO movement_stream_watches"), eq(accountId), eq(INSTANCE_ID));
+        inOrder.verify(transactionManager).commit(nullable(TransactionStatus.class));
+    }
+
+    @Test
+    @DisplayName("Should refresh the watches of the streamed accounts and drop the expired ones")
+    void shouldRefreshAndExpireWatches() {
+        watches.refresh(List.of(accountId));
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).batchUpdate(contains("INSERT INTO movement_stream_watches"),
+                eq(List.of(accountId)), anyInt(), any());
+        inOrder.verify(jdbcTemplate).update(contains("DELETE FROM movement_stream_watches"), eq(60_000L));
+    }
+}
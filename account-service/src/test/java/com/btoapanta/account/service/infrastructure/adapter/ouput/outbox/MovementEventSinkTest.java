@@ -0,0 +1,117 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.outbox;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MovementEventSink - Unit Tests")
+class MovementEventSinkTest {
+
+    private static final String URL = "http://localhost:8080/movement-events";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final MovementPosted credit = event(MovementType.CREDIT);
+    private final MovementPosted debit = event(MovementType.DEBIT);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should publish each event to the listeners of this instance, in order")
+    void shouldPublishInProcess() {
+        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+
+        new InProcessMovementEventSink(publisher).deliver(List.of(credit, debit));
+
+        InOrder inOrder = inOrder(publisher);
+        inOrder.verify(publisher).publishEvent(credit);
+        inOrder.verify(publisher).publishEvent(debit);
+    }
+
+    @Test
+    @DisplayName("Should append one JSON line per event across batches")
+    void shouldAppendJsonLines() throws Exception {
+        Path path = directory.resolve("events/movement-events.jsonl");
+        FileMovementEventSink sink = new FileMovementEventSink(objectMapper, path);
+
+        sink.deliver(List.of(credit));
+        sink.deliver(List.of(debit));
+
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(2, lines.size());
+        assertEquals(credit, objectMapper.readValue(lines.get(0), MovementPosted.class));
+        assertEquals(debit, objectMapper.readValue(lines.get(1), MovementPosted.class));
+    }
+
+    @Test
+    @DisplayName("Should POST the batch as JSON to the webhook")
+    void shouldPostBatchToWebhook() {
+        AtomicReference<ClientRequest> sent = new AtomicReference<>();
+        WebhookMovementEventSink sink = webhook(request -> {
+            sent.set(request);
+            return Mono.just(ClientResponse.create(HttpStatus.NO_CONTENT).build());
+        }, Duration.ofSeconds(1));
+
+        sink.deliver(List.of(credit, debit));
+
+        assertEquals(HttpMethod.POST, sent.get().method());
+        assertEquals(URI.create(URL), sent.get().url());
+        assertEquals(MediaType.APPLICATION_JSON, sent.get().headers().getContentType());
+    }
+
+    @Test
+    @DisplayName("Should fail the batch on a non-2xx answer or a timeout")
+    void shouldFailWebhookBatch() {
+        WebhookMovementEventSink rejecting = webhook(
+                request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()), Duration.ofSeconds(1));
+        WebhookMovementEventSink silent = webhook(request -> Mono.never(), Duration.ofMillis(50));
+
+        assertThrows(WebClientResponseException.class, () -> rejecting.deliver(List.of(credit)));
+        assertThrows(IllegalStateException.class, () -> silent.deliver(List.of(credit)));
+    }
+
+    private static WebhookMovementEventSink webhook(ExchangeFunction exchange, Duration timeout) {
+        return new WebhookMovementEventSink(WebClient.builder().exchangeFunction(exchange), URL, timeout);
+    }
+
+    private static MovementPosted event(MovementType type) {
+        return MovementPosted.builder()
+                .eventId(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .accountNumber(478758L)
+                .movementId(UUID.randomUUID())
+                .movementType(type)
+                .amount(new BigDecimal("10.00"))
+                .balanceBefore(new BigDecimal("100.00"))
+                .balanceAfter(type == MovementType.CREDIT ? new BigDecimal("110.00") : new BigDecimal("90.00"))
+                .date(LocalDateTime.of(2025, 3, 14, 10, 0))
+                .build();
+    }
+}
@@ -0,0 +1,199 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.outbox;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * The claim and reschedule SQL needs PostgreSQL; here the claim query hands out prepared batches,
+ * so what is tested is the order of claim, delivery and deletion, the lease and the retries.
+ */
+@DisplayName("MovementOutboxRelay - Unit Tests")
+class MovementOutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 10, 0);
+    private static final Duration LEASE = Duration.ofMinutes(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MovementEventSink first = sink("first");
+    private final MovementEventSink second = sink("second");
+    // What each claim returns, in turn; an empty batch once they run out
+    private final Deque<List<ResultSet>> batches = new ArrayDeque<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            List<Object> rows = new ArrayList<>();
+            for (ResultSet rs : batches.isEmpty() ? List.<ResultSet>of() : batches.poll()) {
+                rows.add(mapper.mapRow(rs, rows.size()));
+            }
+            return rows;
+        }).when(jdbcTemplate).query(contains("SKIP LOCKED"), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should commit the claim before delivering to every sink, then delete the batch")
+    void shouldDeliverOutsideClaimTransaction() throws Exception {
+        MovementPosted credit = event(MovementType.CREDIT);
+        MovementPosted debit = event(MovementType.DEBIT);
+        batches.add(List.of(row(1, credit), row(2, debit)));
+
+        relay(10).drain();
+
+        InOrder inOrder = inOrder(jdbcTemplate, transactionManager, first, second);
+        inOrder.verify(jdbcTemplate).batchUpdate(contains("SET next_attempt_at = ?"), anyCollection(), anyInt(), any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(first).deliver(List.of(credit, debit));
+        inOrder.verify(second).deliver(List.of(credit, debit));
+        inOrder.verify(jdbcTemplate).batchUpdate(contains("DELETE FROM movement_outbox"), anyCollection(), anyInt(), any());
+        assertEquals(2, meterRegistry.get("movements.outbox.events").tag("sink", "second").tag("outcome", "delivered")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Should lease the claimed batch until the lease runs out")
+    void shouldLeaseClaimedBatch() throws SQLException {
+        batches.add(List.of(row(7, event(MovementType.CREDIT))));
+
+        relay(10).drain();
+
+        PreparedStatement statement = applySetter("SET next_attempt_at = ?");
+        verify(statement).setTimestamp(1, Timestamp.valueOf(NOW.plus(LEASE)));
+        verify(statement).setLong(2, 7L);
+    }
+
+    @Test
+    @DisplayName("Should reschedule the whole batch with a capped backoff when a sink fails")
+    void shouldRescheduleFailedBatch() throws Exception {
+        batches.add(List.of(row(3, event(MovementType.CREDIT)), row(4, event(MovementType.DEBIT))));
+        doThrow(new IOException("disk full")).when(first).deliver(anyList());
+
+        relay(2).drain();
+
+        verify(second, never()).deliver(anyList());
+        verify(jdbcTemplate, never()).batchUpdate(contains("DELETE FROM movement_outbox"), anyCollection(), anyInt(), any());
+        PreparedStatement statement = applySetter("SET attempts = attempts + 1");
+        verify(statement, times(2)).setTimestamp(1, Timestamp.valueOf(NOW));
+        verify(statement, times(2)).setLong(2, MAX_BACKOFF.toSeconds());
+        verify(statement, times(2)).setString(3, "first: disk full");
+        verify(statement).setLong(4, 3L);
+        verify(statement).setLong(4, 4L);
+        assertEquals(2, meterRegistry.get("movements.outbox.events").tag("sink", "first").tag("outcome", "failed")
+                .counter().count());
+        // A failed batch ends the drain even when it was full
+        verify(jdbcTemplate, times(1)).query(contains("SKIP LOCKED"), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should keep draining while the batches come back full")
+    void shouldDrainUntilShortBatch() throws Exception {
+        batches.add(List.of(row(1, event(MovementType.CREDIT)), row(2, event(MovementType.CREDIT))));
+        batches.add(List.of(row(3, event(MovementType.DEBIT))));
+
+        relay(2).drain();
+
+        verify(jdbcTemplate, times(2)).query(contains("SKIP LOCKED"), any(RowMapper.class), any(Object[].class));
+        verify(first, times(2)).deliver(anyList());
+    }
+
+    @Test
+    @DisplayName("Should lease, deliver and delete nothing when no event is due")
+    void shouldSkipEmptyClaim() throws Exception {
+        relay(10).drain();
+
+        verify(first, never()).deliver(anyList());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    private MovementOutboxRelay relay(int batchSize) {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        return new MovementOutboxRelay(jdbcTemplate, new TransactionTemplate(transactionManager), objectMapper,
+                meterRegistry, List.of(first, second), clock, batchSize, LEASE, MAX_BACKOFF);
+    }
+
+    // Runs the setter of the batch update over every row it was given, against one statement
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private PreparedStatement applySetter(String sqlPart) throws SQLException {
+        ArgumentCaptor<Collection> rows = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(contains(sqlPart), rows.capture(), anyInt(), setter.capture());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        for (Object row : rows.getValue()) {
+            setter.getValue().setValues(statement, row);
+        }
+        return statement;
+    }
+
+    private ResultSet row(long id, MovementPosted event) {
+        ResultSet rs = mock(ResultSet.class);
+        try {
+            when(rs.getLong("id")).thenReturn(id);
+            when(rs.getString("payload")).thenReturn(objectMapper.writeValueAsString(event));
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return rs;
+    }
+
+    private static MovementPosted event(MovementType type) {
+        return MovementPosted.builder()
+                .eventId(UUID.randomUUID())
+                .accountId(UUID.randomUUID())
+                .accountNumber(478758L)
+                .movementId(UUID.randomUUID())
+                .movementType(type)
+                .amount(new BigDecimal("10.00"))
+                .balanceBefore(new BigDecimal("100.00"))
+                .balanceAfter(new BigDecimal("110.00"))
+                .date(NOW)
+                .build();
+    }
+
+    private static MovementEventSink sink(String name) {
+        MovementEventSink sink = mock(MovementEventSink.class);
+        when(sink.name()).thenReturn(name);
+        return sink;
+    }
+}
@@ -0,0 +1,123 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence;
+
+import com.btoapanta.account.service.domain.enums.AccountType;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.AccountEntity;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.mapper.AccountMapper;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository.AccountJpaRepository;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the projections against H2 with the schema Hibernate derives from the entities. The
+ * adapter reads on boundedElastic threads, so the rows are committed rather than kept in a test
+ * transaction.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("AccountPersistenceAdapter - Unit Tests")
+class AccountPersistenceAdapterTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final AccountMapper accountMapper = mock(AccountMapper.class);
+
+    private AccountPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        accountJpaRepository.deleteAll();
+        accountJpaRepository.save(entity(478758L, CUSTOMER_ID, AccountType.SAVINGS, "2000.00"));
+        accountJpaRepository.save(entity(225487L, CUSTOMER_ID, AccountType.CURRENT, "100.00"));
+        accountJpaRepository.save(entity(495878L, UUID.randomUUID(), AccountType.SAVINGS, "0.00"));
+        adapter = new AccountPersistenceAdapter(accountJpaRepository, accountMapper, ObservationRegistry.NOOP, entityManager);
+    }
+
+    @Test
+    @DisplayName("Should read only the selected properties, plus id and version, without loading the entity")
+    void shouldProjectAccountByNumber() {
+        StepVerifier.create(adapter.getAccountByNumber(478758L, Set.of("balance")))
+                .assertNext(account -> {
+                    assertNotNull(account.getId());
+                    assertEquals(0L, account.getVersion());
+                    assertEquals(0, new BigDecimal("2000.00").compareTo(account.getBalance()));
+                    assertNull(account.getAccountNumber());
+                    assertNull(account.getAccountType());
+                    assertNull(account.getCustomerName());
+                    assertNull(account.getState());
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(accountMapper);
+    }
+
+    @Test
+    @DisplayName("Should return nothing when the projected account does not exist")
+    void shouldProjectNoAccountForUnknownNumber() {
+        StepVerifier.create(adapter.getAccountByNumber(999999L, Set.of("balance")))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should apply the customer and type filters to the projection")
+    void shouldProjectFilteredAccounts() {
+        StepVerifier.create(adapter.getAllAccounts(CUSTOMER_ID, AccountType.SAVINGS, Set.of("accountNumber", "accountType")))
+                .assertNext(account -> {
+                    assertEquals(478758L, account.getAccountNumber());
+                    assertEquals(AccountType.SAVINGS, account.getAccountType());
+                    assertNull(account.getBalance());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(adapter.getAllAccounts(CUSTOMER_ID, null, Set.of("accountNumber")))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        StepVerifier.create(adapter.getAllAccounts(null, null, Set.of("accountNumber")))
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should refuse a property that cannot be projected")
+    void shouldRejectUnknownProperty() {
+        StepVerifier.create(adapter.getAccountByNumber(478758L, Set.of("movements")))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private static AccountEntity entity(Long accountNumber, UUID customerId, AccountType accountType, String balance) {
+        return AccountEntity.builder()
+                .accountNumber(accountNumber)
+                .customerId(customerId)
+                .customerName("Jose Lema")
+                .accountType(accountType)
+                .balance(new BigDecimal(balance))
+                .state(true)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence;
+
+import com.btoapanta.account.service.domain.enums.AccountType;
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchive;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.AccountEntity;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.MovementEntity;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.mapper.MovementMapper;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository.AccountJpaRepository;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository.MovementJpaRepository;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the projection against H2 with the schema Hibernate derives from the entities, with an
+ * empty archive. The rows are committed, as the adapter reads on boundedElastic threads.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("MovementPersistenceAdapter - Unit Tests")
+class MovementPersistenceAdapterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @Autowired
+    private MovementJpaRepository movementJpaRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final MovementMapper movementMapper = mock(MovementMapper.class);
+    private final MovementArchive movementArchive = mock(MovementArchive.class);
+
+    private MovementPersistenceAdapter adapter;
+    private AccountEntity account;
+
+    @BeforeEach
+    void setUp() {
+        movementJpaRepository.deleteAll();
+        accountJpaRepository.deleteAll();
+        account = accountJpaRepository.save(AccountEntity.builder()
+                .accountNumber(478758L)
+                .customerId(UUID.randomUUID())
+                .customerName("Jose Lema")
+                .accountType(AccountType.SAVINGS)
+                .balance(new BigDecimal("1425.00"))
+                .state(true)
+                .build());
+        movementJpaRepository.save(movement(MovementType.DEBIT, "575.00", START.plusDays(2)));
+        movementJpaRepository.save(movement(MovementType.CREDIT, "2000.00", START));
+        movementJpaRepository.save(movement(MovementType.CREDIT, "600.00", START.plusDays(40)));
+        adapter = new MovementPersistenceAdapter(movementJpaRepository, accountJpaRepository, movementMapper,
+                movementArchive, ObservationRegistry.NOOP, entityManager);
+    }
+
+    @Test
+    @DisplayName("Should read only the selected properties and the id, in date order within the period")
+    void shouldProjectMovementsInPeriod() {
+        StepVerifier.create(adapter.getMovementsByAccountId(account.getId(), START, START.plusDays(30),
+                        Set.of("amount", "movementType")))
+                .assertNext(movement -> {
+                    assertNotNull(movement.getId());
+                    assertEquals(MovementType.CREDIT, movement.getMovementType());
+                    assertEquals(0, new BigDecimal("2000.00").compareTo(movement.getAmount()));
+                    assertNull(movement.getDate());
+                    assertNull(movement.getBalanceAfter());
+                    assertNull(movement.getAccountNumber());
+                })
+                .assertNext(movement -> assertEquals(MovementType.DEBIT, movement.getMovementType()))
+                .verifyComplete();
+
+        verifyNoInteractions(movementMapper);
+    }
+
+    @Test
+    @DisplayName("Should join the account only for the account number and treat missing bounds as open")
+    void shouldProjectAccountNumberWithOpenPeriod() {
+        StepVerifier.create(adapter.getMovementsByAccountId(account.getId(), null, null, Set.of("accountNumber", "date")))
+                .assertNext(movement -> {
+                    assertEquals(478758L, movement.getAccountNumber());
+                    assertEquals(START, movement.getDate());
+                })
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should refuse a property that cannot be projected")
+    void shouldRejectUnknownProperty() {
+        StepVerifier.create(adapter.getMovementsByAccountId(account.getId(), START, null, Set.of("account")))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private MovementEntity movement(MovementType type, String amount, LocalDateTime createdDate) {
+        MovementEntity movement = new MovementEntity();
+        movement.setAccount(account);
+        movement.setMovementType(type);
+        movement.setAmount(new BigDecimal(amount));
+        movement.setBalanceBefore(BigDecimal.ZERO);
+        movement.setBalanceAfter(new BigDecimal(amount));
+        movement.setCreatedDate(createdDate);
+        return movement;
+    }
+}
@@ -0,0 +1,100 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence;
+
+import com.btoapanta.account.service.domain.enums.AccountType;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * The lateral join needs PostgreSQL; here the query hands prepared rows to the row mapper.
+ */
+@DisplayName("PortfolioPersistenceAdapter - Unit Tests")
+class PortfolioPersistenceAdapterTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PortfolioPersistenceAdapter adapter =
+            new PortfolioPersistenceAdapter(jdbcTemplate, ObservationRegistry.NOOP);
+
+    @Test
+    @DisplayName("Should take the last movement from the daily balances, which outlive archived movements")
+    @SuppressWarnings("unchecked")
+    void shouldReadLastMovementFromDailyBalances() throws Exception {
+        LocalDateTime lastMovementAt = LocalDateTime.of(2026, 10, 18, 9, 30);
+        ResultSet withMovement = row("SAVINGS", 2, "150.50", Timestamp.valueOf(lastMovementAt));
+        ResultSet withoutMovement = row("CURRENT", 1, "0.00", null);
+        givenRows(withMovement, withoutMovement);
+
+        StepVerifier.create(adapter.getTotalsByAccountType(CUSTOMER_ID))
+                .assertNext(total -> {
+                    assertEquals(AccountType.SAVINGS, total.getAccountType());
+                    assertEquals(2, total.getAccountCount());
+                    assertEquals(new BigDecimal("150.50"), total.getBalance());
+                    assertEquals(lastMovementAt, total.getLastMovementAt());
+                })
+                .assertNext(total -> {
+                    assertEquals(AccountType.CURRENT, total.getAccountType());
+                    assertNull(total.getLastMovementAt());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), eq(CUSTOMER_ID));
+        assertTrue(sql.getValue().contains("FROM account_daily_balances"));
+        assertFalse(sql.getValue().contains("FROM movements"));
+    }
+
+    @Test
+    @DisplayName("Should total the open accounts of the customer only, on the partial index of open accounts")
+    @SuppressWarnings("unchecked")
+    void shouldTotalOpenAccountsOnly() {
+        givenRows();
+
+        StepVerifier.create(adapter.getTotalsByAccountType(CUSTOMER_ID))
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), eq(CUSTOMER_ID));
+        // The predicate of idx_accounts_customer_active, so the planner can use it
+        assertTrue(sql.getValue().contains("WHERE a.customer_id = ? AND a.state"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows(ResultSet... rows) {
+        doAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            List<Object> mapped = new ArrayList<>();
+            for (ResultSet rs : rows) {
+                mapped.add(mapper.mapRow(rs, mapped.size()));
+            }
+            return mapped;
+        }).when(jdbcTemplate).query(anyString(), any(RowMapper.class), eq(CUSTOMER_ID));
+    }
+
+    private static ResultSet row(String accountType, long accountCount, String balance, Timestamp lastMovementAt)
+            throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("account_type")).thenReturn(accountType);
+        when(rs.getLong("account_count")).thenReturn(accountCount);
+        when(rs.getBigDecimal("balance")).thenReturn(new BigDecimal(balance));
+        when(rs.getTimestamp("last_movement_at")).thenReturn(lastMovementAt);
+        return rs;
+    }
+}
@@ -0,0 +1,121 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.domain.model.Movement;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.outbox.MovementOutbox;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.AccountEntity;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.entity.MovementEntity;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.mapper.MovementMapper;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository.AccountJpaRepository;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.repository.MovementJpaRepository;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostingPersistenceAdapter - Unit Tests")
+class PostingPersistenceAdapterTest {
+
+    private static final Long ACCOUNT_NUMBER = 478758L;
+    private static final Long VERSION = 3L;
+    private static final UUID ACCOUNT_ID = UUID.fromString("0194a3b2-0000-7000-8000-000000000001");
+    private static final UUID MOVEMENT_ID = UUID.fromString("0194a3b2-0000-7000-8000-000000000020");
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 3, 14, 10, 0);
+
+    @Mock
+    private AccountJpaRepository accountJpaRepository;
+
+    @Mock
+    private MovementJpaRepository movementJpaRepository;
+
+    @Mock
+    private MovementMapper movementMapper;
+
+    @Mock
+    private MovementOutbox movementOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostingPersistenceAdapter adapter;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new PostingPersistenceAdapter(accountJpaRepository, movementJpaRepository, movementMapper,
+                movementOutbox, transactionManager, ObservationRegistry.NOOP);
+        // A projection: the posting never needs the movements of the account
+        account = Account.builder()
+                .id(ACCOUNT_ID)
+                .accountNumber(ACCOUNT_NUMBER)
+                .balance(new BigDecimal("100.00"))
+                .version(VERSION)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should update the account row, insert the single movement and publish it")
+    void shouldPostSingleMovement() {
+        Movement credit = account.credit(new BigDecimal("10.00")).toBuilder().date(DATE).build();
+        MovementEntity entity = new MovementEntity();
+        AccountEntity reference = AccountEntity.builder().id(ACCOUNT_ID).build();
+        when(accountJpaRepository.updateBalance(ACCOUNT_ID, new BigDecimal("110.00"), VERSION)).thenReturn(1);
+        when(accountJpaRepository.getReferenceById(ACCOUNT_ID)).thenReturn(reference);
+        when(movementMapper.toEntity(credit)).thenReturn(entity);
+        when(movementJpaRepository.save(entity)).thenAnswer(invocation -> {
+            entity.setId(MOVEMENT_ID);
+            entity.setCreatedDate(DATE);
+            return entity;
+        });
+
+        StepVerifier.create(adapter.postMovement(account, credit))
+                .assertNext(posted -> {
+                    assertEquals(MOVEMENT_ID, posted.getId());
+                    assertEquals(ACCOUNT_NUMBER, posted.getAccountNumber());
+                    assertEquals(new BigDecimal("110.00"), posted.getBalanceAfter());
+                })
+                .verifyComplete();
+
+        assertSame(reference, entity.getAccount());
+        // Neither the whole account nor its history is written or read back
+        verify(accountJpaRepository, never()).saveAndFlush(any());
+        verify(accountJpaRepository, never()).save(any());
+        verify(movementMapper, never()).toDomain(any());
+        ArgumentCaptor<MovementPosted> event = ArgumentCaptor.forClass(MovementPosted.class);
+        verify(movementOutbox).append(event.capture());
+        assertEquals(MOVEMENT_ID, event.getValue().getMovementId());
+        assertEquals(ACCOUNT_ID, event.getValue().getAccountId());
+        assertEquals(MovementType.CREDIT, event.getValue().getMovementType());
+    }
+
+    @Test
+    @DisplayName("Should fail the posting without a movement when the account was updated since it was read")
+    void shouldFailOnStaleVersion() {
+        Movement debit = account.debit(new BigDecimal("10.00"));
+        when(accountJpaRepository.updateBalance(ACCOUNT_ID, new BigDecimal("90.00"), VERSION)).thenReturn(0);
+
+        StepVerifier.create(adapter.postMovement(account, debit))
+                .expectError(ObjectOptimisticLockingFailureException.class)
+                .verify();
+
+        verifyNoInteractions(movementJpaRepository, movementOutbox);
+    }
+}
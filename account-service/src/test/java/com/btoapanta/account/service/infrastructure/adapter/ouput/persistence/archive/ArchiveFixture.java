@@ -0,0 +1,27 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive;
+
+import com.btoapanta.account.service.domain.model.Movement;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * Writes segments for tests outside this package, as MovementArchiver would.
+ */
+public final class ArchiveFixture {
+
+    private ArchiveFixture() {
+    }
+
+    public static void writeSegment(Path directory, int year, int month, UUID accountId, Movement... movements)
+            throws IOException {
+        try (MovementSegmentWriter writer = new MovementArchive(directory).newSegment(YearMonth.of(year, month))) {
+            for (Movement movement : movements) {
+                writer.append(accountId, movement);
+            }
+            writer.commit();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.model.Movement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MovementSegment - Unit Tests")
+class MovementSegmentTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should read back every field of the movements of an account, oldest first")
+    void shouldRoundTripMovements() throws IOException {
+        UUID accountId = UUID.randomUUID();
+        Movement credit = movement(478758L, MovementType.CREDIT, "100.50", "0.00", JANUARY.plusDays(1).plusNanos(123_456_000));
+        Movement debit = movement(478758L, MovementType.DEBIT, "0.01", "100.50", JANUARY.plusDays(2));
+
+        MovementSegment segment = write(List.of(new Row(accountId, credit), new Row(accountId, debit)));
+
+        assertEquals(List.of(credit, debit), segment.read(accountId, null, null));
+    }
+
+    @Test
+    @DisplayName("Should keep only the movements created in [from, to)")
+    void shouldFilterByPeriod() throws IOException {
+        UUID accountId = UUID.randomUUID();
+        List<Row> rows = new ArrayList<>();
+        for (int day = 0; day < 5; day++) {
+            rows.add(new Row(accountId, movement(478758L, MovementType.CREDIT, "1.00", day + ".00", JANUARY.plusDays(day))));
+        }
+
+        MovementSegment segment = write(rows);
+
+        List<Movement> movements = segment.read(accountId, JANUARY.plusDays(1), JANUARY.plusDays(3));
+        assertEquals(List.of(JANUARY.plusDays(1), JANUARY.plusDays(2)), movements.stream().map(Movement::getDate).toList());
+    }
+
+    @Test
+    @DisplayName("Should find every account through the index, whatever the sign of its id bits")
+    void shouldFindEveryAccountThroughIndex() throws IOException {
+        Random random = new Random(42);
+        List<Row> rows = new ArrayList<>();
+        List<UUID> accountIds = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            UUID accountId = new UUID(random.nextLong(), random.nextLong());
+            accountIds.add(accountId);
+            rows.add(new Row(accountId, movement(100_000L + i, MovementType.CREDIT, "5.00", "0.00", JANUARY.plusHours(i))));
+        }
+
+        MovementSegment segment = write(rows);
+
+        for (int i = 0; i < accountIds.size(); i++) {
+            List<Movement> movements = segment.read(accountIds.get(i), null, null);
+            assertEquals(1, movements.size());
+            assertEquals(100_000L + i, movements.get(0).getAccountNumber());
+        }
+        assertTrue(segment.read(new UUID(random.nextLong(), random.nextLong()), null, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should compress the account blocks below the size of their records")
+    void shouldCompressBlocks() throws IOException {
+        UUID accountId = UUID.randomUUID();
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            // Time ordered ids, as UuidV7Generator assigns them
+            Movement movement = movement(478758L, MovementType.CREDIT, "10.00", i * 10 + ".00", JANUARY.plusMinutes(i));
+            rows.add(new Row(accountId, movement.toBuilder().id(new UUID(0x0194_1a2b_3c4d_7000L + i, 0x8000_0000_0000_0000L)).build()));
+        }
+
+        write(rows);
+
+        long size = Files.size(segmentPath());
+        assertTrue(size < 1_000L * MovementSegmentWriter.RECORD_SIZE / 2, "segment of " + size + " bytes");
+    }
+
+    @Test
+    @DisplayName("Should store movement types as explicit codes and read version 1 ordinals")
+    void shouldMapMovementTypeCodes() {
+        assertEquals('C', MovementSegmentWriter.typeCode(MovementType.CREDIT));
+        assertEquals('D', MovementSegmentWriter.typeCode(MovementType.DEBIT));
+        assertEquals(MovementType.DEBIT, MovementSegmentWriter.typeOf(MovementSegmentWriter.VERSION, (byte) 'D'));
+        assertEquals(MovementType.CREDIT, MovementSegmentWriter.typeOf(1, (byte) 0));
+        assertEquals(MovementType.DEBIT, MovementSegmentWriter.typeOf(1, (byte) 1));
+        assertThrows(IllegalStateException.class, () -> MovementSegmentWriter.typeOf(MovementSegmentWriter.VERSION, (byte) 1));
+    }
+
+    @Test
+    @DisplayName("Should reject movements of an account that are not contiguous")
+    void shouldRejectInterleavedAccounts() throws IOException {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        try (MovementSegmentWriter writer = new MovementSegmentWriter(segmentPath())) {
+            writer.append(first, movement(478758L, MovementType.CREDIT, "1.00", "0.00", JANUARY));
+            writer.append(second, movement(478759L, MovementType.CREDIT, "1.00", "0.00", JANUARY));
+
+            assertThrows(IllegalStateException.class,
+                    () -> writer.append(first, movement(478758L, MovementType.CREDIT, "1.00", "1.00", JANUARY.plusDays(1))));
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave no file behind when the segment is not committed")
+    void shouldDiscardUncommittedSegment() throws IOException {
+        try (MovementSegmentWriter writer = new MovementSegmentWriter(segmentPath())) {
+            writer.append(UUID.randomUUID(), movement(478758L, MovementType.CREDIT, "1.00", "0.00", JANUARY));
+        }
+
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse to open a file that is not a segment")
+    void shouldRejectForeignFile() throws IOException {
+        Files.write(segmentPath(), new byte[64]);
+
+        assertThrows(IOException.class, () -> MovementSegment.open(segmentPath()));
+    }
+
+    @Test
+    @DisplayName("Should pick up a segment another archive wrote to the shared directory")
+    void shouldPickUpSegmentWrittenElsewhere() throws IOException {
+        MovementArchive reader = new MovementArchive(directory);
+        MovementArchive writer = new MovementArchive(directory);
+        UUID accountId = UUID.randomUUID();
+        Movement credit = movement(478758L, MovementType.CREDIT, "1.00", "0.00", JANUARY);
+
+        try (MovementSegmentWriter segment = writer.newSegment(YearMonth.of(2025, 1))) {
+            segment.append(accountId, credit);
+            segment.commit();
+        }
+
+        assertTrue(reader.contains(YearMonth.of(2025, 1)));
+        assertEquals(List.of(credit), reader.find(accountId, null, null));
+    }
+
+    private MovementSegment write(List<Row> rows) throws IOException {
+        try (MovementSegmentWriter writer = new MovementSegmentWriter(segmentPath())) {
+            for (Row row : rows) {
+                writer.append(row.accountId(), row.movement());
+            }
+            writer.commit();
+        }
+        return MovementSegment.open(segmentPath());
+    }
+
+    private Path segmentPath() {
+        return directory.resolve("movements-2025-01.seg");
+    }
+
+    private static Movement movement(long accountNumber, MovementType type, String amount, String balanceBefore,
+                                     LocalDateTime date) {
+        BigDecimal before = new BigDecimal(balanceBefore).setScale(2);
+        BigDecimal value = new BigDecimal(amount).setScale(2);
+        return Movement.builder()
+                .id(UUID.randomUUID())
+                .accountNumber(accountNumber)
+                .movementType(type)
+                .amount(value)
+                .balanceBefore(before)
+                .balanceAfter(type == MovementType.CREDIT ? before.add(value) : before.subtract(value))
+                .date(date)
+                .build();
+    }
+
+    private record Row(UUID accountId, Movement movement) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MovementCsvEncoder - Unit Tests")
+class MovementCsvEncoderTest {
+
+    private final MovementCsvEncoder encoder = new MovementCsvEncoder();
+
+    @Test
+    @DisplayName("Should write the header with CRLF line endings")
+    void shouldWriteHeader() {
+        assertEquals("id,date,movementType,amount,balanceBefore,balanceAfter\r\n",
+                new String(MovementCsvEncoder.HEADER, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    @DisplayName("Should write a row of unquoted fields")
+    void shouldWriteRow() {
+        String row = write(UUID.fromString("0194a3b2-7c1d-7e2f-8a9b-0c1d2e3f4a5b"),
+                LocalDateTime.of(2025, 1, 9, 8, 5, 3, 120_000_000), "CREDIT",
+                new BigDecimal("150.5"), new BigDecimal("0"), new BigDecimal("150.50"));
+
+        assertEquals("0194a3b2-7c1d-7e2f-8a9b-0c1d2e3f4a5b,2025-01-09T08:05:03.120000Z,CREDIT,150.50,0.00,150.50\r\n", row);
+    }
+
+    @Test
+    @DisplayName("Should pad ids and dates and write the sign of negative amounts")
+    void shouldPadAndSign() {
+        String row = write(new UUID(0x1L, 0x2L), LocalDateTime.of(999, 12, 31, 23, 59, 59, 999_999_999), "DEBIT",
+                new BigDecimal("-0.05"), new BigDecimal("1234567890123.45"), new BigDecimal("-1000"));
+
+        assertEquals("00000000-0000-0001-0000-000000000002,0999-12-31T23:59:59.999999Z,DEBIT,-0.05,1234567890123.45,-1000.00\r\n", row);
+    }
+
+    @Test
+    @DisplayName("Should refuse a movement type that would need quoting instead of writing it unescaped")
+    void shouldRejectTypeNeedingQuotes() {
+        for (String type : new String[]{"CRE,DIT", "DE\"BIT", "DEBIT\r\n", "credit", ""}) {
+            assertThrows(IllegalArgumentException.class, () -> write(UUID.randomUUID(), LocalDateTime.of(2025, 1, 1, 0, 0),
+                    type, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE), type);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject amounts with more than two decimals instead of rounding them")
+    void shouldRejectUnscalableAmount() {
+        assertThrows(ArithmeticException.class, () -> write(UUID.randomUUID(), LocalDateTime.of(2025, 1, 1, 0, 0),
+                "CREDIT", new BigDecimal("0.001"), BigDecimal.ONE, BigDecimal.ONE));
+    }
+
+    private String write(UUID id, LocalDateTime date, String type, BigDecimal amount, BigDecimal before, BigDecimal after) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(MovementCsvEncoder.MAX_ROW_SIZE);
+        encoder.write(buffer, id, date, type, amount, before, after);
+        return buffer.toString(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,153 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.export;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.model.Movement;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.ArchiveFixture;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchive;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MovementCsvExportAdapter - Unit Tests")
+class MovementCsvExportAdapterTest {
+
+    private static final String HEADER = "id,date,movementType,amount,balanceBefore,balanceAfter";
+    private static final UUID ACCOUNT_ID = UUID.fromString("0194a3b2-0000-7000-8000-000000000001");
+
+    // An in-memory H2 database stands in for PostgreSQL; the export only uses plain JDBC
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:export;DB_CLOSE_DELAY=-1");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @TempDir
+    Path archiveDirectory;
+
+    private MovementCsvExportAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("""
+                CREATE TABLE movements (
+                    id UUID PRIMARY KEY, account_id UUID, created_date TIMESTAMP, movement_type VARCHAR(10),
+                    amount DECIMAL(19, 2), balance_before DECIMAL(19, 2), balance_after DECIMAL(19, 2))
+                """);
+        adapter = new MovementCsvExportAdapter(dataSource, new MovementArchive(archiveDirectory), ObservationRegistry.NOOP);
+    }
+
+    @Test
+    @DisplayName("Should write only the header for a period without movements")
+    void shouldWriteHeaderForEmptyPeriod() {
+        insert(LocalDateTime.of(2025, 3, 10, 9, 0), "CREDIT", "10.00", "0.00", "10.00");
+
+        assertEquals(List.of(HEADER), export(LocalDateTime.of(2025, 4, 1, 0, 0), LocalDateTime.of(2025, 5, 1, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("Should write only the header for an account without movements")
+    void shouldWriteHeaderForUnknownAccount() {
+        insert(LocalDateTime.of(2025, 3, 10, 9, 0), "CREDIT", "10.00", "0.00", "10.00");
+
+        List<String> lines = lines(adapter.exportMovements(UUID.randomUUID(), null, null, DefaultDataBufferFactory.sharedInstance));
+
+        assertEquals(List.of(HEADER), lines);
+    }
+
+    @Test
+    @DisplayName("Should write the live movements of the period oldest first")
+    void shouldWriteLiveMovements() {
+        UUID first = insert(LocalDateTime.of(2025, 3, 10, 9, 0), "CREDIT", "10.00", "0.00", "10.00");
+        UUID second = insert(LocalDateTime.of(2025, 3, 11, 9, 0), "DEBIT", "2.50", "10.00", "7.50");
+        insert(LocalDateTime.of(2025, 4, 1, 0, 0), "CREDIT", "1.00", "7.50", "8.50");
+
+        assertEquals(List.of(HEADER,
+                        first + ",2025-03-10T09:00:00.000000Z,CREDIT,10.00,0.00,10.00",
+                        second + ",2025-03-11T09:00:00.000000Z,DEBIT,2.50,10.00,7.50"),
+                export(LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("Should write archived months from their segment and skip their rows still in the database")
+    void shouldWriteArchivedMonthsOnce() throws Exception {
+        Movement archived = Movement.builder()
+                .id(UUID.fromString("0194a3b2-0000-7000-8000-0000000000aa"))
+                .accountNumber(478758L)
+                .movementType(MovementType.CREDIT)
+                .amount(new BigDecimal("5.00"))
+                .balanceBefore(new BigDecimal("0.00"))
+                .balanceAfter(new BigDecimal("5.00"))
+                .date(LocalDateTime.of(2025, 1, 15, 12, 0))
+                .build();
+        ArchiveFixture.writeSegment(archiveDirectory, 2025, 1, ACCOUNT_ID, archived);
+        // Archived but not yet detached
+        insert(archived.getDate(), "CREDIT", "5.00", "0.00", "5.00");
+        UUID live = insert(LocalDateTime.of(2025, 2, 1, 8, 0), "DEBIT", "1.00", "5.00", "4.00");
+
+        assertEquals(List.of(HEADER,
+                        archived.getId() + ",2025-01-15T12:00:00.000000Z,CREDIT,5.00,0.00,5.00",
+                        live + ",2025-02-01T08:00:00.000000Z,DEBIT,1.00,5.00,4.00"),
+                export(null, null));
+    }
+
+    @Test
+    @DisplayName("Should read rows only as the subscriber requests chunks")
+    void shouldStreamOnDemand() {
+        for (int i = 0; i < 1_000; i++) {
+            insert(LocalDateTime.of(2025, 3, 1, 0, 0).plusMinutes(i), "CREDIT", "1.00", i + ".00", (i + 1) + ".00");
+        }
+
+        StepVerifier.create(adapter.exportMovements(ACCOUNT_ID, null, null, DefaultDataBufferFactory.sharedInstance), 0)
+                .thenRequest(1)
+                .assertNext(header -> assertEquals(HEADER + "\r\n", release(header)))
+                .thenRequest(1)
+                .assertNext(chunk -> {
+                    String rows = release(chunk);
+                    assertTrue(rows.length() <= 16 * 1024);
+                    // A full chunk, far from the whole history
+                    assertTrue(rows.split("\r\n").length > 100 && rows.split("\r\n").length < 1_000);
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    private List<String> export(LocalDateTime from, LocalDateTime to) {
+        return lines(adapter.exportMovements(ACCOUNT_ID, from, to, DefaultDataBufferFactory.sharedInstance));
+    }
+
+    private static List<String> lines(Flux<DataBuffer> export) {
+        String csv = String.join("", export.map(MovementCsvExportAdapterTest::release).collectList().block());
+        assertTrue(csv.endsWith("\r\n"));
+        return List.of(csv.split("\r\n"));
+    }
+
+    private static String release(DataBuffer buffer) {
+        String text = buffer.toString(StandardCharsets.US_ASCII);
+        DataBufferUtils.release(buffer);
+        return text;
+    }
+
+    private UUID insert(LocalDateTime date, String type, String amount, String before, String after) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO movements VALUES (?, ?, ?, ?, ?, ?, ?)", id, ACCOUNT_ID, Timestamp.valueOf(date),
+                type, new BigDecimal(amount), new BigDecimal(before), new BigDecimal(after));
+        return id;
+    }
+}
@@ -0,0 +1,239 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.interest;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.event.MovementPosted;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.outbox.MovementOutbox;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * The SQL needs PostgreSQL; here the accounts the chunk query returns are handed to the batch, so
+ * what is tested is the interest it credits, how it chunks, checkpoints and resumes.
+ */
+@DisplayName("InterestAccrualBatch - Unit Tests")
+class InterestAccrualBatchTest {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final UUID LAST_ID = new UUID(-1L, -1L);
+    private static final LocalDate ACCRUAL_DATE = LocalDate.of(2025, 3, 14);
+    private static final BigDecimal RATE = new BigDecimal("0.0365");
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    // Accounts returned by the chunk query, by the id the chunk starts after
+    private final Map<UUID, List<ResultSet>> accountsByChunk = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement lockStatement = mock(PreparedStatement.class);
+        ResultSet lockResult = mock(ResultSet.class);
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(lockStatement);
+        when(lockStatement.executeQuery()).thenReturn(lockResult);
+        when(lockResult.next()).thenReturn(true);
+        when(lockResult.getBoolean(1)).thenReturn(true);
+
+        // Parameters: accrual date twice for the closing balance, after, upTo, accrual date
+        doAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            List<Object> rows = new ArrayList<>();
+            for (ResultSet rs : accountsByChunk.getOrDefault((UUID) invocation.getArgument(4), List.of())) {
+                rows.add(mapper.mapRow(rs, rows.size()));
+            }
+            return rows;
+        }).when(jdbcTemplate).query(contains("FOR UPDATE OF a"), any(RowMapper.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should compute a day of interest at the scale of amounts, rounding half to even")
+    void shouldComputeDailyInterest() {
+        assertEquals(new BigDecimal("0.41"), InterestAccrualBatch.interestOf(new BigDecimal("10000.00"), new BigDecimal("0.015"), 365));
+        assertEquals(new BigDecimal("0.12"), InterestAccrualBatch.interestOf(new BigDecimal("1250.00"), RATE, 365));
+        assertEquals(new BigDecimal("0.14"), InterestAccrualBatch.interestOf(new BigDecimal("1350.00"), RATE, 365));
+        assertEquals(new BigDecimal("0.00"), InterestAccrualBatch.interestOf(new BigDecimal("0.00"), RATE, 365));
+    }
+
+    @Test
+    @DisplayName("Should credit the interest of the closing balance of the day on top of the current balance")
+    void shouldCreditInterestOfClosingBalance() {
+        UUID accountId = UUID.randomUUID();
+        // 10000.00 at the close of the accrual date, 500.00 now
+        accountsByChunk.put(FIRST_ID, List.of(account(accountId, "500.00", "10000.00")));
+
+        batch(100).accrue(ACCRUAL_DATE);
+
+        Object[] movement = single(batchRows("INSERT INTO movements"));
+        assertEquals(accountId, movement[1]);
+        assertEquals(new BigDecimal("1.00"), movement[2]);
+        assertEquals(new BigDecimal("500.00"), movement[3]);
+        assertEquals(new BigDecimal("501.00"), movement[4]);
+        assertArrayEquals(new Object[]{new BigDecimal("501.00"), accountId}, single(batchRows("UPDATE accounts")));
+        Object[] accrual = single(batchRows("INSERT INTO interest_accruals"));
+        assertArrayEquals(new Object[]{accountId, ACCRUAL_DATE, movement[0], new BigDecimal("1.00")}, accrual);
+    }
+
+    @Test
+    @DisplayName("Should write the event of each credit to the outbox in the batch of the chunk")
+    void shouldWriteOutboxEvents() throws Exception {
+        UUID accountId = UUID.randomUUID();
+        accountsByChunk.put(FIRST_ID, List.of(account(accountId, "500.00", "10000.00")));
+
+        batch(100).accrue(ACCRUAL_DATE);
+
+        Object[] movement = single(batchRows("INSERT INTO movements"));
+        Object[] event = single(batchRows("INSERT INTO movement_outbox"));
+        assertEquals(accountId, event[1]);
+        assertEquals("MovementPosted", event[2]);
+        MovementPosted posted = objectMapper.readValue((String) event[3], MovementPosted.class);
+        assertEquals(movement[0], posted.getMovementId());
+        assertEquals(MovementType.CREDIT, posted.getMovementType());
+        assertEquals(new BigDecimal("1.00"), posted.getAmount());
+        assertEquals(new BigDecimal("501.00"), posted.getBalanceAfter());
+    }
+
+    @Test
+    @DisplayName("Should write nothing for accounts whose interest rounds to zero")
+    void shouldSkipZeroInterest() {
+        accountsByChunk.put(FIRST_ID, List.of(account(UUID.randomUUID(), "10.00", "10.00")));
+
+        batch(100).accrue(ACCRUAL_DATE);
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verifyCheckpoint(LAST_ID, 0, BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should checkpoint chunks in id order and complete the run")
+    void shouldCheckpointChunksInOrder() {
+        UUID boundary = UUID.fromString("0194a3b2-0000-7000-8000-000000000100");
+        when(jdbcTemplate.queryForList(contains("ORDER BY id OFFSET"), eq(UUID.class), eq(FIRST_ID), eq(1)))
+                .thenReturn(List.of(boundary));
+        accountsByChunk.put(FIRST_ID, List.of(account(UUID.randomUUID(), "0.00", "10000.00"),
+                account(UUID.randomUUID(), "0.00", "20000.00")));
+        accountsByChunk.put(boundary, List.of(account(UUID.randomUUID(), "0.00", "10000.00")));
+
+        batch(2).accrue(ACCRUAL_DATE);
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(contains("SET last_account_id"),
+                eq(boundary), eq(2), eq(new BigDecimal("3.00")), eq(ACCRUAL_DATE));
+        inOrder.verify(jdbcTemplate).update(contains("SET last_account_id"),
+                eq(LAST_ID), eq(1), eq(new BigDecimal("1.00")), eq(ACCRUAL_DATE));
+        inOrder.verify(jdbcTemplate).update(contains("SET completed_at"), any(), eq(ACCRUAL_DATE));
+    }
+
+    @Test
+    @DisplayName("Should resume after the last checkpointed account")
+    void shouldResumeAfterCheckpoint() {
+        UUID lastAccount = UUID.fromString("0194a3b2-0000-7000-8000-000000000200");
+        Map<String, Object> run = new HashMap<>();
+        run.put("last_account_id", lastAccount);
+        run.put("completed_at", null);
+        when(jdbcTemplate.queryForMap(anyString(), eq(ACCRUAL_DATE))).thenReturn(run);
+        accountsByChunk.put(lastAccount, List.of(account(UUID.randomUUID(), "0.00", "10000.00")));
+
+        batch(100).accrue(ACCRUAL_DATE);
+
+        verify(jdbcTemplate).queryForList(contains("ORDER BY id OFFSET"), eq(UUID.class), eq(lastAccount), eq(99));
+        verifyCheckpoint(LAST_ID, 1, new BigDecimal("1.00"));
+    }
+
+    @Test
+    @DisplayName("Should credit nothing again for a day already accrued")
+    void shouldSkipCompletedDay() {
+        Map<String, Object> run = new HashMap<>();
+        run.put("completed_at", Timestamp.valueOf(ACCRUAL_DATE.plusDays(1).atTime(1, 0)));
+        when(jdbcTemplate.queryForMap(anyString(), eq(ACCRUAL_DATE))).thenReturn(run);
+
+        batch(100).accrue(ACCRUAL_DATE);
+
+        verify(jdbcTemplate, never()).query(contains("FOR UPDATE OF a"), any(RowMapper.class), any(Object[].class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should finish an earlier day left incomplete before the requested one")
+    void shouldFinishPendingDaysFirst() {
+        LocalDate pending = ACCRUAL_DATE.minusDays(2);
+        when(jdbcTemplate.queryForList(contains("completed_at IS NULL"), eq(LocalDate.class), eq(ACCRUAL_DATE)))
+                .thenReturn(List.of(pending));
+
+        batch(100).accrue(ACCRUAL_DATE);
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(contains("SET completed_at"), any(), eq(pending));
+        inOrder.verify(jdbcTemplate).update(contains("SET completed_at"), any(), eq(ACCRUAL_DATE));
+    }
+
+    private InterestAccrualBatch batch(int chunkSize) {
+        return new InterestAccrualBatch(jdbcTemplate, transactionTemplate, new MovementOutbox(jdbcTemplate, objectMapper),
+                Clock.fixed(Instant.parse("2025-03-15T01:00:00Z"), ZoneOffset.UTC), RATE, 365, chunkSize, 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> batchRows(String sqlStart) {
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(sqlStart), rows.capture());
+        return rows.getValue();
+    }
+
+    private void verifyCheckpoint(UUID upTo, int accounts, BigDecimal interest) {
+        verify(jdbcTemplate).update(contains("SET last_account_id"), eq(upTo), eq(accounts), eq(interest), eq(ACCRUAL_DATE));
+    }
+
+    private static Object[] single(List<Object[]> rows) {
+        assertEquals(1, rows.size());
+        return rows.get(0);
+    }
+
+    private static ResultSet account(UUID accountId, String balance, String closingBalance) {
+        ResultSet rs = mock(ResultSet.class);
+        try {
+            when(rs.getObject("id", UUID.class)).thenReturn(accountId);
+            when(rs.getLong("account_number")).thenReturn(478758L);
+            when(rs.getBigDecimal("balance")).thenReturn(new BigDecimal(balance));
+            when(rs.getBigDecimal("closing_balance")).thenReturn(new BigDecimal(closingBalance));
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return rs;
+    }
+}
@@ -0,0 +1,146 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.limit;
+
+import com.btoapanta.account.service.domain.enums.AccountType;
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.exception.business.DebitLimitExceededException;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.domain.model.Movement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DebitLimitAdapter - Unit Tests")
+class DebitLimitAdapterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    // In-memory H2 stands in for PostgreSQL, with the tables as V9 leaves them
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:limits;DB_CLOSE_DELAY=-1");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+    private final Account account = Account.builder()
+            .id(UUID.randomUUID()).accountNumber(478758L).accountType(AccountType.SAVINGS).build();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("""
+                CREATE TABLE movements (account_id UUID, movement_type VARCHAR(10), amount NUMERIC(19, 2),
+                                        created_date TIMESTAMP(6))
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE debit_window_buckets (instance_id VARCHAR(100), account_id UUID, bucket_millis BIGINT,
+                                                   slot BIGINT, amount NUMERIC(19, 2),
+                                                   PRIMARY KEY (instance_id, account_id, bucket_millis, slot))
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE debit_window_checkpoints (instance_id VARCHAR(100) PRIMARY KEY,
+                                                       checkpointed_at TIMESTAMP(6))
+                """);
+    }
+
+    @Test
+    @DisplayName("Should checkpoint and restore the windows of each instance on their own")
+    void shouldKeepCheckpointsPerInstance() {
+        DebitLimitAdapter first = started("instance-a");
+        first.reserve(account, debit("80.00"));
+        first.checkpoint();
+        DebitLimitAdapter second = started("instance-b");
+        second.reserve(account, debit("50.00"));
+        second.checkpoint();
+        first.checkpoint();
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM debit_window_checkpoints", Integer.class));
+        assertThrows(DebitLimitExceededException.class, () -> started("instance-a").reserve(account, debit("30.00")));
+        assertDoesNotThrow(() -> started("instance-b").reserve(account, debit("30.00")));
+    }
+
+    @Test
+    @DisplayName("Should replay the debits of the last day when the instance has no checkpoint")
+    void shouldReplayDebitsWithoutCheckpoint() {
+        insertDebit("60.00", NOW.minusHours(2));
+        insertDebit("40.00", NOW.minusDays(2));
+
+        DebitLimitAdapter adapter = started("instance-a");
+
+        assertDoesNotThrow(() -> adapter.reserve(account, debit("40.00")));
+        assertThrows(DebitLimitExceededException.class, () -> adapter.reserve(account, debit("10.00")));
+    }
+
+    @Test
+    @DisplayName("Should replay the debits created after the checkpoint on top of it")
+    void shouldReplayDebitsAfterCheckpoint() {
+        DebitLimitAdapter first = started("instance-a");
+        first.reserve(account, debit("50.00"));
+        first.checkpoint();
+        // Already in the checkpoint, then one posted after it
+        jdbcTemplate.update("UPDATE debit_window_checkpoints SET checkpointed_at = ?", Timestamp.valueOf(NOW.minusMinutes(10)));
+        insertDebit("30.00", NOW.minusMinutes(5));
+
+        DebitLimitAdapter restarted = started("instance-a");
+
+        assertThrows(DebitLimitExceededException.class, () -> restarted.reserve(account, debit("30.00")));
+        assertDoesNotThrow(() -> restarted.reserve(account, debit("20.00")));
+    }
+
+    @Test
+    @DisplayName("Should drop the checkpoints no instance has written for a day")
+    void shouldDropStaleCheckpoints() {
+        jdbcTemplate.update("INSERT INTO debit_window_checkpoints VALUES ('gone', ?)", Timestamp.valueOf(NOW.minusDays(2)));
+        jdbcTemplate.update("INSERT INTO debit_window_buckets VALUES ('gone', ?, 3600000, 1, 10.00)", account.getId());
+
+        started("instance-a").checkpoint();
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM debit_window_buckets WHERE instance_id = 'gone'", Integer.class));
+        assertEquals("instance-a", jdbcTemplate.queryForObject(
+                "SELECT instance_id FROM debit_window_checkpoints", String.class));
+    }
+
+    @Test
+    @DisplayName("Should rebuild before the web server starts and checkpoint after it stops")
+    void shouldStartBeforeWebServer() {
+        DebitLimitAdapter adapter = started("instance-a");
+
+        assertTrue(adapter.isRunning());
+        assertTrue(adapter.getPhase() < WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024);
+
+        adapter.stop();
+        assertFalse(adapter.isRunning());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM debit_window_checkpoints", Integer.class));
+    }
+
+    private DebitLimitAdapter started(String instanceId) {
+        DebitLimitProperties.Limit limit = new DebitLimitProperties.Limit();
+        limit.setDaily(new BigDecimal("100.00"));
+        DebitLimitAdapter adapter = new DebitLimitAdapter(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), clock, instanceId,
+                Map.of(AccountType.SAVINGS, limit));
+        adapter.start();
+        return adapter;
+    }
+
+    private void insertDebit(String amount, LocalDateTime createdDate) {
+        jdbcTemplate.update("INSERT INTO movements VALUES (?, 'DEBIT', ?, ?)",
+                account.getId(), new BigDecimal(amount), Timestamp.valueOf(createdDate));
+    }
+
+    private static Movement debit(String amount) {
+        return Movement.builder().movementType(MovementType.DEBIT).amount(new BigDecimal(amount)).date(NOW).build();
+    }
+}
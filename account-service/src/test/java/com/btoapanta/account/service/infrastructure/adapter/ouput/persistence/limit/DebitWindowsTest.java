@@ -0,0 +1,95 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DebitWindows - Unit Tests")
+class DebitWindowsTest {
+
+    private static final long MINUTE = 60 * 1000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long NO_LIMIT = -1;
+
+    private final DebitWindows windows = new DebitWindows();
+    private final UUID accountId = UUID.randomUUID();
+    private final long now = 1_000 * HOUR;
+
+    @Test
+    @DisplayName("Should count debits within the limits")
+    void shouldCountDebitsWithinLimits() {
+        assertNull(windows.tryDebit(accountId, 40_00, now, 100_00, 300_00));
+        assertNull(windows.tryDebit(accountId, 60_00, now + MINUTE, 100_00, 300_00));
+
+        assertEquals(100_00, windows.hourTotal(accountId, now + MINUTE));
+        assertEquals(100_00, windows.dayTotal(accountId, now + MINUTE));
+    }
+
+    @Test
+    @DisplayName("Should reject a debit over the hourly limit without counting it")
+    void shouldRejectDebitOverHourlyLimit() {
+        assertNull(windows.tryDebit(accountId, 80_00, now, 100_00, 300_00));
+
+        assertEquals(DebitWindows.Window.HOURLY, windows.tryDebit(accountId, 30_00, now, 100_00, 300_00));
+        assertEquals(80_00, windows.hourTotal(accountId, now));
+    }
+
+    @Test
+    @DisplayName("Should reject a debit over the daily limit once the hour has passed")
+    void shouldRejectDebitOverDailyLimit() {
+        assertNull(windows.tryDebit(accountId, 100_00, now, 100_00, 150_00));
+
+        assertEquals(0, windows.hourTotal(accountId, now + 2 * HOUR));
+        assertEquals(DebitWindows.Window.DAILY, windows.tryDebit(accountId, 60_00, now + 2 * HOUR, 100_00, 150_00));
+        assertNull(windows.tryDebit(accountId, 50_00, now + 2 * HOUR, 100_00, 150_00));
+    }
+
+    @Test
+    @DisplayName("Should forget debits older than the window")
+    void shouldForgetDebitsOlderThanWindow() {
+        windows.record(accountId, 500_00, now);
+
+        assertEquals(0, windows.hourTotal(accountId, now + 2 * HOUR));
+        assertEquals(500_00, windows.dayTotal(accountId, now + 2 * HOUR));
+        assertEquals(0, windows.dayTotal(accountId, now + 25 * HOUR));
+        assertNull(windows.tryDebit(accountId, 500_00, now + 25 * HOUR, 500_00, 500_00));
+    }
+
+    @Test
+    @DisplayName("Should take back a released debit")
+    void shouldReleaseDebit() {
+        assertNull(windows.tryDebit(accountId, 70_00, now, NO_LIMIT, NO_LIMIT));
+
+        windows.release(accountId, 70_00, now);
+
+        assertEquals(0, windows.hourTotal(accountId, now));
+        assertEquals(0, windows.dayTotal(accountId, now));
+    }
+
+    @Test
+    @DisplayName("Should restore the totals from a snapshot")
+    void shouldRestoreFromSnapshot() {
+        windows.record(accountId, 20_00, now - 3 * HOUR);
+        windows.record(accountId, 30_00, now - 10 * MINUTE);
+
+        List<DebitWindows.Bucket> buckets = windows.snapshot(now);
+        DebitWindows restored = new DebitWindows();
+        buckets.forEach(bucket -> restored.restore(bucket.accountId(), bucket.bucketMillis(), bucket.slot(), bucket.cents()));
+
+        assertEquals(30_00, restored.hourTotal(accountId, now));
+        assertEquals(50_00, restored.dayTotal(accountId, now));
+    }
+
+    @Test
+    @DisplayName("Should drop accounts without live buckets from the snapshot")
+    void shouldDropIdleAccountsOnSnapshot() {
+        windows.record(accountId, 10_00, now);
+
+        assertTrue(windows.snapshot(now + 25 * HOUR).isEmpty());
+        assertEquals(0, windows.size());
+    }
+}
@@ -0,0 +1,112 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.partition;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MovementPartitionMaintenance - Unit Tests")
+class MovementPartitionMaintenanceTest {
+
+    private static final Clock MAY_2025 = Clock.fixed(Instant.parse("2025-05-20T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should name partitions by month and read the month back")
+    void shouldNamePartitionsByMonth() {
+        assertEquals("movements_p202501", MovementPartitionMaintenance.partitionName(YearMonth.of(2025, 1)));
+        assertEquals(YearMonth.of(2024, 12), MovementPartitionMaintenance.monthOf("movements_p202412"));
+    }
+
+    @Test
+    @DisplayName("Should create the missing partitions of the current and coming months")
+    void shouldCreateMissingPartitions() {
+        givenLock(true);
+        givenPartitions("movements_p202505");
+
+        maintenance(2, 0, false).maintain();
+
+        verify(jdbcTemplate).execute("CREATE TABLE movements_p202506 PARTITION OF movements FOR VALUES FROM ('2025-06-01') TO ('2025-07-01')");
+        verify(jdbcTemplate).execute("CREATE TABLE movements_p202507 PARTITION OF movements FOR VALUES FROM ('2025-07-01') TO ('2025-08-01')");
+        verify(jdbcTemplate, never()).execute(contains("movements_p202505 PARTITION OF"));
+    }
+
+    @Test
+    @DisplayName("Should detach the months older than the retention and drop them when asked to")
+    void shouldRetireExpiredPartitions() {
+        givenLock(true);
+        givenPartitions("movements_p202502", "movements_p202503", "movements_p202504", "movements_p202505");
+
+        maintenance(0, 2, true).maintain();
+
+        verify(jdbcTemplate).execute("ALTER TABLE movements DETACH PARTITION movements_p202502");
+        verify(jdbcTemplate).execute("DROP TABLE movements_p202502");
+        verify(jdbcTemplate).execute("ALTER TABLE movements DETACH PARTITION movements_p202503");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE movements DETACH PARTITION movements_p202504");
+    }
+
+    @Test
+    @DisplayName("Should only detach retired partitions unless dropping is enabled")
+    void shouldOnlyDetachByDefault() {
+        givenLock(true);
+        givenPartitions("movements_p202501", "movements_p202505");
+
+        maintenance(0, 1, false).maintain();
+
+        verify(jdbcTemplate).execute("ALTER TABLE movements DETACH PARTITION movements_p202501");
+        verify(jdbcTemplate, never()).execute(startsWith("DROP TABLE"));
+    }
+
+    @Test
+    @DisplayName("Should leave the work to the instance holding the lock")
+    void shouldSkipWithoutLock() {
+        givenLock(false);
+
+        maintenance(3, 1, true).maintain();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+    }
+
+    private MovementPartitionMaintenance maintenance(int monthsAhead, int retentionMonths, boolean dropExpired) {
+        return new MovementPartitionMaintenance(jdbcTemplate, transactionTemplate, MAY_2025,
+                monthsAhead, retentionMonths, dropExpired, null);
+    }
+
+    private void givenLock(boolean locked) {
+        when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class))).thenReturn(locked);
+    }
+
+    private void givenPartitions(String... names) {
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class))).thenReturn(List.of(names));
+    }
+}
@@ -0,0 +1,335 @@
+package com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.reconciliation;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.model.Movement;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.ArchiveFixture;
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.archive.MovementArchive;
+import com.btoapanta.account.service.infrastructure.metrics.ReconciliationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * The chunk query itself needs PostgreSQL; here the rows it returns are handed to the job, so
+ * what is tested is how they are checked against the archive, chunked and reported.
+ */
+@DisplayName("BalanceReconciliation - Unit Tests")
+class BalanceReconciliationTest {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final UUID LAST_ID = new UUID(-1L, -1L);
+    private static final LocalDateTime MARCH = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ResultSet lockResult = mock(ResultSet.class);
+    // Rows returned by the chunk query, by the id the chunk starts after
+    private final Map<UUID, List<ResultSet>> rowsByChunk = new ConcurrentHashMap<>();
+    private final List<UUID[]> chunks = Collections.synchronizedList(new ArrayList<>());
+
+    @TempDir
+    Path archiveDirectory;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement lockStatement = mock(PreparedStatement.class);
+        when(jdbcTemplate.getDataSource()).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(lockStatement);
+        when(lockStatement.executeQuery()).thenReturn(lockResult);
+        when(lockResult.next()).thenReturn(true);
+        when(lockResult.getBoolean(1)).thenReturn(true);
+
+        doAnswer(invocation -> {
+            PreparedStatementCreator creator = invocation.getArgument(0);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            // Plain proxies: chunks are verified on several threads at once
+            Object[] parameters = new Object[3];
+            PreparedStatement statement = proxy(PreparedStatement.class, (method, args) -> {
+                if (method.getName().equals("setObject")) {
+                    parameters[(int) args[0]] = args[1];
+                }
+                return null;
+            });
+            creator.createPreparedStatement(proxy(Connection.class, (method, args) -> statement));
+            UUID after = (UUID) parameters[1];
+            chunks.add(new UUID[]{after, (UUID) parameters[2]});
+            for (ResultSet row : rowsByChunk.getOrDefault(after, List.of())) {
+                handler.processRow(row);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("Should complete without mismatches when balances follow their ledger")
+    void shouldCompleteForConsistentAccounts() {
+        givenAccounts(2);
+        rowsByChunk.put(FIRST_ID, List.of(
+                ledger(478758L, "50.00", 3).opening("0.00").closing("50.00").credits("60.00").debits("10.00").build(),
+                noMovements(478759L, "0.00")));
+
+        ReconciliationReport report = reconcile(100, 1000);
+
+        assertEquals(ReconciliationReport.State.COMPLETED, report.getState());
+        assertEquals(2, report.getAccountsTotal());
+        assertEquals(2, report.getAccountsChecked());
+        assertEquals(1, report.getChunksCompleted());
+        assertEquals(0, report.getMismatchCount());
+        assertNotNull(report.getFinishedAt());
+    }
+
+    @Test
+    @DisplayName("Should report a balance that disagrees with its last movement and with its totals")
+    void shouldReportClosingAndTotalsMismatches() {
+        givenAccounts(1);
+        rowsByChunk.put(FIRST_ID, List.of(
+                ledger(478758L, "55.00", 2).opening("0.00").closing("50.00").credits("60.00").debits("10.00").build()));
+
+        ReconciliationReport report = reconcile(100, 1000);
+
+        assertEquals(2, report.getMismatchCount());
+        BalanceMismatch closing = report.getMismatches().stream()
+                .filter(mismatch -> mismatch.getKind() == BalanceMismatch.Kind.CLOSING_BALANCE).findFirst().orElseThrow();
+        assertEquals(new BigDecimal("50.00"), closing.getExpected());
+        assertEquals(new BigDecimal("55.00"), closing.getActual());
+        BalanceMismatch totals = report.getMismatches().stream()
+                .filter(mismatch -> mismatch.getKind() == BalanceMismatch.Kind.TOTALS).findFirst().orElseThrow();
+        assertEquals(new BigDecimal("50.00"), totals.getExpected());
+    }
+
+    @Test
+    @DisplayName("Should report chain breaks and arithmetic errors with their count and first date")
+    void shouldReportPerMovementErrors() {
+        givenAccounts(1);
+        LocalDateTime firstBreak = MARCH.plusDays(3);
+        rowsByChunk.put(FIRST_ID, List.of(ledger(478758L, "50.00", 5).opening("0.00").closing("50.00")
+                .credits("50.00").debits("0.00").chainBreaks(2, firstBreak).arithmeticErrors(1, MARCH.plusDays(4)).build()));
+
+        ReconciliationReport report = reconcile(100, 1000);
+
+        assertEquals(2, report.getMismatchCount());
+        BalanceMismatch chainBreak = report.getMismatches().get(0);
+        assertEquals(BalanceMismatch.Kind.CHAIN_BREAK, chainBreak.getKind());
+        assertEquals(2, chainBreak.getOccurrences());
+        assertEquals(firstBreak, chainBreak.getFirstAt());
+        assertEquals(BalanceMismatch.Kind.ARITHMETIC, report.getMismatches().get(1).getKind());
+    }
+
+    @Test
+    @DisplayName("Should check that the live ledger continues from the last archived movement")
+    void shouldCheckContinuityWithArchive() throws Exception {
+        UUID accountId = UUID.randomUUID();
+        ArchiveFixture.writeSegment(archiveDirectory, 2025, 1, accountId,
+                archived(accountId, "5.00", LocalDateTime.of(2025, 1, 20, 10, 0)));
+        givenAccounts(1);
+        rowsByChunk.put(FIRST_ID, List.of(new Row(accountId, 478758L, "17.00", 1, MARCH)
+                .opening("7.00").closing("17.00").credits("10.00").debits("0.00").build()));
+
+        ReconciliationReport report = reconcile(100, 1000);
+
+        assertEquals(1, report.getMismatchCount());
+        BalanceMismatch mismatch = report.getMismatches().get(0);
+        assertEquals(BalanceMismatch.Kind.CHAIN_BREAK, mismatch.getKind());
+        assertEquals(new BigDecimal("5.00"), mismatch.getExpected());
+        assertEquals(new BigDecimal("7.00"), mismatch.getActual());
+    }
+
+    @Test
+    @DisplayName("Should check an account with only archived movements against its last archived balance")
+    void shouldCheckArchivedOnlyAccount() throws Exception {
+        UUID accountId = UUID.randomUUID();
+        ArchiveFixture.writeSegment(archiveDirectory, 2025, 1, accountId,
+                archived(accountId, "5.00", LocalDateTime.of(2025, 1, 20, 10, 0)));
+        givenAccounts(1);
+        rowsByChunk.put(FIRST_ID, List.of(new Row(accountId, 478758L, "8.00", 0, null).build()));
+
+        ReconciliationReport report = reconcile(100, 1000);
+
+        assertEquals(1, report.getMismatchCount());
+        assertEquals(BalanceMismatch.Kind.CLOSING_BALANCE, report.getMismatches().get(0).getKind());
+        assertEquals(new BigDecimal("5.00"), report.getMismatches().get(0).getExpected());
+    }
+
+    @Test
+    @DisplayName("Should split accounts into chunks at the boundaries sought on the primary key")
+    void shouldVerifyEveryChunk() {
+        UUID boundary = UUID.fromString("0194a3b2-0000-7000-8000-000000000100");
+        givenAccounts(3);
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(FIRST_ID), eq(1))).thenReturn(List.of(boundary));
+        when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(boundary), eq(1))).thenReturn(List.of());
+        rowsByChunk.put(FIRST_ID, List.of(noMovements(478758L, "0.00"), noMovements(478759L, "0.00")));
+        rowsByChunk.put(boundary, List.of(noMovements(478760L, "0.00")));
+
+        ReconciliationReport report = reconcile(2, 1000);
+
+        assertEquals(3, report.getAccountsChecked());
+        assertEquals(2, report.getChunksCompleted());
+        List<String> bounds = chunks.stream().map(chunk -> chunk[0] + ".." + chunk[1]).sorted().toList();
+        assertEquals(List.of(FIRST_ID + ".." + boundary, boundary + ".." + LAST_ID).stream().sorted().toList(), bounds);
+    }
+
+    @Test
+    @DisplayName("Should keep only the first mismatches for the report and count all of them")
+    void shouldCapReportedMismatches() {
+        givenAccounts(3);
+        rowsByChunk.put(FIRST_ID, List.of(
+                ledger(478758L, "1.00", 1).opening("0.00").closing("2.00").credits("2.00").debits("0.00").build(),
+                ledger(478759L, "1.00", 1).opening("0.00").closing("2.00").credits("2.00").debits("0.00").build(),
+                ledger(478760L, "1.00", 1).opening("0.00").closing("2.00").credits("2.00").debits("0.00").build()));
+
+        ReconciliationReport report = reconcile(100, 2);
+
+        assertEquals(6, report.getMismatchCount());
+        assertEquals(2, report.getMismatches().size());
+    }
+
+    @Test
+    @DisplayName("Should leave the run to the instance holding the lock")
+    void shouldSkipWithoutLock() throws SQLException {
+        when(lockResult.getBoolean(1)).thenReturn(false);
+
+        ReconciliationReport report = reconcile(100, 1000);
+
+        assertEquals(ReconciliationReport.State.IDLE, report.getState());
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Long.class));
+    }
+
+    private ReconciliationReport reconcile(int chunkSize, int maxReportedMismatches) {
+        BalanceReconciliation reconciliation = new BalanceReconciliation(jdbcTemplate, new MovementArchive(archiveDirectory),
+                new ReconciliationMetrics(new SimpleMeterRegistry()),
+                Clock.fixed(Instant.parse("2025-04-01T03:30:00Z"), ZoneOffset.UTC), chunkSize, 2, maxReportedMismatches);
+        reconciliation.reconcileScheduled();
+        return reconciliation.report();
+    }
+
+    private void givenAccounts(long total) {
+        when(jdbcTemplate.queryForObject("SELECT count(*) FROM accounts", Long.class)).thenReturn(total);
+    }
+
+    private static <T> T proxy(Class<T> type, BiFunction<Method, Object[], Object> handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.apply(method, args)));
+    }
+
+    private static Row ledger(long accountNumber, String balance, long movements) {
+        return new Row(UUID.randomUUID(), accountNumber, balance, movements, MARCH);
+    }
+
+    private static ResultSet noMovements(long accountNumber, String balance) {
+        return new Row(UUID.randomUUID(), accountNumber, balance, 0, null).build();
+    }
+
+    private static Movement archived(UUID accountId, String balanceAfter, LocalDateTime date) {
+        return Movement.builder()
+                .id(UUID.randomUUID())
+                .accountNumber(478758L)
+                .movementType(MovementType.CREDIT)
+                .amount(new BigDecimal(balanceAfter))
+                .balanceBefore(new BigDecimal("0.00"))
+                .balanceAfter(new BigDecimal(balanceAfter))
+                .date(date)
+                .build();
+    }
+
+    /**
+     * One row of the chunk query.
+     */
+    private static final class Row {
+
+        private final ResultSet rs = mock(ResultSet.class);
+
+        private Row(UUID accountId, long accountNumber, String balance, long movements, LocalDateTime firstAt) {
+            try {
+                when(rs.getObject("id", UUID.class)).thenReturn(accountId);
+                when(rs.getLong("account_number")).thenReturn(accountNumber);
+                when(rs.getBigDecimal("balance")).thenReturn(new BigDecimal(balance));
+                when(rs.getLong("movement_count")).thenReturn(movements);
+                when(rs.getTimestamp("first_movement_at")).thenReturn(firstAt != null ? Timestamp.valueOf(firstAt) : null);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private Row opening(String value) {
+            return decimal("opening_balance", value);
+        }
+
+        private Row closing(String value) {
+            return decimal("closing_balance", value);
+        }
+
+        private Row credits(String value) {
+            return decimal("total_credits", value);
+        }
+
+        private Row debits(String value) {
+            return decimal("total_debits", value);
+        }
+
+        private Row chainBreaks(long count, LocalDateTime firstAt) {
+            return occurrences("chain_breaks", "first_chain_break_at", count, firstAt);
+        }
+
+        private Row arithmeticErrors(long count, LocalDateTime firstAt) {
+            return occurrences("arithmetic_errors", "first_arithmetic_error_at", count, firstAt);
+        }
+
+        private ResultSet build() {
+            return rs;
+        }
+
+        private Row decimal(String column, String value) {
+            try {
+                when(rs.getBigDecimal(column)).thenReturn(new BigDecimal(value));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return this;
+        }
+
+        private Row occurrences(String countColumn, String firstAtColumn, long count, LocalDateTime firstAt) {
+            try {
+                when(rs.getLong(countColumn)).thenReturn(count);
+                when(rs.getTimestamp(firstAtColumn)).thenReturn(Timestamp.valueOf(firstAt));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.adapter.ouput.persistence.limit.DebitLimitProperties;
+import com.btoapanta.account.service.infrastructure.concurrency.ConcurrencyLimitFilter;
+import com.btoapanta.account.service.infrastructure.concurrency.ConcurrencyLimitProperties;
+import com.btoapanta.account.service.infrastructure.concurrency.RateLimitFilter;
+import com.btoapanta.account.service.infrastructure.concurrency.RateLimitProperties;
+import com.btoapanta.account.service.infrastructure.deadline.DeadlineFilter;
+import com.btoapanta.account.service.infrastructure.replica.ReplicaProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Loads the shipped application.yaml into the configuration that can be built from it without a
+ * database, so a file that does not parse or bind fails the build instead of the startup.
+ */
+@DisplayName("application.yaml - Unit Tests")
+class ApplicationConfigTest {
+
+    private static final String APPLICATION_YAML = "src/main/resources/application.yaml";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> load(context.getEnvironment()))
+            .withUserConfiguration(RateLimitConfig.class, ConcurrencyLimitConfig.class, DeadlineConfig.class);
+
+    @Test
+    @DisplayName("Should parse application.yaml")
+    void shouldParseApplicationYaml() throws IOException {
+        assertFalse(new YamlPropertySourceLoader().load("application", new FileSystemResource(APPLICATION_YAML)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should load the request filters from application.yaml")
+    void shouldLoadFilters() {
+        contextRunner.run(context -> {
+            assertNull(context.getStartupFailure());
+            assertNotNull(context.getBean(RateLimitFilter.class));
+            assertNotNull(context.getBean(ConcurrencyLimitFilter.class));
+            assertNotNull(context.getBean(DeadlineFilter.class));
+
+            assertEquals(Set.of("postings", "listings"), context.getBean(RateLimitProperties.class).getRoutes().keySet());
+            assertEquals(Set.of("postings", "reads", "listings"),
+                    context.getBean(ConcurrencyLimitProperties.class).getRouteClasses().keySet());
+        });
+    }
+
+    @Test
+    @DisplayName("Should bind the remaining properties of application.yaml")
+    void shouldBindProperties() {
+        contextRunner.run(context -> {
+            Binder binder = Binder.get(context.getEnvironment());
+
+            assertTrue(binder.bind("accounts.debit-limits", DebitLimitProperties.class).isBound());
+            ReplicaProperties replicas = binder.bind("replicas", ReplicaProperties.class).get();
+            assertFalse(replicas.isEnabled());
+            assertEquals(Set.of("replica-1"), replicas.getInstances().keySet());
+        });
+    }
+
+    private static void load(ConfigurableEnvironment environment) {
+        try {
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                    .load("application", new FileSystemResource(APPLICATION_YAML));
+            sources.forEach(source -> environment.getPropertySources().addLast(source));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.application.port.input.AccountInputPort;
+import com.btoapanta.account.service.application.port.input.BalanceInputPort;
+import com.btoapanta.account.service.application.port.input.MovementExportInputPort;
+import com.btoapanta.account.service.application.port.input.MovementStreamInputPort;
+import com.btoapanta.account.service.application.port.input.StatementInputPort;
+import com.btoapanta.account.service.domain.enums.AccountType;
+import com.btoapanta.account.service.domain.model.Account;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.controller.AccountController;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.AccountDtoMapperImpl;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.BalanceDtoMapper;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.MovementDtoMapper;
+import com.btoapanta.account.service.infrastructure.adapter.input.rest.mapper.StatementDtoMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = AccountController.class)
+@Import({CodecConfig.class, AccountDtoMapperImpl.class, SimpleMeterRegistry.class})
+@DisplayName("CodecConfig - Integration Tests")
+class CodecConfigTest {
+
+    private static final UUID CUSTOMER_ID = UUID.randomUUID();
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final TypeReference<List<Map<String, Object>>> ACCOUNTS = new TypeReference<>() {
+    };
+
+    @MockitoBean
+    private AccountInputPort accountInputPort;
+
+    // The other operations of the controller, not called here
+    @MockitoBean
+    private StatementInputPort statementInputPort;
+
+    @MockitoBean
+    private StatementDtoMapper statementDtoMapper;
+
+    @MockitoBean
+    private BalanceInputPort balanceInputPort;
+
+    @MockitoBean
+    private BalanceDtoMapper balanceDtoMapper;
+
+    @MockitoBean
+    private MovementExportInputPort movementExportInputPort;
+
+    @MockitoBean
+    private MovementStreamInputPort movementStreamInputPort;
+
+    @MockitoBean
+    private MovementDtoMapper movementDtoMapper;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    @DisplayName("Should keep writing JSON for a JSON client")
+    void shouldWriteListAsJson() throws IOException {
+        givenAccounts(2);
+
+        byte[] body = getAccounts(webTestClient, MediaType.APPLICATION_JSON);
+
+        List<Map<String, Object>> accounts = new ObjectMapper().readValue(body, ACCOUNTS);
+        assertEquals(2, accounts.size());
+    }
+
+    @Test
+    @DisplayName("Should write the account list as one CBOR array")
+    void shouldWriteListAsCbor() throws IOException {
+        givenAccounts(2);
+
+        byte[] body = getAccounts(webTestClient, MediaType.APPLICATION_CBOR);
+
+        List<Map<String, Object>> accounts = new ObjectMapper(new CBORFactory()).readValue(body, ACCOUNTS);
+        assertEquals(2, accounts.size());
+        assertEquals(1, ((Number) accounts.get(0).get("accountNumber")).intValue());
+        assertEquals(2, ((Number) accounts.get(1).get("accountNumber")).intValue());
+    }
+
+    @Test
+    @DisplayName("Should write the account list as one Smile array")
+    void shouldWriteListAsSmile() throws IOException {
+        givenAccounts(2);
+
+        byte[] body = getAccounts(webTestClient, SMILE);
+
+        List<Map<String, Object>> accounts = new ObjectMapper(new SmileFactory()).readValue(body, ACCOUNTS);
+        assertEquals(2, accounts.size());
+        assertEquals("SAVINGS", accounts.get(1).get("accountType"));
+    }
+
+    @Test
+    @DisplayName("Should gzip a CBOR list over the configured threshold when the client accepts it")
+    void shouldCompressCborList() throws IOException {
+        // A list well over server.compression.min-response-size
+        givenAccounts(200);
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory(0);
+        factory.setCompression(Binder.get(context.getEnvironment())
+                .bind("server.compression", Compression.class)
+                .get());
+        WebServer server = factory.getWebServer(WebHttpHandlerBuilder.applicationContext(context).build());
+        server.start();
+        try {
+            // The JDK client leaves the body compressed, as it came
+            WebTestClient client = WebTestClient.bindToServer(new JdkClientHttpConnector())
+                    .baseUrl("http://localhost:" + server.getPort())
+                    .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                    .build();
+
+            byte[] body = client.get()
+                    .uri(uri -> uri.path("/accounts").queryParam("customerId", CUSTOMER_ID).build())
+                    .accept(MediaType.APPLICATION_CBOR)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                    .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .expectBody(byte[].class)
+                    .returnResult()
+                    .getResponseBody();
+
+            try (InputStream unzipped = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                List<Map<String, Object>> accounts = new ObjectMapper(new CBORFactory()).readValue(unzipped, ACCOUNTS);
+                assertEquals(200, accounts.size());
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static byte[] getAccounts(WebTestClient client, MediaType mediaType) {
+        return client.get()
+                .uri(uri -> uri.path("/accounts").queryParam("customerId", CUSTOMER_ID).build())
+                .accept(mediaType)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(mediaType)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private void givenAccounts(int count) {
+        when(accountInputPort.getAllAccounts(CUSTOMER_ID, null, null)).thenReturn(Flux.fromStream(
+                LongStream.rangeClosed(1, count).mapToObj(number -> Account.builder()
+                        .id(UUID.randomUUID())
+                        .accountNumber(number)
+                        .accountType(AccountType.SAVINGS)
+                        .balance(new BigDecimal("100.00"))
+                        .state(true)
+                        .customerId(CUSTOMER_ID)
+                        .customerName("Jose Lema")
+                        .build())));
+    }
+}
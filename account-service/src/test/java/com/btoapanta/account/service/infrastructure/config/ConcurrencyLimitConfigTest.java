@@ -0,0 +1,100 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.concurrency.ConcurrencyLimitFilter;
+import com.btoapanta.account.service.infrastructure.concurrency.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimitConfig - Unit Tests")
+class ConcurrencyLimitConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // The route class with a request in flight while the handler runs, null when none
+    private final AtomicReference<String> counted = new AtomicReference<>();
+    private final WebFilterChain chain = exchange -> Mono.fromRunnable(() -> counted.set(routeClassInFlight()));
+    private ConcurrencyLimitFilter filter;
+
+    // The route classes as shipped in application.yaml
+    @BeforeEach
+    void setUp() throws IOException {
+        Binder binder = new Binder(ConfigurationPropertySources.from(new YamlPropertySourceLoader()
+                .load("application", new FileSystemResource("src/main/resources/application.yaml"))));
+        ConcurrencyLimitProperties properties = binder.bind("concurrency.limits", ConcurrencyLimitProperties.class).get();
+        filter = new ConcurrencyLimitConfig().concurrencyLimitFilter(properties);
+        filter.bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should not limit the movement stream and the CSV export, which stay open while the client reads")
+    void shouldNotLimitLongLivedResponses() {
+        assertNull(routeClassOf(MockServerHttpRequest.get("/accounts/478758/movements/stream")));
+        assertNull(routeClassOf(MockServerHttpRequest.get("/accounts/478758/movements/export.csv")));
+    }
+
+    @Test
+    @DisplayName("Should count the balance query as a listing, though it is a POST under /accounts")
+    void shouldCountBalancesAsListing() {
+        assertEquals("listings", routeClassOf(MockServerHttpRequest.post("/accounts/balances")));
+    }
+
+    @Test
+    @DisplayName("Should count paged and aggregated reads as listings")
+    void shouldCountListings() {
+        assertEquals("listings", routeClassOf(MockServerHttpRequest.get("/accounts")));
+        assertEquals("listings", routeClassOf(MockServerHttpRequest.get("/movements")));
+        assertEquals("listings", routeClassOf(MockServerHttpRequest.get("/accounts/478758/statement")));
+        assertEquals("listings", routeClassOf(MockServerHttpRequest.get("/customers/" + UUID.randomUUID()
+                + "/accounts/summary")));
+    }
+
+    @Test
+    @DisplayName("Should count single account reads as reads and every write as a posting")
+    void shouldCountReadsAndPostings() {
+        assertEquals("reads", routeClassOf(MockServerHttpRequest.get("/accounts/478758")));
+        assertEquals("reads", routeClassOf(MockServerHttpRequest.get("/accounts/478758/balance")));
+        assertEquals("postings", routeClassOf(MockServerHttpRequest.post("/movements")));
+        assertEquals("postings", routeClassOf(MockServerHttpRequest.post("/accounts")));
+        assertEquals("postings", routeClassOf(MockServerHttpRequest.put("/accounts/478758")));
+        assertEquals("postings", routeClassOf(MockServerHttpRequest.delete("/accounts/478758")));
+    }
+
+    @Test
+    @DisplayName("Should not limit routes outside the API")
+    void shouldNotLimitOtherRoutes() {
+        assertNull(routeClassOf(MockServerHttpRequest.get("/actuator/health")));
+    }
+
+    private String routeClassOf(MockServerHttpRequest.BaseBuilder<?> request) {
+        counted.set("not handled");
+        filter.filter(MockServerWebExchange.from(request), chain).block();
+        return counted.get();
+    }
+
+    private String routeClassInFlight() {
+        String inFlight = null;
+        for (Gauge gauge : meterRegistry.find("http.server.concurrency.inflight").gauges()) {
+            if (gauge.value() > 0) {
+                assertNull(inFlight, "Counted against more than one route class");
+                inFlight = gauge.getId().getTag("route.class");
+            }
+        }
+        return inFlight;
+    }
+}
@@ -0,0 +1,66 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.deadline.DeadlineFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DeadlineConfig - Unit Tests")
+class DeadlineConfigTest {
+
+    // Handlers that take longer than the default timeout
+    private final WebFilterChain slowChain = exchange -> Mono.delay(Duration.ofMillis(200)).then();
+    private final DeadlineFilter filter = new DeadlineConfig().deadlineFilter(Duration.ofMillis(20));
+
+    @Test
+    @DisplayName("Should answer 504 when a request outlives the default timeout")
+    void shouldTimeOutBoundedRoutes() {
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, send(MockServerHttpRequest.get("/accounts/478758")));
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, send(MockServerHttpRequest.get("/movements")));
+    }
+
+    @Test
+    @DisplayName("Should not time out the movement stream and the CSV export, which stay open while the client reads")
+    void shouldNotTimeOutLongLivedResponses() {
+        assertNull(send(MockServerHttpRequest.get("/accounts/478758/movements/stream")));
+        // Not even with a deadline header of 10 milliseconds
+        assertNull(send(MockServerHttpRequest.get("/accounts/478758/movements/export.csv")
+                .header("X-Request-Timeout", "10m")));
+    }
+
+    @Test
+    @DisplayName("Should let a movement posting that outlives its deadline finish and answer with its outcome")
+    void shouldNotTimeOutStartedPosting() {
+        AtomicBoolean posted = new AtomicBoolean();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/movements")
+                .header("X-Request-Timeout", "20m"));
+
+        filter.filter(exchange, chain -> Mono.delay(Duration.ofMillis(200)).doOnNext(tick -> posted.set(true)).then())
+                .block(Duration.ofSeconds(5));
+
+        assertTrue(posted.get());
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should still answer 504 to a movement posting that arrives past its deadline")
+    void shouldRejectExpiredPosting() {
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, send(MockServerHttpRequest.post("/movements")
+                .header("X-Request-Deadline", "1")));
+    }
+
+    private HttpStatus send(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, slowChain).block(Duration.ofSeconds(5));
+        return (HttpStatus) exchange.getResponse().getStatusCode();
+    }
+}
@@ -0,0 +1,84 @@
+package com.btoapanta.account.service.infrastructure.config;
+
+import com.btoapanta.account.service.infrastructure.concurrency.RateLimitFilter;
+import com.btoapanta.account.service.infrastructure.concurrency.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RateLimitConfig - Unit Tests")
+class RateLimitConfigTest {
+
+    private final AtomicInteger handled = new AtomicInteger();
+    private final WebFilterChain chain = exchange -> Mono.fromRunnable(handled::incrementAndGet);
+    private RateLimitProperties properties;
+    private RateLimitFilter filter;
+
+    // The routes as shipped in application.yaml
+    @BeforeEach
+    void setUp() throws IOException {
+        Binder binder = new Binder(ConfigurationPropertySources.from(new YamlPropertySourceLoader()
+                .load("application", new FileSystemResource("src/main/resources/application.yaml"))));
+        properties = binder.bind("rate-limits", RateLimitProperties.class).get();
+        filter = new RateLimitConfig().rateLimitFilter(properties);
+    }
+
+    @Test
+    @DisplayName("Should limit postings to the burst of the postings route")
+    void shouldLimitPostings() {
+        int capacity = properties.getRoutes().get("postings").getCapacity();
+
+        for (int i = 0; i < capacity; i++) {
+            assertNull(send(MockServerHttpRequest.post("/movements")));
+        }
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, send(MockServerHttpRequest.post("/movements")));
+        assertEquals(capacity, handled.get());
+    }
+
+    @Test
+    @DisplayName("Should share the listings bucket between account and movement listings, apart from postings")
+    void shouldShareListingsBucket() {
+        int capacity = properties.getRoutes().get("listings").getCapacity();
+
+        for (int i = 0; i < capacity; i++) {
+            assertNull(send(MockServerHttpRequest.get(i % 2 == 0 ? "/accounts" : "/movements")));
+        }
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, send(MockServerHttpRequest.get("/accounts")));
+        assertNull(send(MockServerHttpRequest.post("/movements")));
+    }
+
+    @Test
+    @DisplayName("Should not limit single account reads and account writes")
+    void shouldNotLimitOtherRoutes() {
+        int requests = properties.getRoutes().get("listings").getCapacity() + 5;
+
+        for (int i = 0; i < requests; i++) {
+            assertNull(send(MockServerHttpRequest.get("/accounts/478758")));
+            assertNull(send(MockServerHttpRequest.post("/accounts")));
+        }
+
+        assertEquals(2 * requests, handled.get());
+    }
+
+    private HttpStatus send(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request.header("X-API-Key", "key-1"));
+        filter.filter(exchange, chain).block();
+        return (HttpStatus) exchange.getResponse().getStatusCode();
+    }
+}
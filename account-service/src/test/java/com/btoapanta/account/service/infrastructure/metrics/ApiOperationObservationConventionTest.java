@@ -0,0 +1,54 @@
+package com.btoapanta.account.service.infrastructure.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ApiOperationObservationConvention - Unit Tests")
+class ApiOperationObservationConventionTest {
+
+    private final ApiOperationObservationConvention convention = new ApiOperationObservationConvention();
+
+    @Test
+    @DisplayName("Should tag the request with the method name of the handler")
+    void shouldTagOperation() throws NoSuchMethodException {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new Handler(), Handler.class.getMethod("getAccountById")));
+
+        assertEquals("getAccountById", operation(attributes));
+    }
+
+    @Test
+    @DisplayName("Should tag requests without a handler method as none")
+    void shouldTagNoneWithoutHandlerMethod() {
+        assertEquals("none", operation(new HashMap<>()));
+    }
+
+    private String operation(Map<String, Object> attributes) {
+        ServerRequestObservationContext context = new ServerRequestObservationContext(
+                MockServerHttpRequest.get("/accounts/1").build(), new MockServerHttpResponse(), attributes);
+        KeyValues keyValues = convention.getLowCardinalityKeyValues(context);
+        return keyValues.stream()
+                .filter(keyValue -> keyValue.getKey().equals("operation"))
+                .map(KeyValue::getValue)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    static class Handler {
+        public void getAccountById() {
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.btoapanta.account.service.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedElasticSchedulerMetrics - Unit Tests")
+class BoundedElasticSchedulerMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should expose the workers and queued tasks of the boundedElastic scheduler")
+    void shouldBindSchedulerGauges() {
+        new BoundedElasticSchedulerMetrics().bindTo(registry);
+
+        assertTrue(gauge("reactor.scheduler.workers.max") > 0);
+        assertTrue(gauge("reactor.scheduler.workers.active") >= 0);
+        assertTrue(gauge("reactor.scheduler.tasks.queued") >= 0);
+    }
+
+    @Test
+    @DisplayName("Should count the tasks waiting for a thread once every worker is busy")
+    void shouldCountQueuedTasksOfSaturatedScheduler() {
+        new BoundedElasticSchedulerMetrics().bindTo(registry);
+        int workers = (int) gauge("reactor.scheduler.workers.max");
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // Three more tasks than threads: every worker runs one, three wait
+            for (int i = 0; i < workers + 3; i++) {
+                Schedulers.boundedElastic().schedule(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            assertEquals(workers, gauge("reactor.scheduler.workers.active"));
+            assertTrue(gauge("reactor.scheduler.tasks.queued") > 0);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).tag("scheduler", "boundedElastic").gauge().value();
+    }
+}
@@ -0,0 +1,64 @@
+package com.btoapanta.account.service.infrastructure.metrics;
+
+import com.btoapanta.account.service.domain.enums.MovementType;
+import com.btoapanta.account.service.domain.exception.business.InvalidBalanceException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PostingMetrics - Unit Tests")
+class PostingMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PostingMetrics postingMetrics = new PostingMetrics(registry);
+
+    @Test
+    @DisplayName("Should count and time successful postings by movement type")
+    void shouldRecordSuccess() {
+        postingMetrics.recordSuccess(MovementType.CREDIT, postingMetrics.start());
+        postingMetrics.recordSuccess(MovementType.CREDIT, postingMetrics.start());
+        postingMetrics.recordSuccess(MovementType.DEBIT, postingMetrics.start());
+
+        assertEquals(2, postings("CREDIT", "success"));
+        assertEquals(1, postings("DEBIT", "success"));
+        assertEquals(2, duration("CREDIT", "success").count());
+    }
+
+    @Test
+    @DisplayName("Should tag failures with the exception name on the counter and as failure on the timer")
+    void shouldRecordFailure() {
+        postingMetrics.recordFailure(MovementType.DEBIT, new InvalidBalanceException(BigDecimal.valueOf(-1)), postingMetrics.start());
+
+        assertEquals(1, postings("DEBIT", "InvalidBalanceException"));
+        assertEquals(1, duration("DEBIT", "failure").count());
+        assertNull(registry.find("account.movements.posting.duration").tag("outcome", "InvalidBalanceException").timer());
+    }
+
+    @Test
+    @DisplayName("Should tag postings without a movement type as UNKNOWN")
+    void shouldRecordUnknownType() {
+        postingMetrics.recordFailure(null, new IllegalArgumentException("no type"), postingMetrics.start());
+
+        assertEquals(1, postings("UNKNOWN", "IllegalArgumentException"));
+    }
+
+    private double postings(String movementType, String outcome) {
+        return registry.get("account.movements.postings")
+                .tag("movement_type", movementType)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private Timer duration(String movementType, String outcome) {
+        return registry.get("account.movements.posting.duration")
+                .tag("movement_type", movementType)
+                .tag("outcome", outcome)
+                .timer();
+    }
+}
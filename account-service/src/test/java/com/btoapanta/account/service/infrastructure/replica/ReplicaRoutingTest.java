@@ -0,0 +1,141 @@
+package com.btoapanta.account.service.infrastructure.replica;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReplicaRouting - Unit Tests")
+class ReplicaRoutingTest {
+
+    private static final String LAG_QUERY = "SELECT lag_ms FROM replica_lag";
+
+    // Two in-memory H2 databases stand in for the primary and its replica; each knows which it is
+    private final DriverManagerDataSource primary = new DriverManagerDataSource("jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1");
+    private final DriverManagerDataSource replica = new DriverManagerDataSource("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1");
+
+    private final ReplicaRouter router = new ReplicaRouter(Map.of("replica-1", replica), Duration.ofSeconds(1), LAG_QUERY);
+    private final JdbcTemplate routed = new JdbcTemplate(new ReplicaRoutingDataSource(primary, router.getDataSources()));
+    private final long now = 1_000_000L;
+
+    @BeforeEach
+    void setUp() {
+        for (DriverManagerDataSource dataSource : new DriverManagerDataSource[]{primary, replica}) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("DROP ALL OBJECTS");
+            jdbcTemplate.execute("CREATE TABLE database_name (name VARCHAR(20))");
+            jdbcTemplate.update("INSERT INTO database_name VALUES (?)", dataSource == primary ? "primary" : "replica");
+        }
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.execute("CREATE TABLE replica_lag (lag_ms BIGINT)");
+        replicaTemplate.update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @Test
+    @DisplayName("Should read from a replica that has caught up, and from the primary outside it")
+    void shouldReadFromCaughtUpReplica() {
+        router.probe(now);
+        String selected = router.select("client-a", now);
+
+        assertEquals("replica-1", selected);
+        StepVerifier.create(readName().contextWrite(context -> context.put(Replicas.CONTEXT_KEY, selected)))
+                .expectNext("replica")
+                .verifyComplete();
+        StepVerifier.create(readName())
+                .expectNext("primary")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should read from the primary when the replica lags past the max lag")
+    void shouldFallBackWhenReplicaLags() {
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET lag_ms = 5000");
+        router.probe(now);
+
+        assertNull(router.select("client-a", now));
+    }
+
+    @Test
+    @DisplayName("Should read from the primary when the last probe is older than the max lag")
+    void shouldFallBackWhenProbeIsStale() {
+        router.probe(now);
+
+        assertNull(router.select("client-a", now + 1_500));
+    }
+
+    @Test
+    @DisplayName("Should read from the primary before the first probe and after a failed one")
+    void shouldFallBackWhenProbeFails() {
+        assertNull(router.select("client-a", now));
+
+        new JdbcTemplate(replica).execute("DROP TABLE replica_lag");
+        router.probe(now);
+        assertNull(router.select("client-a", now));
+    }
+
+    @Test
+    @DisplayName("Should keep a caller's reads on the primary until the replica has its write")
+    void shouldReadOwnWrites() {
+        router.probe(now);
+        router.recordWrite("client-a", now + 100);
+
+        assertNull(router.select("client-a", now + 200));
+        assertEquals("replica-1", router.select("client-b", now + 200));
+
+        router.probe(now + 500);
+        assertEquals("replica-1", router.select("client-a", now + 600));
+    }
+
+    @Test
+    @DisplayName("Should forget writes the max lag has outlived")
+    void shouldForgetOldWrites() {
+        router.recordWrite("client-a", now);
+        router.recordWrite("client-b", now + 900);
+
+        router.probe(now + 1_500);
+
+        assertEquals(1, router.getClientsWithWrites());
+    }
+
+    @Test
+    @DisplayName("Should route GETs by caller and record other requests as writes")
+    void shouldRouteReadsAndRecordWrites() {
+        ReplicaRoutingFilter filter = new ReplicaRoutingFilter(router, "X-API-Key");
+        // Probed before any write the filter records
+        router.probe(System.currentTimeMillis() - 100);
+        AtomicReference<String> seen = new AtomicReference<>();
+        WebFilterChain chain = exchange -> Mono.deferContextual(context -> {
+            seen.set(context.getOrDefault(Replicas.CONTEXT_KEY, null));
+            return Mono.empty();
+        });
+
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/accounts")), chain)).verifyComplete();
+        assertEquals("replica-1", seen.get());
+
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.post("/movements")), chain)).verifyComplete();
+        assertEquals(1, router.getClientsWithWrites());
+
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/accounts")), chain)).verifyComplete();
+        assertNull(seen.get());
+    }
+
+    private Mono<String> readName() {
+        return Replicas.fromCallable(() -> routed.queryForObject("SELECT name FROM database_name", String.class));
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request.header("X-API-Key", "client-a"));
+    }
+}
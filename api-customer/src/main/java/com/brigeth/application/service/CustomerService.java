@@ -4,10 +4,24 @@ import com.brigeth.domain.models.Customer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 public interface CustomerService {
     Mono<Customer> createCustomer(Customer customer);
     Flux<Customer> getCustomers();
+
+    /**
+     * Customers with only the given properties read, besides their id and version; all of them when null.
+     */
+    Flux<Customer> getCustomers(Set<String> properties);
+
     Mono<Customer> getOnlyCustomerById(String customerId);
+
+    /**
+     * The customer with only the given properties read, besides its id and version; all of them when null.
+     */
+    Mono<Customer> getOnlyCustomerById(String customerId, Set<String> properties);
+
     Mono<Void> deleteCustomer(String customerId);
     Mono<Customer> updateCustomer(Customer customer);
 }
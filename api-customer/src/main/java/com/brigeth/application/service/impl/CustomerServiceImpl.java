@@ -43,6 +43,12 @@ public class CustomerServiceImpl implements CustomerService {
         return customerPersistencePort.getAllCustomers();
     }
 
+    @Override
+    public Flux<Customer> getCustomers(Set<String> properties) {
+        log.debug("Getting all the customers - properties: {}", properties);
+        return customerPersistencePort.getAllCustomers(properties);
+    }
+
     @Override
     public Mono<Customer> getOnlyCustomerById(String customerId) {
         log.info("Searching for customer: {}", customerId);
@@ -51,6 +57,14 @@ public class CustomerServiceImpl implements CustomerService {
                 .doOnError(e -> log.warn("Customer not found: {}", customerId));
     }
 
+    @Override
+    public Mono<Customer> getOnlyCustomerById(String customerId, Set<String> properties) {
+        log.info("Searching for customer: {} - properties: {}", customerId, properties);
+        return customerPersistencePort.getCustomerById(customerId, properties)
+                .doOnSuccess(c -> log.debug("Customer found: {}", customerId))
+                .doOnError(e -> log.warn("Customer not found: {}", customerId));
+    }
+
     @Override
     public Mono<Void> deleteCustomer(String customerId) {
         log.info("Deleting customer: {}", customerId);
@@ -20,11 +20,10 @@ public class ValidationServiceImpl implements ValidationService {
     public Mono<Void> validateUniqueIdentification(String identification, String excludeCustomerId) {
         log.debug("Validating unique identification: {}", identification);
         
-        return customerPersistencePort.getAllCustomers()
-            .filter(customer -> customer.getIdentification().equals(identification))
+        return customerPersistencePort.getCustomerByIdentification(identification)
             .filter(customer -> excludeCustomerId == null || 
                     !customer.getPersonId().toString().equals(excludeCustomerId))
-            .hasElements()
+            .hasElement()
             .flatMap(exists -> {
                 if (exists) {
                     log.warn("Duplicate identification: {}", identification);
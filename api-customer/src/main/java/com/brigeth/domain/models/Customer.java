@@ -20,4 +20,7 @@ public class Customer extends Person {
     private String password;
     
     private Boolean state;
+
+    // Incremented by every update of the customer; its ETag
+    private Long version;
 }
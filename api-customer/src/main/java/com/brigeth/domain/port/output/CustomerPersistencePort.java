@@ -4,9 +4,14 @@ import com.brigeth.domain.models.Customer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 public interface CustomerPersistencePort {
     Flux<Customer> getAllCustomers();
+    Flux<Customer> getAllCustomers(Set<String> properties);
     Mono<Customer> getCustomerById(String customerId);
+    Mono<Customer> getCustomerById(String customerId, Set<String> properties);
+    Mono<Customer> getCustomerByIdentification(String identification);
     Mono<Customer> saveCustomer(Customer customer);
     Mono<Void> deleteCustomer(String customerId);
     Mono<Customer> updateCustomer(Customer customer);
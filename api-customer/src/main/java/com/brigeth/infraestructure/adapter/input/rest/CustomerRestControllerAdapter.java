@@ -5,7 +5,9 @@ import com.brigeth.customer.infrastructure.adapter.input.rest.CustomersApi;
 import com.brigeth.customer.infrastructure.adapter.input.rest.model.CreateCustomerRequest;
 import com.brigeth.customer.infrastructure.adapter.input.rest.model.CustomerResponse;
 import com.brigeth.customer.infrastructure.adapter.input.rest.model.UpdateCustomerRequest;
+import com.brigeth.domain.models.Customer;
 import com.brigeth.infraestructure.adapter.input.rest.mapper.CustomerRestMapper;
+import com.brigeth.infraestructure.adapter.input.rest.mapper.FieldSelection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -15,6 +17,7 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -22,6 +25,14 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CustomerRestControllerAdapter implements CustomersApi {
 
+    private static final FieldSelection<CustomerResponse> CUSTOMER_FIELDS = FieldSelection.of(
+            FieldSelection.field("customerId", "personId", response -> response.setCustomerId(null)),
+            FieldSelection.field("name", "name", response -> response.setName(null)),
+            FieldSelection.field("gender", "gender", response -> response.setGender(null)),
+            FieldSelection.field("identification", "identification", response -> response.setIdentification(null)),
+            FieldSelection.field("address", "address", response -> response.setAddress(null)),
+            FieldSelection.field("phone", "phone", response -> response.setPhone(null)));
+
     private final CustomerService customerService;
     private final CustomerRestMapper customerRestMapper;
 
@@ -53,11 +64,14 @@ public class CustomerRestControllerAdapter implements CustomersApi {
     }
 
     @Override
-    public Mono<ResponseEntity<Flux<CustomerResponse>>> getAllCustomer(ServerWebExchange exchange) {
-        log.info("[REST] Request to get all customers");
+    public Mono<ResponseEntity<Flux<CustomerResponse>>> getAllCustomer(
+            List<String> fields,
+            ServerWebExchange exchange) {
+        log.info("[REST] Request to get all customers - fields: {}", fields);
+        FieldSelection<CustomerResponse> selection = CUSTOMER_FIELDS.select(fields);
         
-        Flux<CustomerResponse> customerResponse = customerService.getCustomers()
-                .map(customerRestMapper::toResponse)
+        Flux<CustomerResponse> customerResponse = customerService.getCustomers(selection.properties())
+                .map(customer -> selection.apply(customerRestMapper.toResponse(customer)))
                 .doOnComplete(() -> log.info("[REST] Customer list retrieved successfully"));
         
         return Mono.just(ResponseEntity.ok(customerResponse));
@@ -66,12 +80,20 @@ public class CustomerRestControllerAdapter implements CustomersApi {
     @Override
     public Mono<ResponseEntity<CustomerResponse>> getCustomerById(
             UUID customerId, 
+            List<String> fields,
             ServerWebExchange exchange) {
-        log.info("[REST] Request to find customer by ID: {}", customerId);
+        log.info("[REST] Request to find customer by ID: {} - fields: {}", customerId, fields);
+        FieldSelection<CustomerResponse> selection = CUSTOMER_FIELDS.select(fields);
         
-        return customerService.getOnlyCustomerById(customerId.toString())
-                .map(customerRestMapper::toResponse)
-                .map(ResponseEntity::ok)
+        // A matching If-None-Match is answered 304 without mapping or serializing the customer
+        return customerService.getOnlyCustomerById(customerId.toString(), selection.properties())
+                .map(customer -> {
+                    String eTag = eTagOf(customer);
+                    if (exchange.checkNotModified(eTag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<CustomerResponse>build();
+                    }
+                    return ResponseEntity.ok().eTag(eTag).body(selection.apply(customerRestMapper.toResponse(customer)));
+                })
                 .doOnSuccess(r -> log.info("[REST] Customer found: {}", customerId))
                 .doOnError(e -> log.error("[REST] Error searching for customer: {}", e.getMessage()));
     }
@@ -87,11 +109,35 @@ public class CustomerRestControllerAdapter implements CustomersApi {
                 .map(customerRestMapper::toUpdateDomain)
                 .flatMap(customer -> {
                     customer.setPersonId(customerId);
-                    return customerService.updateCustomer(customer);
+                    if (exchange.getRequest().getHeaders().getIfMatch().isEmpty()) {
+                        return update(customer);
+                    }
+                    return customerService.getOnlyCustomerById(customerId.toString())
+                            .flatMap(current -> {
+                                String eTag = eTagOf(current);
+                                if (exchange.checkNotModified(eTag)) {
+                                    return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                                            .eTag(eTag)
+                                            .<CustomerResponse>build());
+                                }
+                                // A change after this check fails on the version column
+                                customer.setVersion(current.getVersion());
+                                return update(customer);
+                            });
                 })
-                .map(customerRestMapper::toResponse)
-                .map(ResponseEntity::ok)
                 .doOnSuccess(r -> log.info("[REST] Customer updated successfully: {}", customerId))
                 .doOnError(e -> log.error("[REST] Error updating customer: {}", e.getMessage()));
     }
+
+    private Mono<ResponseEntity<CustomerResponse>> update(Customer customer) {
+        return customerService.updateCustomer(customer)
+                .map(updated -> ResponseEntity.ok()
+                        .eTag(eTagOf(updated))
+                        .body(customerRestMapper.toResponse(updated)));
+    }
+
+    // Strong: the version changes with every stored change of the customer
+    private static String eTagOf(Customer customer) {
+        return "\"" + customer.getVersion() + "\"";
+    }
 }
@@ -6,7 +6,12 @@ import com.brigeth.domain.exception.CustomerNotFoundException;
 import com.brigeth.domain.exception.DomainException;
 import com.brigeth.domain.exception.DuplicateIdentificationException;
 import com.brigeth.domain.exception.ValidationException;
+import com.brigeth.infraestructure.deadline.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -21,8 +26,11 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     /**
      * HTTP 400 - Field validation errors
      */
@@ -31,6 +39,7 @@ public class GlobalExceptionHandler {
             ValidationException ex, 
             ServerWebExchange exchange) {
         log.error("Domain validation error: {}", ex.getMessage());
+        countDomainException(ex);
         
         ErrorResponse error = buildErrorResponse(
             HttpStatus.BAD_REQUEST,
@@ -50,6 +59,7 @@ public class GlobalExceptionHandler {
             CustomerNotFoundException ex, 
             ServerWebExchange exchange) {
         log.error("Customer not found: {}", ex.getMessage());
+        countDomainException(ex);
         
         ErrorResponse error = buildErrorResponse(
             HttpStatus.NOT_FOUND,
@@ -69,6 +79,7 @@ public class GlobalExceptionHandler {
             DuplicateIdentificationException ex, 
             ServerWebExchange exchange) {
         log.error("Duplicate identification: {}", ex.getMessage());
+        countDomainException(ex);
         
         ErrorResponse error = buildErrorResponse(
             HttpStatus.CONFLICT,
@@ -80,6 +91,25 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
     }
 
+    /**
+     * HTTP 409 - Conflict (customer modified concurrently)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            ServerWebExchange exchange) {
+        log.warn("Concurrent customer update: {}", ex.getMessage());
+
+        ErrorResponse error = buildErrorResponse(
+            HttpStatus.CONFLICT,
+            "CONFLICT",
+            "The customer was modified concurrently, retry the request",
+            exchange.getRequest().getPath().value()
+        );
+
+        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
+    }
+
     /**
      * HTTP 422 - Business rules not followed
      */
@@ -88,6 +118,7 @@ public class GlobalExceptionHandler {
             BusinessRuleException ex, 
             ServerWebExchange exchange) {
         log.error("Business rule not followed: {}", ex.getMessage());
+        countDomainException(ex);
         
         ErrorResponse error = buildErrorResponse(
             HttpStatus.UNPROCESSABLE_ENTITY,
@@ -152,6 +183,7 @@ public class GlobalExceptionHandler {
             DomainException ex, 
             ServerWebExchange exchange) {
         log.error("Domain error: {}", ex.getMessage());
+        countDomainException(ex);
         
         ErrorResponse error = buildErrorResponse(
             HttpStatus.BAD_REQUEST,
@@ -163,6 +195,25 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.badRequest().body(error));
     }
 
+    /**
+     * HTTP 504 - Request deadline exceeded before the work started
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleDeadlineExceeded(
+            DeadlineExceededException ex,
+            ServerWebExchange exchange) {
+        log.warn("Request deadline exceeded: {}", ex.getMessage());
+
+        ErrorResponse error = buildErrorResponse(
+            HttpStatus.GATEWAY_TIMEOUT,
+            "DEADLINE_EXCEEDED",
+            ex.getMessage(),
+            exchange.getRequest().getPath().value()
+        );
+
+        return Mono.just(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error));
+    }
+
     /**
      * HTTP 500 - Internal Server Error
      */
@@ -182,6 +233,17 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error));
     }
 
+    /**
+     * Counts domain exceptions by class for the domain.exceptions metric
+     */
+    private void countDomainException(DomainException ex) {
+        Counter.builder("domain.exceptions")
+            .description("Domain exceptions translated into error responses")
+            .tag("exception", ex.getClass().getSimpleName())
+            .register(meterRegistry)
+            .increment();
+    }
+
     /**
      *Build a standard error response according to openapi.yaml
      */
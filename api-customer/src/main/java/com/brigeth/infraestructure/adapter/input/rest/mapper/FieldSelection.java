@@ -0,0 +1,86 @@
+package com.brigeth.infraestructure.adapter.input.rest.mapper;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * The fields of a response a {@code ?fields=} parameter asks for, by their API name.
+ *
+ * <p>Each field names the domain property it is mapped from, so persistence only projects the
+ * properties asked for, and clears itself on a response: a field left out is null and dropped by
+ * the non_null inclusion of spring.jackson.
+ */
+public final class FieldSelection<T> {
+
+    private final Map<String, Field<T>> fields;
+    private final Set<String> selected;
+
+    private FieldSelection(Map<String, Field<T>> fields, Set<String> selected) {
+        this.fields = fields;
+        this.selected = selected;
+    }
+
+    @SafeVarargs
+    public static <T> FieldSelection<T> of(Field<T>... fields) {
+        Map<String, Field<T>> byName = new LinkedHashMap<>();
+        for (Field<T> field : fields) {
+            byName.put(field.name(), field);
+        }
+        return new FieldSelection<>(byName, Set.of());
+    }
+
+    public static <T> Field<T> field(String name, String property, Consumer<T> clear) {
+        return new Field<>(name, property, clear);
+    }
+
+    /**
+     * The requested fields; none or an empty list selects them all.
+     *
+     * @throws IllegalArgumentException naming the first unknown field
+     */
+    public FieldSelection<T> select(List<String> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return new FieldSelection<>(fields, Set.of());
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : requested) {
+            String trimmed = name.trim();
+            if (!fields.containsKey(trimmed)) {
+                throw new IllegalArgumentException("Unknown field '" + trimmed + "', expected any of " + fields.keySet());
+            }
+            names.add(trimmed);
+        }
+        return new FieldSelection<>(fields, names);
+    }
+
+    /**
+     * Domain properties of the selected fields, null when every field is selected.
+     */
+    public Set<String> properties() {
+        if (selected.isEmpty()) {
+            return null;
+        }
+        Set<String> properties = new LinkedHashSet<>();
+        selected.forEach(name -> properties.add(fields.get(name).property()));
+        return properties;
+    }
+
+    /**
+     * Clears the fields that were not selected.
+     */
+    public T apply(T response) {
+        if (!selected.isEmpty()) {
+            fields.values().stream()
+                    .filter(field -> !selected.contains(field.name()))
+                    .forEach(field -> field.clear().accept(response));
+        }
+        return response;
+    }
+
+    public record Field<T>(String name, String property, Consumer<T> clear) {
+    }
+}
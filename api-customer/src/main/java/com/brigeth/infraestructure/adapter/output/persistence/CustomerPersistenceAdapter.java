@@ -1,74 +1,159 @@
 package com.brigeth.infraestructure.adapter.output.persistence;
 
+import com.brigeth.domain.enums.GenderType;
 import com.brigeth.domain.exception.CustomerNotFoundException;
 import com.brigeth.domain.models.Customer;
 import com.brigeth.domain.port.output.CustomerPersistencePort;
 import com.brigeth.infraestructure.adapter.output.persistence.entity.CustomerEntity;
 import com.brigeth.infraestructure.adapter.output.persistence.mapper.CustomerPersistenceMapper;
 import com.brigeth.infraestructure.adapter.output.persistence.repository.CustomerJpaRepository;
+import com.brigeth.infraestructure.deadline.Deadlines;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class CustomerPersistenceAdapter implements CustomerPersistencePort {
 
+    private static final String OBSERVATION_NAME = "customer.persistence";
+    private static final String OPERATION_TAG = "operation";
+
+    // Properties a projection can read, by domain name: the entity attribute and how its value goes back on the customer
+    private static final Map<String, Projected> PROJECTABLE = Map.of(
+            "personId", new Projected("id", (customer, value) -> customer.setPersonId((UUID) value)),
+            "name", new Projected("name", (customer, value) -> customer.setName((String) value)),
+            "gender", new Projected("gender", (customer, value) -> customer.setGender(GenderType.valueOf((String) value))),
+            "identification", new Projected("identification", (customer, value) -> customer.setIdentification((String) value)),
+            "address", new Projected("address", (customer, value) -> customer.setAddress((String) value)),
+            "phone", new Projected("phone", (customer, value) -> customer.setPhone((String) value)),
+            "state", new Projected("state", (customer, value) -> customer.setState((Boolean) value)),
+            "version", new Projected("version", (customer, value) -> customer.setVersion((Long) value)));
+
     private final CustomerJpaRepository customerJpaRepository;
     private final CustomerPersistenceMapper customerPersistenceMapper;
+    private final ObservationRegistry observationRegistry;
+    private final EntityManager entityManager;
 
 
     @Override
     public Flux<Customer> getAllCustomers() {
-        return Mono.fromCallable(customerJpaRepository::findAll)
+        return Deadlines.fromCallable(customerJpaRepository::findAll)
                 .flatMapMany(Flux::fromIterable)
                 .map(customerPersistenceMapper::toDomain)
-                .subscribeOn(Schedulers.boundedElastic());
+                .subscribeOn(Schedulers.boundedElastic())
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getAllCustomers")
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
     public Mono<Customer> getCustomerById(String customerId) {
         log.debug("Querying database for client: {}", customerId);
-        return Mono.fromCallable(() -> {
+        return Deadlines.fromCallable(() -> {
             CustomerEntity customerEntity = customerJpaRepository.findById(UUID.fromString(customerId))
                     .orElseThrow(() -> {
                         log.warn("Client not found in database: {}", customerId);
                         return new CustomerNotFoundException(customerId);
                     });
             return customerPersistenceMapper.toDomain(customerEntity);
-        }).subscribeOn(Schedulers.boundedElastic());
+        }).subscribeOn(Schedulers.boundedElastic())
+        .name(OBSERVATION_NAME)
+        .tag(OPERATION_TAG, "getCustomerById")
+        .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Flux<Customer> getAllCustomers(Set<String> properties) {
+        if (properties == null) {
+            return getAllCustomers();
+        }
+        return Deadlines.fromCallable(() -> project(properties, null))
+                .flatMapMany(Flux::fromIterable)
+                .subscribeOn(Schedulers.boundedElastic())
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getAllCustomersProjection")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Mono<Customer> getCustomerById(String customerId, Set<String> properties) {
+        if (properties == null) {
+            return getCustomerById(customerId);
+        }
+        log.debug("Querying database for client: {} - properties: {}", customerId, properties);
+        return Deadlines.fromCallable(() -> project(properties, UUID.fromString(customerId)).stream()
+                        .findFirst()
+                        .orElseThrow(() -> {
+                            log.warn("Client not found in database: {}", customerId);
+                            return new CustomerNotFoundException(customerId);
+                        }))
+                .subscribeOn(Schedulers.boundedElastic())
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getCustomerByIdProjection")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    @Override
+    public Mono<Customer> getCustomerByIdentification(String identification) {
+        return Deadlines.fromCallable(() -> customerJpaRepository.findByIdentification(identification))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .map(customerPersistenceMapper::toDomain)
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "getCustomerByIdentification")
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
     public Mono<Customer> saveCustomer(Customer customer) {
         log.debug("Saving to database: {}", customer.getIdentification());
-        return Mono.fromCallable(() -> {
+        return Deadlines.fromCallable(() -> {
             CustomerEntity customerEntity = customerPersistenceMapper.toEntity(customer);
             CustomerEntity savedEntity = customerJpaRepository.save(customerEntity);
             return customerPersistenceMapper.toDomain(savedEntity);
         })
         .doOnSuccess(c -> log.debug("Client saved in database: {}", c.getPersonId()))
         .doOnError(e -> log.error("Database error while saving: {}", e.getMessage()))
-        .subscribeOn(Schedulers.boundedElastic());
+        .subscribeOn(Schedulers.boundedElastic())
+        .name(OBSERVATION_NAME)
+        .tag(OPERATION_TAG, "saveCustomer")
+        .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
     public Mono<Void> deleteCustomer(String customerId) {
-        return Mono.fromCallable(() -> {
+        return Deadlines.fromCallable(() -> {
                     customerJpaRepository.deleteById(UUID.fromString(customerId));
                     return Void.TYPE;
-                }).then().subscribeOn(Schedulers.boundedElastic());
+                }).then().subscribeOn(Schedulers.boundedElastic())
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "deleteCustomer")
+                .tap(Micrometer.observation(observationRegistry));
     }
 
     @Override
     public Mono<Customer> updateCustomer(Customer customer) {
-        return Mono.fromCallable(() -> {
+        return Deadlines.fromCallable(() -> {
             CustomerEntity existingEntity = customerJpaRepository.findById(customer.getPersonId())
                     .orElseThrow(() -> new CustomerNotFoundException(customer.getPersonId().toString()));
                     
@@ -94,10 +179,51 @@ public class CustomerPersistenceAdapter implements CustomerPersistencePort {
                     if (customer.getState() != null) {
                         existingEntity.setState(customer.getState());
                     }
+                    // The version the client updates, so the save fails if it is no longer current
+                    if (customer.getVersion() != null) {
+                        existingEntity.setVersion(customer.getVersion());
+                    }
                     
                     CustomerEntity updatedEntity = customerJpaRepository.save(existingEntity);
                     return customerPersistenceMapper.toDomain(updatedEntity);
                 }
-        ).subscribeOn(Schedulers.boundedElastic());
+        ).subscribeOn(Schedulers.boundedElastic())
+                .name(OBSERVATION_NAME)
+                .tag(OPERATION_TAG, "updateCustomer")
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    /**
+     * Reads only the given columns, plus id and version, as a tuple query; every customer when the id is null.
+     */
+    private List<Customer> project(Set<String> properties, UUID customerId) {
+        Set<String> selected = new LinkedHashSet<>(List.of("personId", "version"));
+        selected.addAll(properties);
+        selected.forEach(property -> {
+            if (!PROJECTABLE.containsKey(property)) {
+                throw new IllegalArgumentException("Customer property cannot be projected: " + property);
+            }
+        });
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<CustomerEntity> customer = query.from(CustomerEntity.class);
+        query.multiselect(selected.stream()
+                .<Selection<?>>map(property -> customer.get(PROJECTABLE.get(property).attribute()).alias(property))
+                .toList());
+        if (customerId != null) {
+            query.where(builder.equal(customer.get("id"), customerId));
+        }
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> {
+                    Customer projected = new Customer();
+                    selected.forEach(property -> PROJECTABLE.get(property).set().accept(projected, tuple.get(property)));
+                    return projected;
+                })
+                .toList();
+    }
+
+    private record Projected(String attribute, BiConsumer<Customer, Object> set) {
     }
 }
@@ -1,10 +1,12 @@
 package com.brigeth.infraestructure.adapter.output.persistence.entity;
 
+import com.brigeth.infraestructure.adapter.output.persistence.id.UuidV7Generator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
@@ -15,7 +17,8 @@ import java.util.UUID;
 @Table(name = "customers")
 public class CustomerEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
     
     @NotBlank(message = "Name is required")
@@ -49,4 +52,9 @@ public class CustomerEntity {
     @Column(nullable = false)
     private Boolean state;
 
+    // Optimistic lock: an update of a stale copy fails instead of overwriting a newer one
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
 }
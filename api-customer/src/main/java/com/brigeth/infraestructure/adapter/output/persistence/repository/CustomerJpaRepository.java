@@ -4,9 +4,11 @@ import com.brigeth.infraestructure.adapter.output.persistence.entity.CustomerEnt
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CustomerJpaRepository extends JpaRepository <CustomerEntity, UUID>{
 
+    Optional<CustomerEntity> findByIdentification(String identification);
 }
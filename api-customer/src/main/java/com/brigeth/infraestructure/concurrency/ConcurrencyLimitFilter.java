@@ -0,0 +1,102 @@
+package com.brigeth.infraestructure.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sheds load before it reaches the handlers: each request is matched to a route class, and
+ * answered at once with 503 and {@code Retry-After} when its class already has as many requests
+ * in flight as its {@link AdaptiveConcurrencyLimit} allows. A class saturated by slow listings
+ * therefore does not take the slots of short reads or writes.
+ *
+ * <p>Routes are matched in order; requests matching none, or a route without a class, are not
+ * limited. Publishes the limit, the requests in flight and the rejections of each class.
+ */
+public class ConcurrencyLimitFilter implements WebFilter, Ordered, MeterBinder {
+
+    private static final String ROUTE_CLASS_TAG = "route.class";
+
+    private final List<Route> routes;
+    private final Map<String, AdaptiveConcurrencyLimit> limits;
+    private final String retryAfter;
+
+    public ConcurrencyLimitFilter(List<Route> routes, Map<String, AdaptiveConcurrencyLimit> limits, Duration retryAfter) {
+        this.routes = routes;
+        this.limits = limits;
+        this.retryAfter = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        AdaptiveConcurrencyLimit limit = limitOf(exchange.getRequest());
+        if (limit == null) {
+            return chain.filter(exchange);
+        }
+        if (!limit.tryAcquire()) {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfter);
+            return response.setComplete();
+        }
+        long start = System.nanoTime();
+        return Mono.defer(() -> chain.filter(exchange))
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        limit.release();
+                    } else {
+                        limit.release(System.nanoTime() - start);
+                    }
+                });
+    }
+
+    private AdaptiveConcurrencyLimit limitOf(ServerHttpRequest request) {
+        for (Route route : routes) {
+            if (route.matches(request)) {
+                return route.limit() != null ? limits.get(route.limit()) : null;
+            }
+        }
+        return null;
+    }
+
+    // Ahead of the other filters, so a rejected request costs as little as possible
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limits.forEach((routeClass, limit) -> {
+            Gauge.builder("http.server.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .description("Requests of the route class allowed in flight")
+                    .tag(ROUTE_CLASS_TAG, routeClass)
+                    .register(registry);
+
+            Gauge.builder("http.server.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInflight)
+                    .description("Requests of the route class in flight")
+                    .tag(ROUTE_CLASS_TAG, routeClass)
+                    .register(registry);
+
+            FunctionCounter.builder("http.server.concurrency.rejected", limit, AdaptiveConcurrencyLimit::getRejected)
+                    .description("Requests of the route class answered with 503 over the limit")
+                    .tag(ROUTE_CLASS_TAG, routeClass)
+                    .register(registry);
+        });
+    }
+}
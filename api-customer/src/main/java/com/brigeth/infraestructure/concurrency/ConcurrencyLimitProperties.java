@@ -0,0 +1,40 @@
+package com.brigeth.infraestructure.concurrency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code concurrency.limits.route-classes.<class>.*}: bounds and tuning of the adaptive limit
+ * of each route class; a class not configured takes the defaults.
+ */
+@Data
+@ConfigurationProperties(prefix = "concurrency.limits")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Map<String, Limit> routeClasses = new LinkedHashMap<>();
+
+    public Limit routeClass(String name) {
+        return routeClasses.getOrDefault(name, new Limit());
+    }
+
+    @Data
+    public static class Limit {
+
+        private int initial = 20;
+        private int min = 4;
+        private int max = 200;
+        private double smoothing = 0.2;
+        private double tolerance = 1.5;
+        private int longWindow = 600;
+
+        public AdaptiveConcurrencyLimit toLimit() {
+            return new AdaptiveConcurrencyLimit(initial, min, max, smoothing, tolerance, longWindow);
+        }
+    }
+}
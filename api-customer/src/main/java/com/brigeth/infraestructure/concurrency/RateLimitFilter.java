@@ -0,0 +1,132 @@
+package com.brigeth.infraestructure.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the request rate of each client on the configured routes with {@link TokenBuckets},
+ * answering 429 with {@code Retry-After} once a client has used up its bucket. Clients are told
+ * apart by their API key header, or by their address when they send none.
+ *
+ * <p>Runs ahead of the {@link ConcurrencyLimitFilter}, so a client over its rate does not take
+ * the slots of the others. Routes are matched in order; requests matching none are not limited.
+ *
+ * <p>The API key is not validated here, so a client could send a new one with every request to
+ * get a fresh bucket each time. Once a route has {@code maxClients} buckets, a key without a
+ * bucket of its own is ignored and the request counts against its address.
+ */
+@Slf4j
+public class RateLimitFilter implements WebFilter, Ordered, MeterBinder {
+
+    private static final String ROUTE_TAG = "route";
+    private static final String UNKNOWN_CLIENT = "unknown";
+    // Keys and addresses are kept apart, so a key cannot be the address of another client
+    private static final String KEY_PREFIX = "key:";
+    private static final String ADDRESS_PREFIX = "address:";
+
+    private final List<Route> routes;
+    private final Map<String, TokenBuckets> buckets;
+    private final String clientHeader;
+    private final int maxClients;
+
+    public RateLimitFilter(List<Route> routes, Map<String, TokenBuckets> buckets, String clientHeader, int maxClients) {
+        this.routes = routes;
+        this.buckets = buckets;
+        this.clientHeader = clientHeader;
+        this.maxClients = maxClients;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        TokenBuckets routeBuckets = bucketsOf(request);
+        if (routeBuckets == null) {
+            return chain.filter(exchange);
+        }
+        long wait = routeBuckets.tryConsume(clientOf(request, routeBuckets), System.nanoTime());
+        if (wait == 0) {
+            return chain.filter(exchange);
+        }
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999L))));
+        return response.setComplete();
+    }
+
+    private TokenBuckets bucketsOf(ServerHttpRequest request) {
+        for (Route route : routes) {
+            if (route.matches(request)) {
+                return route.limit() != null ? buckets.get(route.limit()) : null;
+            }
+        }
+        return null;
+    }
+
+    private String clientOf(ServerHttpRequest request, TokenBuckets routeBuckets) {
+        String apiKey = request.getHeaders().getFirst(clientHeader);
+        if (apiKey != null && !apiKey.isBlank()) {
+            String client = KEY_PREFIX + apiKey;
+            if (routeBuckets.contains(client) || routeBuckets.getClients() < maxClients) {
+                return client;
+            }
+        }
+        InetSocketAddress address = request.getRemoteAddress();
+        return ADDRESS_PREFIX + (address != null && address.getAddress() != null
+                ? address.getAddress().getHostAddress() : UNKNOWN_CLIENT);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limits.eviction-interval:1m}",
+            initialDelayString = "${rate-limits.eviction-interval:1m}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.forEach((route, routeBuckets) -> {
+            int evicted = routeBuckets.evictIdle(now);
+            log.debug("Rate limit buckets of {} evicted: {}, left: {}", route, evicted, routeBuckets.getClients());
+        });
+    }
+
+    // Ahead of the ConcurrencyLimitFilter
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 5;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        buckets.forEach((route, routeBuckets) -> {
+            Gauge.builder("http.server.ratelimit.clients", routeBuckets, TokenBuckets::getClients)
+                    .description("Clients with a bucket on the route")
+                    .tag(ROUTE_TAG, route)
+                    .register(registry);
+
+            FunctionCounter.builder("http.server.ratelimit.rejected", routeBuckets, TokenBuckets::getRejected)
+                    .description("Requests of the route answered with 429 over the client's rate")
+                    .tag(ROUTE_TAG, route)
+                    .register(registry);
+
+            FunctionCounter.builder("http.server.ratelimit.evicted", routeBuckets, TokenBuckets::getEvicted)
+                    .description("Idle client buckets of the route evicted")
+                    .tag(ROUTE_TAG, route)
+                    .register(registry);
+        });
+    }
+}
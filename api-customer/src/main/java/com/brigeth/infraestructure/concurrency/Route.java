@@ -0,0 +1,22 @@
+package com.brigeth.infraestructure.concurrency;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Requests with the method (any when null) and a path matching the pattern, counted against the
+ * named limit; a null limit leaves them unlimited.
+ */
+public record Route(HttpMethod method, PathPattern pattern, String limit) {
+
+    public static Route of(HttpMethod method, String pattern, String limit) {
+        return new Route(method, PathPatternParser.defaultInstance.parse(pattern), limit);
+    }
+
+    public boolean matches(ServerHttpRequest request) {
+        return (method == null || method.equals(request.getMethod()))
+                && pattern.matches(request.getPath().pathWithinApplication());
+    }
+}
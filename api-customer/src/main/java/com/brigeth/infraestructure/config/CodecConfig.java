@@ -0,0 +1,46 @@
+package com.brigeth.infraestructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+
+@Configuration
+public class CodecConfig {
+
+    // The codecs default to the JSON media types when built with a mapper and none
+    private static final MimeType[] CBOR_MIME_TYPES = {MediaType.APPLICATION_CBOR};
+    private static final MimeType[] SMILE_MIME_TYPES = {
+            new MimeType("application", "x-jackson-smile"), new MimeType("application", "*+x-jackson-smile")};
+
+    /**
+     * CBOR (application/cbor) and Smile (application/x-jackson-smile) next to JSON, chosen by the
+     * Accept header of the operations that declare them. Both mappers take the spring.jackson.*
+     * settings of the JSON one, so the three formats carry the same fields. A list is written as
+     * one binary array, see {@link CollectingJackson2Encoder}.
+     */
+    @Bean
+    public CodecCustomizer binaryJacksonCodecCustomizer(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        ObjectMapper cbor = builders.getObject().factory(new CBORFactory()).build();
+        ObjectMapper smile = builders.getObject().factory(new SmileFactory()).build();
+        Jackson2CborEncoder cborEncoder = new Jackson2CborEncoder(cbor, CBOR_MIME_TYPES);
+        Jackson2SmileEncoder smileEncoder = new Jackson2SmileEncoder(smile, SMILE_MIME_TYPES);
+        return configurer -> {
+            configurer.customCodecs().register(new CollectingJackson2Encoder(cborEncoder));
+            configurer.customCodecs().register(new Jackson2CborDecoder(cbor, CBOR_MIME_TYPES));
+            // Custom writers come before the default ones, so this one is used in place of the default Smile encoder
+            configurer.customCodecs().register(new CollectingJackson2Encoder(smileEncoder));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smile, SMILE_MIME_TYPES));
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.brigeth.infraestructure.config;
+
+import com.brigeth.infraestructure.concurrency.AdaptiveConcurrencyLimit;
+import com.brigeth.infraestructure.concurrency.ConcurrencyLimitFilter;
+import com.brigeth.infraestructure.concurrency.ConcurrencyLimitProperties;
+import com.brigeth.infraestructure.concurrency.Route;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "concurrency.limits.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    private static final String WRITES = "writes";
+    private static final String READS = "reads";
+    private static final String LISTINGS = "listings";
+
+    /**
+     * Writes hold a transaction, reads fetch one customer and the listing reads every customer.
+     */
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitProperties properties) {
+        List<Route> routes = List.of(
+                Route.of(HttpMethod.GET, "/customers", LISTINGS),
+                Route.of(HttpMethod.GET, "/customers/{customerId}", READS),
+                Route.of(null, "/customers/**", WRITES));
+
+        Map<String, AdaptiveConcurrencyLimit> limits = new LinkedHashMap<>();
+        for (String routeClass : List.of(WRITES, READS, LISTINGS)) {
+            limits.put(routeClass, properties.routeClass(routeClass).toLimit());
+        }
+        return new ConcurrencyLimitFilter(routes, limits, properties.getRetryAfter());
+    }
+}
@@ -0,0 +1,20 @@
+package com.brigeth.infraestructure.config;
+
+import com.brigeth.infraestructure.deadline.DeadlineFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "deadlines.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig {
+
+    @Bean
+    public DeadlineFilter deadlineFilter(@Value("${deadlines.default-timeout:#{null}}") Duration defaultTimeout) {
+        return new DeadlineFilter(Clock.systemUTC(), defaultTimeout);
+    }
+}
@@ -0,0 +1,27 @@
+package com.brigeth.infraestructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Support for the fast-start image (Dockerfile target {@code faststart}). Its class data sharing
+ * archive comes from a training run at image build time, which refreshes the context and exits
+ * with no database to reach: {@code startup.training-run} skips the migrations there, since under
+ * AOT the Flyway beans can no longer be switched off by property.
+ */
+@Configuration
+@ImportRuntimeHints(NativeRuntimeHints.class)
+public class FastStartConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(@Value("${startup.training-run:false}") boolean trainingRun) {
+        return flyway -> {
+            if (!trainingRun) {
+                flyway.migrate();
+            }
+        };
+    }
+}
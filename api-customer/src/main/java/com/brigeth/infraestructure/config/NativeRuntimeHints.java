@@ -0,0 +1,37 @@
+package com.brigeth.infraestructure.config;
+
+import com.brigeth.infraestructure.adapter.output.persistence.id.UuidV7Generator;
+import com.brigeth.infraestructure.logging.CountingAsyncAppender;
+import com.brigeth.infraestructure.logging.SamplingTurboFilter;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * What the native image cannot work out from the bean definitions: the JDK proxies of
+ * SqlStatisticsDataSource, the logback classes named in logback-spring.xml, and the UUIDv7 generator
+ * Hibernate creates by reflection.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.proxies()
+                .registerJdkProxy(Connection.class)
+                .registerJdkProxy(Statement.class)
+                .registerJdkProxy(PreparedStatement.class)
+                .registerJdkProxy(CallableStatement.class)
+                .registerJdkProxy(ResultSet.class);
+
+        for (Class<?> type : new Class<?>[]{CountingAsyncAppender.class, SamplingTurboFilter.class, UuidV7Generator.class}) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
+
@@ -0,0 +1,22 @@
+package com.brigeth.infraestructure.config;
+
+import com.brigeth.infraestructure.tracing.FileSpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Local span exporter, picked up by the OpenTelemetry auto-configuration next to any other exporter
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.file-exporter.enabled", havingValue = "true", matchIfMissing = true)
+    public FileSpanExporter fileSpanExporter(@Value("${tracing.file-exporter.path:logs/api-customer-spans.jsonl}") String path) {
+        return new FileSpanExporter(Path.of(path));
+    }
+}
@@ -0,0 +1,11 @@
+package com.brigeth.infraestructure.deadline;
+
+/**
+ * Work of a request not started, or given up, because its {@link Deadline} had passed.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
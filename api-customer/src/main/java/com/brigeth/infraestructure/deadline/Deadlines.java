@@ -0,0 +1,35 @@
+package com.brigeth.infraestructure.deadline;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Honours the {@link Deadline} in the Reactor context in the blocking work of a request.
+ */
+public final class Deadlines {
+
+    private Deadlines() {
+    }
+
+    /**
+     * Like {@link Mono#fromCallable(Callable)}, but the callable is skipped with a
+     * {@link DeadlineExceededException} when the deadline has passed by the time it would start,
+     * so a task that waited in the boundedElastic queue past its deadline takes no thread or
+     * pooled connection. Without a deadline it always runs.
+     */
+    public static <T> Mono<T> fromCallable(Callable<T> callable) {
+        return Mono.deferContextual(context -> {
+            Deadline deadline = context.getOrDefault(Deadline.class, null);
+            if (deadline == null) {
+                return Mono.fromCallable(callable);
+            }
+            return Mono.fromCallable(() -> {
+                if (deadline.isExpired()) {
+                    throw new DeadlineExceededException("Request deadline passed before the task started");
+                }
+                return callable.call();
+            });
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.brigeth.infraestructure.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.reactive.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+
+/**
+ * Tags http.server.requests with the CustomersApi operation that handled the request
+ * (getCustomerById, getAllCustomer, ...), giving one latency histogram per endpoint.
+ */
+@Component
+public class ApiOperationObservationConvention extends DefaultServerRequestObservationConvention {
+
+    private static final String OPERATION_TAG = "operation";
+    private static final KeyValue OPERATION_NONE = KeyValue.of(OPERATION_TAG, "none");
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(operation(context));
+    }
+
+    private KeyValue operation(ServerRequestObservationContext context) {
+        Object handler = context.getAttributes().get(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return KeyValue.of(OPERATION_TAG, handlerMethod.getMethod().getName());
+        }
+        return OPERATION_NONE;
+    }
+}
@@ -0,0 +1,62 @@
+package com.brigeth.infraestructure.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Supplier;
+
+/**
+ * Gauges for the boundedElastic scheduler that CustomerPersistenceAdapter offloads JPA calls to:
+ * allocated workers, the worker cap and the tasks queued behind busy workers. Read from the
+ * scheduler behind the cached wrapper {@link Schedulers#boundedElastic()} returns, which has no
+ * workers of its own.
+ */
+@Component
+public class BoundedElasticSchedulerMetrics implements MeterBinder {
+
+    private static final String SCHEDULER_TAG = "scheduler";
+    private static final String SCHEDULER_NAME = "boundedElastic";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("reactor.scheduler.workers.active", () -> intAttr(scheduler(), Scannable.Attr.BUFFERED))
+                .description("Workers currently allocated by the scheduler")
+                .tag(SCHEDULER_TAG, SCHEDULER_NAME)
+                .register(registry);
+
+        Gauge.builder("reactor.scheduler.workers.max", () -> intAttr(scheduler(), Scannable.Attr.CAPACITY))
+                .description("Maximum number of workers the scheduler can allocate")
+                .tag(SCHEDULER_TAG, SCHEDULER_NAME)
+                .register(registry);
+
+        Gauge.builder("reactor.scheduler.tasks.queued", () -> queuedTasks(scheduler()))
+                .description("Tasks waiting in the worker queues for a thread")
+                .tag(SCHEDULER_TAG, SCHEDULER_NAME)
+                .register(registry);
+    }
+
+    // Looked up at every reading, in case the scheduler was replaced
+    private static Scannable scheduler() {
+        Scheduler scheduler = Schedulers.boundedElastic();
+        if (scheduler instanceof Supplier<?> cached && cached.get() instanceof Scheduler wrapped) {
+            scheduler = wrapped;
+        }
+        return Scannable.from(scheduler);
+    }
+
+    private static double queuedTasks(Scannable scheduler) {
+        return scheduler.inners()
+                .mapToDouble(worker -> intAttr(worker, Scannable.Attr.BUFFERED))
+                .sum();
+    }
+
+    private static double intAttr(Scannable scannable, Scannable.Attr<Integer> attr) {
+        Integer value = scannable.scan(attr);
+        return value != null ? value : 0;
+    }
+}
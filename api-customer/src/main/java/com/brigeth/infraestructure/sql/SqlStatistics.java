@@ -0,0 +1,84 @@
+package com.brigeth.infraestructure.sql;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Per statement-shape counters for the SQL sent by Hibernate. The shape is the statement with
+ * literals turned into ? and IN lists folded, so repeated lookups share one row. Only statements
+ * over the slow threshold are logged.
+ */
+@Slf4j
+public class SqlStatistics {
+
+    static final String OTHER_STATEMENTS = "<other statements>";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private final Map<String, StatementStats> byShape = new ConcurrentHashMap<>();
+    private final long slowThresholdNanos;
+    private final int maxStatements;
+
+    public SqlStatistics(Duration slowThreshold, int maxStatements) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Records one execution and returns the bucket it was counted in, so the caller can keep
+     * adding the rows it reads from the result set.
+     */
+    public StatementStats record(String sql, long elapsedNanos) {
+        String shape = shapeOf(sql);
+        StatementStats stats = statsFor(shape);
+        stats.recordExecution(elapsedNanos);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            log.warn("Slow SQL ({} ms): {}", Duration.ofNanos(elapsedNanos).toMillis(), shape);
+        }
+        return stats;
+    }
+
+    public List<SqlStatementSummary> top(int limit, SqlStatementSummary.Order order) {
+        return byShape.entrySet().stream()
+                .map(entry -> entry.getValue().summary(entry.getKey()))
+                .sorted(order.comparator().reversed().thenComparing(SqlStatementSummary::getSql, Comparator.naturalOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        byShape.clear();
+    }
+
+    static String shapeOf(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return PARAMETER_LIST.matcher(shape).replaceAll("(?...)");
+    }
+
+    private StatementStats statsFor(String shape) {
+        StatementStats stats = byShape.get(shape);
+        if (stats != null) {
+            return stats;
+        }
+        // Caps the table when something builds SQL with inlined values that the shape cannot fold
+        if (byShape.size() >= maxStatements) {
+            return byShape.computeIfAbsent(OTHER_STATEMENTS, key -> new StatementStats());
+        }
+        return byShape.computeIfAbsent(shape, key -> new StatementStats());
+    }
+}
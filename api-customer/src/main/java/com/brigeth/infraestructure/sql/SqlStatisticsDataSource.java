@@ -0,0 +1,143 @@
+package com.brigeth.infraestructure.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * DataSource decorator feeding {@link SqlStatistics}. Connections, statements and result sets
+ * handed out by the pool are wrapped in JDK proxies that time execute calls and count rows.
+ */
+public class SqlStatisticsDataSource extends DelegatingDataSource {
+
+    private final SqlStatistics statistics;
+
+    public SqlStatisticsDataSource(DataSource target, SqlStatistics statistics) {
+        super(target);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    private static <T> T wrap(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlStatisticsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = call(target, method, args);
+            return switch (method.getName()) {
+                case "prepareCall" -> wrap(CallableStatement.class, new StatementHandler(result, (String) args[0]));
+                case "prepareStatement" -> wrap(PreparedStatement.class, new StatementHandler(result, (String) args[0]));
+                case "createStatement" -> wrap(Statement.class, new StatementHandler(result, null));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+        private final String preparedSql;
+        private StatementStats lastExecuted;
+
+        StatementHandler(Object target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getResultSet")) {
+                return wrapResultSet(call(target, method, args));
+            }
+            if (!name.startsWith("execute")) {
+                return call(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = call(target, method, args);
+            } finally {
+                lastExecuted = statistics.record(sql, System.nanoTime() - start);
+            }
+
+            if (result instanceof ResultSet) {
+                return wrapResultSet(result);
+            }
+            if (result instanceof Integer updated && name.contains("Update")) {
+                lastExecuted.addRows(updated);
+            } else if (result instanceof Long updated && name.contains("Update")) {
+                lastExecuted.addRows(updated);
+            } else if (result instanceof int[] batch) {
+                lastExecuted.addRows(Arrays.stream(batch).filter(count -> count > 0).sum());
+            }
+            return result;
+        }
+
+        private Object wrapResultSet(Object resultSet) {
+            if (resultSet == null || lastExecuted == null) {
+                return resultSet;
+            }
+            return wrap(ResultSet.class, new ResultSetHandler((ResultSet) resultSet, lastExecuted));
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final StatementStats stats;
+
+        ResultSetHandler(ResultSet target, StatementStats stats) {
+            this.target = target;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = call(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                stats.addRows(1);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.brigeth.infraestructure.sql;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Totals for a single statement shape, safe to update from several connections at once.
+ */
+public class StatementStats {
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LongAdder rows = new LongAdder();
+
+    void recordExecution(long elapsedNanos) {
+        executions.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    public void addRows(long count) {
+        rows.add(count);
+    }
+
+    SqlStatementSummary summary(String sql) {
+        long count = executions.sum();
+        double totalMs = toMillis(totalNanos.sum());
+        return SqlStatementSummary.builder()
+                .sql(sql)
+                .count(count)
+                .totalMs(totalMs)
+                .meanMs(count > 0 ? totalMs / count : 0)
+                .maxMs(toMillis(maxNanos.get()))
+                .rows(rows.sum())
+                .build();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,16 @@
+-- Schema as previously generated by Hibernate (ddl-auto: update).
+-- Databases created that way are baselined at version 1 and only run later migrations.
+-- Identification lookups use the unique index behind uk_customers_identification.
+
+CREATE TABLE customers (
+    id             UUID         NOT NULL,
+    name           VARCHAR(100) NOT NULL,
+    gender         VARCHAR(1)   NOT NULL,
+    identification VARCHAR(10)  NOT NULL,
+    address        VARCHAR(255) NOT NULL,
+    phone          VARCHAR(10)  NOT NULL,
+    password       VARCHAR(255) NOT NULL,
+    state          BOOLEAN      NOT NULL,
+    CONSTRAINT pk_customers PRIMARY KEY (id),
+    CONSTRAINT uk_customers_identification UNIQUE (identification)
+);
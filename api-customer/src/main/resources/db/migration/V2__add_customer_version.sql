@@ -0,0 +1,2 @@
+-- Optimistic locking and ETags of customers (CustomerEntity.version).
+ALTER TABLE customers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -12,7 +12,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -63,27 +62,27 @@ class ValidationServiceImplTest {
     @DisplayName("You must successfully validate the unique identification when there is no duplicate.")
     void shouldValidateUniqueIdentificationSuccessfully() {
         String newIdentification = "1111111111";
-        when(customerPersistencePort.getAllCustomers())
-                .thenReturn(Flux.just(testCustomer, anotherCustomer));
+        when(customerPersistencePort.getCustomerByIdentification(newIdentification))
+                .thenReturn(Mono.empty());
 
         StepVerifier.create(validationService.validateUniqueIdentification(newIdentification, null))
                 .verifyComplete();
 
-        verify(customerPersistencePort, times(1)).getAllCustomers();
+        verify(customerPersistencePort, times(1)).getCustomerByIdentification(newIdentification);
     }
 
     @Test
     @DisplayName("It should throw an exception when the ID is duplicated.")
     void shouldThrowExceptionWhenIdentificationIsDuplicated() {
         String duplicatedIdentification = "1234567890";
-        when(customerPersistencePort.getAllCustomers())
-                .thenReturn(Flux.just(testCustomer, anotherCustomer));
+        when(customerPersistencePort.getCustomerByIdentification(duplicatedIdentification))
+                .thenReturn(Mono.just(testCustomer));
 
         StepVerifier.create(validationService.validateUniqueIdentification(duplicatedIdentification, null))
                 .expectError(DuplicateIdentificationException.class)
                 .verify();
 
-        verify(customerPersistencePort, times(1)).getAllCustomers();
+        verify(customerPersistencePort, times(1)).getCustomerByIdentification(duplicatedIdentification);
     }
 
     @Test
@@ -91,13 +90,13 @@ class ValidationServiceImplTest {
     void shouldAllowDuplicateIdentificationForSameCustomer() {
         String customerId = testCustomer.getPersonId().toString();
         String identification = testCustomer.getIdentification();
-        when(customerPersistencePort.getAllCustomers())
-                .thenReturn(Flux.just(testCustomer, anotherCustomer));
+        when(customerPersistencePort.getCustomerByIdentification(identification))
+                .thenReturn(Mono.just(testCustomer));
 
         StepVerifier.create(validationService.validateUniqueIdentification(identification, customerId))
                 .verifyComplete();
 
-        verify(customerPersistencePort, times(1)).getAllCustomers();
+        verify(customerPersistencePort, times(1)).getCustomerByIdentification(identification);
     }
 
     @Test
@@ -106,26 +105,26 @@ class ValidationServiceImplTest {
 
         String customerId = testCustomer.getPersonId().toString();
         String duplicatedIdentification = anotherCustomer.getIdentification();
-        when(customerPersistencePort.getAllCustomers())
-                .thenReturn(Flux.just(testCustomer, anotherCustomer));
+        when(customerPersistencePort.getCustomerByIdentification(duplicatedIdentification))
+                .thenReturn(Mono.just(anotherCustomer));
 
         StepVerifier.create(validationService.validateUniqueIdentification(duplicatedIdentification, customerId))
                 .verifyError(DuplicateIdentificationException.class);
 
-        verify(customerPersistencePort, times(1)).getAllCustomers();
+        verify(customerPersistencePort, times(1)).getCustomerByIdentification(duplicatedIdentification);
     }
 
     @Test
     @DisplayName("You must validate unique identification when there are no customers.")
     void shouldValidateUniqueIdentificationWhenNoCustomersExist() {
         String newIdentification = "1234567890";
-        when(customerPersistencePort.getAllCustomers())
-                .thenReturn(Flux.empty());
+        when(customerPersistencePort.getCustomerByIdentification(newIdentification))
+                .thenReturn(Mono.empty());
 
         StepVerifier.create(validationService.validateUniqueIdentification(newIdentification, null))
                 .verifyComplete();
 
-        verify(customerPersistencePort, times(1)).getAllCustomers();
+        verify(customerPersistencePort, times(1)).getCustomerByIdentification(newIdentification);
     }
 
     @Test
@@ -163,8 +162,8 @@ class ValidationServiceImplTest {
     void shouldValidateMultipleCustomersWithUniqueIdentifications() {
         String newIdentification1 = "1111111111";
         String newIdentification2 = "2222222222";
-        when(customerPersistencePort.getAllCustomers())
-                .thenReturn(Flux.just(testCustomer, anotherCustomer));
+        when(customerPersistencePort.getCustomerByIdentification(anyString()))
+                .thenReturn(Mono.empty());
 
         StepVerifier.create(validationService.validateUniqueIdentification(newIdentification1, null))
                 .verifyComplete();
@@ -172,20 +171,21 @@ class ValidationServiceImplTest {
         StepVerifier.create(validationService.validateUniqueIdentification(newIdentification2, null))
                 .verifyComplete();
 
-        verify(customerPersistencePort, times(2)).getAllCustomers();
+        verify(customerPersistencePort, times(1)).getCustomerByIdentification(newIdentification1);
+        verify(customerPersistencePort, times(1)).getCustomerByIdentification(newIdentification2);
     }
 
     @Test
     @DisplayName("You must validate correctly with excludeCustomerId null")
     void shouldValidateCorrectlyWithNullExcludeCustomerId() {
         String identification = testCustomer.getIdentification();
-        when(customerPersistencePort.getAllCustomers())
-                .thenReturn(Flux.just(testCustomer));
+        when(customerPersistencePort.getCustomerByIdentification(identification))
+                .thenReturn(Mono.just(testCustomer));
 
         StepVerifier.create(validationService.validateUniqueIdentification(identification, null))
                 .expectError(DuplicateIdentificationException.class)
                 .verify();
 
-        verify(customerPersistencePort, times(1)).getAllCustomers();
+        verify(customerPersistencePort, times(1)).getCustomerByIdentification(identification);
     }
 }
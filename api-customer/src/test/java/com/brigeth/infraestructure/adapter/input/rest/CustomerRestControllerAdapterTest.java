@@ -17,13 +17,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -56,6 +62,7 @@ class CustomerRestControllerAdapterTest {
                 .phone("0987654321")
                 .password("SecurePass123")
                 .state(true)
+                .version(3L)
                 .build();
 
         testResponse = new CustomerResponse();
@@ -105,12 +112,12 @@ class CustomerRestControllerAdapterTest {
         response2.setCustomerId(customer2.getPersonId());
         response2.setName(customer2.getName());
 
-        when(customerService.getCustomers()).thenReturn(Flux.just(testCustomer, customer2));
+        when(customerService.getCustomers(null)).thenReturn(Flux.just(testCustomer, customer2));
         when(customerRestMapper.toResponse(testCustomer)).thenReturn(testResponse);
         when(customerRestMapper.toResponse(customer2)).thenReturn(response2);
 
         Mono<ResponseEntity<Flux<CustomerResponse>>> result = customerRestControllerAdapter
-                .getAllCustomer(null);
+                .getAllCustomer(null, null);
 
         StepVerifier.create(result)
                 .assertNext(response -> {
@@ -122,27 +129,28 @@ class CustomerRestControllerAdapterTest {
                 })
                 .verifyComplete();
 
-        verify(customerService, times(1)).getCustomers();
+        verify(customerService, times(1)).getCustomers(null);
     }
 
     @Test
     @DisplayName("Should get customer by id successfully")
     void shouldGetCustomerByIdSuccessfully() {
         UUID customerId = testCustomer.getPersonId();
-        when(customerService.getOnlyCustomerById(customerId.toString())).thenReturn(Mono.just(testCustomer));
+        when(customerService.getOnlyCustomerById(customerId.toString(), null)).thenReturn(Mono.just(testCustomer));
         when(customerRestMapper.toResponse(testCustomer)).thenReturn(testResponse);
 
         Mono<ResponseEntity<CustomerResponse>> result = customerRestControllerAdapter
-                .getCustomerById(customerId, null);
+                .getCustomerById(customerId, null, MockServerWebExchange.from(MockServerHttpRequest.get("/customers/" + customerId)));
 
         StepVerifier.create(result)
                 .assertNext(response -> {
                     assertEquals(HttpStatus.OK, response.getStatusCode());
+                    assertEquals("\"3\"", response.getHeaders().getETag());
                     assertEquals(testResponse, response.getBody());
                 })
                 .verifyComplete();
 
-        verify(customerService, times(1)).getOnlyCustomerById(customerId.toString());
+        verify(customerService, times(1)).getOnlyCustomerById(customerId.toString(), null);
         verify(customerRestMapper, times(1)).toResponse(testCustomer);
     }
 
@@ -150,17 +158,17 @@ class CustomerRestControllerAdapterTest {
     @DisplayName("Should return 404 when customer not found")
     void shouldReturn404WhenCustomerNotFound() {
         UUID customerId = UUID.randomUUID();
-        when(customerService.getOnlyCustomerById(customerId.toString()))
+        when(customerService.getOnlyCustomerById(customerId.toString(), null))
                 .thenReturn(Mono.error(new CustomerNotFoundException(customerId.toString())));
 
         Mono<ResponseEntity<CustomerResponse>> result = customerRestControllerAdapter
-                .getCustomerById(customerId, null);
+                .getCustomerById(customerId, null, MockServerWebExchange.from(MockServerHttpRequest.get("/customers/" + customerId)));
 
         StepVerifier.create(result)
                 .expectError(CustomerNotFoundException.class)
                 .verify();
 
-        verify(customerService, times(1)).getOnlyCustomerById(customerId.toString());
+        verify(customerService, times(1)).getOnlyCustomerById(customerId.toString(), null);
         verify(customerRestMapper, never()).toResponse(any(Customer.class));
     }
 
@@ -177,7 +185,8 @@ class CustomerRestControllerAdapterTest {
         when(customerRestMapper.toResponse(any(Customer.class))).thenReturn(testResponse);
 
         Mono<ResponseEntity<CustomerResponse>> result = customerRestControllerAdapter
-                .updateCustomer(customerId, Mono.just(updateRequest), null);
+                .updateCustomer(customerId, Mono.just(updateRequest),
+                        MockServerWebExchange.from(MockServerHttpRequest.put("/customers/" + customerId)));
 
         StepVerifier.create(result)
                 .assertNext(response -> {
@@ -191,6 +200,112 @@ class CustomerRestControllerAdapterTest {
         verify(customerRestMapper, times(1)).toResponse(any(Customer.class));
     }
 
+    @Test
+    @DisplayName("Should read and return only the requested fields")
+    void shouldReturnOnlyRequestedFields() {
+        Customer projected = Customer.builder()
+                .personId(testCustomer.getPersonId())
+                .name(testCustomer.getName())
+                .version(3L)
+                .build();
+        when(customerService.getCustomers(Set.of("name"))).thenReturn(Flux.just(projected));
+        when(customerRestMapper.toResponse(projected)).thenReturn(testResponse);
+
+        Mono<ResponseEntity<Flux<CustomerResponse>>> result = customerRestControllerAdapter
+                .getAllCustomer(List.of("name"), null);
+
+        StepVerifier.create(result)
+                .assertNext(response -> StepVerifier.create(response.getBody())
+                        .assertNext(customer -> {
+                            assertEquals(testCustomer.getName(), customer.getName());
+                            assertNull(customer.getCustomerId());
+                            assertNull(customer.getIdentification());
+                            assertNull(customer.getPhone());
+                        })
+                        .verifyComplete())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown field without reading customers")
+    void shouldRejectUnknownField() {
+        assertThrows(IllegalArgumentException.class,
+                () -> customerRestControllerAdapter.getAllCustomer(List.of("name", "password"), null));
+
+        verifyNoInteractions(customerService);
+    }
+
+    @Test
+    @DisplayName("Should return 304 without mapping when If-None-Match matches")
+    void shouldReturnNotModifiedWhenETagMatches() {
+        UUID customerId = testCustomer.getPersonId();
+        when(customerService.getOnlyCustomerById(customerId.toString(), null)).thenReturn(Mono.just(testCustomer));
+
+        Mono<ResponseEntity<CustomerResponse>> result = customerRestControllerAdapter
+                .getCustomerById(customerId, null, MockServerWebExchange.from(MockServerHttpRequest
+                        .get("/customers/" + customerId)
+                        .ifNoneMatch("\"3\"")));
+
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+                    assertEquals("\"3\"", response.getHeaders().getETag());
+                    assertNull(response.getBody());
+                })
+                .verifyComplete();
+
+        verify(customerRestMapper, never()).toResponse(any(Customer.class));
+    }
+
+    @Test
+    @DisplayName("Should update with the version named by If-Match")
+    void shouldUpdateMatchingVersion() {
+        UUID customerId = testCustomer.getPersonId();
+        Customer changes = Customer.builder().address("Nueva Direccion").build();
+        Customer updatedCustomer = testCustomer.toBuilder().address("Nueva Direccion").version(4L).build();
+
+        when(customerRestMapper.toUpdateDomain(any(UpdateCustomerRequest.class))).thenReturn(changes);
+        when(customerService.getOnlyCustomerById(customerId.toString())).thenReturn(Mono.just(testCustomer));
+        when(customerService.updateCustomer(any(Customer.class))).thenReturn(Mono.just(updatedCustomer));
+        when(customerRestMapper.toResponse(updatedCustomer)).thenReturn(testResponse);
+
+        Mono<ResponseEntity<CustomerResponse>> result = customerRestControllerAdapter
+                .updateCustomer(customerId, Mono.just(updateRequest), MockServerWebExchange.from(MockServerHttpRequest
+                        .put("/customers/" + customerId)
+                        .header("If-Match", "\"3\"")));
+
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.OK, response.getStatusCode());
+                    assertEquals("\"4\"", response.getHeaders().getETag());
+                })
+                .verifyComplete();
+
+        assertEquals(3L, changes.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should return 412 without updating when If-Match names another version")
+    void shouldRejectStaleIfMatch() {
+        UUID customerId = testCustomer.getPersonId();
+        when(customerRestMapper.toUpdateDomain(any(UpdateCustomerRequest.class))).thenReturn(Customer.builder().build());
+        when(customerService.getOnlyCustomerById(customerId.toString())).thenReturn(Mono.just(testCustomer));
+
+        Mono<ResponseEntity<CustomerResponse>> result = customerRestControllerAdapter
+                .updateCustomer(customerId, Mono.just(updateRequest), MockServerWebExchange.from(MockServerHttpRequest
+                        .put("/customers/" + customerId)
+                        .header("If-Match", "\"2\"")));
+
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+                    assertEquals("\"3\"", response.getHeaders().getETag());
+                })
+                .verifyComplete();
+
+        verify(customerService, never()).updateCustomer(any(Customer.class));
+    }
+
     @Test
     @DisplayName("Should delete customer successfully")
     void shouldDeleteCustomerSuccessfully() {
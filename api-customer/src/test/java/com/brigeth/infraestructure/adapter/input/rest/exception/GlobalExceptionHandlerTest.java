@@ -6,12 +6,15 @@ import com.brigeth.domain.exception.CustomerNotFoundException;
 import com.brigeth.domain.exception.DomainException;
 import com.brigeth.domain.exception.DuplicateIdentificationException;
 import com.brigeth.domain.exception.ValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindingResult;
@@ -30,6 +33,9 @@ import static org.mockito.Mockito.when;
 @DisplayName("GlobalExceptionHandler - Unit Tests")
 class GlobalExceptionHandlerTest {
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private GlobalExceptionHandler globalExceptionHandler;
 
@@ -85,6 +91,21 @@ class GlobalExceptionHandlerTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should count handled domain exceptions by class")
+    void shouldCountDomainExceptionsByClass() {
+        CustomerNotFoundException exception = new CustomerNotFoundException("123");
+
+        StepVerifier.create(globalExceptionHandler.handleCustomerNotFoundException(exception, exchange))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("domain.exceptions")
+                .tag("exception", "CustomerNotFoundException")
+                .counter()
+                .count());
+    }
+
     @Test
     @DisplayName("Should handle DuplicateIdentificationException with 409 status")
     void shouldHandleDuplicateIdentificationException() {
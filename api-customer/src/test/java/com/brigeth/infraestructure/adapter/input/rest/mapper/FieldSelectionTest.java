@@ -0,0 +1,68 @@
+package com.brigeth.infraestructure.adapter.input.rest.mapper;
+
+import com.brigeth.customer.infrastructure.adapter.input.rest.model.CustomerResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FieldSelection - Unit Tests")
+class FieldSelectionTest {
+
+    private static final FieldSelection<CustomerResponse> FIELDS = FieldSelection.of(
+            FieldSelection.field("customerId", "personId", response -> response.setCustomerId(null)),
+            FieldSelection.field("name", "name", response -> response.setName(null)),
+            FieldSelection.field("phone", "phone", response -> response.setPhone(null)));
+
+    @Test
+    @DisplayName("Should select every field when none are requested")
+    void shouldSelectEveryFieldWhenNoneRequested() {
+        FieldSelection<CustomerResponse> selection = FIELDS.select(null);
+        CustomerResponse response = response();
+
+        assertNull(selection.properties());
+        assertNull(FIELDS.select(List.of()).properties());
+        assertSame(response, selection.apply(response));
+        assertNotNull(response.getCustomerId());
+        assertNotNull(response.getPhone());
+    }
+
+    @Test
+    @DisplayName("Should map the requested fields to their domain properties")
+    void shouldMapRequestedFieldsToProperties() {
+        FieldSelection<CustomerResponse> selection = FIELDS.select(List.of("customerId", " name"));
+
+        assertEquals(Set.of("personId", "name"), selection.properties());
+    }
+
+    @Test
+    @DisplayName("Should clear the fields that were not requested")
+    void shouldClearFieldsNotRequested() {
+        CustomerResponse response = FIELDS.select(List.of("name")).apply(response());
+
+        assertEquals("Juan Perez", response.getName());
+        assertNull(response.getCustomerId());
+        assertNull(response.getPhone());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown field")
+    void shouldRejectUnknownField() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> FIELDS.select(List.of("name", "password")));
+
+        assertTrue(exception.getMessage().contains("password"));
+    }
+
+    private static CustomerResponse response() {
+        CustomerResponse response = new CustomerResponse();
+        response.setCustomerId(UUID.randomUUID());
+        response.setName("Juan Perez");
+        response.setPhone("0987654321");
+        return response;
+    }
+}
@@ -6,12 +6,14 @@ import com.brigeth.domain.models.Customer;
 import com.brigeth.infraestructure.adapter.output.persistence.entity.CustomerEntity;
 import com.brigeth.infraestructure.adapter.output.persistence.mapper.CustomerPersistenceMapper;
 import com.brigeth.infraestructure.adapter.output.persistence.repository.CustomerJpaRepository;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.test.StepVerifier;
 
@@ -33,6 +35,9 @@ class CustomerPersistenceAdapterTest {
     @Mock
     private CustomerPersistenceMapper customerPersistenceMapper;
 
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
     @InjectMocks
     private CustomerPersistenceAdapter customerPersistenceAdapter;
 
@@ -132,6 +137,32 @@ class CustomerPersistenceAdapterTest {
         verify(customerPersistenceMapper, never()).toDomain(any(CustomerEntity.class));
     }
 
+    @Test
+    @DisplayName("Should get customer by identification successfully")
+    void shouldGetCustomerByIdentificationSuccessfully() {
+        String identification = testCustomer.getIdentification();
+        when(customerJpaRepository.findByIdentification(identification)).thenReturn(Optional.of(testCustomerEntity));
+        when(customerPersistenceMapper.toDomain(testCustomerEntity)).thenReturn(testCustomer);
+
+        StepVerifier.create(customerPersistenceAdapter.getCustomerByIdentification(identification))
+                .expectNext(testCustomer)
+                .verifyComplete();
+
+        verify(customerJpaRepository, times(1)).findByIdentification(identification);
+        verify(customerJpaRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should complete empty when no customer has the identification")
+    void shouldReturnEmptyWhenIdentificationNotFound() {
+        when(customerJpaRepository.findByIdentification("1111111111")).thenReturn(Optional.empty());
+
+        StepVerifier.create(customerPersistenceAdapter.getCustomerByIdentification("1111111111"))
+                .verifyComplete();
+
+        verify(customerPersistenceMapper, never()).toDomain(any(CustomerEntity.class));
+    }
+
     @Test
     @DisplayName("Should save customer successfully")
     void shouldSaveCustomerSuccessfully() {
@@ -0,0 +1,67 @@
+package com.brigeth.infraestructure.adapter.output.persistence.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UuidV7Generator - Unit Tests")
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Should generate RFC 9562 version 7 UUIDs carrying the current time")
+    void shouldGenerateVersion7WithTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = new UuidV7Generator().generateUuid(null);
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(UuidV7Generator.timestampOf(uuid) >= before);
+        assertTrue(UuidV7Generator.timestampOf(uuid) <= after);
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing, unique ids within the same millisecond")
+    void shouldBeMonotonicWithinTheSameMillisecond() {
+        UuidV7Generator generator = new UuidV7Generator();
+        long now = System.currentTimeMillis();
+        UUID previous = generator.generate(now);
+        Set<UUID> seen = new HashSet<>();
+        seen.add(previous);
+
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.generate(now);
+            assertTrue(compareUnsigned(previous, next) < 0, "ids must sort in generation order");
+            assertTrue(seen.add(next));
+            assertEquals(7, next.version());
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should carry a counter overflow into the timestamp instead of going backwards")
+    void shouldCarryCounterOverflowIntoTimestamp() {
+        UuidV7Generator generator = new UuidV7Generator();
+        long now = System.currentTimeMillis();
+        UUID first = generator.generate(now);
+
+        UUID last = first;
+        for (int i = 0; i < 4096; i++) {
+            last = generator.generate(now);
+        }
+
+        assertEquals(now, UuidV7Generator.timestampOf(first));
+        assertEquals(now + 1, UuidV7Generator.timestampOf(last));
+    }
+
+    // UUID.compareTo compares signed longs, the database compares the bytes unsigned
+    private static int compareUnsigned(UUID a, UUID b) {
+        int most = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return most != 0 ? most : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,89 @@
+package com.brigeth.infraestructure.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AdaptiveConcurrencyLimit - Unit Tests")
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("Should reject and count requests over the limit")
+    void shouldRejectOverLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 0.2, 1.5, 600);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+
+        assertEquals(2, limit.getInflight());
+        assertEquals(1, limit.getRejected());
+    }
+
+    @Test
+    @DisplayName("Should raise the limit while a saturated class keeps its latency")
+    void shouldRaiseLimitWithSteadyLatency() {
+        AdaptiveConcurrencyLimit limit = saturated(10);
+
+        for (int i = 0; i < 50; i++) {
+            limit.release(5 * MILLIS);
+            limit.tryAcquire();
+        }
+
+        assertTrue(limit.getLimit() > 10);
+    }
+
+    @Test
+    @DisplayName("Should lower the limit when latency rises over the tolerance")
+    void shouldLowerLimitWhenLatencyRises() {
+        AdaptiveConcurrencyLimit limit = saturated(40);
+        for (int i = 0; i < 20; i++) {
+            limit.release(5 * MILLIS);
+            limit.tryAcquire();
+        }
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            limit.release(50 * MILLIS);
+        }
+
+        assertTrue(limit.getLimit() < before);
+        assertTrue(limit.getLimit() >= 4);
+    }
+
+    @Test
+    @DisplayName("Should not raise the limit while less than half of it is in use")
+    void shouldNotRaiseLimitWhenIdle() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 4, 100, 0.2, 1.5, 600);
+
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(5 * MILLIS);
+        }
+
+        assertEquals(10, limit.getLimit());
+        assertEquals(0, limit.getInflight());
+    }
+
+    @Test
+    @DisplayName("Should free a cancelled request without sampling it")
+    void shouldReleaseWithoutSample() {
+        AdaptiveConcurrencyLimit limit = saturated(10);
+
+        limit.release();
+
+        assertEquals(9, limit.getInflight());
+        assertEquals(10, limit.getLimit());
+    }
+
+    private static AdaptiveConcurrencyLimit saturated(int initial) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(initial, 4, 100, 0.2, 1.5, 600);
+        while (limit.tryAcquire()) {
+            // fill every slot
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,74 @@
+package com.brigeth.infraestructure.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimitFilter - Unit Tests")
+class ConcurrencyLimitFilterTest {
+
+    private final AtomicInteger handled = new AtomicInteger();
+    private final WebFilterChain chain = exchange -> Mono.fromRunnable(handled::incrementAndGet);
+    private AdaptiveConcurrencyLimit readLimit;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        readLimit = new AdaptiveConcurrencyLimit(1, 1, 1, 0.2, 1.5, 600);
+        filter = new ConcurrencyLimitFilter(
+                List.of(Route.of(HttpMethod.GET, "/customers/{customerId}", "reads")),
+                Map.of("reads", readLimit), Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should pass a request within the limit and free its slot afterwards")
+    void shouldPassWithinLimit() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/customers/1"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertEquals(1, handled.get());
+        assertEquals(0, readLimit.getInflight());
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After over the limit without calling the handler")
+    void shouldRejectOverLimit() {
+        readLimit.tryAcquire();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/customers/1"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+        assertEquals("2", exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(0, handled.get());
+        assertEquals(1, readLimit.getRejected());
+    }
+
+    @Test
+    @DisplayName("Should not limit requests outside the routes")
+    void shouldNotLimitOtherRoutes() {
+        readLimit.tryAcquire();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertEquals(1, handled.get());
+        assertNull(exchange.getResponse().getStatusCode());
+    }
+}
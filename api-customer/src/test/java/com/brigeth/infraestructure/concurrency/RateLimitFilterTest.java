@@ -0,0 +1,106 @@
+package com.brigeth.infraestructure.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RateLimitFilter - Unit Tests")
+class RateLimitFilterTest {
+
+    private final AtomicInteger handled = new AtomicInteger();
+    private final WebFilterChain chain = exchange -> Mono.fromRunnable(handled::incrementAndGet);
+    private TokenBuckets listingBuckets;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        listingBuckets = new TokenBuckets(1, 0.5);
+        filter = new RateLimitFilter(List.of(Route.of(HttpMethod.GET, "/customers", "listings")),
+                Map.of("listings", listingBuckets), "X-API-Key", 2);
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once the client has used its bucket")
+    void shouldRejectOverRate() {
+        StepVerifier.create(filter.filter(listing("key-1"), chain)).verifyComplete();
+        MockServerWebExchange rejected = listing("key-1");
+
+        StepVerifier.create(filter.filter(rejected, chain)).verifyComplete();
+
+        assertEquals(1, handled.get());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+        assertEquals("2", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    @DisplayName("Should keep the bucket of each API key apart")
+    void shouldLimitEachClientApart() {
+        StepVerifier.create(filter.filter(listing("key-1"), chain)).verifyComplete();
+        MockServerWebExchange other = listing("key-2");
+
+        StepVerifier.create(filter.filter(other, chain)).verifyComplete();
+
+        assertEquals(2, handled.get());
+        assertNull(other.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should limit new API keys by address once the buckets are full")
+    void shouldFallBackToAddressWhenFull() {
+        StepVerifier.create(filter.filter(listing("key-1"), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(listing("key-2"), chain)).verifyComplete();
+        StepVerifier.create(filter.filter(listing("key-3"), chain)).verifyComplete();
+        MockServerWebExchange rotated = listing("key-4");
+
+        StepVerifier.create(filter.filter(rotated, chain)).verifyComplete();
+
+        assertEquals(3, handled.get());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rotated.getResponse().getStatusCode());
+        assertEquals(3, listingBuckets.getClients());
+    }
+
+    @Test
+    @DisplayName("Should not share a bucket between an API key and an address of the same value")
+    void shouldKeepKeysApartFromAddresses() {
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/customers")
+                .remoteAddress(new InetSocketAddress("10.0.0.1", 4000))), chain)).verifyComplete();
+        MockServerWebExchange keyed = listing("10.0.0.1");
+
+        StepVerifier.create(filter.filter(keyed, chain)).verifyComplete();
+
+        assertEquals(2, handled.get());
+        assertNull(keyed.getResponse().getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should not limit requests outside the routes")
+    void shouldNotLimitOtherRoutes() {
+        for (int i = 0; i < 3; i++) {
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/customers")
+                    .header("X-API-Key", "key-1"));
+            StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+        }
+
+        assertEquals(3, handled.get());
+        assertEquals(0, listingBuckets.getClients());
+    }
+
+    private static MockServerWebExchange listing(String apiKey) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/customers").header("X-API-Key", apiKey));
+    }
+}
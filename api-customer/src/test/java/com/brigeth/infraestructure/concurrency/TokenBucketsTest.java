@@ -0,0 +1,59 @@
+package com.brigeth.infraestructure.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBuckets - Unit Tests")
+class TokenBucketsTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final TokenBuckets buckets = new TokenBuckets(3, 2);
+    private final long now = 1_000 * SECOND;
+
+    @Test
+    @DisplayName("Should let a burst of the capacity through and reject the next request")
+    void shouldAllowBurstUpToCapacity() {
+        assertEquals(0, buckets.tryConsume("key-1", now));
+        assertEquals(0, buckets.tryConsume("key-1", now));
+        assertEquals(0, buckets.tryConsume("key-1", now));
+
+        assertEquals(SECOND / 2, buckets.tryConsume("key-1", now));
+        assertEquals(1, buckets.getRejected());
+    }
+
+    @Test
+    @DisplayName("Should refill tokens at the configured rate")
+    void shouldRefillAtRate() {
+        for (int i = 0; i < 3; i++) {
+            buckets.tryConsume("key-1", now);
+        }
+
+        assertEquals(0, buckets.tryConsume("key-1", now + SECOND / 2));
+        assertTrue(buckets.tryConsume("key-1", now + SECOND / 2) > 0);
+    }
+
+    @Test
+    @DisplayName("Should keep a bucket per client")
+    void shouldKeepBucketPerClient() {
+        for (int i = 0; i < 3; i++) {
+            buckets.tryConsume("key-1", now);
+        }
+
+        assertEquals(0, buckets.tryConsume("key-2", now));
+        assertEquals(2, buckets.getClients());
+    }
+
+    @Test
+    @DisplayName("Should evict only the buckets that have refilled")
+    void shouldEvictRefilledBuckets() {
+        buckets.tryConsume("key-1", now);
+        buckets.tryConsume("key-2", now + SECOND);
+
+        assertEquals(1, buckets.evictIdle(now + SECOND));
+        assertEquals(1, buckets.getClients());
+        assertEquals(1, buckets.getEvicted());
+    }
+}
@@ -0,0 +1,67 @@
+package com.brigeth.infraestructure.config;
+
+import com.brigeth.infraestructure.concurrency.ConcurrencyLimitFilter;
+import com.brigeth.infraestructure.concurrency.ConcurrencyLimitProperties;
+import com.brigeth.infraestructure.concurrency.RateLimitFilter;
+import com.brigeth.infraestructure.concurrency.RateLimitProperties;
+import com.brigeth.infraestructure.deadline.DeadlineFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Loads the shipped application.yaml into the configuration built from it. The context test runs
+ * on src/test/resources/application.yaml, which takes its place on the test classpath, so without
+ * this a file that does not parse or bind would only fail the startup.
+ */
+@DisplayName("application.yaml - Unit Tests")
+class ApplicationConfigTest {
+
+    private static final String APPLICATION_YAML = "src/main/resources/application.yaml";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> load(context.getEnvironment()))
+            .withUserConfiguration(RateLimitConfig.class, ConcurrencyLimitConfig.class, DeadlineConfig.class);
+
+    @Test
+    @DisplayName("Should parse application.yaml")
+    void shouldParseApplicationYaml() throws IOException {
+        assertFalse(new YamlPropertySourceLoader().load("application", new FileSystemResource(APPLICATION_YAML)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should load the request filters from application.yaml")
+    void shouldLoadFilters() {
+        contextRunner.run(context -> {
+            assertNull(context.getStartupFailure());
+            assertNotNull(context.getBean(RateLimitFilter.class));
+            assertNotNull(context.getBean(ConcurrencyLimitFilter.class));
+            assertNotNull(context.getBean(DeadlineFilter.class));
+
+            assertEquals(Set.of("writes", "listings"), context.getBean(RateLimitProperties.class).getRoutes().keySet());
+            assertEquals(Set.of("writes", "reads", "listings"),
+                    context.getBean(ConcurrencyLimitProperties.class).getRouteClasses().keySet());
+        });
+    }
+
+    private static void load(ConfigurableEnvironment environment) {
+        try {
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                    .load("application", new FileSystemResource(APPLICATION_YAML));
+            sources.forEach(source -> environment.getPropertySources().addLast(source));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.brigeth.infraestructure.config;
+
+import com.brigeth.application.service.CustomerService;
+import com.brigeth.domain.enums.GenderType;
+import com.brigeth.domain.models.Customer;
+import com.brigeth.infraestructure.adapter.input.rest.CustomerRestControllerAdapter;
+import com.brigeth.infraestructure.adapter.input.rest.mapper.CustomerRestMapperImpl;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(controllers = CustomerRestControllerAdapter.class)
+@Import({CodecConfig.class, CustomerRestMapperImpl.class, SimpleMeterRegistry.class})
+@DisplayName("CodecConfig - Integration Tests")
+class CodecConfigTest {
+
+    // The test application.yaml replaces the main one, which holds the compression settings
+    private static final String APPLICATION_YAML = "src/main/resources/application.yaml";
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final TypeReference<List<Map<String, Object>>> CUSTOMERS = new TypeReference<>() {
+    };
+
+    @MockitoBean
+    private CustomerService customerService;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    @DisplayName("Should keep writing JSON for a JSON client")
+    void shouldWriteListAsJson() throws IOException {
+        givenCustomers(2);
+
+        byte[] body = getCustomers(webTestClient, MediaType.APPLICATION_JSON);
+
+        assertEquals(2, new ObjectMapper().readValue(body, CUSTOMERS).size());
+    }
+
+    @Test
+    @DisplayName("Should write the customer list as one CBOR array")
+    void shouldWriteListAsCbor() throws IOException {
+        givenCustomers(2);
+
+        byte[] body = getCustomers(webTestClient, MediaType.APPLICATION_CBOR);
+
+        List<Map<String, Object>> customers = new ObjectMapper(new CBORFactory()).readValue(body, CUSTOMERS);
+        assertEquals(2, customers.size());
+        assertEquals("Customer 2", customers.get(1).get("name"));
+    }
+
+    @Test
+    @DisplayName("Should write the customer list as one Smile array")
+    void shouldWriteListAsSmile() throws IOException {
+        givenCustomers(2);
+
+        byte[] body = getCustomers(webTestClient, SMILE);
+
+        List<Map<String, Object>> customers = new ObjectMapper(new SmileFactory()).readValue(body, CUSTOMERS);
+        assertEquals(2, customers.size());
+        assertEquals("Customer 1", customers.get(0).get("name"));
+    }
+
+    @Test
+    @DisplayName("Should gzip a CBOR list over the configured threshold when the client accepts it")
+    void shouldCompressCborList() throws IOException {
+        // A list well over server.compression.min-response-size
+        givenCustomers(200);
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory(0);
+        factory.setCompression(new Binder(ConfigurationPropertySources.from(
+                        new YamlPropertySourceLoader().load("application", new FileSystemResource(APPLICATION_YAML))))
+                .bind("server.compression", Compression.class)
+                .get());
+        WebServer server = factory.getWebServer(WebHttpHandlerBuilder.applicationContext(context).build());
+        server.start();
+        try {
+            // The JDK client leaves the body compressed, as it came
+            WebTestClient client = WebTestClient.bindToServer(new JdkClientHttpConnector())
+                    .baseUrl("http://localhost:" + server.getPort())
+                    .defaultHeader(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                    .build();
+
+            byte[] body = client.get()
+                    .uri("/customers")
+                    .accept(MediaType.APPLICATION_CBOR)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                    .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .expectBody(byte[].class)
+                    .returnResult()
+                    .getResponseBody();
+
+            try (InputStream unzipped = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                List<Map<String, Object>> customers = new ObjectMapper(new CBORFactory()).readValue(unzipped, CUSTOMERS);
+                assertEquals(200, customers.size());
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static byte[] getCustomers(WebTestClient client, MediaType mediaType) {
+        return client.get()
+                .uri("/customers")
+                .accept(mediaType)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(mediaType)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private void givenCustomers(int count) {
+        when(customerService.getCustomers(null)).thenReturn(Flux.fromStream(
+                IntStream.rangeClosed(1, count).mapToObj(number -> Customer.builder()
+                        .personId(UUID.randomUUID())
+                        .name("Customer " + number)
+                        .gender(GenderType.M)
+                        .identification(String.format("%010d", number))
+                        .address("Calle Principal 123")
+                        .phone("0987654321")
+                        .state(true)
+                        .build())));
+    }
+}
@@ -0,0 +1,77 @@
+package com.brigeth.infraestructure.deadline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DeadlineFilter - Unit Tests")
+class DeadlineFilterTest {
+
+    private final Clock clock = Clock.systemUTC();
+    private final DeadlineFilter filter = new DeadlineFilter(clock, null);
+
+    @Test
+    @DisplayName("Should put the request deadline in the Reactor context")
+    void shouldPutDeadlineInContext() {
+        AtomicReference<Deadline> seen = new AtomicReference<>();
+        WebFilterChain chain = exchange -> Mono.deferContextual(context -> {
+            seen.set(context.getOrDefault(Deadline.class, null));
+            return Mono.empty();
+        });
+
+        StepVerifier.create(filter.filter(exchange("X-Request-Timeout", "5S"), chain)).verifyComplete();
+
+        assertNotNull(seen.get());
+        assertFalse(seen.get().isExpired());
+    }
+
+    @Test
+    @DisplayName("Should answer 504 at once when the deadline passed before arrival")
+    void shouldRejectExpiredOnArrival() {
+        AtomicBoolean handled = new AtomicBoolean();
+        MockServerWebExchange exchange = exchange("X-Request-Deadline", String.valueOf(clock.millis() - 1_000));
+
+        StepVerifier.create(filter.filter(exchange, e -> Mono.fromRunnable(() -> handled.set(true)))).verifyComplete();
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, exchange.getResponse().getStatusCode());
+        assertFalse(handled.get());
+    }
+
+    @Test
+    @DisplayName("Should answer 504 and cancel the chain when the deadline passes")
+    void shouldTimeOutSlowChain() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        MockServerWebExchange exchange = exchange("X-Request-Timeout", "50m");
+
+        StepVerifier.create(filter.filter(exchange, e -> Mono.<Void>never().doOnCancel(() -> cancelled.set(true))))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, exchange.getResponse().getStatusCode());
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed deadline header")
+    void shouldRejectMalformedHeader() {
+        StepVerifier.create(filter.filter(exchange("X-Request-Timeout", "soon"), e -> Mono.empty()))
+                .verifyError(ServerWebInputException.class);
+    }
+
+    private static MockServerWebExchange exchange(String header, String value) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/customers").header(header, value));
+    }
+}
@@ -0,0 +1,84 @@
+package com.brigeth.infraestructure.deadline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Deadline - Unit Tests")
+class DeadlineTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("Should parse every grpc-timeout unit")
+    void shouldParseTimeoutUnits() {
+        assertEquals(Duration.ofHours(2), Deadline.parseTimeout("2H"));
+        assertEquals(Duration.ofMinutes(3), Deadline.parseTimeout("3M"));
+        assertEquals(Duration.ofSeconds(4), Deadline.parseTimeout("4S"));
+        assertEquals(Duration.ofMillis(250), Deadline.parseTimeout("250m"));
+        assertEquals(Duration.ofNanos(7_000), Deadline.parseTimeout("7u"));
+        assertEquals(Duration.ofNanos(9), Deadline.parseTimeout("9n"));
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed timeout")
+    void shouldRejectMalformedTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> Deadline.parseTimeout("250"));
+        assertThrows(IllegalArgumentException.class, () -> Deadline.parseTimeout("250ms"));
+        assertThrows(IllegalArgumentException.class, () -> Deadline.parseTimeout("123456789m"));
+        assertThrows(IllegalArgumentException.class, () -> Deadline.parseTimeout("-5S"));
+    }
+
+    @Test
+    @DisplayName("Should take the earlier of the timeout and the absolute deadline")
+    void shouldTakeEarlierDeadline() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(Deadline.TIMEOUT_HEADER, "10S");
+        headers.set(Deadline.DEADLINE_HEADER, String.valueOf(clock.millis() + 2_000));
+
+        Deadline deadline = Deadline.from(headers, clock);
+
+        assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(2)) <= 0);
+        assertTrue(deadline.remaining().compareTo(Duration.ofSeconds(1)) > 0);
+    }
+
+    @Test
+    @DisplayName("Should have no deadline without the headers")
+    void shouldHaveNoDeadlineWithoutHeaders() {
+        assertNull(Deadline.from(new HttpHeaders(), clock));
+    }
+
+    @Test
+    @DisplayName("Should skip a blocking task whose deadline has passed")
+    void shouldSkipExpiredTask() {
+        AtomicBoolean ran = new AtomicBoolean();
+        Mono<Boolean> task = Deadlines.fromCallable(() -> ran.getAndSet(true))
+                .contextWrite(context -> context.put(Deadline.class, Deadline.after(Duration.ZERO)));
+
+        StepVerifier.create(task).verifyError(DeadlineExceededException.class);
+        assertFalse(ran.get());
+    }
+
+    @Test
+    @DisplayName("Should run a blocking task before its deadline or without one")
+    void shouldRunTaskWithinDeadline() {
+        StepVerifier.create(Deadlines.fromCallable(() -> "done")
+                        .contextWrite(context -> context.put(Deadline.class, Deadline.after(Duration.ofSeconds(5)))))
+                .expectNext("done")
+                .verifyComplete();
+
+        StepVerifier.create(Deadlines.fromCallable(() -> "done"))
+                .expectNext("done")
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,95 @@
+package com.brigeth.infraestructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CountingAsyncAppender - Unit Tests")
+class CountingAsyncAppenderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private LoggerContext loggerContext;
+    private CountingAsyncAppender appender;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        loggerContext = new LoggerContext();
+        loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+
+        // Keeps the worker thread busy on the first event so the queue fills up deterministically
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        AppenderBase<ILoggingEvent> slow = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                workerBusy.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        slow.setContext(loggerContext);
+        slow.start();
+
+        appender = new CountingAsyncAppender();
+        appender.setContext(loggerContext);
+        appender.setName("ASYNC_TEST");
+        appender.setQueueSize(10);
+        appender.setDiscardingThreshold(5);
+        appender.setNeverBlock(true);
+        appender.addAppender(slow);
+        appender.start();
+
+        appender.doAppend(event(Level.ERROR));
+        assertTrue(workerBusy.await(5, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    @DisplayName("Should count INFO events discarded once the queue passes the threshold")
+    void shouldCountDiscardedEvents() {
+        for (int i = 0; i < 8; i++) {
+            appender.doAppend(event(Level.INFO));
+        }
+
+        // remaining capacity drops below 5 after 6 accepted events, the last 2 are discarded
+        assertEquals(2L, appender.getDiscardedCount());
+        assertEquals(0L, appender.getQueueFullCount());
+    }
+
+    @Test
+    @DisplayName("Should count events dropped because the queue is full instead of blocking")
+    void shouldCountQueueFullDrops() {
+        for (int i = 0; i < 13; i++) {
+            appender.doAppend(event(Level.ERROR));
+        }
+
+        assertEquals(10, appender.getNumberOfElementsInQueue());
+        assertEquals(3L, appender.getQueueFullCount());
+        assertEquals(0L, appender.getDiscardedCount());
+    }
+
+    private ILoggingEvent event(Level level) {
+        Logger logger = loggerContext.getLogger("test");
+        return new LoggingEvent(Logger.class.getName(), logger, level, "message", null, null);
+    }
+}
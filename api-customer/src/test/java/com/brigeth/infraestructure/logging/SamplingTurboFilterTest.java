@@ -0,0 +1,100 @@
+package com.brigeth.infraestructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SamplingTurboFilter - Unit Tests")
+class SamplingTurboFilterTest {
+
+    private static final String SAMPLED_PREFIX = "com.brigeth.infraestructure.adapter.input.rest";
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private LoggerContext loggerContext;
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+
+        filter = new SamplingTurboFilter();
+        filter.addLogger(SAMPLED_PREFIX);
+        filter.setMaxPerSecond(2);
+        filter.setClock(now::get);
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("Should deny INFO events over the per second budget and count them")
+    void shouldDenyInfoOverBudget() {
+        Logger logger = loggerContext.getLogger(SAMPLED_PREFIX + ".CustomerRestControllerAdapter");
+
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(FilterReply.DENY, decide(logger, Level.INFO));
+        assertEquals(1L, filter.getSampledOut().get(SAMPLED_PREFIX).sum());
+    }
+
+    @Test
+    @DisplayName("Should give the budget back on the next second")
+    void shouldResetBudgetEachSecond() {
+        Logger logger = loggerContext.getLogger(SAMPLED_PREFIX + ".CustomerRestControllerAdapter");
+        decide(logger, Level.INFO);
+        decide(logger, Level.INFO);
+        assertEquals(FilterReply.DENY, decide(logger, Level.INFO));
+
+        now.addAndGet(1_000L);
+
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+    }
+
+    @Test
+    @DisplayName("Should keep a separate budget per logger")
+    void shouldKeepBudgetPerLogger() {
+        Logger first = loggerContext.getLogger(SAMPLED_PREFIX + ".First");
+        Logger second = loggerContext.getLogger(SAMPLED_PREFIX + ".Second");
+        decide(first, Level.INFO);
+        decide(first, Level.INFO);
+
+        assertEquals(FilterReply.DENY, decide(first, Level.INFO));
+        assertEquals(FilterReply.NEUTRAL, decide(second, Level.INFO));
+    }
+
+    @Test
+    @DisplayName("Should never sample WARN, ERROR or loggers outside the configured prefixes")
+    void shouldNotSampleWarningsOrOtherLoggers() {
+        Logger logger = loggerContext.getLogger(SAMPLED_PREFIX + ".CustomerRestControllerAdapter");
+        Logger other = loggerContext.getLogger("com.brigeth.infraestructure.adapter.output.persistence.CustomerPersistenceAdapter");
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(logger, Level.WARN));
+            assertEquals(FilterReply.NEUTRAL, decide(logger, Level.ERROR));
+            assertEquals(FilterReply.NEUTRAL, decide(other, Level.INFO));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not spend budget on disabled levels or isEnabled checks")
+    void shouldIgnoreDisabledLevelsAndEnabledChecks() {
+        Logger logger = loggerContext.getLogger(SAMPLED_PREFIX + ".CustomerRestControllerAdapter");
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(logger, Level.DEBUG));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, null, null, null));
+        }
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[]{"arg"}, null);
+    }
+}
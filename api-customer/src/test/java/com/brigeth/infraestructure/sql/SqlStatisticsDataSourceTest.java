@@ -0,0 +1,86 @@
+package com.brigeth.infraestructure.sql;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SqlStatisticsDataSource - Unit Tests")
+class SqlStatisticsDataSourceTest {
+
+    private SqlStatistics sqlStatistics;
+    private SqlStatisticsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sqlStatistics = new SqlStatistics(Duration.ofSeconds(1), 100);
+        dataSource = new SqlStatisticsDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:sqlstats;DB_CLOSE_DELAY=-1", "sa", ""), sqlStatistics);
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists items");
+            statement.execute("create table items (id int primary key, name varchar(20))");
+        }
+        sqlStatistics.reset();
+    }
+
+    @Test
+    @DisplayName("Should count prepared statement executions, updated rows and fetched rows")
+    void shouldRecordPreparedStatements() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 1; i <= 3; i++) {
+                try (PreparedStatement insert = connection.prepareStatement("insert into items (id, name) values (?, ?)")) {
+                    insert.setInt(1, i);
+                    insert.setString(2, "item" + i);
+                    insert.executeUpdate();
+                }
+            }
+            try (PreparedStatement select = connection.prepareStatement("select * from items where id > ?")) {
+                select.setInt(1, 0);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        assertNotNull(resultSet.getString("name"));
+                    }
+                }
+            }
+        }
+
+        List<SqlStatementSummary> byCount = sqlStatistics.top(10, SqlStatementSummary.Order.COUNT);
+
+        assertEquals(2, byCount.size());
+        assertEquals("insert into items (id, name) values (?...)", byCount.get(0).getSql());
+        assertEquals(3, byCount.get(0).getCount());
+        assertEquals(3, byCount.get(0).getRows());
+        assertEquals("select * from items where id > ?", byCount.get(1).getSql());
+        assertEquals(1, byCount.get(1).getCount());
+        assertEquals(3, byCount.get(1).getRows());
+    }
+
+    @Test
+    @DisplayName("Should record plain statements by their SQL text and still unwrap to the driver")
+    void shouldRecordPlainStatements() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("insert into items (id, name) values (10, 'ten')");
+            statement.execute("select name from items where id = 10");
+            try (ResultSet resultSet = statement.getResultSet()) {
+                assertTrue(resultSet.next());
+            }
+            assertTrue(connection.isWrapperFor(Class.forName("org.h2.jdbc.JdbcConnection")));
+        }
+
+        List<SqlStatementSummary> byCount = sqlStatistics.top(10, SqlStatementSummary.Order.ROWS);
+
+        assertEquals(2, byCount.size());
+        assertTrue(byCount.stream().anyMatch(s -> s.getSql().equals("select name from items where id = ?") && s.getRows() == 1));
+        assertTrue(byCount.stream().anyMatch(s -> s.getSql().equals("insert into items (id, name) values (?...)") && s.getRows() == 1));
+    }
+}
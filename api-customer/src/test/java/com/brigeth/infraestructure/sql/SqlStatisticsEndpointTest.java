@@ -0,0 +1,38 @@
+package com.brigeth.infraestructure.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SqlStatisticsEndpoint - Unit Tests")
+class SqlStatisticsEndpointTest {
+
+    private final SqlStatistics sqlStatistics = new SqlStatistics(Duration.ofSeconds(1), 10);
+    private final SqlStatisticsEndpoint endpoint = new SqlStatisticsEndpoint(sqlStatistics);
+
+    @Test
+    @DisplayName("Should order by the given order, case insensitively")
+    void shouldOrderByGivenOrder() {
+        sqlStatistics.record("select * from customers where id=?", 5_000_000L).addRows(1);
+        sqlStatistics.record("select * from customers", 1_000_000L).addRows(50);
+
+        List<SqlStatementSummary> top = endpoint.top(null, "Rows");
+
+        assertEquals("select * from customers", top.get(0).getSql());
+        assertEquals("select * from customers where id=?", endpoint.top(null, null).get(0).getSql());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown order with the allowed orders")
+    void shouldRejectUnknownOrder() {
+        InvalidEndpointRequestException exception = assertThrows(InvalidEndpointRequestException.class,
+                () -> endpoint.top(10, "slowest"));
+
+        assertEquals("orderBy must be one of: total, mean, max, count, rows", exception.getReason());
+    }
+}
@@ -0,0 +1,88 @@
+package com.brigeth.infraestructure.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SqlStatistics - Unit Tests")
+class SqlStatisticsTest {
+
+    private final SqlStatistics sqlStatistics = new SqlStatistics(Duration.ofSeconds(1), 3);
+
+    @Test
+    @DisplayName("Should fold literals, whitespace and IN lists into the same shape")
+    void shouldNormalizeStatementShape() {
+        assertEquals("select c1_0.id from customers c1_0 where c1_0.identification=? and c1_0.age>?",
+                SqlStatistics.shapeOf("select c1_0.id from customers c1_0\n   where c1_0.identification='0102030405' and c1_0.age>18"));
+        assertEquals("select * from customers where id in (?...)",
+                SqlStatistics.shapeOf("select * from customers where id in (?, ?,?)"));
+        assertEquals("select * from customers where id in (?...)",
+                SqlStatistics.shapeOf("select * from customers where id in (1, 2, 3, 4)"));
+    }
+
+    @Test
+    @DisplayName("Should aggregate count, total, max and rows per shape")
+    void shouldAggregatePerShape() {
+        sqlStatistics.record("select * from customers where id=?", millis(2)).addRows(1);
+        sqlStatistics.record("select *   from customers where id=?", millis(6)).addRows(1);
+        sqlStatistics.record("delete from customers where id=?", millis(1));
+
+        List<SqlStatementSummary> top = sqlStatistics.top(10, SqlStatementSummary.Order.TOTAL);
+
+        assertEquals(2, top.size());
+        SqlStatementSummary select = top.get(0);
+        assertEquals("select * from customers where id=?", select.getSql());
+        assertEquals(2, select.getCount());
+        assertEquals(8.0, select.getTotalMs(), 0.001);
+        assertEquals(4.0, select.getMeanMs(), 0.001);
+        assertEquals(6.0, select.getMaxMs(), 0.001);
+        assertEquals(2, select.getRows());
+    }
+
+    @Test
+    @DisplayName("Should order and limit the top table")
+    void shouldOrderAndLimit() {
+        sqlStatistics.record("select a", millis(10));
+        sqlStatistics.record("select b", millis(1));
+        sqlStatistics.record("select b", millis(1));
+        sqlStatistics.record("select b", millis(1));
+
+        assertEquals("select a", sqlStatistics.top(1, SqlStatementSummary.Order.MAX).get(0).getSql());
+        assertEquals("select b", sqlStatistics.top(1, SqlStatementSummary.Order.COUNT).get(0).getSql());
+    }
+
+    @Test
+    @DisplayName("Should put new shapes in a shared bucket once the table is full")
+    void shouldCapNumberOfShapes() {
+        sqlStatistics.record("select a", millis(1));
+        sqlStatistics.record("select b", millis(1));
+        sqlStatistics.record("select c", millis(1));
+        sqlStatistics.record("select d", millis(1));
+        sqlStatistics.record("select e", millis(1));
+
+        List<SqlStatementSummary> top = sqlStatistics.top(10, SqlStatementSummary.Order.COUNT);
+
+        assertEquals(4, top.size());
+        assertEquals(SqlStatistics.OTHER_STATEMENTS, top.get(0).getSql());
+        assertEquals(2, top.get(0).getCount());
+    }
+
+    @Test
+    @DisplayName("Should clear everything on reset")
+    void shouldReset() {
+        sqlStatistics.record("select a", millis(1));
+
+        sqlStatistics.reset();
+
+        assertTrue(sqlStatistics.top(10, SqlStatementSummary.Order.TOTAL).isEmpty());
+    }
+
+    private static long millis(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+}
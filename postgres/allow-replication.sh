@@ -0,0 +1,3 @@
+#!/bin/sh
+# Lets a standby stream from this database with the same credentials (see account-db-replica)
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
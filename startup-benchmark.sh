@@ -0,0 +1,135 @@
+#!/usr/bin/env bash
+# Startup comparison of the three images of each service: the plain jar (default Dockerfile target),
+# faststart (Spring AOT + AppCDS) and native (GraalVM). For every variant it reports the startup time
+# Spring logs, the time from `docker run` to the first successful /actuator/health, the time until a
+# first business request (GET of the service's list endpoint) has been answered and the memory in use
+# then. The databases come from docker-compose; usage: ./startup-benchmark.sh [runs]
+#
+# ./startup-benchmark.sh --local [runs] runs the jvm and faststart variants as plain java processes on
+# this host, built the way their Dockerfile targets build them, against the compose databases on their
+# host ports (LOCAL_DB_PORT overrides both) and reports the resident set size of the process as memory.
+#
+# Results of --local 5, 1 vCPU / 6 GB host, JDK 17.0.9 (Temurin), PostgreSQL 16.4, medians of 5 runs:
+#
+#   service          variant     started-in   health   first-request   RSS
+#   api-customer     jvm         33.5 s       37.4 s   38.2 s          281 MiB
+#   api-customer     faststart   14.0 s       15.3 s   16.0 s          266 MiB
+#   account-service  jvm         41.1 s       45.0 s   46.2 s          316 MiB
+#   account-service  faststart   14.6 s       15.8 s   17.2 s          291 MiB
+#
+# accountdb held 100 accounts without movements, customerdb was empty. On this host faststart is healthy
+# 2.4x (api-customer) and 2.8x (account-service) sooner than jvm and takes 5-8% less memory.
+#
+# native was not measured: no GraalVM native-image was available on that host.
+set -euo pipefail
+
+LOCAL=false
+if [ "${1:-}" = --local ]; then
+    LOCAL=true
+    shift
+fi
+RUNS=${1:-3}
+GRADLE=${GRADLE:-./gradlew}
+SERVICES=("api-customer:1020:customer-db:customerdb:5432:/customers"
+          "account-service:1021:account-db:accountdb:5433:/accounts")
+
+millis() { date +%s%3N; }
+
+# Polls until the url answers 2xx
+wait_for() {
+    until curl -fs -o /dev/null "$1"; do
+        sleep 0.05
+    done
+}
+
+# Builds the extracted AOT jar and its AppCDS archive like the faststart Dockerfile target, in $1
+build_faststart() {
+    local service=$1 dir=$2
+    (cd "$service" && $GRADLE bootJar -q -Pfaststart)
+    rm -rf "$dir" && mkdir -p "$dir"
+    java -Djarmode=tools -jar "$service/build/libs/$service.jar" extract --destination "$dir/extracted" > /dev/null
+    java -XX:ArchiveClassesAtExit="$dir/extracted/app.jsa" \
+        -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh -Dstartup.training-run=true \
+        -Dspring.jpa.hibernate.ddl-auto=none \
+        -Dspring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect \
+        -Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false \
+        -jar "$dir/extracted/$service.jar" > "$dir/training.log" 2>&1
+}
+
+run_local() {
+    WORK=$(mktemp -d)
+    trap 'rm -rf "$WORK"' EXIT
+
+    printf '%-16s %-12s %12s %10s %14s %10s\n' service variant started-in health first-request rss
+    for entry in "${SERVICES[@]}"; do
+        IFS=: read -r service port _ dbname dbport endpoint <<< "$entry"
+        for variant in jvm faststart; do
+            local command
+            if [ "$variant" = jvm ]; then
+                (cd "$service" && $GRADLE bootJar -q)
+                cp "$service/build/libs/$service.jar" "$WORK/$service.jar"
+                command=(java -jar "$WORK/$service.jar")
+            else
+                build_faststart "$service" "$WORK/$service"
+                command=(java -XX:SharedArchiveFile="$WORK/$service/extracted/app.jsa" -Dspring.aot.enabled=true
+                         -jar "$WORK/$service/extracted/$service.jar")
+            fi
+
+            for run in $(seq "$RUNS"); do
+                start=$(millis)
+                SPRING_PROFILES_ACTIVE=local \
+                SPRING_DATASOURCE_URL="jdbc:postgresql://localhost:${LOCAL_DB_PORT:-$dbport}/$dbname" \
+                SPRING_DATASOURCE_USERNAME=admin SPRING_DATASOURCE_PASSWORD=admin \
+                    "${command[@]}" > "$WORK/run.log" 2>&1 &
+                pid=$!
+                wait_for "http://localhost:$port/actuator/health"
+                ready=$(( $(millis) - start ))
+                curl -fs -o /dev/null "http://localhost:$port$endpoint"
+                first=$(( $(millis) - start ))
+                rss=$(awk '/VmRSS/ { printf "%dMiB", $2 / 1024 }' "/proc/$pid/status")
+                started=$(grep -o 'Started [A-Za-z]* in [0-9.]* seconds' "$WORK/run.log" | grep -o '[0-9.]* seconds' || echo '?')
+                kill "$pid" && wait "$pid" || true
+                printf '%-16s %-12s %12s %8sms %12sms %10s\n' "$service" "$variant#$run" "$started" "$ready" "$first" "$rss"
+            done
+        done
+    done
+}
+
+if [ "$LOCAL" = true ]; then
+    run_local
+    exit
+fi
+
+VARIANTS=(jvm faststart native)
+docker compose up -d --wait customer-db account-db
+NETWORK=$(docker inspect -f '{{range $name, $_ := .NetworkSettings.Networks}}{{$name}}{{end}}' account-db)
+
+printf '%-16s %-10s %12s %14s %14s %10s\n' service variant started-in health first-request memory
+for entry in "${SERVICES[@]}"; do
+    IFS=: read -r service port db dbname _ endpoint <<< "$entry"
+    for variant in "${VARIANTS[@]}"; do
+        image="$service:$variant"
+        if [ "$variant" = jvm ]; then
+            docker build -q -t "$image" "$service" > /dev/null
+        else
+            docker build -q --target "$variant" -t "$image" "$service" > /dev/null
+        fi
+
+        for run in $(seq "$RUNS"); do
+            start=$(millis)
+            container=$(docker run -d --rm --network "$NETWORK" -p "$port:$port" \
+                -e SPRING_PROFILES_ACTIVE=local \
+                -e SPRING_DATASOURCE_URL="jdbc:postgresql://$db:5432/$dbname" \
+                -e SPRING_DATASOURCE_USERNAME=admin -e SPRING_DATASOURCE_PASSWORD=admin \
+                "$image")
+            wait_for "http://localhost:$port/actuator/health"
+            ready=$(( $(millis) - start ))
+            curl -fs -o /dev/null "http://localhost:$port$endpoint"
+            first=$(( $(millis) - start ))
+            started=$(docker logs "$container" 2>&1 | grep -o 'Started [A-Za-z]* in [0-9.]* seconds' | grep -o '[0-9.]* seconds' || echo '?')
+            memory=$(docker stats --no-stream --format '{{.MemUsage}}' "$container" | cut -d/ -f1)
+            docker stop "$container" > /dev/null
+            printf '%-16s %-10s %12s %12sms %12sms %10s\n' "$service" "$variant#$run" "$started" "$ready" "$first" "$memory"
+        done
+    done
+done